@@ -0,0 +1,47 @@
+package com.kinovek.bench;
+
+import com.kinovek.backend.BackendApplication;
+import org.springframework.beans.factory.config.AutowireCapableBeanFactory;
+import org.springframework.boot.Banner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * The backend's Spring context, started once per benchmark JVM (JMH fork) without the web
+ * server, so benchmarks run the real beans with their real configuration.
+ */
+public final class BenchContext {
+
+    private static ConfigurableApplicationContext context;
+
+    private BenchContext() {
+    }
+
+    public static synchronized <T> T bean(Class<T> type) {
+        return context().getBean(type);
+    }
+
+    /**
+     * Injects and initializes an object the context does not manage, such as a legacy
+     * subclass of a backend service.
+     */
+    @SuppressWarnings("unchecked")
+    public static synchronized <T> T autowire(T bean) {
+        AutowireCapableBeanFactory factory = context().getAutowireCapableBeanFactory();
+        factory.autowireBean(bean);
+        return (T) factory.initializeBean(bean, bean.getClass().getName());
+    }
+
+    private static ConfigurableApplicationContext context() {
+        if (context == null) {
+            SpringApplication application = new SpringApplication(BackendApplication.class);
+            application.setWebApplicationType(WebApplicationType.NONE);
+            application.setBannerMode(Banner.Mode.OFF);
+            application.setLogStartupInfo(false);
+            // Keep log I/O out of the measurements
+            context = application.run("--logging.level.root=WARN", "--logging.level.kinovek.request=WARN");
+        }
+        return context;
+    }
+}
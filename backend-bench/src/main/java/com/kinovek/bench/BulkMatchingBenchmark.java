@@ -0,0 +1,64 @@
+package com.kinovek.bench;
+
+import com.kinovek.backend.util.KeywordMatcher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keyword matching of one resume against several job descriptions, as /enhance-pdf-bulk does:
+ * a fresh match per job description versus one resume index shared by all of them.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BulkMatchingBenchmark {
+
+    @Param({"resume_experienced", "long_resume"})
+    private String resume;
+
+    @Param({"1", "8"})
+    private int scale;
+
+    private KeywordMatcher keywordMatcher;
+    private String resumeText;
+    private List<String> jobDescriptions;
+
+    @Setup
+    public void setUp() {
+        keywordMatcher = BenchContext.bean(KeywordMatcher.class);
+        resumeText = Fixtures.resume(resume, scale);
+        jobDescriptions = List.of(Fixtures.text("jd_java_developer"), Fixtures.text("jd_mechanical_engineer"),
+                Fixtures.text("jd_pharmacy_qc"), Fixtures.text("jd_java_developer"));
+    }
+
+    @Benchmark
+    public void freshPerJobDescription(Blackhole blackhole) {
+        for (String jobDescription : jobDescriptions) {
+            blackhole.consume(keywordMatcher.match(resumeText, jobDescription));
+        }
+    }
+
+    @Benchmark
+    public void sharedIndex(Blackhole blackhole) {
+        KeywordMatcher.ResumeIndex index = keywordMatcher.index(resumeText);
+        for (String jobDescription : jobDescriptions) {
+            blackhole.consume(keywordMatcher.match(index, jobDescription));
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.kinovek.bench;
+
+import com.kinovek.backend.config.KeywordConfig;
+import com.kinovek.backend.dto.ATSScoreResponse;
+import com.kinovek.backend.service.ATSScoringService;
+import com.kinovek.backend.util.KeywordMatcher;
+import com.kinovek.bench.legacy.LegacyATSScoringService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The match-and-score part of /enhance before and after user-040. Before, the enhancer matched
+ * keywords and then the scorer matched them again; after, the scorer takes the enhancer's match.
+ * {@code matchOnly*} isolates the keyword matching, which is what the fusion halves.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EnhanceAnalysisBenchmark {
+
+    @Param({"resume_experienced", "long_resume"})
+    private String resume;
+
+    @Param({"jd_java_developer", "jd_pharmacy_qc"})
+    private String jd;
+
+    private KeywordMatcher keywordMatcher;
+    private ATSScoringService atsScoringService;
+    private LegacyATSScoringService legacyScoringService;
+    private String resumeText;
+    private String jobDescription;
+
+    @Setup
+    public void setUp() {
+        keywordMatcher = BenchContext.bean(KeywordMatcher.class);
+        atsScoringService = BenchContext.bean(ATSScoringService.class);
+        legacyScoringService = new LegacyATSScoringService(keywordMatcher, BenchContext.bean(KeywordConfig.class));
+        resumeText = Fixtures.text(resume);
+        jobDescription = Fixtures.text(jd);
+    }
+
+    /** Enhancer match, then the scorer's own match and per-signal scans. */
+    @Benchmark
+    public void beforeFusion(Blackhole blackhole) {
+        blackhole.consume(keywordMatcher.match(resumeText, jobDescription));
+        blackhole.consume(legacyScoringService.calculateScore(resumeText, jobDescription));
+    }
+
+    /** One match shared by the enhancer and the scorer, one text profile. */
+    @Benchmark
+    public ATSScoreResponse fused() {
+        return atsScoringService.calculateScore(resumeText, keywordMatcher.match(resumeText, jobDescription));
+    }
+
+    @Benchmark
+    public void matchOnlyBeforeFusion(Blackhole blackhole) {
+        blackhole.consume(keywordMatcher.match(resumeText, jobDescription));
+        blackhole.consume(keywordMatcher.match(resumeText, jobDescription));
+    }
+
+    @Benchmark
+    public KeywordMatcher.MatchResult matchOnlyFused() {
+        return keywordMatcher.match(resumeText, jobDescription);
+    }
+}
@@ -0,0 +1,65 @@
+package com.kinovek.bench;
+
+import com.kinovek.backend.service.ResumeParserService;
+import com.kinovek.backend.util.DOCXParser;
+import com.kinovek.backend.util.PDFParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Text extraction from uploaded PDF and DOCX resumes generated from the fixtures, including
+ * synthetic two-column and table layouts.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ExtractionBenchmark {
+
+    @Param({"resume_fresher", "long_resume", "generated_two_column", "generated_table"})
+    private String resume;
+
+    @Param({"1", "8"})
+    private int scale;
+
+    private ResumeParserService resumeParserService;
+    private byte[] pdf;
+    private byte[] docx;
+
+    @Setup
+    public void setUp() {
+        resumeParserService = BenchContext.bean(ResumeParserService.class);
+        pdf = Fixtures.resumePdf(resume, scale);
+        docx = Fixtures.resumeDocx(resume, scale);
+    }
+
+    @Benchmark
+    public PDFParser.PdfText pdfExtract() throws IOException {
+        return PDFParser.extract(pdf);
+    }
+
+    @Benchmark
+    public String docxExtract() throws IOException {
+        return DOCXParser.extractText(docx);
+    }
+
+    /** The service path uploads take, including metrics and the extraction event. */
+    @Benchmark
+    public String parseResumePdf() throws IOException {
+        return resumeParserService.parseResume("resume.pdf", pdf);
+    }
+}
@@ -0,0 +1,132 @@
+package com.kinovek.bench;
+
+import com.kinovek.bench.corpus.CorpusDocuments;
+import com.kinovek.bench.corpus.CorpusGenerator;
+import com.kinovek.bench.corpus.Layout;
+import com.kinovek.bench.corpus.SyntheticResume;
+import com.lowagie.text.Document;
+import com.lowagie.text.DocumentException;
+import com.lowagie.text.Font;
+import com.lowagie.text.FontFactory;
+import com.lowagie.text.PageSize;
+import com.lowagie.text.Paragraph;
+import com.lowagie.text.pdf.PdfWriter;
+import org.apache.poi.xwpf.usermodel.XWPFDocument;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+
+/**
+ * Benchmark inputs built from the sample resumes and JDs at the repository root
+ * (copied to fixtures/ on the classpath by the build).
+ *
+ * Names are the file names without "test_" and ".txt", e.g. "resume_fresher", "long_resume",
+ * "jd_java_developer". Names of the form "generated_&lt;layout&gt;" (e.g. "generated_two_column")
+ * are synthetic resumes from {@link CorpusGenerator} with a fixed seed.
+ */
+public final class Fixtures {
+
+    private static final String GENERATED = "generated_";
+    private static final CorpusGenerator GENERATOR = new CorpusGenerator(42);
+
+    private Fixtures() {
+    }
+
+    /** Raw fixture text. */
+    public static String text(String name) {
+        if (name.startsWith(GENERATED)) {
+            return generated(name, 1).text();
+        }
+        String path = "fixtures/test_" + name + ".txt";
+        try (InputStream in = Fixtures.class.getClassLoader().getResourceAsStream(path)) {
+            if (in == null) {
+                throw new IllegalArgumentException("Unknown fixture: " + name);
+            }
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Fixture text repeated {@code copies} times, separated by blank lines — a crude way to
+     * scale the input while keeping its shape. Generated resumes grow by {@code copies} times
+     * the jobs and projects instead.
+     */
+    public static String resume(String name, int copies) {
+        if (name.startsWith(GENERATED)) {
+            return generated(name, copies).text();
+        }
+        String text = text(name);
+        StringBuilder scaled = new StringBuilder(text.length() * copies + copies * 2);
+        for (int i = 0; i < copies; i++) {
+            if (i > 0) scaled.append("\n\n");
+            scaled.append(text);
+        }
+        return scaled.toString();
+    }
+
+    /**
+     * A job description of at least {@code kib} KiB: the fixture followed by generated JDs
+     * from the corpus, so long inputs read like a real posting with its boilerplate rather
+     * than one block repeated. The fixture alone when it is already long enough.
+     */
+    public static String jobDescription(String name, int kib) {
+        StringBuilder text = new StringBuilder(text(name));
+        for (int i = 0; text.length() < kib * 1024; i++) {
+            text.append("\n\n").append(GENERATOR.jobDescription(i).text());
+        }
+        return text.toString();
+    }
+
+    /** {@link #resume} as an uploaded PDF; generated resumes keep their columns and tables. */
+    public static byte[] resumePdf(String name, int copies) {
+        return name.startsWith(GENERATED) ? CorpusDocuments.pdf(generated(name, copies)) : pdf(resume(name, copies));
+    }
+
+    /** {@link #resume} as an uploaded DOCX; generated resumes keep their columns and tables. */
+    public static byte[] resumeDocx(String name, int copies) {
+        return name.startsWith(GENERATED) ? CorpusDocuments.docx(generated(name, copies)) : docx(resume(name, copies));
+    }
+
+    private static SyntheticResume generated(String name, int size) {
+        Layout layout = Layout.valueOf(name.substring(GENERATED.length()).toUpperCase(Locale.ROOT));
+        return GENERATOR.resume(0, layout, size);
+    }
+
+    /** A plain PDF with one paragraph per line of text, like a simple uploaded resume. */
+    public static byte[] pdf(String text) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        Document document = new Document(PageSize.A4, 50, 50, 50, 50);
+        try {
+            PdfWriter.getInstance(document, out);
+            document.open();
+            Font font = FontFactory.getFont(FontFactory.HELVETICA, 10);
+            for (String line : text.split("\n", -1)) {
+                document.add(new Paragraph(line.isBlank() ? " " : line, font));
+            }
+        } catch (DocumentException e) {
+            throw new IllegalStateException("Could not build fixture PDF", e);
+        } finally {
+            document.close();
+        }
+        return out.toByteArray();
+    }
+
+    /** A DOCX with one paragraph per line of text. */
+    public static byte[] docx(String text) {
+        try (XWPFDocument document = new XWPFDocument(); ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            for (String line : text.split("\n", -1)) {
+                document.createParagraph().createRun().setText(line);
+            }
+            document.write(out);
+            return out.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.kinovek.bench;
+
+import com.kinovek.backend.util.JobDescriptionAnalyzer;
+import com.kinovek.backend.util.KeywordMatcher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Job description analysis: what the cover letter takes from the JD. Sizes run from a
+ * short posting to ~20 KiB, the size of a pasted JD with benefits and legal boilerplate.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JobDescriptionBenchmark {
+
+    @Param({"jd_java_developer", "jd_mechanical_engineer", "jd_pharmacy_qc"})
+    private String jd;
+
+    @Param({"1", "5", "20"})
+    private int kib;
+
+    private String jobDescription;
+    private JobDescriptionAnalyzer jobDescriptionAnalyzer;
+    private KeywordMatcher keywordMatcher;
+
+    @Setup
+    public void setUp() {
+        jobDescription = Fixtures.jobDescription(jd, kib);
+        jobDescriptionAnalyzer = BenchContext.bean(JobDescriptionAnalyzer.class);
+        keywordMatcher = BenchContext.bean(KeywordMatcher.class);
+    }
+
+    @Benchmark
+    public void analyze(Blackhole blackhole) {
+        blackhole.consume(jobDescriptionAnalyzer.extractCompanyName(jobDescription));
+        blackhole.consume(jobDescriptionAnalyzer.extractRoleName(jobDescription));
+        blackhole.consume(jobDescriptionAnalyzer.extractRequirements(jobDescription));
+        blackhole.consume(keywordMatcher.extractSkills(jobDescription));
+    }
+}
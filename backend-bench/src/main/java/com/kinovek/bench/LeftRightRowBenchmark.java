@@ -0,0 +1,103 @@
+package com.kinovek.bench;
+
+import com.kinovek.backend.service.ATSPDFGenerator;
+import com.kinovek.bench.legacy.TableRowATSPDFGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The enhanced ATS resume for experienced candidates with many jobs, where every job and degree
+ * has a left/right row: rows drawn directly on the page against the PdfPTable rows they replaced.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LeftRightRowBenchmark {
+
+    private static final String[][] JOBS = {
+            {"Infosys Limited", "Pune", "Jan 2021 - Present"},
+            {"Tata Consultancy Services", "Bengaluru, Karnataka", "Jun 2018 - Dec 2020"},
+            {"Wipro", "Hyderabad", "2016 - 2018"},
+            {"HCL Technologies", "Noida", "Aug 2014 - May 2016"},
+    };
+
+    /** Experience entries; education adds two more rows. */
+    @Param({"12", "40"})
+    private int jobs;
+
+    private ATSPDFGenerator direct;
+    private ATSPDFGenerator table;
+    private Map<String, Object> resumeData;
+
+    @Setup
+    public void setUp() {
+        direct = BenchContext.bean(ATSPDFGenerator.class);
+        table = BenchContext.autowire(new TableRowATSPDFGenerator());
+        resumeData = resume(jobs);
+    }
+
+    @Benchmark
+    public void directRows() {
+        direct.generateATSResume(resumeData, false, OutputStream.nullOutputStream());
+    }
+
+    @Benchmark
+    public void tableRows() {
+        table.generateATSResume(resumeData, false, OutputStream.nullOutputStream());
+    }
+
+    static Map<String, Object> resume(int jobs) {
+        Map<String, Object> personalInfo = new LinkedHashMap<>();
+        personalInfo.put("fullName", "Asha Rao");
+        personalInfo.put("email", "asha.rao@example.com");
+        personalInfo.put("phone", "+91-98765-43210");
+
+        List<Map<String, Object>> experience = new ArrayList<>();
+        for (int i = 0; i < jobs; i++) {
+            String[] job = JOBS[i % JOBS.length];
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("title", i % 2 == 0 ? "Senior Software Engineer" : "Software Engineer");
+            entry.put("company", job[0]);
+            entry.put("location", job[1]);
+            entry.put("dates", job[2]);
+            entry.put("bullets", List.of(
+                    "Built REST APIs in Java and Spring Boot serving 2M requests a day",
+                    "Cut p95 latency by 40% by caching hot queries in Redis",
+                    "Mentored four engineers and ran the team's code reviews"));
+            experience.add(entry);
+        }
+
+        Map<String, Object> skills = new LinkedHashMap<>();
+        skills.put("Languages", "Java, SQL, Python");
+        skills.put("Frameworks", "Spring Boot, Hibernate, React");
+
+        Map<String, Object> resume = new LinkedHashMap<>();
+        resume.put("personalInfo", personalInfo);
+        resume.put("summary", "Backend engineer with " + jobs + " roles across services companies.");
+        resume.put("experience", experience);
+        resume.put("education", List.of(
+                Map.of("degree", "M.Tech Computer Science", "institution", "IIT Delhi", "year", "2014"),
+                Map.of("degree", "B.Tech Computer Science", "institution", "Pune University", "year", "2012")));
+        resume.put("skills", skills);
+        return resume;
+    }
+}
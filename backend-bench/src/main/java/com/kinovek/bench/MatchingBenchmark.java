@@ -0,0 +1,71 @@
+package com.kinovek.bench;
+
+import com.kinovek.backend.dto.ATSScoreResponse;
+import com.kinovek.backend.service.ATSScoringService;
+import com.kinovek.backend.util.KeywordMatcher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keyword matching and ATS scoring of a resume against a job description.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MatchingBenchmark {
+
+    @Param({"resume_fresher", "resume_experienced", "long_resume", "wall_of_text", "generated_noisy"})
+    private String resume;
+
+    @Param({"1", "8"})
+    private int scale;
+
+    @Param({"jd_java_developer", "jd_pharmacy_qc"})
+    private String jd;
+
+    private KeywordMatcher keywordMatcher;
+    private ATSScoringService atsScoringService;
+    private String resumeText;
+    private String jobDescription;
+    private KeywordMatcher.MatchResult matchResult;
+
+    @Setup
+    public void setUp() {
+        keywordMatcher = BenchContext.bean(KeywordMatcher.class);
+        atsScoringService = BenchContext.bean(ATSScoringService.class);
+        resumeText = Fixtures.resume(resume, scale);
+        jobDescription = Fixtures.text(jd);
+        matchResult = keywordMatcher.match(resumeText, jobDescription);
+    }
+
+    @Benchmark
+    public KeywordMatcher.MatchResult keywordMatch() {
+        return keywordMatcher.match(resumeText, jobDescription);
+    }
+
+    /** Match plus scoring, as /ats-score does. */
+    @Benchmark
+    public ATSScoreResponse score() {
+        return atsScoringService.calculateScore(resumeText, jobDescription);
+    }
+
+    /** Scoring signals only, from a match computed up front. */
+    @Benchmark
+    public ATSScoreResponse scoreFromMatch() {
+        return atsScoringService.calculateScore(resumeText, matchResult);
+    }
+}
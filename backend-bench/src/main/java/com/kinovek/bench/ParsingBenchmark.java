@@ -0,0 +1,72 @@
+package com.kinovek.bench;
+
+import com.kinovek.backend.service.ResumeRewriter;
+import com.kinovek.backend.service.ResumeTextParserService;
+import com.kinovek.backend.util.KeywordMatcher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Splitting resume text into sections, and rewriting the parsed sections for a job description.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ParsingBenchmark {
+
+    @Param({"resume_fresher", "resume_experienced", "resume_pharmacy", "long_resume", "wall_of_text", "generated_noisy"})
+    private String resume;
+
+    @Param({"1", "8"})
+    private int scale;
+
+    private ResumeTextParserService resumeTextParserService;
+    private ResumeRewriter resumeRewriter;
+    private String resumeText;
+    private String jobDescription;
+    private Map<String, Object> parsed;
+    private Map<String, Object> analysisResults;
+
+    @Setup
+    public void setUp() {
+        resumeTextParserService = BenchContext.bean(ResumeTextParserService.class);
+        resumeRewriter = BenchContext.bean(ResumeRewriter.class);
+        resumeText = Fixtures.resume(resume, scale);
+        jobDescription = Fixtures.text("jd_java_developer");
+        parsed = resumeTextParserService.parseResumeText(resumeText);
+
+        // Same analysis map ResumePipelineService hands to the rewriter
+        KeywordMatcher.MatchResult match = BenchContext.bean(KeywordMatcher.class).match(resumeText, jobDescription);
+        analysisResults = new HashMap<>();
+        analysisResults.put("matchedKeywords", match.getMatchedKeywords());
+        analysisResults.put("missingKeywords", match.getMissingKeywords());
+        analysisResults.put("matchPercentage", match.getMatchPercentage());
+    }
+
+    @Benchmark
+    public Map<String, Object> parseResumeText() {
+        return resumeTextParserService.parseResumeText(resumeText);
+    }
+
+    /** The rewriter deep-copies its input, so the same parsed map can be reused. */
+    @Benchmark
+    public Map<String, Object> enhanceResume() {
+        return resumeRewriter.enhanceResume(parsed, analysisResults, jobDescription);
+    }
+}
@@ -0,0 +1,171 @@
+package com.kinovek.bench;
+
+import com.kinovek.backend.service.ATSPDFGenerator;
+import com.sun.management.GarbageCollectionNotificationInfo;
+import com.sun.management.ThreadMXBean;
+
+import javax.management.NotificationEmitter;
+import javax.management.openmbean.CompositeData;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Collectors;
+
+/**
+ * Heap held by concurrent /enhance-pdf downloads to slow clients, with the PDF rendered into a
+ * byte array first (the response as it was before user-026) or streamed into the response.
+ * Runs in-process: each client is a thread whose "socket" accepts bytes at a fixed rate, so
+ * the servlet container's own buffers are not included. Run once per mode in a fresh JVM:
+ * <pre>
+ * java -Xmx256m -cp backend-bench/target/benchmarks.jar com.kinovek.bench.PdfDownloadFootprint buffered
+ * java -Xmx256m -cp backend-bench/target/benchmarks.jar com.kinovek.bench.PdfDownloadFootprint streamed
+ * </pre>
+ * Optional arguments after the mode: clients (64), downloads per client (20), experience
+ * entries per resume (40), client speed in KiB/s (256).
+ * Prints one tab-separated line: mode, PDF bytes, downloads/s, peak heap after GC in KiB,
+ * the sum of the heap pools' peaks in KiB, KiB allocated per download.
+ */
+public final class PdfDownloadFootprint {
+
+    private static final int CHUNK = 8 * 1024;
+
+    private PdfDownloadFootprint() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        String mode = args.length > 0 ? args[0] : "streamed";
+        int clients = args.length > 1 ? Integer.parseInt(args[1]) : 64;
+        int downloads = args.length > 2 ? Integer.parseInt(args[2]) : 20;
+        int jobs = args.length > 3 ? Integer.parseInt(args[3]) : 40;
+        int kibPerSecond = args.length > 4 ? Integer.parseInt(args[4]) : 256;
+        if (!mode.equals("buffered") && !mode.equals("streamed")) {
+            throw new IllegalArgumentException("Mode must be buffered or streamed: " + mode);
+        }
+
+        ATSPDFGenerator generator = BenchContext.bean(ATSPDFGenerator.class);
+        Map<String, Object> resume = LeftRightRowBenchmark.resume(jobs);
+        int pdfBytes = generator.generateATSResume(resume, false).length;
+        // Warm up the render path before anything is measured
+        for (int i = 0; i < 200; i++) {
+            generator.generateATSResume(resume, false, OutputStream.nullOutputStream());
+        }
+
+        System.gc();
+        AtomicLong peakAfterGc = watchHeapAfterGc();
+        resetPeakUsage();
+
+        ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+        AtomicLong allocated = new AtomicLong();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> clientThreads = new ArrayList<>();
+        for (int c = 0; c < clients; c++) {
+            clientThreads.add(Thread.ofPlatform().start(() -> {
+                long before = threads.getCurrentThreadAllocatedBytes();
+                try {
+                    start.await();
+                    for (int d = 0; d < downloads; d++) {
+                        OutputStream client = new SlowClient(kibPerSecond * 1024L);
+                        if (mode.equals("buffered")) {
+                            ByteArrayOutputStream baos = new ByteArrayOutputStream();
+                            generator.generateATSResume(resume, false, baos);
+                            client.write(baos.toByteArray());
+                        } else {
+                            generator.generateATSResume(resume, false, client);
+                        }
+                        client.flush();
+                    }
+                } catch (InterruptedException | IOException e) {
+                    throw new IllegalStateException(e);
+                }
+                allocated.addAndGet(threads.getCurrentThreadAllocatedBytes() - before);
+            }));
+        }
+
+        long begin = System.nanoTime();
+        start.countDown();
+        for (Thread thread : clientThreads) {
+            thread.join();
+        }
+        double seconds = (System.nanoTime() - begin) / 1e9;
+
+        int total = clients * downloads;
+        System.out.printf("%s\t%d\t%.1f\t%d\t%d\t%.1f%n", mode, pdfBytes, total / seconds,
+                peakAfterGc.get() / 1024, peakUsage() / 1024, allocated.get() / 1024.0 / total);
+        // The Spring context keeps non-daemon threads alive
+        System.exit(0);
+    }
+
+    /** Largest heap occupancy right after a collection — the live set plus what the GC left behind. */
+    private static AtomicLong watchHeapAfterGc() {
+        Set<String> heapPools = ManagementFactory.getMemoryPoolMXBeans().stream()
+                .filter(pool -> pool.getType() == MemoryType.HEAP)
+                .map(MemoryPoolMXBean::getName)
+                .collect(Collectors.toSet());
+        AtomicLong peak = new AtomicLong();
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            ((NotificationEmitter) gc).addNotificationListener((notification, handback) -> {
+                if (!GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION.equals(notification.getType())) {
+                    return;
+                }
+                GarbageCollectionNotificationInfo info =
+                        GarbageCollectionNotificationInfo.from((CompositeData) notification.getUserData());
+                long used = 0;
+                for (Map.Entry<String, MemoryUsage> pool : info.getGcInfo().getMemoryUsageAfterGc().entrySet()) {
+                    if (heapPools.contains(pool.getKey())) {
+                        used += pool.getValue().getUsed();
+                    }
+                }
+                peak.accumulateAndGet(used, Math::max);
+            }, null, null);
+        }
+        return peak;
+    }
+
+    private static void resetPeakUsage() {
+        ManagementFactory.getMemoryPoolMXBeans().stream()
+                .filter(pool -> pool.getType() == MemoryType.HEAP)
+                .forEach(pool -> pool.resetPeakUsage());
+    }
+
+    private static long peakUsage() {
+        return ManagementFactory.getMemoryPoolMXBeans().stream()
+                .filter(pool -> pool.getType() == MemoryType.HEAP)
+                .mapToLong(pool -> pool.getPeakUsage().getUsed())
+                .sum();
+    }
+
+    /** A client socket that drains at a fixed rate, one send buffer at a time. */
+    private static final class SlowClient extends OutputStream {
+
+        private final long bytesPerSecond;
+
+        SlowClient(long bytesPerSecond) {
+            this.bytesPerSecond = bytesPerSecond;
+        }
+
+        @Override
+        public void write(int b) {
+            write(new byte[] {(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            for (int sent = 0; sent < len; sent += CHUNK) {
+                int chunk = Math.min(CHUNK, len - sent);
+                LockSupport.parkNanos(chunk * 1_000_000_000L / bytesPerSecond);
+            }
+        }
+    }
+}
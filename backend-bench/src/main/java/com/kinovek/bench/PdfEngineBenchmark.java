@@ -0,0 +1,55 @@
+package com.kinovek.bench;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ATS PDF rendering before (PDFBox) and after (OpenPDF) the shared rendering engine, on the
+ * same lines. Throughput is steady state; cold start and metaspace are measured per fresh
+ * JVM by {@link PdfEngineFootprint}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PdfEngineBenchmark {
+
+    @Param({PdfEngines.PDFBOX, PdfEngines.OPENPDF})
+    private String engine;
+
+    @Param({"resume_experienced", "long_resume"})
+    private String resume;
+
+    @Param({"1", "8"})
+    private int scale;
+
+    private PdfEngines.Writer writer;
+    private List<String> lines;
+
+    @Setup
+    public void setUp() {
+        writer = PdfEngines.create(engine);
+        lines = PdfEngines.lines(resume, scale);
+    }
+
+    @Benchmark
+    public void render() throws IOException {
+        writer.write(lines, OutputStream.nullOutputStream());
+    }
+}
@@ -0,0 +1,63 @@
+package com.kinovek.bench;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ClassLoadingMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.util.List;
+
+/**
+ * Cold-start cost of one PDF engine in a fresh JVM: time to build the writer and render the
+ * first document, and the classes and metaspace that takes. Run once per engine per JVM:
+ * <pre>
+ * java -cp backend-bench/target/benchmarks.jar com.kinovek.bench.PdfEngineFootprint pdfbox
+ * java -cp backend-bench/target/benchmarks.jar com.kinovek.bench.PdfEngineFootprint openpdf
+ * </pre>
+ * Prints one tab-separated line: engine, first render ms, loaded classes, metaspace KiB,
+ * steady-state ms per document (mean of the next 200), PDF bytes.
+ */
+public final class PdfEngineFootprint {
+
+    private static final int STEADY_DOCUMENTS = 200;
+
+    private PdfEngineFootprint() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        String engine = args.length > 0 ? args[0] : PdfEngines.OPENPDF;
+        String resume = args.length > 1 ? args[1] : "resume_experienced";
+        List<String> lines = PdfEngines.lines(resume, 1);
+
+        ClassLoadingMXBean classLoading = ManagementFactory.getClassLoadingMXBean();
+        int classesBefore = classLoading.getLoadedClassCount();
+        long metaspaceBefore = metaspaceUsed();
+
+        long start = System.nanoTime();
+        PdfEngines.Writer writer = PdfEngines.create(engine);
+        ByteArrayOutputStream first = new ByteArrayOutputStream();
+        writer.write(lines, first);
+        double firstMs = (System.nanoTime() - start) / 1e6;
+
+        int classes = classLoading.getLoadedClassCount() - classesBefore;
+        long metaspaceKib = (metaspaceUsed() - metaspaceBefore) / 1024;
+
+        long steadyStart = System.nanoTime();
+        for (int i = 0; i < STEADY_DOCUMENTS; i++) {
+            writer.write(lines, OutputStream.nullOutputStream());
+        }
+        double steadyMs = (System.nanoTime() - steadyStart) / 1e6 / STEADY_DOCUMENTS;
+
+        System.out.printf("%s\t%.1f\t%d\t%d\t%.3f\t%d%n", engine, firstMs, classes, metaspaceKib, steadyMs, first.size());
+    }
+
+    private static long metaspaceUsed() {
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if ("Metaspace".equals(pool.getName())) {
+                return pool.getUsage().getUsed();
+            }
+        }
+        return 0;
+    }
+}
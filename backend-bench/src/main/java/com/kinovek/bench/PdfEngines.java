@@ -0,0 +1,53 @@
+package com.kinovek.bench;
+
+import com.kinovek.backend.service.ATSConverterService;
+import com.kinovek.backend.service.PdfRenderingEngine;
+import com.kinovek.backend.util.WinAnsiText;
+import com.kinovek.bench.legacy.PdfBoxAtsWriter;
+import org.springframework.util.ReflectionUtils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Field;
+import java.util.List;
+
+/**
+ * The two ATS PDF writers compared by {@link PdfEngineBenchmark} and {@link PdfEngineFootprint},
+ * built without a Spring context so neither side pays for (or hides behind) application startup.
+ */
+final class PdfEngines {
+
+    static final String PDFBOX = "pdfbox";
+    static final String OPENPDF = "openpdf";
+
+    interface Writer {
+        void write(List<String> lines, OutputStream out) throws IOException;
+    }
+
+    private PdfEngines() {
+    }
+
+    static Writer create(String engine) {
+        switch (engine) {
+            case PDFBOX: {
+                PdfBoxAtsWriter writer = new PdfBoxAtsWriter();
+                return writer::write;
+            }
+            case OPENPDF: {
+                ATSConverterService converter = new ATSConverterService();
+                Field field = ReflectionUtils.findField(ATSConverterService.class, "pdfEngine");
+                ReflectionUtils.makeAccessible(field);
+                ReflectionUtils.setField(field, converter, new PdfRenderingEngine());
+                return converter::writePDF;
+            }
+            default:
+                throw new IllegalArgumentException("Unknown engine: " + engine + " (pdfbox or openpdf)");
+        }
+    }
+
+    /** Fixture lines as the ATS converter would hand them over; WinAnsi so PDFBox can draw them. */
+    static List<String> lines(String resume, int scale) {
+        WinAnsiText text = new WinAnsiText();
+        return Fixtures.resume(resume, scale).lines().map(String::strip).map(text::apply).toList();
+    }
+}
@@ -0,0 +1,89 @@
+package com.kinovek.bench;
+
+import com.kinovek.backend.service.ATSConverterService;
+import com.kinovek.backend.service.ATSPDFGenerator;
+import com.kinovek.backend.service.ResumeRewriter;
+import com.kinovek.backend.service.ResumeTextParserService;
+import com.kinovek.backend.util.KeywordMatcher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PDF output: the enhanced ATS resume (/enhance-pdf) and the ATS conversion (/ats-convert).
+ * PDFs are written to a null stream, so only rendering is measured.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RenderingBenchmark {
+
+    @Param({"resume_fresher", "resume_experienced", "long_resume", "wall_of_text"})
+    private String resume;
+
+    @Param({"1", "8"})
+    private int scale;
+
+    private ATSPDFGenerator atsPdfGenerator;
+    private ATSConverterService atsConverterService;
+    private Map<String, Object> enhanced;
+    private boolean fresher;
+    private byte[] uploadPdf;
+    private List<String> atsLines;
+
+    @Setup
+    public void setUp() throws IOException {
+        atsPdfGenerator = BenchContext.bean(ATSPDFGenerator.class);
+        atsConverterService = BenchContext.bean(ATSConverterService.class);
+
+        String resumeText = Fixtures.resume(resume, scale);
+        String jobDescription = Fixtures.text("jd_java_developer");
+        KeywordMatcher.MatchResult match = BenchContext.bean(KeywordMatcher.class).match(resumeText, jobDescription);
+        Map<String, Object> analysisResults = new HashMap<>();
+        analysisResults.put("matchedKeywords", match.getMatchedKeywords());
+        analysisResults.put("missingKeywords", match.getMissingKeywords());
+        enhanced = BenchContext.bean(ResumeRewriter.class).enhanceResume(
+                BenchContext.bean(ResumeTextParserService.class).parseResumeText(resumeText),
+                analysisResults, jobDescription);
+        fresher = Boolean.TRUE.equals(enhanced.get("isFresher"));
+
+        uploadPdf = Fixtures.pdf(resumeText);
+        atsLines = atsConverterService.extractATSLines("resume.pdf", uploadPdf);
+    }
+
+    @Benchmark
+    public void generateATSResume() {
+        atsPdfGenerator.generateATSResume(enhanced, fresher, OutputStream.nullOutputStream());
+    }
+
+    /** Rendering only, from lines extracted up front. */
+    @Benchmark
+    public void atsConvertRender() throws IOException {
+        atsConverterService.writePDF(atsLines, OutputStream.nullOutputStream());
+    }
+
+    /** Extraction, normalization and rendering of an uploaded PDF. */
+    @Benchmark
+    public void atsConvert() throws IOException {
+        atsConverterService.writePDF(atsConverterService.extractATSLines("resume.pdf", uploadPdf),
+                OutputStream.nullOutputStream());
+    }
+}
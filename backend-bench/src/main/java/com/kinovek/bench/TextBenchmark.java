@@ -0,0 +1,96 @@
+package com.kinovek.bench;
+
+import com.kinovek.backend.util.ATSTextNormalizer;
+import com.kinovek.backend.util.StandardFontMetrics;
+import com.kinovek.bench.legacy.LegacyAtsTextCleanup;
+import com.kinovek.bench.legacy.PdfBoxLineWrap;
+import com.lowagie.text.pdf.BaseFont;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.apache.pdfbox.pdmodel.font.Standard14Fonts;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.UnaryOperator;
+
+/**
+ * The text primitives under the renderers: ATS text normalization, the glyph width
+ * measurement used for line wrapping, and the wrapping itself.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TextBenchmark {
+
+    /** The ATS converter's text width: US Letter less two 50pt margins. */
+    private static final float MAX_WIDTH = 612 - 2 * 50;
+
+    @Param({"resume_experienced", "long_resume", "wall_of_text"})
+    private String resume;
+
+    @Param({"1", "8"})
+    private int scale;
+
+    private String resumeText;
+    private String[] lines;
+    private String paragraph;
+    private StandardFontMetrics helvetica;
+    private PDType1Font pdfBoxHelvetica;
+
+    @Setup
+    public void setUp() {
+        resumeText = Fixtures.resume(resume, scale);
+        lines = resumeText.split("\n");
+        // The whole resume on one line, as a wall of text pasted without line breaks
+        paragraph = resumeText.replaceAll("\\s+", " ").trim();
+        helvetica = StandardFontMetrics.of(BaseFont.HELVETICA);
+        pdfBoxHelvetica = new PDType1Font(Standard14Fonts.FontName.HELVETICA);
+    }
+
+    /** Cleanup pass of /ats-convert, without section header mapping. */
+    @Benchmark
+    public List<String> normalize() {
+        return ATSTextNormalizer.normalize(resumeText, UnaryOperator.identity());
+    }
+
+    /** The regex chain {@link #normalize} replaced, also without section header mapping. */
+    @Benchmark
+    public List<String> normalizeRegexChain() {
+        return LegacyAtsTextCleanup.normalize(resumeText, line -> null);
+    }
+
+    @Benchmark
+    public float measureLineWidths() {
+        float total = 0;
+        for (String line : lines) {
+            total += helvetica.widthPoint(line, 10f);
+        }
+        return total;
+    }
+
+    /** One-pass wrap over the cached width table, as the ATS converter wraps body text. */
+    @Benchmark
+    public List<String> wrapParagraph() {
+        return helvetica.wrap(paragraph, 11f, MAX_WIDTH);
+    }
+
+    /** The per-word PDFBox re-measuring wrap {@link #wrapParagraph} replaced. */
+    @Benchmark
+    public List<String> wrapParagraphPdfBox() throws IOException {
+        return PdfBoxLineWrap.wrapLine(paragraph, pdfBoxHelvetica, 11f, MAX_WIDTH);
+    }
+}
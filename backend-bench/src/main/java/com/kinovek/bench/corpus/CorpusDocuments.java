@@ -0,0 +1,152 @@
+package com.kinovek.bench.corpus;
+
+import com.lowagie.text.Document;
+import com.lowagie.text.DocumentException;
+import com.lowagie.text.Font;
+import com.lowagie.text.FontFactory;
+import com.lowagie.text.PageSize;
+import com.lowagie.text.Paragraph;
+import com.lowagie.text.pdf.PdfPCell;
+import com.lowagie.text.pdf.PdfPTable;
+import com.lowagie.text.pdf.PdfWriter;
+import org.apache.poi.xwpf.usermodel.XWPFDocument;
+import org.apache.poi.xwpf.usermodel.XWPFTable;
+import org.apache.poi.xwpf.usermodel.XWPFTableCell;
+import org.apache.poi.xwpf.usermodel.XWPFTableRow;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+/**
+ * Renders a {@link SyntheticResume} as an uploaded PDF or DOCX would look: real side-by-side
+ * columns for TWO_COLUMN, real tables for TABLE, and the text layout otherwise.
+ */
+public final class CorpusDocuments {
+
+    private static final Font BODY = FontFactory.getFont(FontFactory.HELVETICA, 10);
+    private static final Font HEADER = FontFactory.getFont(FontFactory.HELVETICA_BOLD, 11);
+
+    private CorpusDocuments() {
+    }
+
+    public static byte[] pdf(SyntheticResume resume) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        Document document = new Document(PageSize.A4, 50, 50, 50, 50);
+        try {
+            PdfWriter.getInstance(document, out);
+            document.open();
+            switch (resume.layout()) {
+                case TWO_COLUMN -> {
+                    resume.contact().forEach(line -> document.add(new Paragraph(line, BODY)));
+                    PdfPTable columns = new PdfPTable(new float[] {1, 2});
+                    columns.setWidthPercentage(100);
+                    columns.addCell(column(resume, true));
+                    columns.addCell(column(resume, false));
+                    document.add(columns);
+                }
+                case TABLE -> {
+                    resume.contact().forEach(line -> document.add(new Paragraph(line, BODY)));
+                    for (SyntheticResume.Section section : resume.sections()) {
+                        document.add(new Paragraph(section.header(), HEADER));
+                        if (section.tabular()) {
+                            document.add(pdfTable(section.lines()));
+                        } else {
+                            section.lines().forEach(line -> document.add(new Paragraph(line, BODY)));
+                        }
+                    }
+                }
+                default -> {
+                    for (String line : resume.text().split("\n", -1)) {
+                        document.add(new Paragraph(line.isBlank() ? " " : line, BODY));
+                    }
+                }
+            }
+        } catch (DocumentException e) {
+            throw new IllegalStateException("Could not render " + resume.id() + " as PDF", e);
+        } finally {
+            document.close();
+        }
+        return out.toByteArray();
+    }
+
+    public static byte[] docx(SyntheticResume resume) {
+        try (XWPFDocument document = new XWPFDocument(); ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            switch (resume.layout()) {
+                case TWO_COLUMN -> {
+                    resume.contact().forEach(line -> document.createParagraph().createRun().setText(line));
+                    XWPFTableRow row = document.createTable(1, 2).getRow(0);
+                    fillCell(row.getCell(0), resume, true);
+                    fillCell(row.getCell(1), resume, false);
+                }
+                case TABLE -> {
+                    resume.contact().forEach(line -> document.createParagraph().createRun().setText(line));
+                    for (SyntheticResume.Section section : resume.sections()) {
+                        document.createParagraph().createRun().setText(section.header());
+                        if (section.tabular()) {
+                            docxTable(document, section.lines());
+                        } else {
+                            section.lines().forEach(line -> document.createParagraph().createRun().setText(line));
+                        }
+                    }
+                }
+                default -> {
+                    for (String line : resume.text().split("\n", -1)) {
+                        document.createParagraph().createRun().setText(line);
+                    }
+                }
+            }
+            document.write(out);
+            return out.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static PdfPCell column(SyntheticResume resume, boolean left) {
+        PdfPCell cell = new PdfPCell();
+        cell.setBorder(PdfPCell.NO_BORDER);
+        for (SyntheticResume.Section section : resume.sections()) {
+            if (SyntheticResume.LEFT_COLUMN.contains(section.key()) != left) continue;
+            cell.addElement(new Paragraph(section.header(), HEADER));
+            section.lines().forEach(line -> cell.addElement(new Paragraph(line, BODY)));
+        }
+        return cell;
+    }
+
+    private static PdfPTable pdfTable(List<String> lines) {
+        int columns = lines.stream().mapToInt(line -> SyntheticResume.cells(line).size()).max().orElse(1);
+        PdfPTable table = new PdfPTable(columns);
+        table.setWidthPercentage(100);
+        for (String line : lines) {
+            List<String> cells = SyntheticResume.cells(line);
+            for (int c = 0; c < columns; c++) {
+                table.addCell(new Paragraph(c < cells.size() ? cells.get(c) : "", BODY));
+            }
+        }
+        return table;
+    }
+
+    private static void fillCell(XWPFTableCell cell, SyntheticResume resume, boolean left) {
+        boolean first = true;
+        for (SyntheticResume.Section section : resume.sections()) {
+            if (SyntheticResume.LEFT_COLUMN.contains(section.key()) != left) continue;
+            // A new cell already holds one empty paragraph
+            (first ? cell.getParagraphs().get(0) : cell.addParagraph()).createRun().setText(section.header());
+            first = false;
+            section.lines().forEach(line -> cell.addParagraph().createRun().setText(line));
+        }
+    }
+
+    private static void docxTable(XWPFDocument document, List<String> lines) {
+        int columns = lines.stream().mapToInt(line -> SyntheticResume.cells(line).size()).max().orElse(1);
+        XWPFTable table = document.createTable(lines.size(), columns);
+        for (int r = 0; r < lines.size(); r++) {
+            List<String> cells = SyntheticResume.cells(lines.get(r));
+            for (int c = 0; c < cells.size(); c++) {
+                table.getRow(r).getCell(c).setText(cells.get(c));
+            }
+        }
+    }
+}
@@ -0,0 +1,354 @@
+package com.kinovek.bench.corpus;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Deterministic generator of synthetic resumes and job descriptions.
+ *
+ * Skills, job titles and section header variants come from keywords.json; summaries, bullets
+ * and certifications from the templates in ats_resume_content.json (both read from the backend
+ * jar). Document {@code i} depends only on the seed and {@code i}, so a corpus can be
+ * regenerated identically, in any order or in parallel.
+ */
+public class CorpusGenerator {
+
+    private static final Pattern PLACEHOLDER = Pattern.compile("\\{(\\w+)}");
+
+    private static final String[] FIRST_NAMES = {
+            "Aarav", "Priya", "Rahul", "Sneha", "Vikram", "Ananya", "Arjun", "Kavya", "Rohan", "Meera",
+            "Karthik", "Divya", "Aditya", "Pooja", "Siddharth", "Neha", "Manish", "Lakshmi", "Farhan", "Ishita"};
+    private static final String[] LAST_NAMES = {
+            "Sharma", "Patel", "Reddy", "Iyer", "Nair", "Gupta", "Singh", "Kumar", "Menon", "Das",
+            "Joshi", "Rao", "Khan", "Mehta", "Pillai", "Chatterjee", "Verma", "Bose", "Kulkarni", "Shetty"};
+    private static final String[] CITIES = {
+            "Bangalore, Karnataka", "Pune, Maharashtra", "Hyderabad, Telangana", "Chennai, Tamil Nadu",
+            "Mumbai, Maharashtra", "Noida, Uttar Pradesh", "Kochi, Kerala", "Ahmedabad, Gujarat"};
+    private static final String[] COMPANIES = {
+            "Infosys", "TCS", "Wipro", "HCL Technologies", "Tata Motors", "L&T", "Mahindra", "Sun Pharma",
+            "Cipla", "Zoho", "Freshworks", "Flipkart", "Bosch India", "Siemens", "Accenture", "Dr. Reddy's"};
+    private static final String[] UNIVERSITIES = {
+            "Pune University", "Anna University", "VTU Belgaum", "JNTU Hyderabad", "Mumbai University",
+            "NIT Trichy", "Amity University", "Manipal Institute of Technology"};
+    private static final String[] MONTHS = {
+            "Jan", "Feb", "Mar", "Apr", "May", "Jun", "Jul", "Aug", "Sep", "Oct", "Nov", "Dec"};
+    private static final String[] NOISY_BULLETS = {"➢ ", "● ", "✓ ", "* ", "• ", "-"};
+
+    // Fillers for template placeholders that are not skills, numbers or the role
+    private static final Map<String, String[]> PHRASES = Map.ofEntries(
+            Map.entry("projectType", new String[] {"an inventory management system", "a customer portal", "a reporting dashboard"}),
+            Map.entry("feature", new String[] {"real-time notifications", "role-based access", "automated reports"}),
+            Map.entry("system", new String[] {"the billing platform", "the order pipeline", "the legacy ERP"}),
+            Map.entry("domain", new String[] {"backend", "enterprise", "product"}),
+            Map.entry("projectHighlight", new String[] {"a campus placement portal", "a smart irrigation system"}),
+            Map.entry("achievementHighlight", new String[] {"a 30% cost reduction", "zero-downtime releases"}),
+            Map.entry("process", new String[] {"quality inspection", "batch release", "design review"}),
+            Map.entry("product", new String[] {"a mobile app", "a gearbox assembly", "a tablet formulation"}),
+            Map.entry("clientType", new String[] {"enterprise", "retail", "healthcare"}),
+            Map.entry("companyType", new String[] {"a product startup", "an MNC", "a manufacturing firm"}));
+
+    /** Industry → its skill categories in keywords.json and its job title group. */
+    private record Industry(String key, String titleGroup, String degree, List<String> skillCategories) {}
+
+    private static final List<Industry> INDUSTRIES = List.of(
+            new Industry("IT_Software", "softwareEngineering", "B.Tech in Computer Science",
+                    List.of("programmingLanguages", "backendFrameworks", "frontendFrameworks", "databases",
+                            "cloudPlatforms", "devopsAndCICD", "versionControl", "testingAndQA")),
+            new Industry("Data_Science_AI", "dataAndAI", "M.Sc in Data Science",
+                    List.of("programmingLanguages", "aiAndMachineLearning", "dataScience", "databases", "cloudPlatforms")),
+            new Industry("Mechanical_Engineering", "mechanicalEngineering", "B.E. in Mechanical Engineering",
+                    List.of("mechanicalEngineering", "projectManagementTools")),
+            new Industry("Civil_Engineering", "civilEngineering", "B.Tech in Civil Engineering",
+                    List.of("civilEngineering", "projectManagementTools")),
+            new Industry("Electrical_Engineering", "electricalAndElectronics", "B.Tech in Electrical Engineering",
+                    List.of("electricalEngineering")),
+            new Industry("Electronics_Communication", "electricalAndElectronics", "B.E. in Electronics and Communication",
+                    List.of("electronicsAndCommunication", "programmingLanguages")),
+            new Industry("Pharmacy", "pharmacy", "B.Pharm",
+                    List.of("pharmacy")),
+            new Industry("UI_UX_Design", "design", "B.Des in Interaction Design",
+                    List.of("uiUxDesign", "webDevelopment")),
+            new Industry("Graphic_Design_VFX", "design", "B.Des in Communication Design",
+                    List.of("graphicDesignAndVFX")),
+            new Industry("Digital_Marketing", "digitalMarketing", "BBA in Marketing",
+                    List.of("digitalMarketing")));
+
+    private final long seed;
+    private final JsonNode keywords;
+    private final JsonNode content;
+
+    public CorpusGenerator(long seed) {
+        this.seed = seed;
+        this.keywords = load("keywords.json");
+        this.content = load("ats_resume_content.json");
+    }
+
+    /** Resume {@code index} with a layout and length chosen by the seed. */
+    public SyntheticResume resume(int index) {
+        SplittableRandom random = random(index, 0);
+        Layout[] layouts = Layout.values();
+        return resume(index, layouts[random.nextInt(layouts.length)], 1 + random.nextInt(3));
+    }
+
+    /**
+     * Resume {@code index} with the given layout.
+     *
+     * @param size multiplies the number of jobs and projects (1 = typical, 2-3 = long, more = stress)
+     */
+    public SyntheticResume resume(int index, Layout layout, int size) {
+        SplittableRandom random = random(index, 1);
+        Industry industry = INDUSTRIES.get(random.nextInt(INDUSTRIES.size()));
+        boolean fresher = random.nextInt(3) == 0;
+        List<String> skills = skills(random, industry, 8 + random.nextInt(10));
+        String role = pick(random, keywords.at("/commonJobTitles/" + industry.titleGroup()));
+        Fill fill = new Fill(random, skills, role, industry.degree(), fresher ? 0 : 2 + random.nextInt(8));
+
+        String first = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+        String last = LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+        List<String> contact = new ArrayList<>(List.of(
+                first + " " + last,
+                first.toLowerCase(Locale.ROOT) + "." + last.toLowerCase(Locale.ROOT) + "@gmail.com | +91-"
+                        + (70000 + random.nextInt(30000)) + "-" + (10000 + random.nextInt(90000)) + " | "
+                        + CITIES[random.nextInt(CITIES.length)]));
+        if (layout == Layout.NOISY) {
+            contact.add("Photo: [" + first.toLowerCase(Locale.ROOT) + "_photo.jpg]");
+            contact.add("Date of Birth: " + (1 + random.nextInt(28)) + "-" + MONTHS[random.nextInt(12)] + "-"
+                    + (1990 + random.nextInt(10)));
+            contact.add("Gender: " + (random.nextBoolean() ? "Male" : "Female"));
+        }
+
+        List<SyntheticResume.Section> sections = new ArrayList<>();
+        String summaryPath = "/summaryTemplates/" + industry.key() + (fresher ? "/fresher" : "/experienced");
+        sections.add(section(random, "summary", List.of(fill.apply(pick(random, content.at(summaryPath))))));
+        sections.add(section(random, "education", education(random, industry)));
+        sections.add(section(random, "skills", skillLines(random, skills, layout)));
+
+        String bulletBase = "/bulletTemplates/" + industry.key();
+        if (!fresher) {
+            List<String> lines = new ArrayList<>();
+            int year = 2025;
+            for (int job = 0; job < (1 + random.nextInt(3)) * size; job++) {
+                int startYear = year - 1 - random.nextInt(3);
+                lines.add(pick(random, keywords.at("/commonJobTitles/" + industry.titleGroup())) + " - "
+                        + COMPANIES[random.nextInt(COMPANIES.length)] + " (" + MONTHS[random.nextInt(12)] + " "
+                        + startYear + " - " + (job == 0 ? "Present" : MONTHS[random.nextInt(12)] + " " + year) + ")");
+                bullets(random, fill, content.at(bulletBase + "/experienced_work"), 2 + random.nextInt(4), layout, lines);
+                year = startYear;
+            }
+            sections.add(section(random, "experience", lines));
+        }
+
+        List<String> projects = new ArrayList<>();
+        for (int project = 0; project < (1 + random.nextInt(2)) * size; project++) {
+            String name = pick(random, PHRASES.get("projectType")).replaceFirst("^an? ", "");
+            projects.add(Character.toUpperCase(name.charAt(0)) + name.substring(1) + " | "
+                    + skills.get(random.nextInt(skills.size())) + ", " + skills.get(random.nextInt(skills.size())));
+            bullets(random, fill, content.at(bulletBase + "/fresher_projects"), 1 + random.nextInt(3), layout, projects);
+        }
+        sections.add(section(random, "projects", projects));
+
+        JsonNode certifications = content.at("/certificationsByIndustry/" + industry.key());
+        int certificationCount = random.nextInt(4);
+        if (certificationCount > 0) {
+            Set<String> chosen = new LinkedHashSet<>();
+            for (int i = 0; i < certificationCount; i++) {
+                chosen.add(pick(random, certifications));
+            }
+            sections.add(section(random, "certifications", List.copyOf(chosen)));
+        }
+        if (layout == Layout.NOISY) {
+            sections.add(new SyntheticResume.Section("languages", "Languages Known", List.of("English, Hindi")));
+            sections.add(new SyntheticResume.Section("declaration", "Declaration",
+                    List.of("I hereby declare that the above mentioned information is correct.   ", "\t" + first + " " + last)));
+        }
+
+        return new SyntheticResume(String.format("resume-%05d", index), industry.key(), fresher, layout,
+                List.copyOf(contact), List.copyOf(sections));
+    }
+
+    /** Job description {@code index}: title, company, required and nice-to-have skills. */
+    public SyntheticJobDescription jobDescription(int index) {
+        SplittableRandom random = random(index, 2);
+        Industry industry = INDUSTRIES.get(random.nextInt(INDUSTRIES.size()));
+        String title = pick(random, keywords.at("/commonJobTitles/" + industry.titleGroup()));
+        String company = COMPANIES[random.nextInt(COMPANIES.length)];
+        List<String> required = skills(random, industry, 5 + random.nextInt(6));
+        List<String> extra = skills(random, industry, 2 + random.nextInt(3));
+        int minYears = random.nextInt(4);
+
+        StringBuilder text = new StringBuilder();
+        if (random.nextBoolean()) {
+            // Structured posting
+            text.append("Job Title: ").append(title).append('\n')
+                    .append("Company: ").append(company).append('\n')
+                    .append("Location: ").append(CITIES[random.nextInt(CITIES.length)]).append("\n\n")
+                    .append("We are looking for a ").append(title).append(" to join our team.\n\n")
+                    .append("Required Skills:\n");
+            required.forEach(skill -> text.append("- ").append(skill).append('\n'));
+            text.append("\nGood to Have:\n");
+            extra.forEach(skill -> text.append("- Experience with ").append(skill).append('\n'));
+            text.append("\nQualifications:\n- ").append(industry.degree()).append(" or related field\n- ")
+                    .append(minYears).append('-').append(minYears + 2).append(" years of experience\n");
+        } else {
+            // Prose posting
+            text.append(company).append(" is hiring a ").append(title).append(". The ideal candidate has hands-on ")
+                    .append("experience with ").append(String.join(", ", required))
+                    .append(", and ideally some exposure to ").append(String.join(" or ", extra))
+                    .append(". You will work with cross-functional teams to deliver high quality results. ")
+                    .append(minYears == 0 ? "Freshers are welcome to apply. " : minYears + "+ years of experience required. ")
+                    .append("A ").append(industry.degree()).append(" is preferred.\n");
+        }
+        return new SyntheticJobDescription(String.format("jd-%05d", index), industry.key(), title, text.toString());
+    }
+
+    // ===== Sections =====
+
+    private SyntheticResume.Section section(SplittableRandom random, String key, List<String> lines) {
+        String header = pick(random, keywords.at("/sectionHeaders/" + key));
+        return new SyntheticResume.Section(key, random.nextInt(3) == 0 ? header.toUpperCase(Locale.ROOT) : header, lines);
+    }
+
+    private List<String> education(SplittableRandom random, Industry industry) {
+        int graduated = 2015 + random.nextInt(10);
+        String score = random.nextBoolean() ? (60 + random.nextInt(35)) + "%" : "CGPA " + (6 + random.nextInt(4)) + "." + random.nextInt(10);
+        List<String> lines = new ArrayList<>();
+        lines.add(industry.degree() + " | " + UNIVERSITIES[random.nextInt(UNIVERSITIES.length)] + " | "
+                + (graduated - 4) + " - " + graduated + " | " + score);
+        if (random.nextBoolean()) {
+            lines.add("Class XII | CBSE | " + (graduated - 4) + " | " + (65 + random.nextInt(30)) + "%");
+        }
+        return lines;
+    }
+
+    private List<String> skillLines(SplittableRandom random, List<String> skills, Layout layout) {
+        if (layout != Layout.TABLE && random.nextBoolean()) {
+            return List.of(String.join(", ", skills));
+        }
+        // Grouped, which the TABLE layout draws as "Category | Skills" rows
+        List<String> lines = new ArrayList<>();
+        String[] groups = {"Technical", "Tools", "Other"};
+        int perGroup = (skills.size() + groups.length - 1) / groups.length;
+        for (int g = 0; g < groups.length && g * perGroup < skills.size(); g++) {
+            lines.add(groups[g] + ": " + String.join(", ", skills.subList(g * perGroup, Math.min(skills.size(), (g + 1) * perGroup))));
+        }
+        return lines;
+    }
+
+    private void bullets(SplittableRandom random, Fill fill, JsonNode templates, int count, Layout layout,
+                         List<String> out) {
+        for (int i = 0; i < count; i++) {
+            String bullet = layout == Layout.NOISY ? NOISY_BULLETS[random.nextInt(NOISY_BULLETS.length)] : "- ";
+            String trailing = layout == Layout.NOISY && random.nextInt(4) == 0 ? "  " : "";
+            out.add(bullet + fill.apply(pick(random, templates)) + trailing);
+        }
+    }
+
+    private List<String> skills(SplittableRandom random, Industry industry, int count) {
+        Set<String> chosen = new LinkedHashSet<>();
+        for (int attempt = 0; chosen.size() < count && attempt < count * 4; attempt++) {
+            String category = industry.skillCategories().get(random.nextInt(industry.skillCategories().size()));
+            chosen.add(pick(random, keywords.at("/skillCategories/" + category)));
+        }
+        return List.copyOf(chosen);
+    }
+
+    // ===== Template placeholders =====
+
+    /** Fills {placeholders} in the content templates for one resume. */
+    private static final class Fill {
+        private final SplittableRandom random;
+        private final List<String> skills;
+        private final String role;
+        private final String degree;
+        private final int yearsExp;
+
+        Fill(SplittableRandom random, List<String> skills, String role, String degree, int yearsExp) {
+            this.random = random;
+            this.skills = skills;
+            this.role = role;
+            this.degree = degree;
+            this.yearsExp = yearsExp;
+        }
+
+        String apply(String template) {
+            Matcher matcher = PLACEHOLDER.matcher(template);
+            StringBuilder out = new StringBuilder();
+            while (matcher.find()) {
+                matcher.appendReplacement(out, Matcher.quoteReplacement(value(matcher.group(1))));
+            }
+            return matcher.appendTail(out).toString();
+        }
+
+        private String value(String key) {
+            return switch (key) {
+                case "skill1", "tech1", "tool1" -> skills.get(0);
+                case "skill2", "tech2", "tool2" -> skills.get(1 % skills.size());
+                case "skill3", "tech3" -> skills.get(2 % skills.size());
+                case "targetRole" -> role;
+                case "degree" -> degree;
+                case "yearsExp" -> String.valueOf(Math.max(1, yearsExp));
+                case "duration", "timeframe" -> (2 + random.nextInt(10)) + " months";
+                case "budget", "projectValue" -> "INR " + (1 + random.nextInt(50)) + " lakh";
+                case "teamSize", "projectCount" -> String.valueOf(3 + random.nextInt(25));
+                // "from {before}s to {after}s" should read as an improvement
+                case "before" -> String.valueOf(10 + random.nextInt(50));
+                case "after" -> String.valueOf(1 + random.nextInt(9));
+                default -> {
+                    String[] phrases = PHRASES.get(key);
+                    if (phrases != null) yield phrases[random.nextInt(phrases.length)];
+                    if (key.endsWith("Count") || key.equals("count")
+                            || key.equals("volume") || key.equals("capacity")) {
+                        yield String.valueOf(2 + random.nextInt(500));
+                    }
+                    if (key.startsWith("metric") || key.equals("range") || key.equals("value")) {
+                        yield String.valueOf(5 + random.nextInt(60));
+                    }
+                    // tool, library, platform, protocol, microcontroller, ...: any of the candidate's skills
+                    yield skills.get(random.nextInt(skills.size()));
+                }
+            };
+        }
+    }
+
+    // ===== Helpers =====
+
+    /** Independent stream per (document, kind), so documents don't depend on generation order. */
+    private SplittableRandom random(int index, int kind) {
+        return new SplittableRandom(seed * 1_000_003L + index * 4L + kind);
+    }
+
+    private static String pick(SplittableRandom random, JsonNode array) {
+        if (array == null || !array.isArray() || array.isEmpty()) {
+            throw new IllegalStateException("Expected a non-empty array in the corpus sources");
+        }
+        return array.get(random.nextInt(array.size())).asText();
+    }
+
+    private static String pick(SplittableRandom random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    private static JsonNode load(String resource) {
+        try (InputStream in = CorpusGenerator.class.getClassLoader().getResourceAsStream(resource)) {
+            if (in == null) {
+                throw new IllegalStateException(resource + " not found on the classpath");
+            }
+            return new ObjectMapper().readTree(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
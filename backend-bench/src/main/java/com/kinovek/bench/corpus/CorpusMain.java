@@ -0,0 +1,72 @@
+package com.kinovek.bench.corpus;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes a synthetic corpus to disk for offline benchmarks and load tests:
+ * <pre>
+ * java -cp backend-bench/target/benchmarks.jar com.kinovek.bench.corpus.CorpusMain \
+ *      --out corpus --count 1000 --seed 42 --formats txt,pdf,docx
+ * </pre>
+ * Produces resume-NNNNN.{txt,pdf,docx}, jd-NNNNN.txt and a manifest.csv describing each resume.
+ */
+public final class CorpusMain {
+
+    private CorpusMain() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        Map<String, String> options = new LinkedHashMap<>(Map.of(
+                "out", "corpus", "count", "100", "seed", "42", "formats", "txt,pdf,docx"));
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            if (!args[i].startsWith("--") || !options.containsKey(args[i].substring(2))) {
+                throw new IllegalArgumentException("Unknown option " + args[i] + "; expected one of " + options.keySet());
+            }
+            options.put(args[i].substring(2), args[i + 1]);
+        }
+
+        Path out = Path.of(options.get("out"));
+        int count = Integer.parseInt(options.get("count"));
+        List<String> formats = Arrays.asList(options.get("formats").split(","));
+        CorpusGenerator generator = new CorpusGenerator(Long.parseLong(options.get("seed")));
+        Files.createDirectories(out);
+
+        try (PrintWriter manifest = new PrintWriter(Files.newBufferedWriter(out.resolve("manifest.csv"), StandardCharsets.UTF_8))) {
+            manifest.println("id,industry,layout,fresher,text_chars,pdf_bytes,docx_bytes");
+            for (int i = 0; i < count; i++) {
+                SyntheticResume resume = generator.resume(i);
+                String text = resume.text();
+                long pdfBytes = -1;
+                long docxBytes = -1;
+                if (formats.contains("txt")) {
+                    Files.writeString(out.resolve(resume.id() + ".txt"), text, StandardCharsets.UTF_8);
+                }
+                if (formats.contains("pdf")) {
+                    byte[] pdf = CorpusDocuments.pdf(resume);
+                    Files.write(out.resolve(resume.id() + ".pdf"), pdf);
+                    pdfBytes = pdf.length;
+                }
+                if (formats.contains("docx")) {
+                    byte[] docx = CorpusDocuments.docx(resume);
+                    Files.write(out.resolve(resume.id() + ".docx"), docx);
+                    docxBytes = docx.length;
+                }
+                SyntheticJobDescription jd = generator.jobDescription(i);
+                Files.writeString(out.resolve(jd.id() + ".txt"), jd.text(), StandardCharsets.UTF_8);
+
+                manifest.println(String.join(",", resume.id(), resume.industry(), resume.layout().name(),
+                        String.valueOf(resume.fresher()), String.valueOf(text.length()),
+                        String.valueOf(pdfBytes), String.valueOf(docxBytes)));
+            }
+        }
+        System.out.println("Wrote " + count + " resumes and job descriptions to " + out.toAbsolutePath());
+    }
+}
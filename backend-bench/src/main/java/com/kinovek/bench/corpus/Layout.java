@@ -0,0 +1,17 @@
+package com.kinovek.bench.corpus;
+
+/**
+ * How a synthetic resume is laid out — the messiness the parsers have to cope with.
+ */
+public enum Layout {
+    /** One column, a header per section, "-" bullets. */
+    CLEAN,
+    /** Skills, education and certifications in a left column beside the rest. */
+    TWO_COLUMN,
+    /** Skills and education as tables. */
+    TABLE,
+    /** Everything run together into one long paragraph. */
+    WALL_OF_TEXT,
+    /** One column with photo/DOB/declaration lines, odd bullet symbols and stray whitespace. */
+    NOISY
+}
@@ -0,0 +1,9 @@
+package com.kinovek.bench.corpus;
+
+/**
+ * A generated job description.
+ *
+ * @param industry content key from ats_resume_content.json, e.g. "IT_Software"
+ */
+public record SyntheticJobDescription(String id, String industry, String title, String text) {
+}
@@ -0,0 +1,115 @@
+package com.kinovek.bench.corpus;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * A generated resume: contact lines plus sections, rendered as text according to its
+ * {@link Layout}. {@link CorpusDocuments} renders the same resume as PDF or DOCX.
+ *
+ * @param industry content key from ats_resume_content.json, e.g. "IT_Software"
+ */
+public record SyntheticResume(String id, String industry, boolean fresher, Layout layout,
+                              List<String> contact, List<Section> sections) {
+
+    /** Sections that go in the left column of a two-column layout. */
+    static final Set<String> LEFT_COLUMN = Set.of("skills", "education", "certifications", "languages");
+
+    /** Width of the left column in the two-column text layout. */
+    private static final int LEFT_WIDTH = 36;
+
+    /**
+     * @param key    canonical section key from keywords.json "sectionHeaders", e.g. "experience"
+     * @param header the header as printed, e.g. "PROFESSIONAL EXPERIENCE"
+     */
+    public record Section(String key, String header, List<String> lines) {
+
+        /** Skills and education are drawn as tables in the TABLE layout. */
+        boolean tabular() {
+            return key.equals("skills") || key.equals("education");
+        }
+    }
+
+    /** The resume as plain text, roughly what text extraction of the PDF would give. */
+    public String text() {
+        StringBuilder text = new StringBuilder();
+        switch (layout) {
+            case TWO_COLUMN -> {
+                contact.forEach(line -> text.append(line).append('\n'));
+                text.append('\n');
+                List<String> left = columnLines(true);
+                List<String> right = columnLines(false);
+                for (int i = 0; i < Math.max(left.size(), right.size()); i++) {
+                    String l = i < left.size() ? left.get(i) : "";
+                    String r = i < right.size() ? right.get(i) : "";
+                    text.append(r.isEmpty() ? l : String.format("%-" + LEFT_WIDTH + "s    %s", l, r).stripTrailing())
+                            .append('\n');
+                }
+            }
+            case WALL_OF_TEXT -> {
+                text.append(String.join(" ", contact));
+                for (Section section : sections) {
+                    text.append(' ').append(section.header());
+                    for (String line : section.lines()) {
+                        text.append(' ').append(line.startsWith("- ") ? line.substring(2) : line);
+                    }
+                }
+                text.append('\n');
+            }
+            default -> {
+                contact.forEach(line -> text.append(line).append('\n'));
+                for (Section section : sections) {
+                    text.append('\n').append(section.header()).append('\n');
+                    for (String line : section.lines()) {
+                        text.append(layout == Layout.TABLE && section.tabular() ? tableRow(line) : line).append('\n');
+                    }
+                }
+            }
+        }
+        return text.toString();
+    }
+
+    /** Cells of a tabular line: "Degree | Institute | Years" or "Category: a, b". */
+    static List<String> cells(String line) {
+        if (line.contains(" | ")) return List.of(line.split(" \\| "));
+        int colon = line.indexOf(": ");
+        return colon > 0 ? List.of(line.substring(0, colon), line.substring(colon + 2)) : List.of(line);
+    }
+
+    private static String tableRow(String line) {
+        return "| " + String.join(" | ", cells(line)) + " |";
+    }
+
+    private List<String> columnLines(boolean leftColumn) {
+        List<String> lines = new ArrayList<>();
+        for (Section section : sections) {
+            if (LEFT_COLUMN.contains(section.key()) != leftColumn) continue;
+            if (!lines.isEmpty()) lines.add("");
+            lines.add(section.header());
+            for (String line : section.lines()) {
+                if (leftColumn) {
+                    lines.addAll(wrap(line, LEFT_WIDTH));
+                } else {
+                    lines.add(line);
+                }
+            }
+        }
+        return lines;
+    }
+
+    private static List<String> wrap(String line, int width) {
+        List<String> wrapped = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        for (String word : line.split(" ")) {
+            if (current.length() > 0 && current.length() + 1 + word.length() > width) {
+                wrapped.add(current.toString());
+                current.setLength(0);
+            }
+            if (current.length() > 0) current.append(' ');
+            current.append(word);
+        }
+        wrapped.add(current.toString());
+        return wrapped;
+    }
+}
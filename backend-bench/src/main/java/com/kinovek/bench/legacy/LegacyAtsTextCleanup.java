@@ -0,0 +1,72 @@
+package com.kinovek.bench.legacy;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.UnaryOperator;
+import java.util.regex.Pattern;
+
+/**
+ * The ATS converter's text cleanup as it was before user-031: cleanText's chain of whole-string
+ * regex passes, then normalizeSectionHeaders and linearize each splitting and rebuilding the text.
+ * Kept only as the "before" side of {@link com.kinovek.bench.TextBenchmark} and the normalizer's
+ * equivalence test.
+ */
+public final class LegacyAtsTextCleanup {
+
+    private static final Pattern TABLE_PATTERN = Pattern.compile("\\|.*\\|.*\\|", Pattern.MULTILINE);
+    private static final Pattern MULTIPLE_COLUMNS = Pattern.compile("\\t{2,}|\\s{4,}(?=\\S+\\s{4,}\\S+)");
+    private static final Pattern SPECIAL_CHARS = Pattern.compile("[\u2022\u25CF\u25CB\u25AA\u25AB\u2023\u2043]");
+    private static final Pattern MULTIPLE_BLANK_LINES = Pattern.compile("\n{3,}");
+
+    private LegacyAtsTextCleanup() {
+    }
+
+    /**
+     * cleanText → normalizeSectionHeaders → linearize → split, as extractATSText and generatePDF did.
+     *
+     * @param headerMatcher returns the standard name for a section header line, or null
+     */
+    public static List<String> normalize(String text, UnaryOperator<String> headerMatcher) {
+        String linear = linearize(normalizeSectionHeaders(cleanText(text), headerMatcher));
+        return Arrays.asList(linear.split("\n"));
+    }
+
+    private static String cleanText(String text) {
+        text = TABLE_PATTERN.matcher(text).replaceAll("");
+        text = MULTIPLE_COLUMNS.matcher(text).replaceAll("\n");
+        text = SPECIAL_CHARS.matcher(text).replaceAll("-");
+        text = text.replaceAll("(?i)\\[image[^]]*]", "");
+        text = text.replaceAll("(?i)<img[^>]*>", "");
+        text = text.replaceAll("<[^>]+>", "");
+        text = text.replaceAll("\t", " ");
+        text = text.replaceAll(" {2,}", " ");
+        text = MULTIPLE_BLANK_LINES.matcher(text).replaceAll("\n\n");
+        return text.trim();
+    }
+
+    private static String normalizeSectionHeaders(String text, UnaryOperator<String> headerMatcher) {
+        StringBuilder result = new StringBuilder();
+        for (String line : text.split("\n")) {
+            String normalized = headerMatcher.apply(line.trim());
+            if (normalized != null) {
+                result.append("\n").append(normalized).append("\n");
+            } else {
+                result.append(line).append("\n");
+            }
+        }
+        return result.toString().trim();
+    }
+
+    private static String linearize(String text) {
+        StringBuilder result = new StringBuilder();
+        for (String line : text.split("\n")) {
+            String trimmed = line.trim();
+            if (!trimmed.isEmpty()) {
+                result.append(trimmed).append("\n");
+            } else if (result.length() > 0 && result.charAt(result.length() - 1) != '\n') {
+                result.append("\n");
+            }
+        }
+        return result.toString().trim();
+    }
+}
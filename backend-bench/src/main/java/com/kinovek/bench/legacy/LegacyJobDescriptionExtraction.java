@@ -0,0 +1,72 @@
+package com.kinovek.bench.legacy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * CoverLetterService's job description extraction as it was before user-033: patterns compiled
+ * on every call, the requirements section found with a lazy [\s\S]*? lookahead, and a hardcoded
+ * tech-term fallback. Kept only as the reference for JobDescriptionAnalyzer's equivalence test.
+ */
+public final class LegacyJobDescriptionExtraction {
+
+    public String extractCompanyName(String jd) {
+        // Common patterns: "at [Company]", "[Company] is", "About [Company]", "Join [Company]"
+        String[] patterns = {
+                "(?i)(?:at|join|about)\\s+([A-Z][A-Za-z0-9&'.\\s]{1,30}?)(?:\\s*(?:is|are|we|,|\\.|\\n|$))",
+                "(?i)company\\s*[:=]\\s*(.+?)(?:\n|$)",
+                "(?i)^([A-Z][A-Za-z0-9&'.\\s]{2,25})\\s*$"
+        };
+        for (String pattern : patterns) {
+            Matcher m = Pattern.compile(pattern, Pattern.MULTILINE).matcher(jd);
+            if (m.find()) {
+                return m.group(1).trim();
+            }
+        }
+        return "[Company Name]";
+    }
+
+    public String extractRoleName(String jd) {
+        String[] patterns = {
+                "(?i)(?:job title|position|role)\\s*[:=]\\s*(.+?)(?:\n|$)",
+                "(?i)(?:hiring|looking for|seeking)\\s+(?:a|an)?\\s*(.+?)(?:\\s+(?:proficient|with|who|at|for|in|to|\\.|,|\\n|$))",
+                "(?i)^(.+?(?:engineer|developer|manager|analyst|designer|architect|scientist|specialist|coordinator|consultant|lead|director|intern))\\s*$"
+        };
+        for (String pattern : patterns) {
+            Matcher m = Pattern.compile(pattern, Pattern.MULTILINE).matcher(jd);
+            if (m.find()) {
+                String role = m.group(1).trim();
+                // Remove trailing articles/prepositions
+                role = role.replaceAll("\\s+(?:a|an|the|who|with|at|for|in|to)$", "").trim();
+                if (role.length() >= 3 && role.length() < 60) return role;
+            }
+        }
+        return "[Position Title]";
+    }
+
+    /**
+     * Requirement lines from the requirements section only, without the tech-term fallback
+     * (which user-033 replaced with the keywords.json dictionary on purpose).
+     */
+    public List<String> extractRequirementsSection(String jd) {
+        List<String> reqs = new ArrayList<>();
+        // Look for requirements/qualifications section
+        Pattern reqSection = Pattern.compile("(?i)(requirements|qualifications|what we.re looking for|must have|you.ll need)[:\\s]*\n([\\s\\S]*?)(?=\n(?:benefits|perks|about|how to|application|$))", Pattern.MULTILINE);
+        Matcher m = reqSection.matcher(jd);
+
+        if (m.find()) {
+            String block = m.group(2);
+            String[] lines = block.split("\n");
+            for (String line : lines) {
+                String trimmed = line.replaceAll("^[\\-\u2022•*>]+", "").trim();
+                if (!trimmed.isEmpty() && trimmed.length() > 5 && trimmed.length() < 100) {
+                    reqs.add(trimmed);
+                }
+            }
+        }
+
+        return reqs.size() > 6 ? reqs.subList(0, 6) : reqs;
+    }
+}
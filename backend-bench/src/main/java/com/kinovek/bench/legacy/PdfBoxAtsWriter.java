@@ -0,0 +1,150 @@
+package com.kinovek.bench.legacy;
+
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.common.PDRectangle;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.apache.pdfbox.pdmodel.font.Standard14Fonts;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * The ATS converter's PDF writer as it was before rendering moved to OpenPDF (user-032):
+ * PDFBox, Standard 14 fonts created per document, and the cached width table and linear
+ * wrapping from user-030. Kept only as the "before" side of {@link com.kinovek.bench.PdfEngineBenchmark}
+ * and {@link com.kinovek.bench.PdfEngineFootprint}; the backend no longer writes PDFs with PDFBox.
+ *
+ * Lines must already be WinAnsi — PDFBox throws on anything else.
+ */
+public final class PdfBoxAtsWriter {
+
+    private static final Set<String> SECTION_HEADERS = Set.of("PROFESSIONAL SUMMARY", "WORK EXPERIENCE",
+            "EDUCATION", "SKILLS", "CERTIFICATIONS", "PROJECTS", "AWARDS & ACHIEVEMENTS", "LANGUAGES", "REFERENCES");
+
+    private final float[] regularWidths = widths(Standard14Fonts.FontName.HELVETICA);
+    private final float[] boldWidths = widths(Standard14Fonts.FontName.HELVETICA_BOLD);
+
+    public void write(List<String> lines, OutputStream out) throws IOException {
+        try (PDDocument document = new PDDocument()) {
+
+            // Fonts are bound to a document, so create them per PDF; metrics tables are shared
+            PDType1Font fontRegular = new PDType1Font(Standard14Fonts.FontName.HELVETICA);
+            PDType1Font fontBold = new PDType1Font(Standard14Fonts.FontName.HELVETICA_BOLD);
+
+            float margin = 50;
+            float fontSize = 11;
+            float headerFontSize = 13;
+            float leading = 14;
+            float maxWidth = PDRectangle.LETTER.getWidth() - 2 * margin;
+            float yStart = PDRectangle.LETTER.getHeight() - margin;
+
+            int lineIndex = 0;
+            while (lineIndex < lines.size()) {
+                PDPage page = new PDPage(PDRectangle.LETTER);
+                document.addPage(page);
+
+                try (PDPageContentStream cs = new PDPageContentStream(document, page)) {
+                    cs.beginText();
+                    cs.setLeading(leading);
+                    float y = yStart;
+                    cs.newLineAtOffset(margin, y);
+
+                    while (lineIndex < lines.size() && y > margin + leading) {
+                        String line = lines.get(lineIndex);
+                        if (line.isEmpty()) {
+                            cs.newLine();
+                            y -= leading;
+                            lineIndex++;
+                            continue;
+                        }
+
+                        boolean isHeader = SECTION_HEADERS.contains(line);
+                        float currentSize = isHeader ? headerFontSize : fontSize;
+                        cs.setFont(isHeader ? fontBold : fontRegular, currentSize);
+
+                        for (String wrappedLine : wrapLine(line, isHeader ? boldWidths : regularWidths,
+                                currentSize, maxWidth)) {
+                            if (y <= margin + leading) break;
+                            cs.showText(wrappedLine);
+                            cs.newLine();
+                            y -= leading;
+                        }
+                        lineIndex++;
+                    }
+
+                    cs.endText();
+                }
+            }
+
+            document.save(out);
+        }
+    }
+
+    private static float[] widths(Standard14Fonts.FontName fontName) {
+        PDType1Font font = new PDType1Font(fontName);
+        float[] widths = new float[256];
+        for (char c = 0; c < widths.length; c++) {
+            try {
+                widths[c] = font.getStringWidth(String.valueOf(c));
+            } catch (Exception e) {
+                widths[c] = 0;
+            }
+        }
+        return widths;
+    }
+
+    private static float width(float[] widths, String text, int start, int end) {
+        float total = 0;
+        for (int i = start; i < end; i++) {
+            char c = text.charAt(i);
+            total += c < widths.length ? widths[c] : 0;
+        }
+        return total;
+    }
+
+    private static List<String> wrapLine(String text, float[] widths, float fontSize, float maxWidth) {
+        List<String> lines = new ArrayList<>();
+        int limit = text.length();
+        while (limit > 0 && text.charAt(limit - 1) == ' ') limit--;
+        if (limit == 0) return lines;
+
+        float spaceWidth = widths[' '];
+        int lineStart = 0;
+        int lineEnd = 0;
+        float lineWidth = 0;
+
+        int wordStart = 0;
+        while (wordStart <= limit) {
+            int wordEnd = text.indexOf(' ', wordStart);
+            if (wordEnd < 0 || wordEnd > limit) wordEnd = limit;
+            float wordWidth = width(widths, text, wordStart, wordEnd);
+
+            if (lineEnd == lineStart) {
+                lineStart = wordStart;
+                lineEnd = wordEnd;
+                lineWidth = wordWidth;
+            } else {
+                float candidateWidth = lineWidth + spaceWidth + wordWidth;
+                if (candidateWidth / 1000 * fontSize > maxWidth) {
+                    lines.add(text.substring(lineStart, lineEnd));
+                    lineStart = wordStart;
+                    lineEnd = wordEnd;
+                    lineWidth = wordWidth;
+                } else {
+                    lineEnd = wordEnd;
+                    lineWidth = candidateWidth;
+                }
+            }
+            wordStart = wordEnd + 1;
+        }
+        if (lineEnd > lineStart) {
+            lines.add(text.substring(lineStart, lineEnd));
+        }
+        return lines;
+    }
+}
@@ -0,0 +1,39 @@
+package com.kinovek.bench.legacy;
+
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The ATS converter's wrapLine as it was before user-030: the growing line is rebuilt and
+ * re-measured with PDFont.getStringWidth for every word, which is quadratic in the line length.
+ * Kept only as the "before" side of {@link com.kinovek.bench.TextBenchmark}.
+ */
+public final class PdfBoxLineWrap {
+
+    private PdfBoxLineWrap() {
+    }
+
+    public static List<String> wrapLine(String text, PDType1Font font, float fontSize, float maxWidth) throws IOException {
+        List<String> lines = new ArrayList<>();
+        String[] words = text.split(" ");
+        StringBuilder current = new StringBuilder();
+
+        for (String word : words) {
+            String test = current.length() == 0 ? word : current + " " + word;
+            float width = font.getStringWidth(test) / 1000 * fontSize;
+            if (width > maxWidth && current.length() > 0) {
+                lines.add(current.toString());
+                current = new StringBuilder(word);
+            } else {
+                current = new StringBuilder(test);
+            }
+        }
+        if (current.length() > 0) {
+            lines.add(current.toString());
+        }
+        return lines;
+    }
+}
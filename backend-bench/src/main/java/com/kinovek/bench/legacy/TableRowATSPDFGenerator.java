@@ -0,0 +1,43 @@
+package com.kinovek.bench.legacy;
+
+import com.kinovek.backend.service.ATSPDFGenerator;
+import com.lowagie.text.Document;
+import com.lowagie.text.DocumentException;
+import com.lowagie.text.Element;
+import com.lowagie.text.Font;
+import com.lowagie.text.Phrase;
+import com.lowagie.text.pdf.PdfPCell;
+import com.lowagie.text.pdf.PdfPTable;
+import com.lowagie.text.pdf.PdfWriter;
+
+/**
+ * ATSPDFGenerator with its left/right rows drawn as they were before user-027: a borderless
+ * two-cell PdfPTable per degree/year and company/dates row. Everything else is the current
+ * generator. Kept only as the "before" side of {@link com.kinovek.bench.LeftRightRowBenchmark}.
+ */
+public class TableRowATSPDFGenerator extends ATSPDFGenerator {
+
+    @Override
+    protected void drawLeftRightRow(Document document, PdfWriter writer,
+                                    String leftText, Font leftFont, String rightText, Font rightFont) throws DocumentException {
+        PdfPTable table = new PdfPTable(2);
+        table.setWidthPercentage(100f);
+        table.setWidths(new float[]{75f, 25f});
+
+        PdfPCell leftCell = new PdfPCell(new Phrase(leftText, leftFont));
+        leftCell.setBorder(PdfPCell.NO_BORDER);
+        leftCell.setHorizontalAlignment(Element.ALIGN_LEFT);
+        leftCell.setPaddingLeft(0f);
+        leftCell.setPaddingBottom(2f);
+
+        PdfPCell rightCell = new PdfPCell(new Phrase(rightText, rightFont));
+        rightCell.setBorder(PdfPCell.NO_BORDER);
+        rightCell.setHorizontalAlignment(Element.ALIGN_RIGHT);
+        rightCell.setPaddingRight(0f);
+        rightCell.setPaddingBottom(2f);
+
+        table.addCell(leftCell);
+        table.addCell(rightCell);
+        document.add(table);
+    }
+}
@@ -0,0 +1,47 @@
+package com.kinovek.bench.load;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * The upload endpoints the load harness drives, by the short name used in --mix.
+ */
+public enum Endpoint {
+
+    ATS_SCORE("ats-score", "/api/v1/resume/ats-score", true),
+    ENHANCE("enhance", "/api/v1/resume/enhance", true),
+    ENHANCE_PDF("enhance-pdf", "/api/v1/resume/enhance-pdf", true),
+    ATS_CONVERT("ats-convert", "/api/v1/resume/ats-convert", false),
+    COVER_LETTER("cover-letter", "/api/v1/cover-letter/generate", true);
+
+    private final String key;
+    private final String path;
+    private final boolean sendsJobDescription;
+
+    Endpoint(String key, String path, boolean sendsJobDescription) {
+        this.key = key;
+        this.path = path;
+        this.sendsJobDescription = sendsJobDescription;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    /** Whether the frontend sends a job description with the upload (optional for ats-score, but always sent). */
+    public boolean sendsJobDescription() {
+        return sendsJobDescription;
+    }
+
+    public static Endpoint fromKey(String key) {
+        return Arrays.stream(values())
+                .filter(endpoint -> endpoint.key.equals(key.trim().toLowerCase(Locale.ROOT)))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown endpoint '" + key + "'; expected one of "
+                        + Arrays.stream(values()).map(Endpoint::getKey).toList()));
+    }
+}
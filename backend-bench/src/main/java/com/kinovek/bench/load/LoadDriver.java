@@ -0,0 +1,147 @@
+package com.kinovek.bench.load;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongFunction;
+
+/**
+ * Load generator with two modes.
+ *
+ * Open loop ({@link #run}): request {@code i} is due at {@code start + i / rate} and is sent
+ * then, however many earlier requests are still outstanding. Each latency is measured from
+ * that intended send time rather than from when the request actually went out. A stalled
+ * server (or a client that fell behind) therefore shows up in the percentiles as queueing
+ * time, instead of silently lowering the send rate (coordinated omission).
+ *
+ * Closed loop ({@link #runClosed}): a fixed number of clients, each sending its next request
+ * as soon as the previous one is answered — how a pool of N busy users or an upstream with N
+ * connections behaves. Latency is measured per request from its actual send, so a stall
+ * lowers throughput instead of raising the percentiles; use it to compare what the server
+ * sustains at a given concurrency, and the open loop for latency under a given arrival rate.
+ */
+final class LoadDriver {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(60);
+
+    /** One prepared request. */
+    record Request(Endpoint endpoint, String contentType, byte[] body) {
+    }
+
+    private final URI baseUri;
+    private final LoadReport report;
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+
+    LoadDriver(URI baseUri, LoadReport report) {
+        this.baseUri = baseUri;
+        this.report = report;
+    }
+
+    /**
+     * Sends {@code requests.apply(i)} at {@code rate} per second for warm-up plus duration,
+     * recording only requests due after the warm-up, then waits for every response.
+     *
+     * @return the largest delay between a measured request's intended and actual send time
+     */
+    long run(LongFunction<Request> requests, double rate, Duration warmup, Duration duration) {
+        long periodNanos = Math.max(1, Math.round(1_000_000_000L / rate));
+        long start = System.nanoTime();
+        long measureFrom = start + warmup.toNanos();
+        long end = measureFrom + duration.toNanos();
+        List<CompletableFuture<Void>> inFlight = new ArrayList<>();
+        long maxLag = 0;
+
+        for (long i = 0; ; i++) {
+            long intended = start + i * periodNanos;
+            if (intended - end >= 0) break;
+            long wait;
+            while ((wait = intended - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            boolean measured = intended - measureFrom >= 0;
+            if (measured) {
+                maxLag = Math.max(maxLag, System.nanoTime() - intended);
+            }
+
+            Request request = requests.apply(i);
+            // Completes once the whole body (e.g. a streamed PDF) has been read
+            inFlight.add(client.sendAsync(toHttp(request), HttpResponse.BodyHandlers.discarding())
+                    .handle((response, error) -> {
+                        if (measured) {
+                            if (error != null) {
+                                report.recordFailure(request.endpoint());
+                            } else {
+                                report.record(request.endpoint(), response.statusCode(), System.nanoTime() - intended);
+                            }
+                        }
+                        return null;
+                    }));
+            if ((i & 1023) == 1023) {
+                inFlight.removeIf(CompletableFuture::isDone);
+            }
+        }
+        CompletableFuture.allOf(inFlight.toArray(CompletableFuture[]::new)).join();
+        return maxLag;
+    }
+
+    /**
+     * Runs {@code concurrency} clients on virtual threads for warm-up plus duration. Each takes
+     * the next index, sends {@code requests.apply(i)} and waits for the whole response before
+     * taking another; only requests sent after the warm-up are recorded.
+     *
+     * @return always 0 — a closed loop has no schedule to fall behind
+     */
+    long runClosed(LongFunction<Request> requests, int concurrency, Duration warmup, Duration duration)
+            throws InterruptedException {
+        long start = System.nanoTime();
+        long measureFrom = start + warmup.toNanos();
+        long end = measureFrom + duration.toNanos();
+        AtomicLong next = new AtomicLong();
+
+        List<Thread> clients = new ArrayList<>(concurrency);
+        for (int c = 0; c < concurrency; c++) {
+            clients.add(Thread.ofVirtual().name("load-client-" + c).start(() -> {
+                long sent;
+                while ((sent = System.nanoTime()) - end < 0) {
+                    Request request = requests.apply(next.getAndIncrement());
+                    boolean measured = sent - measureFrom >= 0;
+                    try {
+                        HttpResponse<Void> response = client.send(toHttp(request), HttpResponse.BodyHandlers.discarding());
+                        if (measured) {
+                            report.record(request.endpoint(), response.statusCode(), System.nanoTime() - sent);
+                        }
+                    } catch (IOException e) {
+                        if (measured) {
+                            report.recordFailure(request.endpoint());
+                        }
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                }
+            }));
+        }
+        for (Thread client : clients) {
+            client.join();
+        }
+        return 0;
+    }
+
+    private HttpRequest toHttp(Request request) {
+        return HttpRequest.newBuilder(baseUri.resolve(request.endpoint().getPath()))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Content-Type", request.contentType())
+                .POST(HttpRequest.BodyPublishers.ofByteArray(request.body()))
+                .build();
+    }
+}
@@ -0,0 +1,189 @@
+package com.kinovek.bench.load;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Outcomes and latency histograms for one load run, per endpoint and overall.
+ *
+ * Latencies are in microseconds and only cover successful (2xx) responses; 429 rejections,
+ * other 4xx, 5xx and failed/timed-out requests are counted separately. The JSON report
+ * carries the run configuration so two runs can be compared with --compare.
+ */
+final class LoadReport {
+
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+
+    private final Map<Endpoint, Stats> endpoints = new EnumMap<>(Endpoint.class);
+    private final Stats total = new Stats();
+
+    LoadReport() {
+        for (Endpoint endpoint : Endpoint.values()) {
+            endpoints.put(endpoint, new Stats());
+        }
+    }
+
+    void record(Endpoint endpoint, int status, long latencyNanos) {
+        endpoints.get(endpoint).record(status, latencyNanos);
+        total.record(status, latencyNanos);
+    }
+
+    void recordFailure(Endpoint endpoint) {
+        endpoints.get(endpoint).failures.increment();
+        total.failures.increment();
+    }
+
+    /**
+     * Writes report.json, report.txt and one HdrHistogram percentile file (.hgrm) per endpoint
+     * to {@code out}, and prints the text report.
+     */
+    void write(Path out, Map<String, Object> config, double measuredSeconds, long maxSendLagNanos,
+               Path baseline) throws IOException {
+        Files.createDirectories(out);
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("config", config);
+        json.put("measuredSeconds", round(measuredSeconds));
+        json.put("maxSendLagMs", round(maxSendLagNanos / 1_000_000.0));
+        Map<String, Object> byEndpoint = new LinkedHashMap<>();
+        endpoints.forEach((endpoint, stats) -> {
+            if (stats.requests() > 0) byEndpoint.put(endpoint.getKey(), stats.toMap(measuredSeconds));
+        });
+        json.put("endpoints", byEndpoint);
+        json.put("total", total.toMap(measuredSeconds));
+
+        ObjectMapper mapper = new ObjectMapper();
+        mapper.writerWithDefaultPrettyPrinter().writeValue(out.resolve("report.json").toFile(), json);
+
+        StringBuilder text = new StringBuilder();
+        text.append(String.format(Locale.ROOT, "%-14s %8s %8s %7s %7s %7s %9s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "ok/s", "429", "4xx", "5xx+err", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms"));
+        endpoints.forEach((endpoint, stats) -> {
+            if (stats.requests() > 0) text.append(stats.line(endpoint.getKey(), measuredSeconds));
+        });
+        text.append(total.line("total", measuredSeconds));
+        text.append(String.format(Locale.ROOT, "%nmeasured %.1f s, max send lag %.1f ms%n",
+                measuredSeconds, maxSendLagNanos / 1_000_000.0));
+        if (maxSendLagNanos > TimeUnit.MILLISECONDS.toNanos(100)) {
+            text.append("warning: the load generator fell behind its schedule; latencies still count from the"
+                    + " intended send time\n");
+        }
+        if (baseline != null) {
+            text.append(compare(mapper.readTree(baseline.toFile()), mapper.valueToTree(json), baseline));
+        }
+
+        Files.writeString(out.resolve("report.txt"), text);
+        for (Map.Entry<Endpoint, Stats> entry : endpoints.entrySet()) {
+            if (entry.getValue().requests() == 0) continue;
+            try (PrintStream hgrm = new PrintStream(out.resolve(entry.getKey().getKey() + ".hgrm").toFile())) {
+                // Microseconds recorded, milliseconds written
+                entry.getValue().latency.outputPercentileDistribution(hgrm, 1000.0);
+            }
+        }
+        System.out.print(text);
+        System.out.println("Report written to " + out.toAbsolutePath());
+    }
+
+    /** Percentile and throughput changes against an earlier report.json. */
+    private static String compare(JsonNode before, JsonNode after, Path baseline) {
+        StringBuilder text = new StringBuilder(String.format(Locale.ROOT, "%ncompared with %s%n", baseline));
+        JsonNode beforeRate = before.path("config").path("rate");
+        if (!beforeRate.equals(after.path("config").path("rate"))) {
+            text.append("note: the baseline ran at a different arrival rate (").append(beforeRate).append(" req/s)\n");
+        }
+        text.append(String.format(Locale.ROOT, "%-14s %18s %18s %18s%n", "endpoint", "ok/s", "p50 ms", "p99 ms"));
+        after.path("endpoints").fieldNames().forEachRemaining(key -> {
+            JsonNode was = before.path("endpoints").path(key);
+            if (was.isMissingNode()) return;
+            JsonNode now = after.path("endpoints").path(key);
+            text.append(String.format(Locale.ROOT, "%-14s %18s %18s %18s%n", key,
+                    delta(was.path("okPerSecond"), now.path("okPerSecond")),
+                    delta(was.path("latencyMs").path("p50"), now.path("latencyMs").path("p50")),
+                    delta(was.path("latencyMs").path("p99"), now.path("latencyMs").path("p99"))));
+        });
+        return text.toString();
+    }
+
+    private static String delta(JsonNode before, JsonNode after) {
+        double was = before.asDouble();
+        double now = after.asDouble();
+        String change = was > 0 ? String.format(Locale.ROOT, "%+.1f%%", (now - was) * 100 / was) : "n/a";
+        return String.format(Locale.ROOT, "%.1f->%.1f %s", was, now, change);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+
+    private static final class Stats {
+        private final Histogram latency = new ConcurrentHistogram(3);
+        private final LongAdder ok = new LongAdder();
+        private final LongAdder rejected = new LongAdder();
+        private final LongAdder clientErrors = new LongAdder();
+        private final LongAdder serverErrors = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+
+        void record(int status, long latencyNanos) {
+            if (status / 100 == 2) {
+                ok.increment();
+                latency.recordValue(Math.max(1, TimeUnit.NANOSECONDS.toMicros(latencyNanos)));
+            } else if (status == 429) {
+                rejected.increment();
+            } else if (status / 100 == 4) {
+                clientErrors.increment();
+            } else {
+                serverErrors.increment();
+            }
+        }
+
+        long requests() {
+            return ok.sum() + rejected.sum() + clientErrors.sum() + serverErrors.sum() + failures.sum();
+        }
+
+        double millis(double percentile) {
+            return latency.getValueAtPercentile(percentile) / 1000.0;
+        }
+
+        Map<String, Object> toMap(double seconds) {
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("requests", requests());
+            map.put("ok", ok.sum());
+            map.put("rejected429", rejected.sum());
+            map.put("clientErrors", clientErrors.sum());
+            map.put("serverErrors", serverErrors.sum());
+            map.put("failures", failures.sum());
+            map.put("okPerSecond", round(ok.sum() / seconds));
+            Map<String, Object> millis = new LinkedHashMap<>();
+            millis.put("mean", round(latency.getMean() / 1000.0));
+            millis.put("p50", round(millis(50)));
+            millis.put("p90", round(millis(90)));
+            millis.put("p99", round(millis(99)));
+            millis.put("p999", round(millis(99.9)));
+            millis.put("max", round(latency.getMaxValue() / 1000.0));
+            map.put("latencyMs", millis);
+            return map;
+        }
+
+        String line(String name, double seconds) {
+            StringBuilder line = new StringBuilder(String.format(Locale.ROOT, "%-14s %8d %8.1f %7d %7d %7d",
+                    name, requests(), ok.sum() / seconds, rejected.sum(), clientErrors.sum(),
+                    serverErrors.sum() + failures.sum()));
+            for (double percentile : PERCENTILES) {
+                line.append(String.format(Locale.ROOT, " %9.1f", millis(percentile)));
+            }
+            return line.append(String.format(Locale.ROOT, " %9.1f%n", latency.getMaxValue() / 1000.0)).toString();
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package com.kinovek.bench.load;
+
+import com.kinovek.backend.BackendApplication;
+import com.kinovek.bench.corpus.CorpusDocuments;
+import com.kinovek.bench.corpus.CorpusGenerator;
+import com.kinovek.bench.corpus.SyntheticResume;
+import org.springframework.boot.Banner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.function.LongFunction;
+
+/**
+ * HTTP load test against the real server stack: boots the backend on a random port (or
+ * targets --url), then drives a weighted mix of upload endpoints with synthetic resumes and
+ * job descriptions, either at a fixed arrival rate (open loop, the default) or with a fixed
+ * number of clients that each send their next request when the last one is answered
+ * (closed loop, --concurrency).
+ * <pre>
+ * java -cp backend-bench/target/benchmarks.jar com.kinovek.bench.load.LoadTestMain \
+ *      --rate 20 --duration 60 --warmup 15 --mix ats-score=3,enhance=3,enhance-pdf=2,ats-convert=1,cover-letter=1
+ * java -cp backend-bench/target/benchmarks.jar com.kinovek.bench.load.LoadTestMain \
+ *      --concurrency 500 --duration 60 --mix enhance-pdf=1
+ * </pre>
+ * Options: --rate (requests/s), --concurrency (clients; replaces --rate when above 0),
+ * --duration and --warmup (seconds), --mix (endpoint=weight), --corpus (distinct resumes),
+ * --seed, --format (pdf, docx or mixed), --out (report directory), --compare (an earlier
+ * report.json), --url (an already running server).
+ *
+ * The booted server uses application.properties; override with -D, e.g.
+ * -Dkinovek.limit.render.max=32. The per-request "kinovek.request" log line is off by default
+ * (-Dlogging.level.kinovek.request=INFO to include its cost).
+ */
+public final class LoadTestMain {
+
+    private LoadTestMain() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new LinkedHashMap<>();
+        options.put("rate", "20");
+        options.put("concurrency", "0");
+        options.put("duration", "60");
+        options.put("warmup", "15");
+        options.put("mix", "ats-score=3,enhance=3,enhance-pdf=2,ats-convert=1,cover-letter=1");
+        options.put("corpus", "200");
+        options.put("seed", "42");
+        options.put("format", "pdf");
+        options.put("out", "load-report");
+        options.put("compare", "");
+        options.put("url", "");
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            if (!args[i].startsWith("--") || !options.containsKey(args[i].substring(2))) {
+                throw new IllegalArgumentException("Unknown option " + args[i] + "; expected one of " + options.keySet());
+            }
+            options.put(args[i].substring(2), args[i + 1]);
+        }
+
+        double rate = Double.parseDouble(options.get("rate"));
+        int concurrency = Integer.parseInt(options.get("concurrency"));
+        Duration duration = Duration.ofSeconds(Long.parseLong(options.get("duration")));
+        Duration warmup = Duration.ofSeconds(Long.parseLong(options.get("warmup")));
+        long seed = Long.parseLong(options.get("seed"));
+        Endpoint[] wheel = mixWheel(options.get("mix"));
+        LoadDriver.Request[][] requests = prepare(Integer.parseInt(options.get("corpus")), seed, options.get("format"));
+
+        ConfigurableApplicationContext context = null;
+        URI baseUri;
+        if (options.get("url").isBlank()) {
+            context = startServer();
+            baseUri = URI.create("http://localhost:" + ((WebServerApplicationContext) context).getWebServer().getPort());
+        } else {
+            baseUri = URI.create(options.get("url"));
+        }
+
+        Map<String, Object> config = new LinkedHashMap<>(options);
+        config.remove("out");
+        config.remove("compare");
+        if (concurrency > 0) {
+            config.remove("rate");
+            config.put("concurrency", concurrency);
+        } else {
+            config.remove("concurrency");
+            config.put("rate", rate);
+        }
+        config.put("target", context != null ? "in-process" : baseUri.toString());
+        config.put("startedAt", Instant.now().toString());
+        config.put("javaVersion", Runtime.version().toString());
+        config.put("availableProcessors", Runtime.getRuntime().availableProcessors());
+
+        try {
+            LoadReport report = new LoadReport();
+            LoadDriver driver = new LoadDriver(baseUri, report);
+            // Endpoint choice is derived from the seed and the request index, so runs with the
+            // same options send the same sequence (in closed loop, in whatever order clients free up)
+            LongFunction<LoadDriver.Request> sequence = i -> {
+                Endpoint endpoint = wheel[new SplittableRandom(seed + i).nextInt(wheel.length)];
+                LoadDriver.Request[] forEndpoint = requests[endpoint.ordinal()];
+                return forEndpoint[(int) (i % forEndpoint.length)];
+            };
+            long maxLag;
+            if (concurrency > 0) {
+                System.out.printf("Driving %s with %d concurrent clients for %ds after a %ds warm-up%n",
+                        baseUri, concurrency, duration.toSeconds(), warmup.toSeconds());
+                maxLag = driver.runClosed(sequence, concurrency, warmup, duration);
+            } else {
+                System.out.printf("Driving %s at %.1f req/s for %ds after a %ds warm-up%n",
+                        baseUri, rate, duration.toSeconds(), warmup.toSeconds());
+                maxLag = driver.run(sequence, rate, warmup, duration);
+            }
+            String compare = options.get("compare");
+            report.write(Path.of(options.get("out")), config, duration.toMillis() / 1000.0, maxLag,
+                    compare.isBlank() ? null : Path.of(compare));
+        } finally {
+            if (context != null) context.close();
+        }
+    }
+
+    private static ConfigurableApplicationContext startServer() {
+        SpringApplication application = new SpringApplication(BackendApplication.class);
+        application.setBannerMode(Banner.Mode.OFF);
+        application.setLogStartupInfo(false);
+        application.setDefaultProperties(Map.of("logging.level.kinovek.request", "WARN"));
+        return application.run("--server.port=0");
+    }
+
+    /** "ats-score=3,enhance=1" → each endpoint repeated by its weight, for a uniform pick. */
+    private static Endpoint[] mixWheel(String mix) {
+        List<Endpoint> wheel = new ArrayList<>();
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.split("=", 2);
+            int weight = parts.length > 1 ? Integer.parseInt(parts[1].trim()) : 1;
+            Endpoint endpoint = Endpoint.fromKey(parts[0]);
+            for (int w = 0; w < weight; w++) wheel.add(endpoint);
+        }
+        if (wheel.isEmpty()) {
+            throw new IllegalArgumentException("--mix selects no endpoints");
+        }
+        return wheel.toArray(Endpoint[]::new);
+    }
+
+    /**
+     * Builds every request body up front, indexed by endpoint ordinal then corpus document, so
+     * the generator thread only sends bytes. Document {@code i} pairs resume {@code i} with job
+     * description {@code i}.
+     */
+    private static LoadDriver.Request[][] prepare(int corpusSize, long seed, String format) {
+        CorpusGenerator generator = new CorpusGenerator(seed);
+        Map<Endpoint, List<LoadDriver.Request>> requests = new EnumMap<>(Endpoint.class);
+        for (Endpoint endpoint : Endpoint.values()) {
+            requests.put(endpoint, new ArrayList<>(corpusSize));
+        }
+        for (int i = 0; i < corpusSize; i++) {
+            SyntheticResume resume = generator.resume(i);
+            boolean pdf = switch (format) {
+                case "pdf" -> true;
+                case "docx" -> false;
+                case "mixed" -> i % 2 == 0;
+                default -> throw new IllegalArgumentException("--format must be pdf, docx or mixed");
+            };
+            byte[] file = pdf ? CorpusDocuments.pdf(resume) : CorpusDocuments.docx(resume);
+            String fileName = resume.id() + (pdf ? ".pdf" : ".docx");
+            String contentType = pdf ? "application/pdf"
+                    : "application/vnd.openxmlformats-officedocument.wordprocessingml.document";
+            String jobDescription = generator.jobDescription(i).text();
+
+            for (Endpoint endpoint : Endpoint.values()) {
+                MultipartBody body = new MultipartBody().file("resume", fileName, contentType, file);
+                if (endpoint.sendsJobDescription()) {
+                    body.text("jobDescription", jobDescription);
+                }
+                requests.get(endpoint).add(new LoadDriver.Request(endpoint, body.contentType(), body.toByteArray()));
+            }
+        }
+        LoadDriver.Request[][] byOrdinal = new LoadDriver.Request[Endpoint.values().length][];
+        requests.forEach((endpoint, list) -> byOrdinal[endpoint.ordinal()] = list.toArray(LoadDriver.Request[]::new));
+        return byOrdinal;
+    }
+}
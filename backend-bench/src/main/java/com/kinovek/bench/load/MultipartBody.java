@@ -0,0 +1,46 @@
+package com.kinovek.bench.load;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * A multipart/form-data request body, built once per corpus document so the load generator
+ * only has to send bytes.
+ */
+final class MultipartBody {
+
+    private final String boundary = "----kinovek-load-" + UUID.randomUUID();
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+    MultipartBody file(String name, String fileName, String contentType, byte[] content) {
+        header("Content-Disposition: form-data; name=\"" + name + "\"; filename=\"" + fileName + "\"\r\n"
+                + "Content-Type: " + contentType + "\r\n");
+        out.writeBytes(content);
+        out.writeBytes("\r\n".getBytes(StandardCharsets.US_ASCII));
+        return this;
+    }
+
+    MultipartBody text(String name, String value) {
+        header("Content-Disposition: form-data; name=\"" + name + "\"\r\n"
+                + "Content-Type: text/plain; charset=UTF-8\r\n");
+        out.writeBytes(value.getBytes(StandardCharsets.UTF_8));
+        out.writeBytes("\r\n".getBytes(StandardCharsets.US_ASCII));
+        return this;
+    }
+
+    String contentType() {
+        return "multipart/form-data; boundary=" + boundary;
+    }
+
+    byte[] toByteArray() {
+        ByteArrayOutputStream copy = new ByteArrayOutputStream(out.size() + boundary.length() + 8);
+        copy.writeBytes(out.toByteArray());
+        copy.writeBytes(("--" + boundary + "--\r\n").getBytes(StandardCharsets.US_ASCII));
+        return copy.toByteArray();
+    }
+
+    private void header(String headers) {
+        out.writeBytes(("--" + boundary + "\r\n" + headers + "\r\n").getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,109 @@
+package com.kinovek.bench;
+
+import com.kinovek.backend.config.KeywordConfig;
+import com.kinovek.backend.observability.PipelineMetrics;
+import com.kinovek.backend.util.JobDescriptionAnalyzer;
+import com.kinovek.backend.util.KeywordMatcher;
+import com.kinovek.bench.corpus.CorpusGenerator;
+import com.kinovek.bench.legacy.LegacyJobDescriptionExtraction;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * JobDescriptionAnalyzer against the regex extraction it replaced. Company and role must match
+ * on every JD, and so must the requirements wherever the old lookahead found the section.
+ * The tests at the bottom pin down the cases where the line scanner deliberately differs.
+ */
+class JobDescriptionEquivalenceTests {
+
+    private static final LegacyJobDescriptionExtraction LEGACY = new LegacyJobDescriptionExtraction();
+
+    private static JobDescriptionAnalyzer analyzer;
+
+    @BeforeAll
+    static void createAnalyzer() {
+        KeywordConfig keywordConfig = new KeywordConfig();
+        keywordConfig.init();
+        analyzer = new JobDescriptionAnalyzer(
+                new KeywordMatcher(keywordConfig, new PipelineMetrics(new SimpleMeterRegistry(), false)));
+    }
+
+    private static List<String> jobDescriptions() {
+        List<String> jds = new ArrayList<>();
+        for (String name : List.of("jd_java_developer", "jd_mechanical_engineer", "jd_pharmacy_qc")) {
+            jds.add(Fixtures.text(name));
+            jds.add(Fixtures.jobDescription(name, 20));
+        }
+        CorpusGenerator generator = new CorpusGenerator(7);
+        for (int i = 0; i < 50; i++) {
+            jds.add(generator.jobDescription(i).text());
+        }
+        jds.add("""
+                Acme Corp is hiring a Backend Engineer.
+
+                Requirements:
+                - 3+ years of Java and Spring Boot
+                - Experience with PostgreSQL and Kafka
+                Benefits:
+                - Health insurance for the family
+                """);
+        jds.add("""
+                Position: Data Analyst
+
+                What we're looking for
+
+                * Strong SQL and dashboarding skills
+                * Python for data wrangling
+
+                About us
+                We build analytics tools.
+                """);
+        return jds;
+    }
+
+    @Test
+    void companyAndRoleMatchTheRegexExtraction() {
+        for (String jd : jobDescriptions()) {
+            assertEquals(LEGACY.extractCompanyName(jd), analyzer.extractCompanyName(jd), jd);
+            assertEquals(LEGACY.extractRoleName(jd), analyzer.extractRoleName(jd), jd);
+        }
+    }
+
+    @Test
+    void requirementsMatchWhereverTheRegexFoundTheSection() {
+        int compared = 0;
+        for (String jd : jobDescriptions()) {
+            List<String> before = LEGACY.extractRequirementsSection(jd);
+            if (!before.isEmpty()) {
+                assertEquals(before, analyzer.extractRequirements(jd), jd);
+                compared++;
+            }
+        }
+        assertTrue(compared >= 5, "only " + compared + " JDs had a requirements section");
+    }
+
+    /** The lookahead needed a blank line or stop header after the section; the scanner also stops at end of text. */
+    @Test
+    void sectionAtTheEndOfTheTextIsFound() {
+        String jd = "Backend Engineer\nRequirements:\n- 3+ years of Java\n- Spring Boot and REST APIs";
+
+        assertEquals(List.of(), LEGACY.extractRequirementsSection(jd));
+        assertEquals(List.of("3+ years of Java", "Spring Boot and REST APIs"), analyzer.extractRequirements(jd));
+    }
+
+    /** Indented bullets: the regex stripped bullets before trimming, so "  - Java" kept its dash. */
+    @Test
+    void indentedBulletsLoseTheirBulletToo() {
+        String jd = "Requirements:\n  - 3+ years of Java\n  - Spring Boot and REST APIs\n\nBenefits: none";
+
+        assertEquals(List.of("- 3+ years of Java", "- Spring Boot and REST APIs"), LEGACY.extractRequirementsSection(jd));
+        assertEquals(List.of("3+ years of Java", "Spring Boot and REST APIs"), analyzer.extractRequirements(jd));
+    }
+}
@@ -0,0 +1,72 @@
+package com.kinovek.bench;
+
+import com.kinovek.backend.service.ATSPDFGenerator;
+import com.kinovek.bench.legacy.TableRowATSPDFGenerator;
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.text.PDFTextStripper;
+import org.apache.pdfbox.text.TextPosition;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * LeftRightRowBenchmark compares two renders of the same resume, so the direct rows must put
+ * every glyph where the PdfPTable rows did, on the same page.
+ */
+class LeftRightRowEquivalenceTests {
+
+    /** Positions are compared to a tenth of a point. */
+    private static final float TOLERANCE = 0.1f;
+
+    @Test
+    void directRowsRenderTheTableRowsPages() throws IOException {
+        ATSPDFGenerator direct = BenchContext.bean(ATSPDFGenerator.class);
+        ATSPDFGenerator table = BenchContext.autowire(new TableRowATSPDFGenerator());
+
+        for (int jobs : new int[] {12, 40}) {
+            Map<String, Object> resume = LeftRightRowBenchmark.resume(jobs);
+            List<Glyph> expected = glyphs(table.generateATSResume(resume, false));
+            List<Glyph> actual = glyphs(direct.generateATSResume(resume, false));
+
+            assertTrue(expected.get(expected.size() - 1).page() > 1, jobs + " jobs should fill more than a page");
+            assertEquals(expected.size(), actual.size(), jobs + " jobs");
+            for (int i = 0; i < expected.size(); i++) {
+                String where = jobs + " jobs, glyph " + i + ": expected " + expected.get(i) + ", got " + actual.get(i);
+                assertEquals(expected.get(i).text(), actual.get(i).text(), where);
+                assertEquals(expected.get(i).page(), actual.get(i).page(), where);
+                assertEquals(expected.get(i).x(), actual.get(i).x(), TOLERANCE, where);
+                assertEquals(expected.get(i).y(), actual.get(i).y(), TOLERANCE, where);
+            }
+        }
+    }
+
+    private record Glyph(int page, String text, float x, float y) {
+    }
+
+    /** Every visible glyph on every page, in reading order (spacer paragraphs draw a space). */
+    private static List<Glyph> glyphs(byte[] pdf) throws IOException {
+        List<Glyph> glyphs = new ArrayList<>();
+        try (PDDocument document = Loader.loadPDF(pdf)) {
+            PDFTextStripper stripper = new PDFTextStripper() {
+                @Override
+                protected void processTextPosition(TextPosition text) {
+                    if (text.getUnicode().isBlank()) return;
+                    glyphs.add(new Glyph(getCurrentPageNo(), text.getUnicode(), text.getXDirAdj(), text.getYDirAdj()));
+                }
+            };
+            stripper.getText(document);
+        }
+        glyphs.sort(Comparator.comparingInt(Glyph::page)
+                .thenComparingDouble(Glyph::y)
+                .thenComparingDouble(Glyph::x));
+        return glyphs;
+    }
+}
@@ -0,0 +1,77 @@
+package com.kinovek.bench;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kinovek.backend.config.KeywordConfig;
+import com.kinovek.backend.observability.PipelineMetrics;
+import com.kinovek.backend.service.ATSScoringService;
+import com.kinovek.backend.util.KeywordMatcher;
+import com.kinovek.bench.corpus.Layout;
+import com.kinovek.bench.legacy.LegacyATSScoringService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * The fused scorer (one keyword match, one text profile) must give exactly the score, breakdown
+ * and feedback of the per-signal scorer it replaced, for every sample resume and JD.
+ */
+class ScoringEquivalenceTests {
+
+    private static final List<String> JOB_DESCRIPTIONS = List.of(
+            "jd_java_developer", "jd_mechanical_engineer", "jd_pharmacy_qc");
+
+    private static final ObjectMapper JSON = new ObjectMapper();
+
+    private static KeywordMatcher keywordMatcher;
+    private static ATSScoringService fused;
+    private static LegacyATSScoringService legacy;
+
+    @BeforeAll
+    static void createScorers() {
+        KeywordConfig keywordConfig = new KeywordConfig();
+        keywordConfig.init();
+        keywordMatcher = new KeywordMatcher(keywordConfig, new PipelineMetrics(new SimpleMeterRegistry(), false));
+        fused = new ATSScoringService(keywordMatcher, keywordConfig);
+        legacy = new LegacyATSScoringService(keywordMatcher, keywordConfig);
+    }
+
+    private static List<String> resumes() {
+        List<String> resumes = new ArrayList<>();
+        for (String name : List.of("resume_fresher", "resume_experienced", "resume_pharmacy",
+                "long_resume", "wall_of_text")) {
+            resumes.add(Fixtures.text(name));
+        }
+        for (Layout layout : Layout.values()) {
+            resumes.add(Fixtures.text("generated_" + layout.name().toLowerCase(Locale.ROOT)));
+        }
+        // Each formatting penalty and contact signal on its own
+        resumes.add("Jane Doe\njane@example.com\n<table><tr><td>Java</td></tr></table>");
+        resumes.add("Jane Doe │ +91 98765 43210\nSKILLS\nJava ║ SQL\nphoto.png");
+        resumes.add("Summary\nObjective\nExperience\nEducation\nProjects\nCertifications\nSkills\nJava\t\t\tSQL");
+        resumes.add("");
+        return resumes;
+    }
+
+    @Test
+    void fusedScoreEqualsThePerSignalScore() throws Exception {
+        List<String> resumes = resumes();
+        for (int r = 0; r < resumes.size(); r++) {
+            String resumeText = resumes.get(r);
+            for (String jd : JOB_DESCRIPTIONS) {
+                String jobDescription = Fixtures.text(jd);
+
+                String before = JSON.writeValueAsString(legacy.calculateScore(resumeText, jobDescription));
+                String after = JSON.writeValueAsString(
+                        fused.calculateScore(resumeText, keywordMatcher.match(resumeText, jobDescription)));
+
+                assertEquals(before, after, "resume #" + r + " vs " + jd);
+            }
+        }
+    }
+}
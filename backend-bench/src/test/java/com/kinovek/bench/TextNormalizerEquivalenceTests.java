@@ -0,0 +1,38 @@
+package com.kinovek.bench;
+
+import com.kinovek.backend.util.ATSTextNormalizer;
+import com.kinovek.bench.corpus.Layout;
+import com.kinovek.bench.legacy.LegacyAtsTextCleanup;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.function.UnaryOperator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * TextBenchmark compares the single-pass normalizer against the regex chain on the scaled
+ * inputs, so both must give the same lines there.
+ */
+class TextNormalizerEquivalenceTests {
+
+    @Test
+    void normalizerGivesTheRegexChainsLinesOnBenchmarkInputs() {
+        for (String name : List.of("resume_fresher", "resume_experienced", "resume_pharmacy",
+                "long_resume", "wall_of_text")) {
+            for (int scale : new int[] {1, 8}) {
+                assertSameLines(Fixtures.resume(name, scale), name + " x" + scale);
+            }
+        }
+        for (Layout layout : Layout.values()) {
+            String name = "generated_" + layout.name().toLowerCase(Locale.ROOT);
+            assertSameLines(Fixtures.resume(name, 8), name + " x8");
+        }
+    }
+
+    private static void assertSameLines(String text, String label) {
+        List<String> after = ATSTextNormalizer.normalize(text, UnaryOperator.identity());
+        assertEquals(LegacyAtsTextCleanup.normalize(text, line -> null), after.isEmpty() ? List.of("") : after, label);
+    }
+}
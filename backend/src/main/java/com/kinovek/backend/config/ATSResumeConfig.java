@@ -2,13 +2,19 @@ package com.kinovek.backend.config;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 import jakarta.annotation.PostConstruct;
 import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
 
 @Component
 public class ATSResumeConfig {
 
+    private static final Logger log = LoggerFactory.getLogger(ATSResumeConfig.class);
+
     private JsonNode config;
 
     @PostConstruct
@@ -20,7 +26,7 @@ public class ATSResumeConfig {
                 throw new RuntimeException("ats_resume_config.json not found in resources!");
             }
             config = mapper.readTree(is);
-            System.out.println("✅ ATS Resume Config loaded successfully!");
+            log.info("ATS Resume Config loaded");
         } catch (Exception e) {
             throw new RuntimeException("Failed to load ATS Resume Config: " + e.getMessage(), e);
         }
@@ -61,6 +67,21 @@ public class ATSResumeConfig {
     public JsonNode getFresherSectionOrder() { return config.at("/sectionOrder/fresher"); }
     public JsonNode getExperiencedSectionOrder() { return config.at("/sectionOrder/experienced"); }
 
+    /**
+     * Section keys in render order, e.g. PROFESSIONAL_SUMMARY, SKILLS, EXPERIENCE.
+     * CONTACT_INFO is left out — every renderer draws it as the header.
+     */
+    public List<String> getSectionOrder(boolean isFresher) {
+        JsonNode order = isFresher ? getFresherSectionOrder() : getExperiencedSectionOrder();
+        List<String> keys = new ArrayList<>();
+        for (JsonNode key : order) {
+            if (!"CONTACT_INFO".equals(key.asText())) {
+                keys.add(key.asText());
+            }
+        }
+        return keys;
+    }
+
     // ===== SECTION HEADINGS =====
     public String getSectionHeadingText(String key) {
         return config.at("/sectionHeadings/" + key).asText(key);
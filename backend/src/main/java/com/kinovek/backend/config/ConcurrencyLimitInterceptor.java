@@ -0,0 +1,129 @@
+package com.kinovek.backend.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kinovek.backend.dto.ApiResponse;
+import com.kinovek.backend.util.AimdLimiter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.lang.NonNull;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Adaptive concurrency limit for one group of endpoints.
+ *
+ * The slot is held until the response is fully written, so streamed PDFs and SSE
+ * progress streams count for as long as they run. Over the limit a request waits
+ * briefly for a slot, then gets 429 with Retry-After. Registered by {@link WebConfig},
+ * which places it after Spring's CORS handling so rejections still carry CORS headers.
+ */
+public class ConcurrencyLimitInterceptor implements AsyncHandlerInterceptor {
+
+    private static final Logger log = LoggerFactory.getLogger(ConcurrencyLimitInterceptor.class);
+
+    private static final String PERMIT_ATTRIBUTE = ConcurrencyLimitInterceptor.class.getName() + ".permit";
+
+    private final String group;
+    private final AimdLimiter limiter;
+    private final long queueTimeoutMs;
+    private final long retryAfterSeconds;
+    private final ObjectMapper objectMapper;
+
+    public ConcurrencyLimitInterceptor(String group, AimdLimiter limiter, long queueTimeoutMs,
+                                       long retryAfterSeconds, ObjectMapper objectMapper,
+                                       MeterRegistry meterRegistry) {
+        this.group = group;
+        this.limiter = limiter;
+        this.queueTimeoutMs = queueTimeoutMs;
+        this.retryAfterSeconds = retryAfterSeconds;
+        this.objectMapper = objectMapper;
+
+        Gauge.builder("kinovek.limiter.limit", limiter, AimdLimiter::getLimit)
+                .description("Current adaptive concurrency limit")
+                .tag("group", group).register(meterRegistry);
+        Gauge.builder("kinovek.limiter.inflight", limiter, AimdLimiter::getInFlight)
+                .description("Requests currently holding a slot")
+                .tag("group", group).register(meterRegistry);
+        Gauge.builder("kinovek.limiter.queued", limiter, AimdLimiter::getQueued)
+                .description("Requests waiting for a slot")
+                .tag("group", group).register(meterRegistry);
+        FunctionCounter.builder("kinovek.limiter.rejected", limiter, AimdLimiter::getRejected)
+                .description("Requests rejected with 429")
+                .tag("group", group).register(meterRegistry);
+    }
+
+    @Override
+    public boolean preHandle(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                             @NonNull Object handler) throws IOException {
+        // Async re-dispatch of a request that already holds its slot
+        if (request.getDispatcherType() == DispatcherType.ASYNC) return true;
+        // CORS preflights are answered by Spring without running the handler
+        if (HttpMethod.OPTIONS.matches(request.getMethod())) return true;
+
+        AimdLimiter.Permit permit = limiter.tryAcquire(queueTimeoutMs, TimeUnit.MILLISECONDS);
+        if (permit == null) {
+            log.warn("Rejected {} {} — '{}' concurrency limit {} reached",
+                    request.getMethod(), request.getRequestURI(), group, limiter.getLimit());
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            objectMapper.writeValue(response.getOutputStream(),
+                    ApiResponse.error("TOO_MANY_REQUESTS", "Server is busy. Please retry shortly."));
+            return false;
+        }
+        request.setAttribute(PERMIT_ATTRIBUTE, permit);
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                                               @NonNull Object handler) {
+        // Streaming/SSE response: the slot is released once the async request completes
+        AimdLimiter.Permit permit = (AimdLimiter.Permit) request.getAttribute(PERMIT_ATTRIBUTE);
+        if (permit == null || !request.isAsyncStarted()) return;
+        request.getAsyncContext().addListener(new AsyncListener() {
+            @Override
+            public void onComplete(AsyncEvent event) {
+                permit.release();
+            }
+
+            @Override
+            public void onTimeout(AsyncEvent event) {
+                permit.release();
+            }
+
+            @Override
+            public void onError(AsyncEvent event) {
+                permit.release();
+            }
+
+            @Override
+            public void onStartAsync(AsyncEvent event) {
+            }
+        });
+    }
+
+    @Override
+    public void afterCompletion(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                                @NonNull Object handler, Exception ex) {
+        if (request.isAsyncStarted()) return;
+        AimdLimiter.Permit permit = (AimdLimiter.Permit) request.getAttribute(PERMIT_ATTRIBUTE);
+        if (permit != null) {
+            permit.release();
+        }
+    }
+}
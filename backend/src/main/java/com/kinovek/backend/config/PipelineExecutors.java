@@ -0,0 +1,197 @@
+package com.kinovek.backend.config;
+
+import com.kinovek.backend.observability.RequestTrace;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Internal thread pools for the resume pipeline.
+ *
+ * Deliberately not registered as Executor beans: that would replace Spring Boot's
+ * applicationTaskExecutor, which also runs StreamingResponseBody writes.
+ *
+ * The render and job pools always use platform threads. With spring.threads.virtual.enabled=true, Tomcat
+ * and applicationTaskExecutor run on virtual threads instead, and CPU-bound rendering reached
+ * from them goes through {@link #runCpuBound} so it cannot pin every carrier thread.
+ *
+ * Work enters the render pool only through {@link #getRenderExecutor} and {@link #runCpuBound},
+ * which take one of (threads + queue capacity) permits first. When all are taken the submitter
+ * waits for a free slot — a parked virtual thread costs nothing, whereas letting it render on
+ * its own carrier would put CPU work outside the bound.
+ */
+@Component
+public class PipelineExecutors {
+
+    private static final Logger log = LoggerFactory.getLogger(PipelineExecutors.class);
+
+    private final ThreadPoolExecutor renderPool;
+    private final Semaphore renderSlots;
+    private final Executor renderExecutor = task -> {
+        try {
+            executeRender(task);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RejectedExecutionException("Interrupted while waiting for a render slot", e);
+        }
+    };
+    private final ThreadPoolExecutor jobPool;
+    private final ExecutorService streamExecutor =
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("sse-pipeline-", 1).factory());
+
+    public PipelineExecutors(@Value("${kinovek.pipeline.render-threads:0}") int renderThreads,
+                             @Value("${kinovek.pipeline.render-queue-capacity:256}") int renderQueueCapacity,
+                             @Value("${kinovek.jobs.worker-threads:2}") int jobThreads) {
+        int threads = renderThreads > 0 ? renderThreads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger counter = new AtomicInteger();
+        this.renderPool = new ThreadPoolExecutor(
+                threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(renderQueueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "pdf-render-" + counter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                // Cannot happen while renderSlots holds submitters back, except after shutdown
+                new ThreadPoolExecutor.AbortPolicy());
+        this.renderSlots = new Semaphore(threads + renderQueueCapacity);
+        log.info("PDF render pool started with {} threads (queue capacity {})", threads, renderQueueCapacity);
+
+        // The job queue lives in the database; the dispatcher never hands over more jobs than there are workers
+        int workers = Math.max(1, jobThreads);
+        AtomicInteger jobCounter = new AtomicInteger();
+        this.jobPool = new ThreadPoolExecutor(
+                workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "job-worker-" + jobCounter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        log.info("Job worker pool started with {} threads", workers);
+    }
+
+    /**
+     * Bounded platform-thread pool for CPU-bound work: rewriting and PDF rendering.
+     * execute() waits while the pool's threads and queue are all taken.
+     */
+    public Executor getRenderExecutor() {
+        return renderExecutor;
+    }
+
+    /** Number of render threads — also the max number of PDFs a bulk request keeps in memory. */
+    public int getRenderParallelism() {
+        return renderPool.getMaximumPoolSize();
+    }
+
+    /** Workers for queued jobs (/api/v1/jobs). */
+    public ExecutorService getJobPool() {
+        return jobPool;
+    }
+
+    public int getJobWorkers() {
+        return jobPool.getMaximumPoolSize();
+    }
+
+    /**
+     * One virtual thread per streamed (SSE) pipeline. These threads mostly wait — on extraction
+     * I/O, the client, and the render pool — so they hand CPU-bound steps to {@link #runCpuBound}
+     * rather than occupying a render thread for the whole request.
+     */
+    public ExecutorService getStreamExecutor() {
+        return streamExecutor;
+    }
+
+    /** A blocking piece of CPU-bound work that writes to a stream. */
+    @FunctionalInterface
+    public interface CpuBoundTask {
+        void run() throws IOException;
+    }
+
+    /**
+     * Runs the task on the render pool when called from a virtual thread, which just waits
+     * for it; on a platform thread it runs inline. Exceptions are rethrown to the caller.
+     */
+    public void runCpuBound(CpuBoundTask task) throws IOException {
+        if (!Thread.currentThread().isVirtual()) {
+            task.run();
+            return;
+        }
+
+        RequestTrace trace = RequestTrace.current();
+        FutureTask<Void> future = new FutureTask<>(() -> {
+            // Stages run on the pool thread still belong to the caller's request trace and cost
+            RequestTrace previous = RequestTrace.bind(trace);
+            RequestTrace.Segment segment = trace != null ? trace.startSegment() : null;
+            try {
+                task.run();
+            } finally {
+                if (segment != null) {
+                    segment.close();
+                }
+                RequestTrace.bind(previous);
+            }
+            return null;
+        });
+        try {
+            executeRender(future);
+            future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for the render pool");
+        } catch (RejectedExecutionException e) {
+            throw new IOException("Render pool is shut down", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException io) throw io;
+            if (cause instanceof RuntimeException re) throw re;
+            if (cause instanceof Error err) throw err;
+            throw new IOException(cause);
+        }
+    }
+
+    /**
+     * Takes a render slot, waiting for one if necessary, and gives it back when the task has run
+     * or was cancelled before starting (a cancelled FutureTask still returns from run()).
+     */
+    private void executeRender(Runnable task) throws InterruptedException {
+        renderSlots.acquire();
+        try {
+            renderPool.execute(() -> {
+                try {
+                    task.run();
+                } finally {
+                    renderSlots.release();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            renderSlots.release();
+            throw e;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        renderPool.shutdown();
+        jobPool.shutdown();
+        streamExecutor.shutdown();
+    }
+}
@@ -0,0 +1,12 @@
+package com.kinovek.backend.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables @Scheduled background work (job dispatch sweeps and result purging).
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -1,5 +1,13 @@
 package com.kinovek.backend.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kinovek.backend.observability.PipelineMetrics;
+import com.kinovek.backend.observability.RequestTraceCallableInterceptor;
+import com.kinovek.backend.observability.RequestTraceInterceptor;
+import com.kinovek.backend.util.AimdLimiter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.lang.NonNull;
 import org.springframework.web.servlet.config.annotation.*;
@@ -7,6 +15,48 @@ import org.springframework.web.servlet.config.annotation.*;
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
 
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private PipelineMetrics pipelineMetrics;
+
+    @Value("${kinovek.trace.debug-enabled:false}")
+    private boolean traceDebugEnabled;
+
+    @Value("${kinovek.logging.detail-sample-rate:0.0}")
+    private double detailSampleRate;
+
+    @Value("${kinovek.limit.queue-timeout-ms:250}")
+    private long limitQueueTimeoutMs;
+
+    @Value("${kinovek.limit.retry-after-seconds:1}")
+    private long limitRetryAfterSeconds;
+
+    @Value("${kinovek.limit.render.initial:4}")
+    private int renderInitialLimit;
+
+    @Value("${kinovek.limit.render.max:16}")
+    private int renderMaxLimit;
+
+    @Value("${kinovek.limit.render.latency-target-ms:3000}")
+    private long renderLatencyTargetMs;
+
+    @Value("${kinovek.limit.stream.limit:4}")
+    private int streamLimit;
+
+    @Value("${kinovek.limit.analysis.initial:16}")
+    private int analysisInitialLimit;
+
+    @Value("${kinovek.limit.analysis.max:64}")
+    private int analysisMaxLimit;
+
+    @Value("${kinovek.limit.analysis.latency-target-ms:1000}")
+    private long analysisLatencyTargetMs;
+
     @Override
     public void addCorsMappings(@NonNull CorsRegistry registry) {
         registry.addMapping("/api/**")
@@ -19,6 +69,51 @@ public class WebConfig implements WebMvcConfigurer {
                 )
                 .allowedMethods("GET", "POST", "PUT", "DELETE", "OPTIONS")
                 .allowedHeaders("*")
+                .exposedHeaders(RequestTraceInterceptor.SERVER_TIMING)
                 .allowCredentials(true);
     }
+
+    @Override
+    public void configureAsyncSupport(@NonNull AsyncSupportConfigurer configurer) {
+        // Streamed PDFs are written on an async thread; keep tracing and costing them there
+        configurer.registerCallableInterceptors(new RequestTraceCallableInterceptor());
+    }
+
+    @Override
+    public void addInterceptors(@NonNull InterceptorRegistry registry) {
+        // Registered first so it is bound before the limiters and cleaned up after them
+        registry.addInterceptor(new RequestTraceInterceptor(traceDebugEnabled, detailSampleRate, pipelineMetrics))
+                .addPathPatterns("/api/v1/resume/**", "/api/v1/cover-letter/**");
+
+        // Separate limits so a burst of PDF renders can't starve the cheap scoring endpoints
+        registry.addInterceptor(limitInterceptor("render",
+                        renderInitialLimit, renderMaxLimit, renderLatencyTargetMs))
+                .addPathPatterns(
+                        "/api/v1/resume/enhance-pdf",
+                        "/api/v1/resume/enhance-with-pdf",
+                        "/api/v1/resume/ats-convert");
+
+        // Streamed and bulk responses hold their slot while the client reads, so their latency
+        // says nothing about server load; a fixed limit keeps them from crowding out single renders
+        registry.addInterceptor(limitInterceptor("stream", streamLimit, streamLimit, 0))
+                .addPathPatterns(
+                        "/api/v1/resume/enhance-pdf-stream",
+                        "/api/v1/resume/enhance-pdf-bulk");
+
+        registry.addInterceptor(limitInterceptor("analysis",
+                        analysisInitialLimit, analysisMaxLimit, analysisLatencyTargetMs))
+                .addPathPatterns(
+                        "/api/v1/resume/enhance",
+                        "/api/v1/resume/ats-score",
+                        "/api/v1/resume/enhance-preview",
+                        "/api/v1/resume/test-score",
+                        "/api/v1/cover-letter/**");
+    }
+
+    private ConcurrencyLimitInterceptor limitInterceptor(String group, int initialLimit, int maxLimit,
+                                                         long latencyTargetMs) {
+        return new ConcurrencyLimitInterceptor(group,
+                new AimdLimiter(initialLimit, maxLimit, latencyTargetMs),
+                limitQueueTimeoutMs, limitRetryAfterSeconds, objectMapper, meterRegistry);
+    }
 }
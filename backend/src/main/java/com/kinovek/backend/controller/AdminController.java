@@ -0,0 +1,94 @@
+package com.kinovek.backend.controller;
+
+import com.kinovek.backend.dto.ApiResponse;
+import com.kinovek.backend.observability.FlightRecorderService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.*;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+
+/**
+ * Operational endpoints. Only registered with kinovek.admin.jfr.enabled=true —
+ * there is no authentication, so keep it off anywhere the port is reachable by users.
+ */
+@RestController
+@RequestMapping("/api/v1/admin")
+@ConditionalOnProperty(name = "kinovek.admin.jfr.enabled", havingValue = "true")
+public class AdminController {
+
+    @Autowired
+    private FlightRecorderService flightRecorderService;
+
+    @Autowired
+    private StreamingResponses streamingResponses;
+
+    /**
+     * POST /api/v1/admin/jfr/start?durationSeconds=60
+     * Start a bounded Flight Recorder recording (profile settings + pipeline events).
+     */
+    @PostMapping("/jfr/start")
+    public ResponseEntity<?> startRecording(
+            @RequestParam(value = "durationSeconds", defaultValue = "60") long durationSeconds) {
+        try {
+            return ResponseEntity.ok(ApiResponse.ok(flightRecorderService.start(durationSeconds)));
+        } catch (FlightRecorderService.RecordingInProgressException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(
+                    ApiResponse.error("RECORDING_IN_PROGRESS", e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError().body(
+                    ApiResponse.error("PROCESSING_ERROR", "Failed to start recording: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * GET /api/v1/admin/jfr
+     * State of the current or last recording.
+     */
+    @GetMapping("/jfr")
+    public ResponseEntity<?> recordingStatus() {
+        return ResponseEntity.ok(ApiResponse.ok(flightRecorderService.status()));
+    }
+
+    /**
+     * GET /api/v1/admin/jfr/dump
+     * Download what the current or last recording holds, as a .jfr file for JDK Mission Control.
+     */
+    @GetMapping("/jfr/dump")
+    public ResponseEntity<StreamingResponseBody> dumpRecording() {
+        Path file;
+        try {
+            file = flightRecorderService.dump();
+        } catch (Exception e) {
+            return streamingResponses.error(HttpStatus.INTERNAL_SERVER_ERROR, "PROCESSING_ERROR",
+                    "Failed to dump recording: " + e.getMessage());
+        }
+        if (file == null) {
+            return streamingResponses.error(HttpStatus.NOT_FOUND, "NO_RECORDING", "No recording has been started.");
+        }
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_OCTET_STREAM);
+        headers.setContentDisposition(
+                ContentDisposition.builder("attachment").filename("kinovek-" + Instant.now().getEpochSecond() + ".jfr").build()
+        );
+        try {
+            headers.setContentLength(Files.size(file));
+        } catch (IOException e) {
+            // unknown length → chunked
+        }
+        StreamingResponseBody body = out -> {
+            try {
+                Files.copy(file, out);
+            } finally {
+                Files.deleteIfExists(file);
+            }
+        };
+        return new ResponseEntity<>(body, headers, HttpStatus.OK);
+    }
+}
@@ -0,0 +1,161 @@
+package com.kinovek.backend.controller;
+
+import com.kinovek.backend.dto.ApiResponse;
+import com.kinovek.backend.dto.JobStatusResponse;
+import com.kinovek.backend.model.ResumeJob;
+import com.kinovek.backend.model.ResumeJobSummary;
+import com.kinovek.backend.service.ResumeJobService;
+import com.kinovek.backend.service.ResumeParserService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.*;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.net.URI;
+import java.util.Optional;
+
+/**
+ * Asynchronous versions of the heavy endpoints. Submitting returns 202 with a job id;
+ * poll GET /jobs/{id} (optionally long-polling with ?wait=seconds) and fetch the
+ * output from GET /jobs/{id}/result once the job has succeeded.
+ */
+@RestController
+@RequestMapping("/api/v1/jobs")
+public class JobController {
+
+    private static final long MAX_WAIT_SECONDS = 30;
+    private static final String RETRY_AFTER_SECONDS = "5";
+
+    @Autowired
+    private ResumeJobService resumeJobService;
+
+    @Autowired
+    private ResumeParserService resumeParserService;
+
+    /**
+     * POST /api/v1/jobs/enhance-pdf
+     * Queue /resume/enhance-pdf; the result is the enhanced resume PDF.
+     */
+    @PostMapping("/enhance-pdf")
+    public ResponseEntity<?> submitEnhancePdf(
+            @RequestParam("resume") MultipartFile resumeFile,
+            @RequestParam("jobDescription") String jobDescription) {
+        return submit(ResumeJob.Type.ENHANCE_PDF, resumeFile, jobDescription);
+    }
+
+    /**
+     * POST /api/v1/jobs/ats-convert
+     * Queue /resume/ats-convert; the result is the ATS-friendly PDF.
+     */
+    @PostMapping("/ats-convert")
+    public ResponseEntity<?> submitAtsConvert(@RequestParam("resume") MultipartFile resumeFile) {
+        return submit(ResumeJob.Type.ATS_CONVERT, resumeFile, null);
+    }
+
+    /**
+     * POST /api/v1/jobs/cover-letter
+     * Queue /cover-letter/generate; the result is the same JSON body that endpoint returns.
+     */
+    @PostMapping("/cover-letter")
+    public ResponseEntity<?> submitCoverLetter(
+            @RequestParam("resume") MultipartFile resumeFile,
+            @RequestParam("jobDescription") String jobDescription) {
+        return submit(ResumeJob.Type.COVER_LETTER, resumeFile, jobDescription);
+    }
+
+    /**
+     * GET /api/v1/jobs/{id}?wait=seconds
+     * Job status. With wait > 0 the response is held until the job finishes or
+     * the wait (capped at 30 seconds) runs out, whichever comes first.
+     */
+    @GetMapping("/{id}")
+    public DeferredResult<ResponseEntity<?>> getStatus(
+            @PathVariable("id") String id,
+            @RequestParam(value = "wait", defaultValue = "0") long waitSeconds) {
+        long wait = Math.max(0, Math.min(waitSeconds, MAX_WAIT_SECONDS));
+        DeferredResult<ResponseEntity<?>> result = new DeferredResult<>(wait * 1000 + 1000);
+
+        Optional<ResumeJobSummary> job = resumeJobService.getSummary(id);
+        if (job.isEmpty()) {
+            result.setResult(notFound());
+            return result;
+        }
+        if (wait == 0 || job.get().getStatus().isFinished()) {
+            result.setResult(status(job.get()));
+            return result;
+        }
+
+        Runnable onFinished = () -> result.setResult(currentStatus(id));
+        result.onTimeout(() -> result.setResult(currentStatus(id)));
+        result.onCompletion(() -> resumeJobService.removeListener(id, onFinished));
+        resumeJobService.whenFinished(id, onFinished);
+        return result;
+    }
+
+    /**
+     * GET /api/v1/jobs/{id}/result
+     * Download the job output. Results are kept for kinovek.jobs.ttl-seconds after the job finished.
+     */
+    @GetMapping("/{id}/result")
+    public ResponseEntity<?> getResult(@PathVariable("id") String id) {
+        Optional<ResumeJob> found = resumeJobService.getJob(id);
+        if (found.isEmpty()) {
+            return notFound();
+        }
+
+        ResumeJob job = found.get();
+        if (job.getStatus() == ResumeJob.Status.FAILED) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(
+                    ApiResponse.error(job.getErrorCode(), job.getErrorMessage()));
+        }
+        if (job.getStatus() != ResumeJob.Status.SUCCEEDED) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(
+                    ApiResponse.error("JOB_NOT_READY", "Job is " + job.getStatus() + ". Try again once it has finished."));
+        }
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.parseMediaType(job.getResultContentType()));
+        headers.setContentDisposition(
+                ContentDisposition.builder("attachment").filename(job.getResultFileName()).build()
+        );
+        headers.setContentLength(job.getResult().length);
+        return new ResponseEntity<>(job.getResult(), headers, HttpStatus.OK);
+    }
+
+    private ResponseEntity<?> submit(ResumeJob.Type type, MultipartFile resumeFile, String jobDescription) {
+        try {
+            String fileName = resumeFile.getOriginalFilename();
+            resumeParserService.checkFileName(fileName);
+            byte[] content = resumeFile.getBytes();
+
+            ResumeJobSummary job = resumeJobService.submit(type, fileName, content, jobDescription);
+            return ResponseEntity.accepted()
+                    .location(URI.create("/api/v1/jobs/" + job.getId()))
+                    .body(ApiResponse.ok(JobStatusResponse.from(job)));
+        } catch (ResumeJobService.JobStoreFullException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+                    .body(ApiResponse.error("JOB_QUEUE_FULL", e.getMessage()));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(
+                    ApiResponse.error("INVALID_FILE_TYPE", e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError().body(
+                    ApiResponse.error("PROCESSING_ERROR", "Failed to queue job: " + e.getMessage()));
+        }
+    }
+
+    private ResponseEntity<?> currentStatus(String id) {
+        return resumeJobService.getSummary(id).map(this::status).orElseGet(this::notFound);
+    }
+
+    private ResponseEntity<?> status(ResumeJobSummary job) {
+        return ResponseEntity.ok(ApiResponse.ok(JobStatusResponse.from(job)));
+    }
+
+    private ResponseEntity<?> notFound() {
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(
+                ApiResponse.error("JOB_NOT_FOUND", "Job does not exist or its result has expired."));
+    }
+}
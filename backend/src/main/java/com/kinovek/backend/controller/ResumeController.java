@@ -1,18 +1,23 @@
 package com.kinovek.backend.controller;
 
+import com.kinovek.backend.config.PipelineExecutors;
 import com.kinovek.backend.dto.ATSScoreResponse;
 import com.kinovek.backend.dto.ApiResponse;
 import com.kinovek.backend.dto.EnhanceResponse;
+import com.kinovek.backend.dto.EnhanceWithPdfResponse;
+import com.kinovek.backend.model.EnhancedResume;
 import com.kinovek.backend.service.*;
-import com.kinovek.backend.util.KeywordMatcher;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.*;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.util.LinkedHashMap;
+import java.io.ByteArrayOutputStream;
+import java.util.List;
 import java.util.Map;
 
 @RestController
@@ -34,16 +39,31 @@ public class ResumeController {
     private com.kinovek.backend.service.ATSConverterService atsConverterService;
 
     @Autowired
-    private ResumeTextParserService resumeTextParserService;
+    private ATSPDFGenerator atsPdfGenerator;
 
     @Autowired
-    private KeywordMatcher keywordMatcher;
+    private ResumePipelineService resumePipelineService;
 
     @Autowired
-    private ResumeRewriter resumeRewriter;
+    private List<ResumeRenderer> resumeRenderers;
 
     @Autowired
-    private ATSPDFGenerator atsPdfGenerator;
+    private BulkResumeService bulkResumeService;
+
+    @Autowired
+    private ResumeProgressService resumeProgressService;
+
+    @Autowired
+    private DownloadTokenStore downloadTokenStore;
+
+    @Autowired
+    private PipelineExecutors pipelineExecutors;
+
+    @Autowired
+    private RequestCoalescer requestCoalescer;
+
+    @Autowired
+    private StreamingResponses streamingResponses;
 
     /**
      * POST /api/v1/resume/enhance
@@ -89,12 +109,21 @@ public class ResumeController {
     /**
      * POST /api/v1/resume/ats-convert
      * Convert resume to ATS-friendly PDF.
+     * Parsing happens up front; the PDF is rendered straight into the response (chunked).
      */
     @PostMapping("/ats-convert")
-    public ResponseEntity<?> convertToATSFriendly(
-            @RequestParam("resume") MultipartFile resumeFile) {
+    public ResponseEntity<StreamingResponseBody> convertToATSFriendly(
+            @RequestParam("resume") MultipartFile resumeFile,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
         try {
-            byte[] pdfBytes = atsConverterService.convertToATSFriendly(resumeFile);
+            // Identical concurrent uploads share one extraction
+            String uploadName = resumeFile.getOriginalFilename();
+            resumeParserService.checkFileName(uploadName);
+            byte[] content = resumeFile.getBytes();
+            List<String> atsLines = requestCoalescer.execute("ats-convert", uploadName, content, null,
+                    idempotencyKey, () -> atsConverterService.extractATSLines(uploadName, content));
+            StreamingResponseBody body = out ->
+                    pipelineExecutors.runCpuBound(() -> atsConverterService.writePDF(atsLines, out));
 
             String originalName = resumeFile.getOriginalFilename();
             String baseName = (originalName != null && originalName.contains("."))
@@ -104,13 +133,14 @@ public class ResumeController {
             return ResponseEntity.ok()
                     .header("Content-Disposition", "attachment; filename=\"" + outputName + "\"")
                     .header("Content-Type", "application/pdf")
-                    .body(pdfBytes);
+                    .body(body);
+        } catch (RequestCoalescer.IdempotencyKeyReusedException e) {
+            return streamingResponses.error(HttpStatus.UNPROCESSABLE_ENTITY, "IDEMPOTENCY_KEY_REUSED", e.getMessage());
         } catch (IllegalArgumentException e) {
-            return ResponseEntity.badRequest().body(
-                    ApiResponse.error("INVALID_FILE_TYPE", e.getMessage()));
+            return streamingResponses.error(HttpStatus.BAD_REQUEST, "INVALID_FILE_TYPE", e.getMessage());
         } catch (Exception e) {
-            return ResponseEntity.internalServerError().body(
-                    ApiResponse.error("PROCESSING_ERROR", "Failed to convert resume: " + e.getMessage()));
+            return streamingResponses.error(HttpStatus.INTERNAL_SERVER_ERROR, "PROCESSING_ERROR",
+                    "Failed to convert resume: " + e.getMessage());
         }
     }
 
@@ -118,66 +148,140 @@ public class ResumeController {
      * POST /api/v1/resume/enhance-pdf
      * Parse resume, analyze keywords, enhance content, and return ATS-optimized PDF.
      */
-    @SuppressWarnings("unchecked")
     @PostMapping("/enhance-pdf")
-    public ResponseEntity<?> enhanceResumePdf(
+    public ResponseEntity<StreamingResponseBody> enhanceResumePdf(
             @RequestParam("resume") MultipartFile resumeFile,
-            @RequestParam("jobDescription") String jobDescription) {
-        log.info("\n========================================");
-        log.info("=== ENHANCE-PDF REQUEST RECEIVED ===");
-        log.info("File: {} | Size: {} bytes | JD length: {} chars",
+            @RequestParam("jobDescription") String jobDescription,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
+        log.debug("=== ENHANCE-PDF REQUEST RECEIVED | file: {} | size: {} bytes | JD length: {} chars ===",
                 resumeFile.getOriginalFilename(), resumeFile.getSize(), jobDescription.length());
-        log.info("========================================");
         try {
-            // Step 1: Extract text from uploaded PDF/DOCX
-            String resumeText = resumeParserService.parseResume(resumeFile);
-            log.info("=== STEP 1 DONE: Resume text extracted | {} chars ===", resumeText.length());
-
-            // Step 2: Parse text into structured data
-            Map<String, Object> originalResumeData = resumeTextParserService.parseResumeText(resumeText);
-            log.info("=== STEP 2 DONE: Parsed into sections: {} ===", originalResumeData.keySet());
-
-            // Step 3: Analyze keywords
-            KeywordMatcher.MatchResult matchResult = keywordMatcher.match(resumeText, jobDescription);
-            Map<String, Object> analysisResults = new LinkedHashMap<>();
-            analysisResults.put("matchedKeywords", matchResult.getMatchedKeywords());
-            analysisResults.put("missingKeywords", matchResult.getMissingKeywords());
-            analysisResults.put("matchPercentage", matchResult.getMatchPercentage());
-            log.info("=== STEP 3 DONE: Keywords matched={} missing={} match%={} ===",
-                    matchResult.getMatchedKeywords().size(), matchResult.getMissingKeywords().size(),
-                    matchResult.getMatchPercentage());
-
-            // Step 4: Enhance the resume
-            Map<String, Object> enhancedData = resumeRewriter.enhanceResume(
-                    originalResumeData, analysisResults, jobDescription);
-            log.info("=== STEP 4 DONE: Resume enhanced | sections: {} ===", enhancedData.keySet());
-
-            // Step 5: Generate ATS PDF
-            boolean isFresher = (boolean) enhancedData.getOrDefault("isFresher", true);
-            byte[] pdfBytes = atsPdfGenerator.generateATSResume(enhancedData, isFresher);
-            log.info("=== STEP 5 DONE: PDF generated | {} bytes | isFresher={} ===", pdfBytes.length, isFresher);
+            // Steps 1-4: extract, parse, match, rewrite — shared by identical concurrent requests
+            String uploadName = resumeFile.getOriginalFilename();
+            resumeParserService.checkFileName(uploadName);
+            byte[] content = resumeFile.getBytes();
+            EnhancedResume enhanced = requestCoalescer.execute("enhance-pdf", uploadName, content, jobDescription,
+                    idempotencyKey, () -> resumePipelineService.enhance(
+                            uploadName, content, jobDescription, PipelineStageListener.NONE));
+
+            // Step 5: Generate ATS PDF straight into the response once headers are sent
+            StreamingResponseBody body = out -> {
+                pipelineExecutors.runCpuBound(() ->
+                        atsPdfGenerator.generateATSResume(enhanced.getResumeData(), enhanced.isFresher(), out));
+                log.debug("=== STEP 5 DONE: PDF streamed | isFresher={} ===", enhanced.isFresher());
+            };
 
             // Step 6: Build filename from candidate name
-            Map<String, Object> personalInfo = (Map<String, Object>) enhancedData.get("personalInfo");
-            String fullName = "User";
-            if (personalInfo != null) {
-                Object nameObj = personalInfo.get("fullName");
-                if (nameObj != null && !nameObj.toString().isBlank()) {
-                    fullName = nameObj.toString().trim();
-                }
-            }
-            String fileName = fullName.replaceAll("\\s+", "_") + "_Enhanced_Resume.pdf";
+            String fileName = enhanced.getFileNameBase() + "_Enhanced_Resume.pdf";
 
-            // Step 7: Return PDF as downloadable file
+            // Step 7: Return PDF as downloadable file (length unknown up front → chunked transfer)
             HttpHeaders headers = new HttpHeaders();
             headers.setContentType(MediaType.APPLICATION_PDF);
             headers.setContentDisposition(
                     ContentDisposition.builder("attachment").filename(fileName).build()
             );
-            headers.setContentLength(pdfBytes.length);
 
-            return new ResponseEntity<>(pdfBytes, headers, HttpStatus.OK);
+            return new ResponseEntity<>(body, headers, HttpStatus.OK);
 
+        } catch (RequestCoalescer.IdempotencyKeyReusedException e) {
+            return streamingResponses.error(HttpStatus.UNPROCESSABLE_ENTITY, "IDEMPOTENCY_KEY_REUSED", e.getMessage());
+        } catch (IllegalArgumentException e) {
+            return streamingResponses.error(HttpStatus.BAD_REQUEST, "INVALID_FILE_TYPE", e.getMessage());
+        } catch (Exception e) {
+            return streamingResponses.error(HttpStatus.INTERNAL_SERVER_ERROR, "PROCESSING_ERROR",
+                    "Failed to enhance resume: " + e.getMessage());
+        }
+    }
+
+    /**
+     * POST /api/v1/resume/enhance-pdf-stream
+     * Same pipeline as /enhance-pdf, reported as Server-Sent Events while it runs:
+     * extract, parse, match (keyword results), rewrite (enhanced resume data), render,
+     * then "complete" with a token for GET /download/{token}, or "error".
+     * Rejected uploads keep their 4xx/5xx status and carry the ApiResponse as an "error" event;
+     * the declared body must be an emitter, or Spring would serialize it as JSON instead of streaming.
+     */
+    @PostMapping("/enhance-pdf-stream")
+    public ResponseEntity<SseEmitter> enhanceResumePdfStream(
+            @RequestParam("resume") MultipartFile resumeFile,
+            @RequestParam("jobDescription") String jobDescription) {
+        try {
+            // Read the upload now — the pipeline runs after this request thread has returned
+            String fileName = resumeFile.getOriginalFilename();
+            resumeParserService.checkFileName(fileName);
+            byte[] content = resumeFile.getBytes();
+
+            return ResponseEntity.ok(resumeProgressService.start(fileName, content, jobDescription));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(
+                    resumeProgressService.failed("INVALID_FILE_TYPE", e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError().body(
+                    resumeProgressService.failed("PROCESSING_ERROR", "Failed to enhance resume: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * GET /api/v1/resume/download/{token}
+     * Fetch a file produced by /enhance-pdf-stream. Tokens expire after kinovek.download.ttl-seconds.
+     */
+    @GetMapping("/download/{token}")
+    public ResponseEntity<?> download(@PathVariable("token") String token) {
+        DownloadTokenStore.Download download = downloadTokenStore.get(token);
+        if (download == null) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(
+                    ApiResponse.error("DOWNLOAD_NOT_FOUND", "Download link is invalid or has expired."));
+        }
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(download.getContentType());
+        headers.setContentDisposition(
+                ContentDisposition.builder("attachment").filename(download.getFileName()).build()
+        );
+        headers.setContentLength(download.getContent().length);
+        return new ResponseEntity<>(download.getContent(), headers, HttpStatus.OK);
+    }
+
+    /**
+     * POST /api/v1/resume/enhance-with-pdf
+     * /enhance and /enhance-pdf in one request: the analysis JSON plus a token for
+     * GET /download/{token}. The resume is extracted, matched and scored only once.
+     */
+    @PostMapping("/enhance-with-pdf")
+    public ResponseEntity<?> enhanceResumeWithPdf(
+            @RequestParam("resume") MultipartFile resumeFile,
+            @RequestParam("jobDescription") String jobDescription) {
+        try {
+            // Steps 1-4: extract, parse, match, rewrite
+            EnhancedResume enhanced = resumePipelineService.enhance(resumeFile, jobDescription);
+
+            // Score from the same text and keyword match
+            EnhanceResponse analysis = resumeEnhancerService.analyze(
+                    enhanced.getResumeText(), enhanced.getMatchResult());
+
+            // Step 5: Render the PDF and park it behind a download token
+            ByteArrayOutputStream pdf = new ByteArrayOutputStream();
+            pipelineExecutors.runCpuBound(() ->
+                    atsPdfGenerator.generateATSResume(enhanced.getResumeData(), enhanced.isFresher(), pdf));
+            String pdfName = enhanced.getFileNameBase() + "_Enhanced_Resume.pdf";
+            String token = downloadTokenStore.put(pdfName, MediaType.APPLICATION_PDF, pdf.toByteArray());
+            log.debug("=== STEP 5 DONE: PDF rendered | {} bytes ===", pdf.size());
+
+            EnhanceWithPdfResponse.Download download = new EnhanceWithPdfResponse.Download();
+            download.setToken(token);
+            download.setDownloadPath("/resume/download/" + token);
+            download.setFileName(pdfName);
+            download.setExpiresInSeconds(downloadTokenStore.getTtlSeconds());
+
+            EnhanceWithPdfResponse response = new EnhanceWithPdfResponse();
+            response.setSuccess(true);
+            response.setAnalysis(analysis);
+            response.setDownload(download);
+            return ResponseEntity.ok(response);
+        } catch (DownloadTokenStore.DownloadStoreFullException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                    .body(ApiResponse.error("DOWNLOAD_STORE_FULL", e.getMessage()));
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest().body(
                     ApiResponse.error("INVALID_FILE_TYPE", e.getMessage()));
@@ -187,6 +291,74 @@ public class ResumeController {
         }
     }
 
+    /**
+     * POST /api/v1/resume/enhance-pdf-bulk
+     * One resume + several job descriptions → ZIP with one tailored PDF per job description.
+     * The resume is extracted and parsed once; PDFs are streamed into the ZIP as they finish.
+     */
+    @PostMapping("/enhance-pdf-bulk")
+    public ResponseEntity<StreamingResponseBody> enhanceResumePdfBulk(
+            @RequestParam("resume") MultipartFile resumeFile,
+            @RequestParam("jobDescriptions") List<String> jobDescriptions) {
+        List<String> targets = jobDescriptions.stream().filter(jd -> jd != null && !jd.isBlank()).toList();
+        if (targets.isEmpty() || targets.size() > BulkResumeService.MAX_JOB_DESCRIPTIONS) {
+            return streamingResponses.error(HttpStatus.BAD_REQUEST, "INVALID_JOB_DESCRIPTIONS",
+                    "Provide between 1 and " + BulkResumeService.MAX_JOB_DESCRIPTIONS + " job descriptions.");
+        }
+        try {
+            String resumeText = resumePipelineService.extractText(resumeFile);
+            Map<String, Object> originalResumeData = resumePipelineService.parse(resumeText);
+
+            StreamingResponseBody body = out ->
+                    bulkResumeService.writeTailoredZip(resumeText, originalResumeData, targets, out);
+
+            HttpHeaders headers = new HttpHeaders();
+            headers.setContentType(MediaType.parseMediaType("application/zip"));
+            headers.setContentDisposition(
+                    ContentDisposition.builder("attachment").filename("Tailored_Resumes.zip").build()
+            );
+            return new ResponseEntity<>(body, headers, HttpStatus.OK);
+        } catch (IllegalArgumentException e) {
+            return streamingResponses.error(HttpStatus.BAD_REQUEST, "INVALID_FILE_TYPE", e.getMessage());
+        } catch (Exception e) {
+            return streamingResponses.error(HttpStatus.INTERNAL_SERVER_ERROR, "PROCESSING_ERROR",
+                    "Failed to enhance resume: " + e.getMessage());
+        }
+    }
+
+    /**
+     * POST /api/v1/resume/enhance-preview
+     * Same pipeline as /enhance-pdf, rendered as an HTML fragment (default) or plain text.
+     * Skips PDF generation entirely — meant for the live preview pane.
+     */
+    @PostMapping("/enhance-preview")
+    public ResponseEntity<?> enhanceResumePreview(
+            @RequestParam("resume") MultipartFile resumeFile,
+            @RequestParam("jobDescription") String jobDescription,
+            @RequestParam(value = "format", defaultValue = "html") String format) {
+        ResumeRenderer renderer = findRenderer(format);
+        if (renderer == null || renderer instanceof ATSPDFGenerator) {
+            return ResponseEntity.badRequest().body(
+                    ApiResponse.error("UNSUPPORTED_FORMAT", "Preview format must be 'html' or 'text'."));
+        }
+        try {
+            EnhancedResume enhanced = resumePipelineService.enhance(resumeFile, jobDescription);
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            renderer.render(enhanced.getResumeData(), enhanced.isFresher(), out);
+
+            return ResponseEntity.ok()
+                    .contentType(renderer.getContentType())
+                    .body(out.toByteArray());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(
+                    ApiResponse.error("INVALID_FILE_TYPE", e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.internalServerError().body(
+                    ApiResponse.error("PROCESSING_ERROR", "Failed to preview resume: " + e.getMessage()));
+        }
+    }
+
     /**
      * POST /api/v1/resume/test-score
      * Test endpoint: accepts plain text resume + JD (no file upload needed).
@@ -207,4 +379,13 @@ public class ResumeController {
                     ApiResponse.error("PROCESSING_ERROR", "Test score failed: " + e.getMessage()));
         }
     }
+
+    private ResumeRenderer findRenderer(String format) {
+        for (ResumeRenderer renderer : resumeRenderers) {
+            if (renderer.getFormat().equalsIgnoreCase(format)) {
+                return renderer;
+            }
+        }
+        return null;
+    }
 }
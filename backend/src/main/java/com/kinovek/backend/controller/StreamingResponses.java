@@ -0,0 +1,42 @@
+package com.kinovek.backend.controller;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kinovek.backend.dto.ApiResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.UncheckedIOException;
+
+/**
+ * Error responses for endpoints that stream their body.
+ *
+ * Spring picks the streaming return value handler from the declared type, so such endpoints
+ * must return ResponseEntity&lt;StreamingResponseBody&gt; — with ResponseEntity&lt;?&gt; the body
+ * goes to the message converters, which cannot write a lambda, and every call ends in a 500.
+ * Their errors are therefore streamed as well, as the same ApiResponse JSON the other
+ * endpoints return, serialized with the application's ObjectMapper.
+ */
+@Component
+class StreamingResponses {
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    ResponseEntity<StreamingResponseBody> error(HttpStatus status, String code, String message) {
+        byte[] json;
+        try {
+            json = objectMapper.writeValueAsBytes(ApiResponse.error(code, message));
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+        return ResponseEntity.status(status)
+                .contentType(MediaType.APPLICATION_JSON)
+                .contentLength(json.length)
+                .body(out -> out.write(json));
+    }
+}
@@ -0,0 +1,41 @@
+package com.kinovek.backend.dto;
+
+/**
+ * Response of /resume/enhance-with-pdf: the same analysis as /resume/enhance plus a
+ * download handle for the enhanced PDF (GET /resume/download/{token}).
+ */
+public class EnhanceWithPdfResponse {
+
+    private boolean success;
+    private EnhanceResponse analysis;
+    private Download download;
+
+    public static class Download {
+        private String token;
+        private String downloadPath;
+        private String fileName;
+        private long expiresInSeconds;
+
+        public String getToken() { return token; }
+        public void setToken(String token) { this.token = token; }
+
+        public String getDownloadPath() { return downloadPath; }
+        public void setDownloadPath(String downloadPath) { this.downloadPath = downloadPath; }
+
+        public String getFileName() { return fileName; }
+        public void setFileName(String fileName) { this.fileName = fileName; }
+
+        public long getExpiresInSeconds() { return expiresInSeconds; }
+        public void setExpiresInSeconds(long expiresInSeconds) { this.expiresInSeconds = expiresInSeconds; }
+    }
+
+    // Getters and Setters
+    public boolean isSuccess() { return success; }
+    public void setSuccess(boolean success) { this.success = success; }
+
+    public EnhanceResponse getAnalysis() { return analysis; }
+    public void setAnalysis(EnhanceResponse analysis) { this.analysis = analysis; }
+
+    public Download getDownload() { return download; }
+    public void setDownload(Download download) { this.download = download; }
+}
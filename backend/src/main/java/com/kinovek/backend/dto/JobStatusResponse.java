@@ -0,0 +1,52 @@
+package com.kinovek.backend.dto;
+
+import com.kinovek.backend.model.ResumeJob;
+import com.kinovek.backend.model.ResumeJobSummary;
+
+import java.time.Instant;
+
+public class JobStatusResponse {
+
+    private String id;
+    private ResumeJob.Type type;
+    private ResumeJob.Status status;
+    private Instant createdAt;
+    private Instant startedAt;
+    private Instant finishedAt;
+    private Instant expiresAt;
+    private String resultPath;
+    private String errorCode;
+    private String errorMessage;
+
+    /**
+     * Build the response for a job. resultPath (relative to /api/v1) is only set once the result can be downloaded.
+     */
+    public static JobStatusResponse from(ResumeJobSummary job) {
+        JobStatusResponse response = new JobStatusResponse();
+        response.id = job.getId();
+        response.type = job.getType();
+        response.status = job.getStatus();
+        response.createdAt = job.getCreatedAt();
+        response.startedAt = job.getStartedAt();
+        response.finishedAt = job.getFinishedAt();
+        response.expiresAt = job.getExpiresAt();
+        if (job.getStatus() == ResumeJob.Status.SUCCEEDED) {
+            response.resultPath = "/jobs/" + job.getId() + "/result";
+        }
+        response.errorCode = job.getErrorCode();
+        response.errorMessage = job.getErrorMessage();
+        return response;
+    }
+
+    // Getters
+    public String getId() { return id; }
+    public ResumeJob.Type getType() { return type; }
+    public ResumeJob.Status getStatus() { return status; }
+    public Instant getCreatedAt() { return createdAt; }
+    public Instant getStartedAt() { return startedAt; }
+    public Instant getFinishedAt() { return finishedAt; }
+    public Instant getExpiresAt() { return expiresAt; }
+    public String getResultPath() { return resultPath; }
+    public String getErrorCode() { return errorCode; }
+    public String getErrorMessage() { return errorMessage; }
+}
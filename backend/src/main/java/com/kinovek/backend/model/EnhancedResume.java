@@ -0,0 +1,55 @@
+package com.kinovek.backend.model;
+
+import com.kinovek.backend.util.KeywordMatcher;
+
+import java.text.Normalizer;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Output of the enhance pipeline (extract → parse → match → rewrite), ready for any ResumeRenderer.
+ */
+public class EnhancedResume {
+
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern UNSAFE_FILE_NAME_CHARS = Pattern.compile("[^A-Za-z0-9_-]");
+
+    private final String resumeText;
+    private final KeywordMatcher.MatchResult matchResult;
+    private final Map<String, Object> resumeData;
+    private final boolean fresher;
+
+    public EnhancedResume(String resumeText, KeywordMatcher.MatchResult matchResult,
+                          Map<String, Object> resumeData, boolean fresher) {
+        this.resumeText = resumeText;
+        this.matchResult = matchResult;
+        this.resumeData = resumeData;
+        this.fresher = fresher;
+    }
+
+    public String getResumeText() { return resumeText; }
+    public KeywordMatcher.MatchResult getMatchResult() { return matchResult; }
+    public Map<String, Object> getResumeData() { return resumeData; }
+    public boolean isFresher() { return fresher; }
+
+    /**
+     * Candidate name reduced to [A-Za-z0-9_-] for file and ZIP entry names: whitespace becomes
+     * underscores, accents are dropped and anything else (slashes, dots, quotes) is removed.
+     * "User" when unknown or nothing is left. e.g. "Rahul Sharma" → "Rahul_Sharma"
+     */
+    public String getFileNameBase() {
+        Object personalInfo = resumeData.get("personalInfo");
+        if (personalInfo instanceof Map) {
+            Object nameObj = ((Map<?, ?>) personalInfo).get("fullName");
+            if (nameObj != null) {
+                String name = Normalizer.normalize(nameObj.toString().trim(), Normalizer.Form.NFKD);
+                name = COMBINING_MARKS.matcher(name).replaceAll("");
+                name = UNSAFE_FILE_NAME_CHARS.matcher(name.replaceAll("\\s+", "_")).replaceAll("");
+                if (name.chars().anyMatch(Character::isLetterOrDigit)) {
+                    return name;
+                }
+            }
+        }
+        return "User";
+    }
+}
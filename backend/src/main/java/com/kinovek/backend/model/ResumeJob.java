@@ -0,0 +1,125 @@
+package com.kinovek.backend.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Lob;
+import jakarta.persistence.Table;
+
+import java.time.Instant;
+
+/**
+ * A queued unit of heavy work (enhance-pdf, ats-convert, cover letter) and, once done, its result.
+ * The table doubles as the job queue: workers claim QUEUED rows oldest first.
+ */
+@Entity
+@Table(name = "resume_jobs", indexes = {
+        @Index(name = "idx_resume_jobs_status_created", columnList = "status, createdAt"),
+        @Index(name = "idx_resume_jobs_expires", columnList = "expiresAt")
+})
+public class ResumeJob implements ResumeJobSummary {
+
+    public enum Type { ENHANCE_PDF, ATS_CONVERT, COVER_LETTER }
+
+    public enum Status {
+        QUEUED, RUNNING, SUCCEEDED, FAILED;
+
+        public boolean isFinished() {
+            return this == SUCCEEDED || this == FAILED;
+        }
+    }
+
+    @Id
+    @Column(length = 36)
+    private String id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private Type type;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private Status status;
+
+    // Input — cleared once the job has run
+    private String fileName;
+
+    @Lob
+    private byte[] input;
+
+    @Lob
+    @Column(columnDefinition = "CLOB")
+    private String jobDescription;
+
+    // Result
+    private String resultFileName;
+    private String resultContentType;
+
+    @Lob
+    private byte[] result;
+
+    private String errorCode;
+
+    @Column(length = 1000)
+    private String errorMessage;
+
+    // Upload size while queued, result size once finished; counts against kinovek.jobs.max-stored-mb
+    private long storedBytes;
+
+    private Instant createdAt;
+    private Instant startedAt;
+    private Instant finishedAt;
+    private Instant expiresAt;
+
+    // Getters and Setters
+    public String getId() { return id; }
+    public void setId(String id) { this.id = id; }
+
+    public Type getType() { return type; }
+    public void setType(Type type) { this.type = type; }
+
+    public Status getStatus() { return status; }
+    public void setStatus(Status status) { this.status = status; }
+
+    public String getFileName() { return fileName; }
+    public void setFileName(String fileName) { this.fileName = fileName; }
+
+    public byte[] getInput() { return input; }
+    public void setInput(byte[] input) { this.input = input; }
+
+    public String getJobDescription() { return jobDescription; }
+    public void setJobDescription(String jobDescription) { this.jobDescription = jobDescription; }
+
+    public String getResultFileName() { return resultFileName; }
+    public void setResultFileName(String resultFileName) { this.resultFileName = resultFileName; }
+
+    public String getResultContentType() { return resultContentType; }
+    public void setResultContentType(String resultContentType) { this.resultContentType = resultContentType; }
+
+    public byte[] getResult() { return result; }
+    public void setResult(byte[] result) { this.result = result; }
+
+    public String getErrorCode() { return errorCode; }
+    public void setErrorCode(String errorCode) { this.errorCode = errorCode; }
+
+    public String getErrorMessage() { return errorMessage; }
+    public void setErrorMessage(String errorMessage) { this.errorMessage = errorMessage; }
+
+    public long getStoredBytes() { return storedBytes; }
+    public void setStoredBytes(long storedBytes) { this.storedBytes = storedBytes; }
+
+    public Instant getCreatedAt() { return createdAt; }
+    public void setCreatedAt(Instant createdAt) { this.createdAt = createdAt; }
+
+    public Instant getStartedAt() { return startedAt; }
+    public void setStartedAt(Instant startedAt) { this.startedAt = startedAt; }
+
+    public Instant getFinishedAt() { return finishedAt; }
+    public void setFinishedAt(Instant finishedAt) { this.finishedAt = finishedAt; }
+
+    public Instant getExpiresAt() { return expiresAt; }
+    public void setExpiresAt(Instant expiresAt) { this.expiresAt = expiresAt; }
+}
@@ -0,0 +1,18 @@
+package com.kinovek.backend.model;
+
+import java.time.Instant;
+
+/**
+ * Job metadata without the input/result blobs — what status polling reads.
+ */
+public interface ResumeJobSummary {
+    String getId();
+    ResumeJob.Type getType();
+    ResumeJob.Status getStatus();
+    String getErrorCode();
+    String getErrorMessage();
+    Instant getCreatedAt();
+    Instant getStartedAt();
+    Instant getFinishedAt();
+    Instant getExpiresAt();
+}
@@ -0,0 +1,28 @@
+package com.kinovek.backend.observability;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.MDC;
+import org.slf4j.Marker;
+
+/**
+ * Lets com.kinovek DEBUG lines through for requests sampled by {@link RequestTraceInterceptor},
+ * whatever the configured level. Everything else is left to the normal level checks.
+ *
+ * Registered in logback-spring.xml. Runs on every log call, so it checks the cheap things first.
+ */
+public class DetailSamplingTurboFilter extends TurboFilter {
+
+    private static final String PACKAGE_PREFIX = "com.kinovek.";
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params,
+                              Throwable t) {
+        if (level != Level.DEBUG || !logger.getName().startsWith(PACKAGE_PREFIX)) {
+            return FilterReply.NEUTRAL;
+        }
+        return MDC.get(RequestTraceInterceptor.DETAIL_MDC_KEY) != null ? FilterReply.ACCEPT : FilterReply.NEUTRAL;
+    }
+}
@@ -0,0 +1,118 @@
+package com.kinovek.backend.observability;
+
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * On-demand Java Flight Recorder recordings with the JDK "profile" settings plus the
+ * {@link PipelineEvents}. One recording at a time, bounded in duration, size and age;
+ * the last one can be dumped until the next one starts.
+ */
+@Service
+@ConditionalOnProperty(name = "kinovek.admin.jfr.enabled", havingValue = "true")
+public class FlightRecorderService {
+
+    private static final Logger log = LoggerFactory.getLogger(FlightRecorderService.class);
+
+    @Value("${kinovek.admin.jfr.max-duration-seconds:300}")
+    private long maxDurationSeconds;
+
+    @Value("${kinovek.admin.jfr.max-size-mb:100}")
+    private long maxSizeMb;
+
+    private Recording recording;
+
+    /** A recording is already running. */
+    public static class RecordingInProgressException extends RuntimeException {
+        public RecordingInProgressException(String message) {
+            super(message);
+        }
+    }
+
+    /**
+     * Starts a new recording, discarding the previous one.
+     *
+     * @param durationSeconds how long to record, capped at kinovek.admin.jfr.max-duration-seconds
+     */
+    public synchronized Map<String, Object> start(long durationSeconds) throws IOException, ParseException {
+        if (recording != null && recording.getState() == RecordingState.RUNNING) {
+            throw new RecordingInProgressException("A recording is already running until "
+                    + recording.getStartTime().plus(recording.getDuration()));
+        }
+        if (recording != null) {
+            recording.close();
+        }
+
+        long seconds = Math.max(1, Math.min(durationSeconds, maxDurationSeconds));
+        Recording next = new Recording(Configuration.getConfiguration("profile"));
+        next.setName("kinovek-on-demand");
+        next.setDuration(Duration.ofSeconds(seconds));
+        next.setMaxSize(maxSizeMb * 1024 * 1024);
+        next.setMaxAge(Duration.ofSeconds(seconds));
+        next.setToDisk(true);
+        for (Class<?> type : PipelineEvents.class.getClasses()) {
+            next.enable(type.getAnnotation(jdk.jfr.Name.class).value());
+        }
+        next.start();
+        recording = next;
+        log.info("=== JFR recording started for {}s ===", seconds);
+        return status();
+    }
+
+    /** State of the current (or last) recording. */
+    public synchronized Map<String, Object> status() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        if (recording == null) {
+            status.put("state", "NONE");
+            return status;
+        }
+        status.put("state", recording.getState().name());
+        status.put("startedAt", recording.getStartTime());
+        Instant stop = recording.getStopTime();
+        if (stop != null) {
+            status.put("stoppedAt", stop);
+        }
+        status.put("durationSeconds", recording.getDuration().toSeconds());
+        status.put("sizeBytes", recording.getSize());
+        return status;
+    }
+
+    /**
+     * Writes what the current (or last) recording holds so far to a temporary .jfr file.
+     * The caller deletes the file once it has been sent.
+     *
+     * @return the file, or null when nothing was recorded yet
+     */
+    public synchronized Path dump() throws IOException {
+        if (recording == null || recording.getState() == RecordingState.CLOSED
+                || recording.getState() == RecordingState.NEW) {
+            return null;
+        }
+        Path file = Files.createTempFile("kinovek-", ".jfr");
+        recording.dump(file);
+        return file;
+    }
+
+    @PreDestroy
+    public synchronized void shutdown() {
+        if (recording != null) {
+            recording.close();
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.kinovek.backend.observability;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Java Flight Recorder events for the resume pipeline, shown under "Kinovek / Pipeline"
+ * in JDK Mission Control. Emitting is a no-op unless a recording has them enabled.
+ *
+ * Usage: create, {@code begin()}, do the work, set the fields, {@code commit()}.
+ */
+public final class PipelineEvents {
+
+    private PipelineEvents() {
+    }
+
+    @Name("kinovek.Extraction")
+    @Label("Document Extraction")
+    @Description("Text extraction from an uploaded PDF or DOCX")
+    @Category({"Kinovek", "Pipeline"})
+    @StackTrace(false)
+    public static final class Extraction extends Event {
+        @Label("Format")
+        public String format;
+
+        @Label("Upload Size")
+        @DataAmount
+        public long bytes;
+
+        @Label("Pages")
+        @Description("-1 for DOCX")
+        public int pages;
+
+        @Label("Extracted Characters")
+        public int chars;
+    }
+
+    @Name("kinovek.StructureParse")
+    @Label("Structure Parse")
+    @Description("Splitting resume text into sections")
+    @Category({"Kinovek", "Pipeline"})
+    @StackTrace(false)
+    public static final class StructureParse extends Event {
+        @Label("Sections")
+        public int sections;
+    }
+
+    @Name("kinovek.KeywordMatch")
+    @Label("Keyword Match")
+    @Description("Matching job description keywords against a resume")
+    @Category({"Kinovek", "Pipeline"})
+    @StackTrace(false)
+    public static final class KeywordMatch extends Event {
+        @Label("Job Description Length")
+        public int jdLength;
+
+        @Label("JD Keywords")
+        public int jdKeywords;
+
+        @Label("Matched Keywords")
+        public int matched;
+    }
+
+    @Name("kinovek.Scoring")
+    @Label("ATS Scoring")
+    @Description("ATS score from a keyword match, formatting and section checks")
+    @Category({"Kinovek", "Pipeline"})
+    @StackTrace(false)
+    public static final class Scoring extends Event {
+        @Label("Overall Score")
+        public int overallScore;
+
+        @Label("Resume Length")
+        public int resumeChars;
+    }
+
+    @Name("kinovek.Rewrite")
+    @Label("Resume Rewrite")
+    @Description("Rewriting parsed resume sections for a job description")
+    @Category({"Kinovek", "Pipeline"})
+    @StackTrace(false)
+    public static final class Rewrite extends Event {
+        @Label("Sections")
+        public int sections;
+
+        @Label("Fresher")
+        public boolean fresher;
+    }
+
+    @Name("kinovek.Render")
+    @Label("PDF Render")
+    @Description("One PDF document written through the OpenPDF engine")
+    @Category({"Kinovek", "Pipeline"})
+    @StackTrace(false)
+    public static final class Render extends Event {
+        @Label("Pages")
+        public int pages;
+
+        @Label("Output Size")
+        @DataAmount
+        public long bytes;
+    }
+}
@@ -0,0 +1,194 @@
+package com.kinovek.backend.observability;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Timers and size distributions for the resume pipeline, published under kinovek.pipeline.*.
+ *
+ * Stages are timed with try-with-resources around the work:
+ * <pre>
+ * try (PipelineMetrics.Stage stage = pipelineMetrics.start(PipelineMetrics.EXTRACT)) { ... }
+ * </pre>
+ * Every meter publishes p50/p99 plus a percentile histogram, so /actuator/prometheus can
+ * aggregate quantiles across instances.
+ *
+ * With kinovek.cost.enabled each stage also records the thread CPU time and bytes it
+ * allocated, and each resume/cover-letter request its total cost, tagged with endpoint and
+ * upload size bucket (see {@link #recordRequestCost}).
+ */
+@Component
+public class PipelineMetrics {
+
+    public static final String EXTRACT = "extract";
+    public static final String PARSE = "parse";
+    public static final String MATCH = "match";
+    public static final String REWRITE = "rewrite";
+    public static final String RENDER = "render";
+
+    private static final double[] PERCENTILES = {0.5, 0.99};
+    private static final double MIB = 1024 * 1024;
+
+    // Upper bounds of the upload size buckets used to tag request cost
+    private static final long[] SIZE_BUCKETS = {64 * 1024, 256 * 1024, 1024 * 1024, 4 * 1024 * 1024};
+    private static final String[] SIZE_BUCKET_NAMES = {"0-64KiB", "64-256KiB", "256KiB-1MiB", "1-4MiB", "4MiB+"};
+
+    private final MeterRegistry registry;
+    private final boolean costEnabled;
+    private final Map<String, Timer> stageTimers = new ConcurrentHashMap<>();
+    private final Map<String, Timer> cpuTimers = new ConcurrentHashMap<>();
+    private final Map<String, DistributionSummary> summaries = new ConcurrentHashMap<>();
+
+    @Autowired
+    public PipelineMetrics(MeterRegistry registry,
+                           @Value("${kinovek.cost.enabled:true}") boolean costEnabled) {
+        this.registry = registry;
+        this.costEnabled = costEnabled;
+    }
+
+    /** A running stage; closing it records the elapsed time (and adds it to the request trace, if any). */
+    public final class Stage implements AutoCloseable {
+        private final String name;
+        private final RequestTrace trace = RequestTrace.current();
+        private final ThreadCost.Sample startCost = costEnabled ? ThreadCost.sample() : ThreadCost.Sample.UNKNOWN;
+        private final long startNanos = System.nanoTime();
+
+        private Stage(String name) {
+            this.name = name;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        @Override
+        public void close() {
+            long elapsed = System.nanoTime() - startNanos;
+            stageTimer(name).record(elapsed, TimeUnit.NANOSECONDS);
+            ThreadCost.Sample cost = startCost != ThreadCost.Sample.UNKNOWN
+                    ? ThreadCost.sample().since(startCost) : ThreadCost.Sample.UNKNOWN;
+            if (cost.cpuNanos() >= 0) {
+                cpuTimer("kinovek.pipeline.stage.cpu", "CPU time of one resume pipeline stage",
+                        "stage", name).record(cost.cpuNanos(), TimeUnit.NANOSECONDS);
+            }
+            if (cost.allocatedBytes() >= 0) {
+                summary("kinovek.pipeline.stage.allocated", "bytes", "Bytes allocated by one resume pipeline stage",
+                        1_024, 1_024 * MIB, "stage", name).record(cost.allocatedBytes());
+            }
+            if (trace != null) {
+                trace.recordStage(name, elapsed, cost);
+            }
+        }
+    }
+
+    /** Starts timing one pipeline stage. */
+    public Stage start(String stage) {
+        return new Stage(stage);
+    }
+
+    public boolean isCostEnabled() {
+        return costEnabled;
+    }
+
+    /**
+     * Total CPU time and allocation of one request, across every thread that worked for it.
+     *
+     * @param endpoint   matched request mapping, e.g. /api/v1/resume/enhance-pdf
+     * @param sizeBucket from {@link #sizeBucket(long)}
+     * @param outcome    status class, e.g. 2xx
+     */
+    public void recordRequestCost(String endpoint, String sizeBucket, String outcome, ThreadCost.Sample cost) {
+        if (cost.cpuNanos() >= 0) {
+            cpuTimer("kinovek.request.cpu", "CPU time spent on one request",
+                    "endpoint", endpoint, "size", sizeBucket, "outcome", outcome)
+                    .record(cost.cpuNanos(), TimeUnit.NANOSECONDS);
+        }
+        if (cost.allocatedBytes() >= 0) {
+            summary("kinovek.request.allocated", "bytes", "Bytes allocated while handling one request",
+                    1_024, 4_096 * MIB, "endpoint", endpoint, "size", sizeBucket, "outcome", outcome)
+                    .record(cost.allocatedBytes());
+        }
+    }
+
+    /** Coarse upload size bucket for tagging, so cost can be compared across input sizes. */
+    public static String sizeBucket(long bytes) {
+        if (bytes < 0) return "unknown";
+        for (int i = 0; i < SIZE_BUCKETS.length; i++) {
+            if (bytes < SIZE_BUCKETS[i]) return SIZE_BUCKET_NAMES[i];
+        }
+        return SIZE_BUCKET_NAMES[SIZE_BUCKETS.length];
+    }
+
+    /**
+     * Size of an uploaded resume and of the text extracted from it.
+     *
+     * @param format "pdf" or "docx"
+     * @param pages  page count, or a negative number when the format has no pages (DOCX)
+     */
+    public void recordUpload(String format, long bytes, int pages, int chars) {
+        summary("kinovek.pipeline.input.size", "bytes", "Uploaded resume size", 1_024, 16 * MIB, "format", format)
+                .record(bytes);
+        summary("kinovek.pipeline.input.chars", "chars", "Characters extracted from the resume", 100, 1_000_000,
+                "format", format)
+                .record(chars);
+        if (pages >= 0) {
+            summary("kinovek.pipeline.input.pages", "pages", "Pages in the uploaded resume", 1, 100, "format", format)
+                    .record(pages);
+        }
+    }
+
+    /** Length of a job description matched against a resume. */
+    public void recordJobDescription(int chars) {
+        summary("kinovek.pipeline.jd.length", "chars", "Job description length", 100, 100_000, "format", "text")
+                .record(chars);
+    }
+
+    /** Size of a rendered document. */
+    public void recordOutput(String format, long bytes) {
+        summary("kinovek.pipeline.output.size", "bytes", "Rendered document size", 1_024, 16 * MIB, "format", format)
+                .record(bytes);
+    }
+
+    private Timer stageTimer(String stage) {
+        return stageTimers.computeIfAbsent(stage, s -> Timer.builder("kinovek.pipeline.stage")
+                .description("Time spent in one resume pipeline stage")
+                .tag("stage", s)
+                .publishPercentiles(PERCENTILES)
+                .publishPercentileHistogram()
+                .register(registry));
+    }
+
+    private Timer cpuTimer(String name, String description, String... tags) {
+        return cpuTimers.computeIfAbsent(name + "|" + String.join("|", tags), k -> Timer.builder(name)
+                .description(description)
+                .tags(tags)
+                .publishPercentiles(PERCENTILES)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofNanos(100_000))
+                .maximumExpectedValue(Duration.ofSeconds(60))
+                .register(registry));
+    }
+
+    // Expected range bounds the histogram buckets (the default range spans all of long)
+    private DistributionSummary summary(String name, String unit, String description,
+                                        double minExpected, double maxExpected, String... tags) {
+        return summaries.computeIfAbsent(name + "|" + String.join("|", tags), k -> DistributionSummary.builder(name)
+                .description(description)
+                .baseUnit(unit)
+                .tags(tags)
+                .publishPercentiles(PERCENTILES)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(minExpected)
+                .maximumExpectedValue(maxExpected)
+                .register(registry));
+    }
+}
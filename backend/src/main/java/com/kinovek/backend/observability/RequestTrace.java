@@ -0,0 +1,195 @@
+package com.kinovek.backend.observability;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Stage timings for the request being handled on the current thread, reported back in the
+ * Server-Timing header and — in debug mode — as a "trace" object in the JSON body.
+ *
+ * Bound by {@link RequestTraceInterceptor}; {@link PipelineMetrics.Stage} and the request
+ * coalescer add to it. Without a bound trace every hook is a single ThreadLocal read.
+ *
+ * It also adds up the CPU time and allocation of the request across threads: every thread
+ * that works for the request (request thread, async body writer, render pool) measures its
+ * own share with a {@link Segment}.
+ */
+public final class RequestTrace {
+
+    private static final ThreadLocal<RequestTrace> CURRENT = new ThreadLocal<>();
+
+    private final boolean debug;
+    private final boolean costEnabled;
+    private final long startNanos = System.nanoTime();
+    private final List<StageTiming> stages = new ArrayList<>();
+    private final List<String> cacheHits = new ArrayList<>();
+    private long cpuNanos = -1;
+    private long allocatedBytes = -1;
+    private boolean published;
+
+    private record StageTiming(String name, long nanos, ThreadCost.Sample cost) {}
+
+    private RequestTrace(boolean debug, boolean costEnabled) {
+        this.debug = debug;
+        this.costEnabled = costEnabled;
+    }
+
+    /** Starts a trace for the request on this thread. */
+    static RequestTrace begin(boolean debug, boolean costEnabled) {
+        RequestTrace trace = new RequestTrace(debug, costEnabled);
+        CURRENT.set(trace);
+        return trace;
+    }
+
+    /** The trace of the request running on this thread, or null. */
+    public static RequestTrace current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Binds a trace to this thread (e.g. a pool thread doing work for the request),
+     * returning whatever was bound before so the caller can restore it.
+     */
+    public static RequestTrace bind(RequestTrace trace) {
+        RequestTrace previous = CURRENT.get();
+        if (trace == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(trace);
+        }
+        return previous;
+    }
+
+    static void clear() {
+        CURRENT.remove();
+    }
+
+    public boolean isDebug() {
+        return debug;
+    }
+
+    /**
+     * The share of one thread in this request's cost, from now until {@link Segment#close()}.
+     * Open and close it on the same thread; segments must not nest on one thread.
+     */
+    public Segment startSegment() {
+        return new Segment();
+    }
+
+    /** CPU time and allocation of all closed segments so far; -1 where nothing was measured. */
+    public synchronized ThreadCost.Sample cost() {
+        return new ThreadCost.Sample(cpuNanos, allocatedBytes);
+    }
+
+    /** True the first time only, so the cost is published once however the request ends. */
+    synchronized boolean markPublished() {
+        if (published) return false;
+        published = true;
+        return true;
+    }
+
+    synchronized void recordStage(String name, long nanos, ThreadCost.Sample cost) {
+        stages.add(new StageTiming(name, nanos, cost));
+    }
+
+    private synchronized void addCost(ThreadCost.Sample cost) {
+        if (cost.cpuNanos() >= 0) {
+            cpuNanos = Math.max(cpuNanos, 0) + cost.cpuNanos();
+        }
+        if (cost.allocatedBytes() >= 0) {
+            allocatedBytes = Math.max(allocatedBytes, 0) + cost.allocatedBytes();
+        }
+    }
+
+    /** See {@link #startSegment()}. Closing twice is harmless. */
+    public final class Segment implements AutoCloseable {
+        private final ThreadCost.Sample start = costEnabled ? ThreadCost.sample() : ThreadCost.Sample.UNKNOWN;
+        private boolean closed;
+
+        private Segment() {
+        }
+
+        @Override
+        public void close() {
+            if (closed) return;
+            closed = true;
+            if (start != ThreadCost.Sample.UNKNOWN) {
+                addCost(ThreadCost.sample().since(start));
+            }
+        }
+    }
+
+    /** Notes that part of the work was served from a cache or a shared in-flight result. */
+    public synchronized void recordCacheHit(String name) {
+        cacheHits.add(name);
+    }
+
+    /**
+     * Server-Timing value, e.g. {@code extract;dur=41.2, match;dur=3.0, total;dur=57.9}.
+     * Repeated stages are summed.
+     */
+    public synchronized String toServerTiming() {
+        Map<String, Long> byStage = new LinkedHashMap<>();
+        for (StageTiming stage : stages) {
+            byStage.merge(stage.name(), stage.nanos(), Long::sum);
+        }
+        StringBuilder header = new StringBuilder();
+        for (Map.Entry<String, Long> entry : byStage.entrySet()) {
+            header.append(entry.getKey()).append(";dur=").append(millis(entry.getValue())).append(", ");
+        }
+        for (String hit : cacheHits) {
+            header.append(hit).append(";desc=\"cache hit\", ");
+        }
+        return header.append("total;dur=").append(millis(System.nanoTime() - startNanos)).toString();
+    }
+
+    /**
+     * Logfmt fields for the per-request summary line, e.g.
+     * {@code totalMs=57.9 stages=extract:41.2,match:3.0 cacheHits=-}. Repeated stages are summed.
+     */
+    public synchronized String toLogFields() {
+        Map<String, Long> byStage = new LinkedHashMap<>();
+        for (StageTiming stage : stages) {
+            byStage.merge(stage.name(), stage.nanos(), Long::sum);
+        }
+        StringBuilder fields = new StringBuilder("totalMs=").append(millis(System.nanoTime() - startNanos))
+                .append(" stages=");
+        if (byStage.isEmpty()) {
+            fields.append('-');
+        }
+        for (Map.Entry<String, Long> entry : byStage.entrySet()) {
+            if (fields.charAt(fields.length() - 1) != '=') fields.append(',');
+            fields.append(entry.getKey()).append(':').append(millis(entry.getValue()));
+        }
+        return fields.append(" cacheHits=").append(cacheHits.isEmpty() ? "-" : String.join(",", cacheHits)).toString();
+    }
+
+    /** Compact trace for the debug response body. */
+    public synchronized Map<String, Object> toMap() {
+        List<Map<String, Object>> stageList = new ArrayList<>();
+        for (StageTiming stage : stages) {
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("stage", stage.name());
+            entry.put("ms", Double.valueOf(millis(stage.nanos())));
+            if (stage.cost().cpuNanos() >= 0) {
+                entry.put("cpuMs", Double.valueOf(millis(stage.cost().cpuNanos())));
+            }
+            if (stage.cost().allocatedBytes() >= 0) {
+                entry.put("allocatedBytes", stage.cost().allocatedBytes());
+            }
+            stageList.add(entry);
+        }
+        Map<String, Object> trace = new LinkedHashMap<>();
+        trace.put("totalMs", Double.valueOf(millis(System.nanoTime() - startNanos)));
+        trace.put("stages", stageList);
+        trace.put("cacheHits", List.copyOf(cacheHits));
+        return trace;
+    }
+
+    private static String millis(long nanos) {
+        return String.format(Locale.ROOT, "%.1f", nanos / 1_000_000.0);
+    }
+}
@@ -0,0 +1,42 @@
+package com.kinovek.backend.observability;
+
+import org.slf4j.MDC;
+import org.springframework.lang.NonNull;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+
+import java.util.concurrent.Callable;
+
+/**
+ * Carries the {@link RequestTrace} onto the async thread that writes a StreamingResponseBody
+ * (or runs a Callable), so stages rendered there are traced and their cost is added to the
+ * request's. Requests sampled for DEBUG detail keep their MDC flag there too.
+ */
+public class RequestTraceCallableInterceptor implements CallableProcessingInterceptor {
+
+    private static final String SEGMENT_ATTRIBUTE = RequestTraceCallableInterceptor.class.getName() + ".segment";
+
+    @Override
+    public <T> void preProcess(@NonNull NativeWebRequest request, @NonNull Callable<T> task) {
+        if (request.getAttribute(RequestTraceInterceptor.TRACE_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST)
+                instanceof RequestTrace trace) {
+            RequestTrace.bind(trace);
+            request.setAttribute(SEGMENT_ATTRIBUTE, trace.startSegment(), RequestAttributes.SCOPE_REQUEST);
+        }
+        if (request.getAttribute(RequestTraceInterceptor.DETAIL_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) != null) {
+            MDC.put(RequestTraceInterceptor.DETAIL_MDC_KEY, "true");
+        }
+    }
+
+    @Override
+    public <T> void postProcess(@NonNull NativeWebRequest request, @NonNull Callable<T> task, Object concurrentResult) {
+        if (request.getAttribute(SEGMENT_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST)
+                instanceof RequestTrace.Segment segment) {
+            segment.close();
+            request.removeAttribute(SEGMENT_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        }
+        RequestTrace.clear();
+        MDC.remove(RequestTraceInterceptor.DETAIL_MDC_KEY);
+    }
+}
@@ -0,0 +1,130 @@
+package com.kinovek.backend.observability;
+
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.lang.NonNull;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Binds a {@link RequestTrace} to the request thread for the resume and cover-letter endpoints.
+ *
+ * JSON and byte[] responses get their Server-Timing header from {@link ServerTimingAdvice};
+ * streamed responses get it here, before the first bytes are written. For a streamed PDF
+ * that means the header stops short of the render stage, which runs while the body is
+ * written and is usually the largest cost; the summary line below includes it. Debug mode
+ * (kinovek.trace.debug-enabled plus an "X-Debug-Trace: true" request header) also
+ * adds the trace to JSON bodies.
+ *
+ * When the request completes (after the async body has been written, for streamed
+ * responses) its CPU time and allocation are published via
+ * {@link PipelineMetrics#recordRequestCost}, and one logfmt summary line is written to the
+ * "kinovek.request" logger.
+ *
+ * A sampled fraction of requests (kinovek.logging.detail-sample-rate, plus every debug-mode
+ * request) is flagged with the {@value #DETAIL_MDC_KEY} MDC key, which lets their
+ * com.kinovek DEBUG lines through {@link DetailSamplingTurboFilter}.
+ */
+public class RequestTraceInterceptor implements AsyncHandlerInterceptor {
+
+    public static final String DEBUG_HEADER = "X-Debug-Trace";
+    public static final String SERVER_TIMING = "Server-Timing";
+
+    /** MDC key set on requests sampled for DEBUG detail. */
+    public static final String DETAIL_MDC_KEY = "kinovek.detail";
+
+    /** Request attribute holding the trace, so async threads can pick it up. */
+    static final String TRACE_ATTRIBUTE = RequestTraceInterceptor.class.getName() + ".trace";
+    /** Request attribute set when the request was sampled for DEBUG detail. */
+    static final String DETAIL_ATTRIBUTE = RequestTraceInterceptor.class.getName() + ".detail";
+    private static final String SEGMENT_ATTRIBUTE = RequestTraceInterceptor.class.getName() + ".segment";
+
+    private static final Logger requestLog = LoggerFactory.getLogger("kinovek.request");
+
+    private final boolean debugEnabled;
+    private final double detailSampleRate;
+    private final PipelineMetrics pipelineMetrics;
+
+    public RequestTraceInterceptor(boolean debugEnabled, double detailSampleRate, PipelineMetrics pipelineMetrics) {
+        this.debugEnabled = debugEnabled;
+        this.detailSampleRate = detailSampleRate;
+        this.pipelineMetrics = pipelineMetrics;
+    }
+
+    @Override
+    public boolean preHandle(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                             @NonNull Object handler) {
+        // Async re-dispatch: the trace was bound to the threads that did the work
+        if (request.getDispatcherType() == DispatcherType.ASYNC) return true;
+
+        boolean debug = debugEnabled && "true".equalsIgnoreCase(request.getHeader(DEBUG_HEADER));
+        RequestTrace trace = RequestTrace.begin(debug, pipelineMetrics.isCostEnabled());
+        request.setAttribute(TRACE_ATTRIBUTE, trace);
+        request.setAttribute(SEGMENT_ATTRIBUTE, trace.startSegment());
+        if (debug || (detailSampleRate > 0 && ThreadLocalRandom.current().nextDouble() < detailSampleRate)) {
+            request.setAttribute(DETAIL_ATTRIBUTE, Boolean.TRUE);
+            MDC.put(DETAIL_MDC_KEY, "true");
+        }
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                                               @NonNull Object handler) {
+        closeSegment(request);
+        RequestTrace trace = RequestTrace.current();
+        if (trace != null && !response.isCommitted()) {
+            response.setHeader(SERVER_TIMING, trace.toServerTiming());
+        }
+        RequestTrace.clear();
+        MDC.remove(DETAIL_MDC_KEY);
+    }
+
+    @Override
+    public void afterCompletion(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+                                @NonNull Object handler, Exception ex) {
+        closeSegment(request);
+        RequestTrace.clear();
+        MDC.remove(DETAIL_MDC_KEY);
+        // Runs once more on the async re-dispatch, when every thread has added its share
+        if (!request.isAsyncStarted()) {
+            finish(request, response);
+        }
+    }
+
+    private void closeSegment(HttpServletRequest request) {
+        if (request.getAttribute(SEGMENT_ATTRIBUTE) instanceof RequestTrace.Segment segment) {
+            segment.close();
+            request.removeAttribute(SEGMENT_ATTRIBUTE);
+        }
+    }
+
+    private void finish(HttpServletRequest request, HttpServletResponse response) {
+        if (!(request.getAttribute(TRACE_ATTRIBUTE) instanceof RequestTrace trace) || !trace.markPublished()) {
+            return;
+        }
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String endpoint = pattern != null ? pattern.toString() : "UNKNOWN";
+        long bytesIn = request.getContentLengthLong();
+        ThreadCost.Sample cost = trace.cost();
+
+        if (pipelineMetrics.isCostEnabled()) {
+            pipelineMetrics.recordRequestCost(endpoint, PipelineMetrics.sizeBucket(bytesIn),
+                    response.getStatus() / 100 + "xx", cost);
+        }
+        if (requestLog.isInfoEnabled()) {
+            requestLog.info("method={} endpoint={} status={} bytesIn={} cpuMs={} allocatedKiB={} {}",
+                    request.getMethod(), endpoint, response.getStatus(), bytesIn,
+                    cost.cpuNanos() >= 0 ? String.format(Locale.ROOT, "%.1f", cost.cpuNanos() / 1_000_000.0) : "-",
+                    cost.allocatedBytes() >= 0 ? cost.allocatedBytes() / 1024 : "-",
+                    trace.toLogFields());
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.kinovek.backend.observability;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.lang.NonNull;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Adds the Server-Timing header to traced responses just before the body is written and,
+ * in debug mode, a "trace" field to JSON object bodies.
+ */
+@RestControllerAdvice
+public class ServerTimingAdvice implements ResponseBodyAdvice<Object> {
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Override
+    public boolean supports(@NonNull MethodParameter returnType,
+                            @NonNull Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Object beforeBodyWrite(Object body, @NonNull MethodParameter returnType,
+                                  @NonNull MediaType selectedContentType,
+                                  @NonNull Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  @NonNull ServerHttpRequest request, @NonNull ServerHttpResponse response) {
+        RequestTrace trace = RequestTrace.current();
+        if (trace == null) return body;
+
+        response.getHeaders().set(RequestTraceInterceptor.SERVER_TIMING, trace.toServerTiming());
+
+        if (!trace.isDebug() || body == null
+                || !MappingJackson2HttpMessageConverter.class.isAssignableFrom(selectedConverterType)) {
+            return body;
+        }
+        Object tree = objectMapper.convertValue(body, Object.class);
+        if (!(tree instanceof Map)) return body;
+        Map<String, Object> withTrace = new LinkedHashMap<>((Map<String, Object>) tree);
+        withTrace.put("trace", trace.toMap());
+        return withTrace;
+    }
+}
@@ -0,0 +1,54 @@
+package com.kinovek.backend.observability;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * CPU time and allocated bytes of the current thread, from the HotSpot ThreadMXBean.
+ *
+ * Both counters are per thread, so a cost is always the difference of two samples taken on
+ * the same thread. Virtual threads are not measured (the JDK reports -1 for them), and
+ * neither is anything the JVM does not support — such values come back as -1.
+ */
+public final class ThreadCost {
+
+    private static final com.sun.management.ThreadMXBean THREADS = threadMXBean();
+
+    private ThreadCost() {
+    }
+
+    /** CPU nanoseconds and allocated bytes; -1 where not measured. */
+    public record Sample(long cpuNanos, long allocatedBytes) {
+
+        public static final Sample UNKNOWN = new Sample(-1, -1);
+
+        /** Cost between an earlier sample from the same thread and this one. */
+        public Sample since(Sample start) {
+            return new Sample(delta(start.cpuNanos, cpuNanos), delta(start.allocatedBytes, allocatedBytes));
+        }
+
+        private static long delta(long start, long end) {
+            return start >= 0 && end >= start ? end - start : -1;
+        }
+    }
+
+    /** Current counters of this thread. */
+    public static Sample sample() {
+        if (THREADS == null || Thread.currentThread().isVirtual()) {
+            return Sample.UNKNOWN;
+        }
+        return new Sample(THREADS.getCurrentThreadCpuTime(), THREADS.getCurrentThreadAllocatedBytes());
+    }
+
+    private static com.sun.management.ThreadMXBean threadMXBean() {
+        if (!(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean)) {
+            return null;
+        }
+        if (bean.isCurrentThreadCpuTimeSupported() && !bean.isThreadCpuTimeEnabled()) {
+            bean.setThreadCpuTimeEnabled(true);
+        }
+        if (bean.isThreadAllocatedMemorySupported() && !bean.isThreadAllocatedMemoryEnabled()) {
+            bean.setThreadAllocatedMemoryEnabled(true);
+        }
+        return bean;
+    }
+}
@@ -0,0 +1,40 @@
+package com.kinovek.backend.repository;
+
+import com.kinovek.backend.model.ResumeJob;
+import com.kinovek.backend.model.ResumeJobSummary;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+public interface ResumeJobRepository extends JpaRepository<ResumeJob, String> {
+
+    Optional<ResumeJobSummary> findSummaryById(String id);
+
+    @Query("select j.id from ResumeJob j where j.status = :status order by j.createdAt asc")
+    List<String> findIdsByStatus(@Param("status") ResumeJob.Status status, Pageable page);
+
+    /**
+     * Moves one job from one status to another. Returns 0 when it was no longer in {@code from}
+     * (e.g. another worker claimed it first).
+     */
+    @Transactional
+    @Modifying
+    @Query("update ResumeJob j set j.status = :to, j.startedAt = :startedAt where j.id = :id and j.status = :from")
+    int transition(@Param("id") String id, @Param("from") ResumeJob.Status from,
+                   @Param("to") ResumeJob.Status to, @Param("startedAt") Instant startedAt);
+
+    @Query("select coalesce(sum(j.storedBytes), 0) from ResumeJob j")
+    long sumStoredBytes();
+
+    @Transactional
+    @Modifying
+    @Query("delete from ResumeJob j where j.expiresAt < :now")
+    int deleteExpired(@Param("now") Instant now);
+}
@@ -25,8 +25,7 @@ public class ATSContentService {
                 throw new RuntimeException("ats_resume_content.json not found in resources!");
             }
             content = mapper.readTree(is);
-            System.out.println("✅ ATS Resume Content Database loaded successfully!");
-            System.out.println("   Industries: " + content.at("/summaryTemplates").size());
+            log.info("ATS Resume Content Database loaded | industries: {}", content.at("/summaryTemplates").size());
         } catch (Exception e) {
             throw new RuntimeException("Failed to load ATS Content: " + e.getMessage(), e);
         }
@@ -34,7 +33,7 @@ public class ATSContentService {
 
     // ===== DETECT INDUSTRY FROM JOB DESCRIPTION =====
     public String detectIndustry(String jobDescription) {
-        log.info("=== INDUSTRY DETECTION: JD length={} ===", jobDescription.length());
+        log.debug("=== INDUSTRY DETECTION: JD length={} ===", jobDescription.length());
         String jdLower = jobDescription.toLowerCase();
 
         Map<String, List<String>> industryKeywords = new LinkedHashMap<>();
@@ -64,7 +63,7 @@ public class ATSContentService {
                 bestMatch = entry.getKey();
             }
         }
-        log.info("=== INDUSTRY DETECTION: Result={} (score={}) ===", bestMatch, highestScore);
+        log.debug("=== INDUSTRY DETECTION: Result={} (score={}) ===", bestMatch, highestScore);
         return bestMatch;
     }
 
@@ -1,17 +1,17 @@
 package com.kinovek.backend.service;
 
-import org.apache.pdfbox.pdmodel.PDDocument;
-import org.apache.pdfbox.pdmodel.PDPage;
-import org.apache.pdfbox.pdmodel.PDPageContentStream;
-import org.apache.pdfbox.pdmodel.common.PDRectangle;
-import org.apache.pdfbox.pdmodel.font.PDType1Font;
-import org.apache.pdfbox.pdmodel.font.Standard14Fonts;
+import com.kinovek.backend.util.ATSTextNormalizer;
+import com.kinovek.backend.util.StandardFontMetrics;
+import com.lowagie.text.DocumentException;
+import com.lowagie.text.PageSize;
+import com.lowagie.text.pdf.PdfContentByte;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.util.*;
 import java.util.regex.Pattern;
 
@@ -21,6 +21,9 @@ public class ATSConverterService {
     @Autowired
     private ResumeParserService resumeParserService;
 
+    @Autowired
+    private PdfRenderingEngine pdfEngine;
+
     // Standard ATS-friendly section headers
     private static final Map<String, String> SECTION_HEADER_MAP = new LinkedHashMap<>();
     static {
@@ -35,11 +38,9 @@ public class ATSConverterService {
         SECTION_HEADER_MAP.put("references", "REFERENCES");
     }
 
-    // Patterns to detect non-ATS-friendly content
-    private static final Pattern TABLE_PATTERN = Pattern.compile("\\|.*\\|.*\\|", Pattern.MULTILINE);
-    private static final Pattern MULTIPLE_COLUMNS = Pattern.compile("\\t{2,}|\\s{4,}(?=\\S+\\s{4,}\\S+)");
-    private static final Pattern SPECIAL_CHARS = Pattern.compile("[\u2022\u25CF\u25CB\u25AA\u25AB\u2023\u2043]");
-    private static final Pattern MULTIPLE_BLANK_LINES = Pattern.compile("\n{3,}");
+    // Decorations stripped from a line before it is compared with the header aliases
+    private static final Pattern LEADING_DECORATION = Pattern.compile("^[\\-=_*#:]+");
+    private static final Pattern TRAILING_DECORATION = Pattern.compile("[\\-=_*#:]+$");
 
     /**
      * Converts a resume to an ATS-friendly PDF.
@@ -48,78 +49,57 @@ public class ATSConverterService {
      * @return byte array of the clean ATS-compliant PDF
      */
     public byte[] convertToATSFriendly(MultipartFile resumeFile) throws IOException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        writePDF(extractATSLines(resumeFile), baos);
+        return baos.toByteArray();
+    }
+
+    /**
+     * Parses the uploaded resume and returns the cleaned, linear ATS lines.
+     * Runs before any bytes are written so parse errors can still become a 4xx/5xx response.
+     *
+     * @param resumeFile the uploaded resume (PDF or DOCX)
+     * @return normalized single-column lines ready for {@link #writePDF}
+     */
+    public List<String> extractATSLines(MultipartFile resumeFile) throws IOException {
         // 1. Parse the uploaded resume
         String rawText = resumeParserService.parseResume(resumeFile);
 
-        // 2. Clean and normalize the text
-        String cleanedText = cleanText(rawText);
-
-        // 3. Normalize section headers
-        cleanedText = normalizeSectionHeaders(cleanedText);
-
-        // 4. Convert to linear structure
-        cleanedText = linearize(cleanedText);
-
-        // 5. Generate clean ATS-compliant PDF
-        return generatePDF(cleanedText);
+        // 2. Clean, normalize section headers and linearize in one pass
+        return normalize(rawText);
     }
 
     /**
-     * Removes tables, images references, multi-column layouts, and special characters.
+     * Same as {@link #extractATSLines(MultipartFile)} for an upload already read into memory.
      */
-    private String cleanText(String text) {
-        // Remove table-like structures
-        text = TABLE_PATTERN.matcher(text).replaceAll("");
-
-        // Collapse multi-column layouts into single column
-        text = MULTIPLE_COLUMNS.matcher(text).replaceAll("\n");
-
-        // Replace decorative bullets with standard dash
-        text = SPECIAL_CHARS.matcher(text).replaceAll("-");
-
-        // Remove image references
-        text = text.replaceAll("(?i)\\[image[^]]*]", "");
-        text = text.replaceAll("(?i)<img[^>]*>", "");
-
-        // Remove HTML tags if any
-        text = text.replaceAll("<[^>]+>", "");
-
-        // Normalize whitespace
-        text = text.replaceAll("\t", " ");
-        text = text.replaceAll(" {2,}", " ");
-
-        // Collapse excessive blank lines
-        text = MULTIPLE_BLANK_LINES.matcher(text).replaceAll("\n\n");
-
-        return text.trim();
+    public List<String> extractATSLines(String fileName, byte[] content) throws IOException {
+        return normalize(resumeParserService.parseResume(fileName, content));
     }
 
     /**
-     * Normalizes section headers to standard ATS-recognized names.
+     * Renders the ATS lines as a PDF straight into the given stream (not closed).
      */
-    private String normalizeSectionHeaders(String text) {
-        String[] lines = text.split("\n");
-        StringBuilder result = new StringBuilder();
-
-        for (String line : lines) {
-            String trimmed = line.trim();
-            String normalized = matchSectionHeader(trimmed);
-            if (normalized != null) {
-                result.append("\n").append(normalized).append("\n");
-            } else {
-                result.append(line).append("\n");
-            }
-        }
+    public void writePDF(List<String> atsLines, OutputStream out) throws IOException {
+        generatePDF(atsLines.isEmpty() ? List.of("") : atsLines, out);
+    }
 
-        return result.toString().trim();
+    /**
+     * Removes tables, image references, multi-column layouts and special characters,
+     * maps section headers to their standard names and drops blank lines.
+     */
+    List<String> normalize(String rawText) {
+        return ATSTextNormalizer.normalize(rawText, line -> {
+            String header = matchSectionHeader(line);
+            return header != null ? header : line;
+        });
     }
 
     /**
      * Matches a line against known section header patterns.
      */
-    private String matchSectionHeader(String line) {
+    String matchSectionHeader(String line) {
         // Remove common decorations from potential headers
-        String cleaned = line.replaceAll("^[\\-=_*#:]+", "").replaceAll("[\\-=_*#:]+$", "").trim();
+        String cleaned = TRAILING_DECORATION.matcher(LEADING_DECORATION.matcher(line).replaceAll("")).replaceAll("").trim();
         if (cleaned.isEmpty() || cleaned.length() > 50) return null;
 
         String lower = cleaned.toLowerCase();
@@ -135,92 +115,58 @@ public class ATSConverterService {
     }
 
     /**
-     * Converts text to a strict linear (single-column) structure.
-     */
-    private String linearize(String text) {
-        String[] lines = text.split("\n");
-        StringBuilder result = new StringBuilder();
-
-        for (String line : lines) {
-            String trimmed = line.trim();
-            if (!trimmed.isEmpty()) {
-                result.append(trimmed).append("\n");
-            } else {
-                // Preserve single blank lines for section separation
-                if (result.length() > 0 && result.charAt(result.length() - 1) != '\n') {
-                    result.append("\n");
-                }
-            }
-        }
-        return result.toString().trim();
-    }
-
-    /**
-     * Generates a clean ATS-compliant PDF using PDFBox.
+     * Generates a clean ATS-compliant PDF.
      * Uses only standard fonts, no graphics, single column, proper margins.
      */
-    private byte[] generatePDF(String text) throws IOException {
-        try (PDDocument document = new PDDocument();
-             ByteArrayOutputStream baos = new ByteArrayOutputStream()) {
-
-            PDType1Font fontRegular = new PDType1Font(Standard14Fonts.FontName.HELVETICA);
-            PDType1Font fontBold = new PDType1Font(Standard14Fonts.FontName.HELVETICA_BOLD);
-
-            float margin = 50;
-            float fontSize = 11;
-            float headerFontSize = 13;
-            float leading = 14;
-            float pageWidth = PDRectangle.LETTER.getWidth();
-            float maxWidth = pageWidth - 2 * margin;
-            float yStart = PDRectangle.LETTER.getHeight() - margin;
-
-            String[] lines = text.split("\n");
-            int lineIndex = 0;
-
-            while (lineIndex < lines.length) {
-                PDPage page = new PDPage(PDRectangle.LETTER);
-                document.addPage(page);
-
-                try (PDPageContentStream cs = new PDPageContentStream(document, page)) {
-                    cs.beginText();
-                    cs.setLeading(leading);
-                    float y = yStart;
-                    cs.newLineAtOffset(margin, y);
-
-                    while (lineIndex < lines.length && y > margin + leading) {
-                        String line = lines[lineIndex].trim();
-
-                        if (line.isEmpty()) {
-                            cs.newLine();
-                            y -= leading;
-                            lineIndex++;
-                            continue;
-                        }
-
-                        // Check if this is a section header (ALL CAPS)
-                        boolean isHeader = isSectionHeader(line);
-                        PDType1Font currentFont = isHeader ? fontBold : fontRegular;
-                        float currentSize = isHeader ? headerFontSize : fontSize;
-
-                        cs.setFont(currentFont, currentSize);
+    private void generatePDF(List<String> lines, OutputStream out) throws IOException {
+        StandardFontMetrics metricsRegular = pdfEngine.getRegularMetrics();
+        StandardFontMetrics metricsBold = pdfEngine.getBoldMetrics();
+
+        float margin = 50;
+        float fontSize = 11;
+        float headerFontSize = 13;
+        float leading = 14;
+        float pageWidth = PageSize.LETTER.getWidth();
+        float maxWidth = pageWidth - 2 * margin;
+        float yStart = PageSize.LETTER.getHeight() - margin;
+
+        try (PdfRenderingEngine.Session session = pdfEngine.open(PageSize.LETTER, margin, margin, margin, margin, out)) {
+            PdfContentByte cs = session.getWriter().getDirectContent();
+            cs.beginText();
+            float y = yStart;
+
+            for (String line : lines) {
+                line = session.text().apply(line);
+                if (line.isEmpty()) {
+                    y -= leading;
+                    continue;
+                }
 
-                        // Word-wrap long lines
-                        List<String> wrapped = wrapLine(line, currentFont, currentSize, maxWidth);
-                        for (String wrappedLine : wrapped) {
-                            if (y <= margin + leading) break;
-                            cs.showText(wrappedLine);
-                            cs.newLine();
-                            y -= leading;
-                        }
-                        lineIndex++;
+                // Check if this is a section header (ALL CAPS)
+                boolean isHeader = isSectionHeader(line);
+                StandardFontMetrics currentMetrics = isHeader ? metricsBold : metricsRegular;
+                float currentSize = isHeader ? headerFontSize : fontSize;
+
+                // Word-wrap long lines; a wrapped line that runs off the page continues on the next
+                List<String> wrapped = currentMetrics.wrap(line, currentSize, maxWidth);
+                for (String wrappedLine : wrapped) {
+                    if (y <= margin + leading) {
+                        cs.endText();
+                        session.getDocument().newPage();
+                        cs.beginText();
+                        y = yStart;
                     }
-
-                    cs.endText();
+                    cs.setFontAndSize(currentMetrics.getBaseFont(), currentSize);
+                    cs.setTextMatrix(margin, y);
+                    cs.showText(wrappedLine);
+                    y -= leading;
                 }
             }
 
-            document.save(baos);
-            return baos.toByteArray();
+            cs.endText();
+            session.finish();
+        } catch (DocumentException e) {
+            throw new IOException("Failed to generate ATS PDF: " + e.getMessage(), e);
         }
     }
 
@@ -232,28 +178,4 @@ public class ATSConverterService {
                 && line.length() <= 30
                 && SECTION_HEADER_MAP.containsValue(line);
     }
-
-    /**
-     * Word-wraps a line to fit within the given width.
-     */
-    private List<String> wrapLine(String text, PDType1Font font, float fontSize, float maxWidth) throws IOException {
-        List<String> lines = new ArrayList<>();
-        String[] words = text.split(" ");
-        StringBuilder current = new StringBuilder();
-
-        for (String word : words) {
-            String test = current.length() == 0 ? word : current + " " + word;
-            float width = font.getStringWidth(test) / 1000 * fontSize;
-            if (width > maxWidth && current.length() > 0) {
-                lines.add(current.toString());
-                current = new StringBuilder(word);
-            } else {
-                current = new StringBuilder(test);
-            }
-        }
-        if (current.length() > 0) {
-            lines.add(current.toString());
-        }
-        return lines;
-    }
 }
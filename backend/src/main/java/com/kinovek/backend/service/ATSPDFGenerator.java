@@ -9,32 +9,42 @@ import com.lowagie.text.Font;
 import com.lowagie.text.PageSize;
 import com.lowagie.text.Paragraph;
 import com.lowagie.text.Phrase;
-import com.lowagie.text.pdf.PdfPCell;
-import com.lowagie.text.pdf.PdfPTable;
+import com.lowagie.text.pdf.ColumnText;
 import com.lowagie.text.pdf.PdfWriter;
 import com.lowagie.text.pdf.draw.LineSeparator;
+import jakarta.annotation.PostConstruct;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
 
 import java.awt.Color;
 import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
 @Service
-public class ATSPDFGenerator {
+public class ATSPDFGenerator implements ResumeRenderer {
 
     private static final Logger log = LoggerFactory.getLogger(ATSPDFGenerator.class);
 
     @Autowired
     private ATSResumeConfig config;
 
-    // Fonts (Helvetica - built-in PDF font, always available)
+    @Autowired
+    private PdfRenderingEngine pdfEngine;
+
+    // Left/right rows mirror the old borderless two-cell table: 2pt top/bottom padding, leading = font size
+    private static final float ROW_PADDING = 2f;
+    private static final float ROW_GUTTER = 8f;
+
+    // Fonts (Helvetica - built-in PDF font, always available). Built once at startup and only
+    // read while rendering, so concurrent requests can share them.
     private Font nameFont;
     private Font contactFont;
     private Font sectionHeadingFont;
@@ -46,19 +56,33 @@ public class ATSPDFGenerator {
     private Font skillValuesFont;
     private Font projectTitleFont;
 
-    private void initFonts() {
-        Color textColor = Color.BLACK;
-
-        nameFont = new Font(Font.HELVETICA, config.getNameFontSize(), Font.BOLD, textColor);
-        contactFont = new Font(Font.HELVETICA, config.getContactFontSize(), Font.NORMAL, textColor);
-        sectionHeadingFont = new Font(Font.HELVETICA, config.getSectionHeadingSize(), Font.BOLD, textColor);
-        jobTitleFont = new Font(Font.HELVETICA, config.getJobTitleSize(), Font.BOLD, textColor);
-        bodyFont = new Font(Font.HELVETICA, config.getBodyTextSize(), Font.NORMAL, textColor);
-        companyFont = new Font(Font.HELVETICA, config.getCompanyNameSize(), Font.NORMAL, textColor);
-        dateFont = new Font(Font.HELVETICA, config.getDateSize(), Font.NORMAL, textColor);
-        skillCategoryFont = new Font(Font.HELVETICA, config.getSkillCategorySize(), Font.BOLD, textColor);
-        skillValuesFont = new Font(Font.HELVETICA, config.getSkillValuesSize(), Font.NORMAL, textColor);
-        projectTitleFont = new Font(Font.HELVETICA, config.getProjectTitleSize(), Font.BOLD, textColor);
+    @PostConstruct
+    void initFonts() {
+        nameFont = pdfEngine.font(true, config.getNameFontSize());
+        contactFont = pdfEngine.font(false, config.getContactFontSize());
+        sectionHeadingFont = pdfEngine.font(true, config.getSectionHeadingSize());
+        jobTitleFont = pdfEngine.font(true, config.getJobTitleSize());
+        bodyFont = pdfEngine.font(false, config.getBodyTextSize());
+        companyFont = pdfEngine.font(false, config.getCompanyNameSize());
+        dateFont = pdfEngine.font(false, config.getDateSize());
+        skillCategoryFont = pdfEngine.font(true, config.getSkillCategorySize());
+        skillValuesFont = pdfEngine.font(false, config.getSkillValuesSize());
+        projectTitleFont = pdfEngine.font(true, config.getProjectTitleSize());
+    }
+
+    @Override
+    public String getFormat() {
+        return "pdf";
+    }
+
+    @Override
+    public MediaType getContentType() {
+        return MediaType.APPLICATION_PDF;
+    }
+
+    @Override
+    public void render(Map<String, Object> resumeData, boolean isFresher, OutputStream out) {
+        generateATSResume(resumeData, isFresher, out);
     }
 
     /**
@@ -69,22 +93,32 @@ public class ATSPDFGenerator {
      * @return byte[] of the generated PDF
      */
     public byte[] generateATSResume(Map<String, Object> resumeData, boolean isFresher) {
-        log.info("=== PDF GENERATOR: Starting | isFresher={} | sections={} ===", isFresher, resumeData.keySet());
-        initFonts();
-
         ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        generateATSResume(resumeData, isFresher, baos);
+        return baos.toByteArray();
+    }
+
+    /**
+     * Generate an ATS-optimized PDF resume directly into the given stream.
+     * The stream is flushed but not closed, so it can be a servlet response stream.
+     *
+     * @param resumeData  Map containing all resume sections
+     * @param isFresher   true if candidate has less than 2 years experience
+     * @param out         destination for the PDF bytes
+     */
+    public void generateATSResume(Map<String, Object> resumeData, boolean isFresher, OutputStream out) {
+        log.debug("=== PDF GENERATOR: Starting | isFresher={} | sections={} ===", isFresher, resumeData.keySet());
 
-        Document document = new Document(
+        try (PdfRenderingEngine.Session session = pdfEngine.open(
                 PageSize.A4,
                 config.getMarginLeft(),
                 config.getMarginRight(),
                 config.getMarginTop(),
-                config.getMarginBottom()
-        );
-
-        try {
-            PdfWriter.getInstance(document, baos);
-            document.open();
+                config.getMarginBottom(),
+                out)) {
+            Document document = session.getDocument();
+            PdfWriter writer = session.getWriter();
+            resumeData = session.text().applyAll(resumeData);
 
             // ===== HEADER: Name + Contact + Line =====
             Map<String, Object> personalInfo = getMap(resumeData, "personalInfo");
@@ -92,75 +126,59 @@ public class ATSPDFGenerator {
             drawContactInfo(document, personalInfo);
             drawHorizontalLine(document);
 
-            // ===== SECTIONS IN ORDER =====
-            List<String> sectionOrder;
-            if (isFresher) {
-                sectionOrder = Arrays.asList(
-                        "summary", "education", "skills", "projects",
-                        "experience", "certifications", "achievements"
-                );
-            } else {
-                sectionOrder = Arrays.asList(
-                        "summary", "skills", "experience", "projects",
-                        "education", "certifications", "achievements"
-                );
-            }
-
-            for (String section : sectionOrder) {
+            // ===== SECTIONS IN ORDER (from ats_resume_config.json) =====
+            for (String section : config.getSectionOrder(isFresher)) {
+                String heading = config.getSectionHeadingText(section);
                 switch (section) {
-                    case "summary":
+                    case "PROFESSIONAL_SUMMARY":
                         String summary = getString(resumeData, "summary");
                         if (summary != null && !summary.isBlank()) {
-                            drawSummary(document, summary);
+                            drawSummary(document, heading, summary);
                         }
                         break;
-                    case "education":
+                    case "EDUCATION":
                         List<Map<String, Object>> education = getList(resumeData, "education");
                         if (education != null && !education.isEmpty()) {
-                            drawEducation(document, education);
+                            drawEducation(document, writer, heading, education);
                         }
                         break;
-                    case "skills":
+                    case "SKILLS":
                         Map<String, Object> skills = getMap(resumeData, "skills");
                         if (skills != null && !skills.isEmpty()) {
-                            drawSkills(document, skills);
+                            drawSkills(document, heading, skills);
                         }
                         break;
-                    case "experience":
+                    case "EXPERIENCE":
                         List<Map<String, Object>> experience = getList(resumeData, "experience");
                         if (experience != null && !experience.isEmpty()) {
-                            drawExperience(document, experience);
+                            drawExperience(document, writer, heading, experience);
                         }
                         break;
-                    case "projects":
+                    case "PROJECTS":
                         List<Map<String, Object>> projects = getList(resumeData, "projects");
                         if (projects != null && !projects.isEmpty()) {
-                            drawProjects(document, projects);
+                            drawProjects(document, heading, projects);
                         }
                         break;
-                    case "certifications":
+                    case "CERTIFICATIONS":
                         List<String> certifications = getStringList(resumeData, "certifications");
                         if (certifications != null && !certifications.isEmpty()) {
-                            drawCertifications(document, certifications);
+                            drawBulletSection(document, heading, certifications);
                         }
                         break;
-                    case "achievements":
+                    case "ACHIEVEMENTS":
                         List<String> achievements = getStringList(resumeData, "achievements");
                         if (achievements != null && !achievements.isEmpty()) {
-                            drawAchievements(document, achievements);
+                            drawBulletSection(document, heading, achievements);
                         }
                         break;
                 }
             }
-
-            document.close();
-            log.info("=== PDF GENERATOR: Document closed ===");
-        } catch (DocumentException e) {
+            session.finish();
+        } catch (DocumentException | IOException e) {
             throw new RuntimeException("Failed to generate ATS resume PDF: " + e.getMessage(), e);
         }
-
-        log.info("=== PDF GENERATOR: Complete | {} bytes ===", baos.size());
-        return baos.toByteArray();
+        log.debug("=== PDF GENERATOR: Complete ===");
     }
 
     // ========== DRAWING METHODS ==========
@@ -219,8 +237,8 @@ public class ATSPDFGenerator {
         document.add(spacer);
     }
 
-    private void drawSummary(Document document, String summary) throws DocumentException {
-        drawSectionHeading(document, "PROFESSIONAL SUMMARY");
+    private void drawSummary(Document document, String heading, String summary) throws DocumentException {
+        drawSectionHeading(document, heading);
 
         Paragraph summaryPara = new Paragraph(summary.trim(), bodyFont);
         summaryPara.setLeading(config.getBodyTextSize() * config.getLineSpacing());
@@ -229,8 +247,9 @@ public class ATSPDFGenerator {
         document.add(summaryPara);
     }
 
-    private void drawEducation(Document document, List<Map<String, Object>> educationList) throws DocumentException {
-        drawSectionHeading(document, "EDUCATION");
+    private void drawEducation(Document document, PdfWriter writer, String heading,
+                               List<Map<String, Object>> educationList) throws DocumentException {
+        drawSectionHeading(document, heading);
 
         for (int i = 0; i < educationList.size(); i++) {
             Map<String, Object> edu = educationList.get(i);
@@ -243,7 +262,7 @@ public class ATSPDFGenerator {
             // Degree (bold) - right-aligned year
             if (degree != null) {
                 if (year != null && !year.isBlank()) {
-                    document.add(createLeftRightRow(degree, jobTitleFont, year, dateFont));
+                    drawLeftRightRow(document, writer, degree, jobTitleFont, year, dateFont);
                 } else {
                     Paragraph degreePara = new Paragraph(degree, jobTitleFont);
                     degreePara.setLeading(config.getBodyTextSize() * config.getLineSpacing());
@@ -275,8 +294,8 @@ public class ATSPDFGenerator {
         }
     }
 
-    private void drawSkills(Document document, Map<String, Object> skills) throws DocumentException {
-        drawSectionHeading(document, "TECHNICAL SKILLS");
+    private void drawSkills(Document document, String heading, Map<String, Object> skills) throws DocumentException {
+        drawSectionHeading(document, heading);
 
         for (Map.Entry<String, Object> entry : skills.entrySet()) {
             String category = entry.getKey();
@@ -295,8 +314,9 @@ public class ATSPDFGenerator {
         }
     }
 
-    private void drawExperience(Document document, List<Map<String, Object>> experienceList) throws DocumentException {
-        drawSectionHeading(document, "WORK EXPERIENCE");
+    private void drawExperience(Document document, PdfWriter writer, String heading,
+                                List<Map<String, Object>> experienceList) throws DocumentException {
+        drawSectionHeading(document, heading);
 
         for (int i = 0; i < experienceList.size(); i++) {
             Map<String, Object> job = experienceList.get(i);
@@ -322,7 +342,7 @@ public class ATSPDFGenerator {
             }
 
             if (dates != null && !dates.isBlank()) {
-                document.add(createLeftRightRow(companyLine.toString(), companyFont, dates, dateFont));
+                drawLeftRightRow(document, writer, companyLine.toString(), companyFont, dates, dateFont);
             } else {
                 Paragraph companyPara = new Paragraph(companyLine.toString(), companyFont);
                 companyPara.setLeading(config.getCompanyNameSize() * config.getLineSpacing());
@@ -347,8 +367,8 @@ public class ATSPDFGenerator {
         }
     }
 
-    private void drawProjects(Document document, List<Map<String, Object>> projectList) throws DocumentException {
-        drawSectionHeading(document, "PROJECTS");
+    private void drawProjects(Document document, String heading, List<Map<String, Object>> projectList) throws DocumentException {
+        drawSectionHeading(document, heading);
 
         for (int i = 0; i < projectList.size(); i++) {
             Map<String, Object> project = projectList.get(i);
@@ -387,19 +407,12 @@ public class ATSPDFGenerator {
         }
     }
 
-    private void drawCertifications(Document document, List<String> certifications) throws DocumentException {
-        drawSectionHeading(document, "CERTIFICATIONS");
+    /** Certifications and achievements: heading followed by plain bullets. */
+    private void drawBulletSection(Document document, String heading, List<String> items) throws DocumentException {
+        drawSectionHeading(document, heading);
 
-        for (String cert : certifications) {
-            drawBulletPoint(document, cert);
-        }
-    }
-
-    private void drawAchievements(Document document, List<String> achievements) throws DocumentException {
-        drawSectionHeading(document, "ACHIEVEMENTS");
-
-        for (String achievement : achievements) {
-            drawBulletPoint(document, achievement);
+        for (String item : items) {
+            drawBulletPoint(document, item);
         }
     }
 
@@ -425,30 +438,61 @@ public class ATSPDFGenerator {
     // ========== UTILITY METHODS ==========
 
     /**
-     * Creates a borderless single-row table with left-aligned text and right-aligned text.
+     * Draws a row with left-aligned text and right-aligned text directly on the page.
      * Used for "Degree ... Year" and "Company, Location ... Dates" rows.
+     *
+     * Widths are measured from the font metrics: the right text sits on the first baseline
+     * and the left text wraps within whatever width remains. A spacer paragraph then moves
+     * the document cursor past the row so normal flow continues below it.
+     * Overridable so the benchmarks can swap the old PdfPTable row back in.
      */
-    private PdfPTable createLeftRightRow(String leftText, Font leftFont, String rightText, Font rightFont) throws DocumentException {
-        PdfPTable table = new PdfPTable(2);
-        table.setWidthPercentage(100f);
-        table.setWidths(new float[]{75f, 25f});
-
-        PdfPCell leftCell = new PdfPCell(new Phrase(leftText, leftFont));
-        leftCell.setBorder(PdfPCell.NO_BORDER);
-        leftCell.setHorizontalAlignment(Element.ALIGN_LEFT);
-        leftCell.setPaddingLeft(0f);
-        leftCell.setPaddingBottom(2f);
-
-        PdfPCell rightCell = new PdfPCell(new Phrase(rightText, rightFont));
-        rightCell.setBorder(PdfPCell.NO_BORDER);
-        rightCell.setHorizontalAlignment(Element.ALIGN_RIGHT);
-        rightCell.setPaddingRight(0f);
-        rightCell.setPaddingBottom(2f);
-
-        table.addCell(leftCell);
-        table.addCell(rightCell);
-
-        return table;
+    protected void drawLeftRightRow(Document document, PdfWriter writer,
+                                    String leftText, Font leftFont, String rightText, Font rightFont) throws DocumentException {
+        float left = document.left();
+        float right = document.right();
+        float rightWidth = textWidth(rightText, rightFont);
+        float leftWidth = Math.max((right - left) / 2, right - left - rightWidth - ROW_GUTTER);
+
+        // Single line is the common case — only simulate the column when the left text must wrap
+        float textHeight = leftFont.getSize();
+        if (textWidth(leftText, leftFont) > leftWidth) {
+            ColumnText probe = leftColumn(writer, leftText, leftFont, left, left + leftWidth,
+                    document.bottom(), document.top());
+            probe.go(true);
+            textHeight = document.top() - probe.getYLine();
+        }
+        float rowHeight = ROW_PADDING + textHeight + ROW_PADDING;
+
+        float top = writer.getVerticalPosition(true);
+        if (top - rowHeight < document.bottom()) {
+            document.newPage();
+            top = writer.getVerticalPosition(true);
+        }
+
+        ColumnText leftColumn = leftColumn(writer, leftText, leftFont, left, left + leftWidth,
+                top - rowHeight, top - ROW_PADDING);
+        leftColumn.go();
+
+        ColumnText.showTextAligned(writer.getDirectContent(), Element.ALIGN_RIGHT,
+                new Phrase(rightText, rightFont), right, top - ROW_PADDING - rightFont.getSize(), 0);
+
+        Paragraph spacer = new Paragraph(" ");
+        spacer.setLeading(rowHeight);
+        document.add(spacer);
+    }
+
+    private ColumnText leftColumn(PdfWriter writer, String text, Font font,
+                                  float llx, float urx, float lly, float ury) {
+        ColumnText column = new ColumnText(writer.getDirectContent());
+        column.setSimpleColumn(llx, lly, urx, ury);
+        column.setLeading(0, 1);
+        column.setAlignment(Element.ALIGN_LEFT);
+        column.addText(new Phrase(text, font));
+        return column;
+    }
+
+    private float textWidth(String text, Font font) {
+        return font.getCalculatedBaseFont(false).getWidthPoint(text, font.getSize());
     }
 
     private void addIfPresent(List<String> parts, Map<String, Object> map, String key) {
@@ -2,6 +2,7 @@ package com.kinovek.backend.service;
 
 import com.kinovek.backend.config.KeywordConfig;
 import com.kinovek.backend.dto.ATSScoreResponse;
+import com.kinovek.backend.observability.PipelineEvents;
 import com.kinovek.backend.util.KeywordMatcher;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
@@ -24,6 +25,17 @@ public class ATSScoringService {
     // Column/table special characters that indicate non-ATS-friendly formatting
     private static final String COLUMN_CHARS = "║│┃─┌┐└┘├┤┬┴┼╔╗╚╝╠╣╦╩╬";
 
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern LINE_BREAK = Pattern.compile("\\r?\\n");
+
+    /**
+     * Everything the formatting and section scores need from the resume text,
+     * derived in one place so each scan runs once per score.
+     */
+    private record TextProfile(boolean hasTable, boolean hasColumnChars, boolean hasImages, int wordCount,
+                               boolean hasEmail, boolean hasPhone, Map<String, Boolean> sectionPresence) {
+    }
+
     @Autowired
     public ATSScoringService(KeywordMatcher keywordMatcher, KeywordConfig keywordConfig) {
         this.keywordMatcher = keywordMatcher;
@@ -40,19 +52,34 @@ public class ATSScoringService {
      * @return ATSScoreResponse with overall score and section breakdown
      */
     public ATSScoreResponse calculateScore(String resumeText, String jobDescription) {
+        return calculateScore(resumeText, keywordMatcher.match(resumeText, jobDescription));
+    }
+
+    /**
+     * Same score for a resume whose keywords were already matched against the job description.
+     *
+     * @param resumeText  extracted text from resume
+     * @param matchResult result of {@link KeywordMatcher#match} for this resume and job description
+     * @return ATSScoreResponse with overall score and section breakdown
+     */
+    public ATSScoreResponse calculateScore(String resumeText, KeywordMatcher.MatchResult matchResult) {
+        PipelineEvents.Scoring event = new PipelineEvents.Scoring();
+        event.begin();
+
         // 1. Keyword Match Score (0–100)
-        KeywordMatcher.MatchResult matchResult = keywordMatcher.match(resumeText, jobDescription);
         double keywordScore = matchResult.getMatchPercentage();
 
+        TextProfile profile = profile(resumeText);
+
         // 2. Formatting Score (0–100)
-        double formattingScore = calculateFormattingScore(resumeText);
-        List<String> formattingIssues = detectFormattingIssues(resumeText);
+        double formattingScore = calculateFormattingScore(profile);
+        List<String> formattingIssues = detectFormattingIssues(profile);
         String formattingFeedback = generateFormattingFeedback(formattingIssues, formattingScore);
 
         // 3. Section Completeness Score (0–100)
-        Map<String, Boolean> sectionPresence = detectSections(resumeText);
-        double sectionScore = calculateSectionScore(resumeText, sectionPresence);
-        String sectionFeedback = generateSectionFeedback(sectionPresence, resumeText);
+        Map<String, Boolean> sectionPresence = profile.sectionPresence();
+        double sectionScore = calculateSectionScore(profile);
+        String sectionFeedback = generateSectionFeedback(profile);
 
         // Overall ATS Score = weighted sum, clamped 0–100
         double overallScore = (keywordScore * 0.50) + (formattingScore * 0.25) + (sectionScore * 0.25);
@@ -104,6 +131,10 @@ public class ATSScoringService {
         response.setSectionCompletenessScore(Math.round(sectionScore * 10.0) / 10.0);
         response.setSectionBreakdown(sectionAnalysis);
 
+        event.overallScore = roundedScore;
+        event.resumeChars = resumeText.length();
+        event.commit();
+
         return response;
     }
 
@@ -111,6 +142,34 @@ public class ATSScoringService {
     //  FORMATTING SCORE  (start at 100, subtract penalties, min 0)
     // ────────────────────────────────────────────────────────────────
 
+    /**
+     * Scans the text once for every formatting and section signal used by the score.
+     */
+    private TextProfile profile(String resumeText) {
+        String lower = resumeText.toLowerCase();
+
+        boolean hasTable = lower.contains("<table") || lower.contains("\\begin{tabular") || lower.contains("\t\t\t");
+
+        boolean hasColumnChars = false;
+        for (char c : COLUMN_CHARS.toCharArray()) {
+            if (resumeText.indexOf(c) >= 0) {
+                hasColumnChars = true;
+                break;
+            }
+        }
+
+        boolean hasImages = lower.contains("<img") || lower.contains("<image") || lower.contains("[image")
+                || lower.contains(".png") || lower.contains(".jpg") || lower.contains(".jpeg");
+
+        int wordCount = WHITESPACE.split(resumeText).length;
+
+        boolean hasEmail = EMAIL_PATTERN.matcher(resumeText).find();
+        boolean hasPhone = PHONE_PATTERN.matcher(resumeText).find();
+
+        return new TextProfile(hasTable, hasColumnChars, hasImages, wordCount, hasEmail, hasPhone,
+                detectSections(lower, hasEmail || hasPhone));
+    }
+
     /**
      * Scores resume formatting from 0–100.
      * Penalties:
@@ -119,36 +178,26 @@ public class ATSScoringService {
      *   - Image references:          −15
      *   - Very short (< 100 words):  −20
      */
-    private double calculateFormattingScore(String resumeText) {
+    private double calculateFormattingScore(TextProfile profile) {
         double score = 100.0;
-        String lower = resumeText.toLowerCase();
 
         // Tables
-        if (lower.contains("<table") || lower.contains("\\begin{tabular") || lower.contains("\t\t\t")) {
+        if (profile.hasTable()) {
             score -= 20;
         }
 
         // Column / box-drawing special characters
-        boolean hasColumnChars = false;
-        for (char c : COLUMN_CHARS.toCharArray()) {
-            if (resumeText.indexOf(c) >= 0) {
-                hasColumnChars = true;
-                break;
-            }
-        }
-        if (hasColumnChars) {
+        if (profile.hasColumnChars()) {
             score -= 15;
         }
 
         // Image references
-        if (lower.contains("<img") || lower.contains("<image") || lower.contains("[image")
-                || lower.contains(".png") || lower.contains(".jpg") || lower.contains(".jpeg")) {
+        if (profile.hasImages()) {
             score -= 15;
         }
 
         // Very short resume (under 100 words)
-        int wordCount = resumeText.split("\\s+").length;
-        if (wordCount < 100) {
+        if (profile.wordCount() < 100) {
             score -= 20;
         }
 
@@ -156,30 +205,23 @@ public class ATSScoringService {
     }
 
     /** Returns a list of detected formatting issues (used in the breakdown). */
-    private List<String> detectFormattingIssues(String resumeText) {
+    private List<String> detectFormattingIssues(TextProfile profile) {
         List<String> issues = new ArrayList<>();
-        String lower = resumeText.toLowerCase();
 
-        if (lower.contains("<table") || lower.contains("\\begin{tabular") || lower.contains("\t\t\t")) {
+        if (profile.hasTable()) {
             issues.add("Table-based layout detected — most ATS parsers cannot read tables");
         }
 
-        boolean hasColumnChars = false;
-        for (char c : COLUMN_CHARS.toCharArray()) {
-            if (resumeText.indexOf(c) >= 0) { hasColumnChars = true; break; }
-        }
-        if (hasColumnChars) {
+        if (profile.hasColumnChars()) {
             issues.add("Column or box-drawing characters found — indicates multi-column layout");
         }
 
-        if (lower.contains("<img") || lower.contains("<image") || lower.contains("[image")
-                || lower.contains(".png") || lower.contains(".jpg") || lower.contains(".jpeg")) {
+        if (profile.hasImages()) {
             issues.add("Image references found — ATS cannot parse images");
         }
 
-        int wordCount = resumeText.split("\\s+").length;
-        if (wordCount < 100) {
-            issues.add("Resume is very short (" + wordCount + " words) — aim for at least 200–400 words");
+        if (profile.wordCount() < 100) {
+            issues.add("Resume is very short (" + profile.wordCount() + " words) — aim for at least 200–400 words");
         }
 
         return issues;
@@ -203,9 +245,8 @@ public class ATSScoringService {
      * of a line (with optional whitespace), not just anywhere in the text.
      * This prevents "Java and Python projects" from matching as a "Projects" section.
      */
-    private Map<String, Boolean> detectSections(String resumeText) {
-        String lower = resumeText.toLowerCase();
-        String[] lines = lower.split("\\r?\\n");
+    private Map<String, Boolean> detectSections(String lower, boolean hasEmailOrPhone) {
+        String[] lines = LINE_BREAK.split(lower);
         Map<String, Boolean> result = new LinkedHashMap<>();
         Map<String, List<String>> allHeaders = keywordConfig.getSectionHeaders();
 
@@ -249,12 +290,8 @@ public class ATSScoringService {
             }
 
             // Special case: Contact — also detect via email/phone regex
-            if ("contact".equals(section) && !found) {
-                boolean hasEmail = EMAIL_PATTERN.matcher(resumeText).find();
-                boolean hasPhone = PHONE_PATTERN.matcher(resumeText).find();
-                if (hasEmail || hasPhone) {
-                    found = true;
-                }
+            if ("contact".equals(section) && !found && hasEmailOrPhone) {
+                found = true;
             }
 
             String displayName = section.substring(0, 1).toUpperCase() + section.substring(1);
@@ -274,14 +311,15 @@ public class ATSScoringService {
      * Skills:           20 pts
      * Certs/Projects:    5 pts  (bonus)
      */
-    private double calculateSectionScore(String resumeText, Map<String, Boolean> sectionPresence) {
+    private double calculateSectionScore(TextProfile profile) {
+        Map<String, Boolean> sectionPresence = profile.sectionPresence();
         double score = 0;
 
         // Contact Info — 15 pts
         // Check for actual email/phone presence, not just a "Contact" header
         boolean hasContact = sectionPresence.getOrDefault("Contact", false);
-        boolean hasEmail = EMAIL_PATTERN.matcher(resumeText).find();
-        boolean hasPhone = PHONE_PATTERN.matcher(resumeText).find();
+        boolean hasEmail = profile.hasEmail();
+        boolean hasPhone = profile.hasPhone();
         if (hasContact || hasEmail || hasPhone) {
             // Award partial credit: header=5, email=5, phone=5
             if (hasContact) score += 5;
@@ -330,13 +368,12 @@ public class ATSScoringService {
         return "Significant formatting problems — remove tables, images, and complex layouts";
     }
 
-    private String generateSectionFeedback(Map<String, Boolean> sectionPresence, String resumeText) {
+    private String generateSectionFeedback(TextProfile profile) {
+        Map<String, Boolean> sectionPresence = profile.sectionPresence();
         List<String> missing = new ArrayList<>();
 
         // Check contact via regex too, not just header
-        boolean hasEmail = EMAIL_PATTERN.matcher(resumeText).find();
-        boolean hasPhone = PHONE_PATTERN.matcher(resumeText).find();
-        boolean contactOk = sectionPresence.getOrDefault("Contact", false) || hasEmail || hasPhone;
+        boolean contactOk = sectionPresence.getOrDefault("Contact", false) || profile.hasEmail() || profile.hasPhone();
         if (!contactOk) missing.add("Contact Info");
 
         if (!sectionPresence.getOrDefault("Summary", false)) missing.add("Summary/Objective");
@@ -0,0 +1,161 @@
+package com.kinovek.backend.service;
+
+import com.kinovek.backend.config.PipelineExecutors;
+import com.kinovek.backend.model.EnhancedResume;
+import com.kinovek.backend.util.KeywordMatcher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Future;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Generates one tailored PDF per job description from a single parsed and indexed
+ * resume and streams them into a ZIP archive as they complete.
+ *
+ * At most {@link PipelineExecutors#getRenderParallelism()} PDFs are in flight per request,
+ * so memory stays bounded no matter how many job descriptions are submitted.
+ */
+@Service
+public class BulkResumeService {
+
+    private static final Logger log = LoggerFactory.getLogger(BulkResumeService.class);
+
+    /** Upper bound on job descriptions per bulk request. */
+    public static final int MAX_JOB_DESCRIPTIONS = 20;
+
+    @Autowired
+    private ResumePipelineService resumePipelineService;
+
+    @Autowired
+    private ATSPDFGenerator atsPdfGenerator;
+
+    @Autowired
+    private PipelineExecutors pipelineExecutors;
+
+    /** A rendered PDF waiting to be written as a ZIP entry. */
+    private static class TailoredPdf {
+        private final int index;
+        private final String fileNameBase;
+        private final ByteArrayOutputStream pdf;
+
+        TailoredPdf(int index, String fileNameBase, ByteArrayOutputStream pdf) {
+            this.index = index;
+            this.fileNameBase = fileNameBase;
+            this.pdf = pdf;
+        }
+    }
+
+    /**
+     * Enhance and render the resume for every job description in parallel and write
+     * each PDF into a ZIP on {@code out} as soon as it is ready. Entries are prefixed
+     * with the 1-based job description index, e.g. "02_Rahul_Sharma_Enhanced_Resume.pdf".
+     * A job description that fails produces an "NN_FAILED.txt" entry instead.
+     *
+     * @param resumeText         extracted resume text (extracted once)
+     * @param originalResumeData parsed resume sections (parsed once, read-only)
+     * @param jobDescriptions    target job descriptions
+     * @param out                destination stream (not closed)
+     */
+    public void writeTailoredZip(String resumeText, Map<String, Object> originalResumeData,
+                                 List<String> jobDescriptions, OutputStream out) throws IOException {
+        log.info("=== BULK: {} job descriptions | parallelism={} ===",
+                jobDescriptions.size(), pipelineExecutors.getRenderParallelism());
+        KeywordMatcher.ResumeIndex resume = resumePipelineService.index(resumeText);
+
+        CompletionService<TailoredPdf> completion = new ExecutorCompletionService<>(pipelineExecutors.getRenderExecutor());
+        int window = Math.max(1, pipelineExecutors.getRenderParallelism());
+        int submitted = 0;
+        int written = 0;
+
+        ZipOutputStream zip = new ZipOutputStream(out);
+        // PDF content streams are already compressed — don't spend CPU deflating them again
+        zip.setLevel(Deflater.NO_COMPRESSION);
+
+        Future<?>[] futures = new Future<?>[jobDescriptions.size()];
+        try {
+            while (submitted < jobDescriptions.size() && submitted < window) {
+                futures[submitted] = submit(completion, resume, originalResumeData, jobDescriptions, submitted);
+                submitted++;
+            }
+
+            while (written < jobDescriptions.size()) {
+                Future<TailoredPdf> done = completion.take();
+                try {
+                    TailoredPdf result = done.get();
+                    zip.putNextEntry(new ZipEntry(String.format("%02d_%s_Enhanced_Resume.pdf",
+                            result.index + 1, result.fileNameBase)));
+                    result.pdf.writeTo(zip);
+                    zip.closeEntry();
+                } catch (ExecutionException e) {
+                    if (!(e.getCause() instanceof FailedJobDescription)) {
+                        throw new IOException("Bulk generation failed", e.getCause());
+                    }
+                    FailedJobDescription failure = (FailedJobDescription) e.getCause();
+                    log.warn("=== BULK: job description {} failed: {} ===", failure.index + 1, failure.getMessage());
+                    zip.putNextEntry(new ZipEntry(String.format("%02d_FAILED.txt", failure.index + 1)));
+                    zip.write(("Failed to generate resume for job description " + (failure.index + 1)
+                            + ": " + failure.getMessage()).getBytes(StandardCharsets.UTF_8));
+                    zip.closeEntry();
+                }
+                written++;
+                zip.flush();
+
+                if (submitted < jobDescriptions.size()) {
+                    futures[submitted] = submit(completion, resume, originalResumeData, jobDescriptions, submitted);
+                    submitted++;
+                }
+            }
+            zip.finish();
+            log.info("=== BULK: ZIP complete | {} entries ===", written);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Bulk generation interrupted", e);
+        } finally {
+            // Client gone or interrupted → don't keep rendering PDFs nobody will read
+            for (Future<?> future : futures) {
+                if (future != null) future.cancel(true);
+            }
+        }
+    }
+
+    private Future<TailoredPdf> submit(CompletionService<TailoredPdf> completion, KeywordMatcher.ResumeIndex resume,
+                                       Map<String, Object> originalResumeData,
+                                       List<String> jobDescriptions, int index) {
+        String jobDescription = jobDescriptions.get(index);
+        return completion.submit(() -> {
+            try {
+                EnhancedResume enhanced = resumePipelineService.enhanceParsed(
+                        resume, originalResumeData, jobDescription);
+                ByteArrayOutputStream pdf = new ByteArrayOutputStream();
+                atsPdfGenerator.generateATSResume(enhanced.getResumeData(), enhanced.isFresher(), pdf);
+                return new TailoredPdf(index, enhanced.getFileNameBase(), pdf);
+            } catch (Exception e) {
+                throw new FailedJobDescription(index, e);
+            }
+        });
+    }
+
+    /** Carries the job description index through ExecutionException. */
+    private static class FailedJobDescription extends Exception {
+        private final int index;
+
+        FailedJobDescription(int index, Exception cause) {
+            super(cause.getMessage(), cause);
+            this.index = index;
+        }
+    }
+}
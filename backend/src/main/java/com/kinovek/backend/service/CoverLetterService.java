@@ -1,6 +1,9 @@
 package com.kinovek.backend.service;
 
 import com.kinovek.backend.model.CoverLetterResult;
+import com.kinovek.backend.util.JobDescriptionAnalyzer;
+import com.kinovek.backend.util.KeywordMatcher;
+import com.kinovek.backend.util.SectionScanner;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
@@ -18,21 +21,50 @@ public class CoverLetterService {
     @Autowired
     private ResumeParserService resumeParserService;
 
+    @Autowired
+    private JobDescriptionAnalyzer jobDescriptionAnalyzer;
+
+    @Autowired
+    private KeywordMatcher keywordMatcher;
+
+    private static final int MAX_SKILLS = 8;
+
+    private static final Pattern NOT_A_NAME = Pattern.compile("summary|experience|education|skills|objective|phone|email|address|http");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private static final SectionScanner SKILLS_SECTION = new SectionScanner(
+            Pattern.compile("(?i)(?:skills|technical skills|core competencies|key skills)[:\\s]*$"),
+            Pattern.compile("(?i)experience|education|projects|certifications|awards|references"));
+    private static final Pattern SKILL_DELIMITERS = Pattern.compile("[,|\\-\u2022•]+");
+
+    private static final Pattern YEARS_OF_EXPERIENCE = Pattern.compile("(\\d+)\\+?\\s*(?:years?|yrs?)\\s*(?:of)?\\s*(?:experience|exp)", Pattern.CASE_INSENSITIVE);
+    private static final Pattern DATE_RANGE = Pattern.compile("(20\\d{2}|19\\d{2})\\s*[-–]\\s*(20\\d{2}|19\\d{2}|present|current)", Pattern.CASE_INSENSITIVE);
+    private static final Pattern PROFICIENCY_PREFIX = Pattern.compile("(?i)^proficiency in\\s+");
+
     /**
      * Generates a professional cover letter from resume + job description.
      */
     public CoverLetterResult generateCoverLetter(MultipartFile resumeFile, String jobDescription) throws IOException {
-        String resumeText = resumeParserService.parseResume(resumeFile);
+        return generateCoverLetter(resumeParserService.parseResume(resumeFile), jobDescription);
+    }
 
+    /**
+     * Same as {@link #generateCoverLetter(MultipartFile, String)} for an upload already read into memory.
+     */
+    public CoverLetterResult generateCoverLetter(String fileName, byte[] content, String jobDescription) throws IOException {
+        return generateCoverLetter(resumeParserService.parseResume(fileName, content), jobDescription);
+    }
+
+    private CoverLetterResult generateCoverLetter(String resumeText, String jobDescription) {
         // Extract information from resume
         String candidateName = extractName(resumeText);
         List<String> skills = extractSkills(resumeText);
         String experienceSummary = extractExperienceSummary(resumeText);
 
         // Extract information from job description
-        String companyName = extractCompanyName(jobDescription);
-        String roleName = extractRoleName(jobDescription);
-        List<String> requirements = extractRequirements(jobDescription);
+        String companyName = jobDescriptionAnalyzer.extractCompanyName(jobDescription);
+        String roleName = jobDescriptionAnalyzer.extractRoleName(jobDescription);
+        List<String> requirements = jobDescriptionAnalyzer.extractRequirements(jobDescription);
 
         // Find overlapping skills with requirements
         List<String> relevantSkills = findRelevantSkills(skills, requirements);
@@ -58,9 +90,9 @@ public class CoverLetterService {
             String trimmed = line.trim();
             if (trimmed.isEmpty()) continue;
             // Skip lines that look like section headers or contact info
-            if (trimmed.toLowerCase().matches(".*(summary|experience|education|skills|objective|phone|email|address|http).*")) continue;
+            if (NOT_A_NAME.matcher(trimmed.toLowerCase()).find()) continue;
             // Name is typically the first non-empty, non-header line (2-4 words)
-            String[] words = trimmed.split("\\s+");
+            String[] words = WHITESPACE.split(trimmed);
             if (words.length >= 1 && words.length <= 5 && trimmed.length() < 40) {
                 return trimmed;
             }
@@ -70,17 +102,10 @@ public class CoverLetterService {
 
     private List<String> extractSkills(String resumeText) {
         List<String> skills = new ArrayList<>();
-        String lower = resumeText.toLowerCase();
 
-        // Try to find a "Skills" section
-        Pattern skillSection = Pattern.compile("(?i)(skills|technical skills|core competencies|key skills)[:\\s]*\n([\\s\\S]*?)(?=\n(?:experience|education|projects|certifications|awards|references|$))", Pattern.MULTILINE);
-        Matcher m = skillSection.matcher(resumeText);
-
-        if (m.find()) {
-            String skillsBlock = m.group(2);
-            // Split by common delimiters
-            String[] tokens = skillsBlock.split("[,|\\n\\-\u2022•]+");
-            for (String token : tokens) {
+        // Try to find a "Skills" section and split it by common delimiters
+        for (String line : SKILLS_SECTION.find(resumeText)) {
+            for (String token : SKILL_DELIMITERS.split(line)) {
                 String trimmed = token.trim();
                 if (!trimmed.isEmpty() && trimmed.length() < 40) {
                     skills.add(trimmed);
@@ -88,34 +113,23 @@ public class CoverLetterService {
             }
         }
 
-        // Fallback: scan for common tech keywords
+        // Fallback: dictionary skills mentioned anywhere in the resume
         if (skills.isEmpty()) {
-            String[] commonSkills = {"Java", "Python", "JavaScript", "TypeScript", "React", "Angular", "Vue",
-                    "Spring Boot", "Node.js", "SQL", "AWS", "Azure", "Docker", "Kubernetes",
-                    "Git", "REST API", "Machine Learning", "Data Analysis", "Agile", "Scrum",
-                    "HTML", "CSS", "C++", "C#", ".NET", "MongoDB", "PostgreSQL", "MySQL",
-                    "Communication", "Leadership", "Project Management", "Problem Solving"};
-            for (String skill : commonSkills) {
-                if (lower.contains(skill.toLowerCase())) {
-                    skills.add(skill);
-                }
-            }
+            skills = keywordMatcher.extractSkills(resumeText);
         }
 
-        return skills.size() > 8 ? skills.subList(0, 8) : skills;
+        return skills.size() > MAX_SKILLS ? skills.subList(0, MAX_SKILLS) : skills;
     }
 
     private String extractExperienceSummary(String resumeText) {
         // Try to find years of experience
-        Pattern yearsPattern = Pattern.compile("(\\d+)\\+?\\s*(?:years?|yrs?)\\s*(?:of)?\\s*(?:experience|exp)", Pattern.CASE_INSENSITIVE);
-        Matcher m = yearsPattern.matcher(resumeText);
+        Matcher m = YEARS_OF_EXPERIENCE.matcher(resumeText);
         if (m.find()) {
             return m.group(1) + "+ years of professional experience";
         }
 
         // Count job entries as a rough estimate
-        Pattern datePattern = Pattern.compile("(20\\d{2}|19\\d{2})\\s*[-–]\\s*(20\\d{2}|19\\d{2}|present|current)", Pattern.CASE_INSENSITIVE);
-        Matcher dateMatcher = datePattern.matcher(resumeText);
+        Matcher dateMatcher = DATE_RANGE.matcher(resumeText);
         int jobCount = 0;
         while (dateMatcher.find()) jobCount++;
 
@@ -126,79 +140,6 @@ public class CoverLetterService {
         return "relevant professional experience";
     }
 
-    // ==================== JD Extraction ====================
-
-    private String extractCompanyName(String jd) {
-        // Common patterns: "at [Company]", "[Company] is", "About [Company]", "Join [Company]"
-        String[] patterns = {
-                "(?i)(?:at|join|about)\\s+([A-Z][A-Za-z0-9&'.\\s]{1,30}?)(?:\\s*(?:is|are|we|,|\\.|\\n|$))",
-                "(?i)company\\s*[:=]\\s*(.+?)(?:\n|$)",
-                "(?i)^([A-Z][A-Za-z0-9&'.\\s]{2,25})\\s*$"
-        };
-        for (String pattern : patterns) {
-            Matcher m = Pattern.compile(pattern, Pattern.MULTILINE).matcher(jd);
-            if (m.find()) {
-                return m.group(1).trim();
-            }
-        }
-        return "[Company Name]";
-    }
-
-    private String extractRoleName(String jd) {
-        String[] patterns = {
-                "(?i)(?:job title|position|role)\\s*[:=]\\s*(.+?)(?:\n|$)",
-                "(?i)(?:hiring|looking for|seeking)\\s+(?:a|an)?\\s*(.+?)(?:\\s+(?:proficient|with|who|at|for|in|to|\\.|,|\\n|$))",
-                "(?i)^(.+?(?:engineer|developer|manager|analyst|designer|architect|scientist|specialist|coordinator|consultant|lead|director|intern))\\s*$"
-        };
-        for (String pattern : patterns) {
-            Matcher m = Pattern.compile(pattern, Pattern.MULTILINE).matcher(jd);
-            if (m.find()) {
-                String role = m.group(1).trim();
-                // Remove trailing articles/prepositions
-                role = role.replaceAll("\\s+(?:a|an|the|who|with|at|for|in|to)$", "").trim();
-                if (role.length() >= 3 && role.length() < 60) return role;
-            }
-        }
-        return "[Position Title]";
-    }
-
-    private List<String> extractRequirements(String jd) {
-        List<String> reqs = new ArrayList<>();
-        // Look for requirements/qualifications section
-        Pattern reqSection = Pattern.compile("(?i)(requirements|qualifications|what we.re looking for|must have|you.ll need)[:\\s]*\n([\\s\\S]*?)(?=\n(?:benefits|perks|about|how to|application|$))", Pattern.MULTILINE);
-        Matcher m = reqSection.matcher(jd);
-
-        if (m.find()) {
-            String block = m.group(2);
-            String[] lines = block.split("\n");
-            for (String line : lines) {
-                String trimmed = line.replaceAll("^[\\-\u2022•*>]+", "").trim();
-                if (!trimmed.isEmpty() && trimmed.length() > 5 && trimmed.length() < 100) {
-                    reqs.add(trimmed);
-                }
-            }
-        }
-
-        // Fallback: extract key skill phrases rather than raw JD text
-        if (reqs.isEmpty()) {
-            String[] techTerms = {"Java", "Python", "JavaScript", "TypeScript", "React", "Angular", "Vue",
-                    "Spring Boot", "Node.js", "SQL", "AWS", "Azure", "Docker", "Kubernetes",
-                    "CI/CD", "microservices", "REST API", "Machine Learning", "DevOps",
-                    "Agile", "Scrum", "Git", "cloud", "containerization", "data analysis",
-                    "C++", "C#", ".NET", "Go", "Kotlin", "Swift", "GraphQL", "Redis",
-                    "Kafka", "Terraform", "Jenkins", "HTML", "CSS", "MongoDB", "PostgreSQL"};
-            String jdLower = jd.toLowerCase();
-            for (String term : techTerms) {
-                if (jdLower.contains(term.toLowerCase())) {
-                    reqs.add("proficiency in " + term);
-                    if (reqs.size() >= 6) break;
-                }
-            }
-        }
-
-        return reqs.size() > 6 ? reqs.subList(0, 6) : reqs;
-    }
-
     // ==================== Matching ====================
 
     private List<String> findRelevantSkills(List<String> skills, List<String> requirements) {
@@ -255,7 +196,7 @@ public class CoverLetterService {
             // Extract just the tech term from "proficiency in X" format
             List<String> cleanReqs = new ArrayList<>();
             for (String req : requirements) {
-                String clean = req.replaceAll("(?i)^proficiency in\\s+", "").trim();
+                String clean = PROFICIENCY_PREFIX.matcher(req).replaceAll("").trim();
                 cleanReqs.add(clean);
             }
             if (cleanReqs.size() == 1) {
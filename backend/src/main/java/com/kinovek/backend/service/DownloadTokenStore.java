@@ -0,0 +1,116 @@
+package com.kinovek.backend.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Short-lived in-memory store for generated files that are fetched separately from the
+ * request that produced them (e.g. the PDF at the end of the SSE progress stream).
+ *
+ * Tokens are random UUIDs and expire after a fixed TTL; a file can be downloaded again until
+ * then (a re-click, a browser retry or a download manager's second request). The store holds
+ * at most kinovek.download.max-entries files. A live file is never evicted to make room: when
+ * the store is full, put is rejected and the caller reports when to retry.
+ */
+@Service
+public class DownloadTokenStore {
+
+    /** A stored file. */
+    public static class Download {
+        private final String fileName;
+        private final MediaType contentType;
+        private final byte[] content;
+        private final long expiresAtMillis;
+
+        Download(String fileName, MediaType contentType, byte[] content, long expiresAtMillis) {
+            this.fileName = fileName;
+            this.contentType = contentType;
+            this.content = content;
+            this.expiresAtMillis = expiresAtMillis;
+        }
+
+        public String getFileName() { return fileName; }
+        public MediaType getContentType() { return contentType; }
+        public byte[] getContent() { return content; }
+        public long getExpiresAtMillis() { return expiresAtMillis; }
+    }
+
+    /** The store is full of files that have not expired yet. */
+    public static class DownloadStoreFullException extends RuntimeException {
+        private final long retryAfterSeconds;
+
+        public DownloadStoreFullException(String message, long retryAfterSeconds) {
+            super(message);
+            this.retryAfterSeconds = retryAfterSeconds;
+        }
+
+        /** Seconds until the oldest stored file expires and frees a slot. */
+        public long getRetryAfterSeconds() {
+            return retryAfterSeconds;
+        }
+    }
+
+    private final Map<String, Download> downloads = new ConcurrentHashMap<>();
+
+    @Value("${kinovek.download.ttl-seconds:300}")
+    private long ttlSeconds;
+
+    @Value("${kinovek.download.max-entries:100}")
+    private int maxEntries;
+
+    /**
+     * Stores the file and returns the token to fetch it with. Synchronized so concurrent puts
+     * cannot all pass the size check and overshoot max-entries; there is one put per file.
+     *
+     * @throws DownloadStoreFullException when max-entries files are stored and none has expired
+     */
+    public synchronized String put(String fileName, MediaType contentType, byte[] content) {
+        purgeExpired();
+        if (downloads.size() >= maxEntries) {
+            throw new DownloadStoreFullException(
+                    "Too many finished files are waiting to be downloaded. Please try again shortly.",
+                    secondsUntilSoonestExpiry());
+        }
+        String token = UUID.randomUUID().toString();
+        downloads.put(token, new Download(fileName, contentType, content,
+                System.currentTimeMillis() + ttlSeconds * 1000));
+        return token;
+    }
+
+    /**
+     * Returns the file for a token, or null when the token is unknown or expired.
+     * Downloads can be repeated until the token expires.
+     */
+    public Download get(String token) {
+        Download download = downloads.get(token);
+        if (download == null) return null;
+        if (download.getExpiresAtMillis() <= System.currentTimeMillis()) {
+            downloads.remove(token, download);
+            return null;
+        }
+        return download;
+    }
+
+    public long getTtlSeconds() {
+        return ttlSeconds;
+    }
+
+    private void purgeExpired() {
+        long now = System.currentTimeMillis();
+        downloads.entrySet().removeIf(entry -> entry.getValue().getExpiresAtMillis() <= now);
+    }
+
+    private long secondsUntilSoonestExpiry() {
+        long soonestExpiry = Long.MAX_VALUE;
+        for (Download download : downloads.values()) {
+            soonestExpiry = Math.min(soonestExpiry, download.getExpiresAtMillis());
+        }
+        long millis = Math.max(0, soonestExpiry - System.currentTimeMillis());
+        return Math.max(1, (millis + 999) / 1000);
+    }
+}
@@ -0,0 +1,95 @@
+package com.kinovek.backend.service;
+
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.util.HtmlUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Renders the resume as an HTML fragment for the frontend live preview.
+ * Plain semantic markup with class names only — styling is left to the page.
+ */
+@Service
+public class HtmlResumeRenderer extends PreviewResumeRenderer {
+
+    private static final MediaType TEXT_HTML_UTF8 = new MediaType("text", "html", StandardCharsets.UTF_8);
+
+    @Override
+    public String getFormat() {
+        return "html";
+    }
+
+    @Override
+    public MediaType getContentType() {
+        return TEXT_HTML_UTF8;
+    }
+
+    @Override
+    protected void begin(StringBuilder sb) {
+        sb.append("<div class=\"resume-preview\">\n");
+    }
+
+    @Override
+    protected void end(StringBuilder sb) {
+        sb.append("</div>\n");
+    }
+
+    @Override
+    protected void name(StringBuilder sb, String name) {
+        sb.append("<h1 class=\"resume-name\">").append(escape(name)).append("</h1>\n");
+    }
+
+    @Override
+    protected void contact(StringBuilder sb, String contactLine) {
+        sb.append("<p class=\"resume-contact\">").append(escape(contactLine)).append("</p>\n");
+    }
+
+    @Override
+    protected void heading(StringBuilder sb, String heading) {
+        sb.append("<h2 class=\"resume-heading\">").append(escape(heading)).append("</h2>\n");
+    }
+
+    @Override
+    protected void paragraph(StringBuilder sb, String text) {
+        sb.append("<p>").append(escape(text)).append("</p>\n");
+    }
+
+    @Override
+    protected void line(StringBuilder sb, String strong, String rest) {
+        sb.append("<p><strong>").append(escape(strong)).append("</strong>");
+        if (rest != null) {
+            sb.append(' ').append(escape(rest));
+        }
+        sb.append("</p>\n");
+    }
+
+    @Override
+    protected void leftRight(StringBuilder sb, String left, boolean strongLeft, String right) {
+        sb.append("<div class=\"resume-row\"><span class=\"resume-row-left\">");
+        if (strongLeft) {
+            sb.append("<strong>").append(escape(left)).append("</strong>");
+        } else {
+            sb.append(escape(left));
+        }
+        sb.append("</span>");
+        if (right != null && !right.isBlank()) {
+            sb.append("<span class=\"resume-row-right\">").append(escape(right)).append("</span>");
+        }
+        sb.append("</div>\n");
+    }
+
+    @Override
+    protected void bullets(StringBuilder sb, List<String> items) {
+        sb.append("<ul>\n");
+        for (String item : items) {
+            sb.append("<li>").append(escape(item)).append("</li>\n");
+        }
+        sb.append("</ul>\n");
+    }
+
+    private String escape(String text) {
+        return HtmlUtils.htmlEscape(text, StandardCharsets.UTF_8.name());
+    }
+}
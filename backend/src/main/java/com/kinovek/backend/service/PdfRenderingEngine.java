@@ -0,0 +1,205 @@
+package com.kinovek.backend.service;
+
+import com.kinovek.backend.observability.PipelineEvents;
+import com.kinovek.backend.observability.PipelineMetrics;
+import com.kinovek.backend.util.StandardFontMetrics;
+import com.kinovek.backend.util.WinAnsiText;
+import com.lowagie.text.Document;
+import com.lowagie.text.DocumentException;
+import com.lowagie.text.Font;
+import com.lowagie.text.PageSize;
+import com.lowagie.text.Paragraph;
+import com.lowagie.text.Rectangle;
+import com.lowagie.text.pdf.BaseFont;
+import com.lowagie.text.pdf.PdfWriter;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.awt.Color;
+import java.io.BufferedOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * The one PDF writing stack for the backend (OpenPDF). Both the ATS converter and the
+ * resume generator open their documents here, so they share the same warmed font metrics
+ * and the same output strategy. PDFBox is only used for reading uploaded PDFs.
+ */
+@Component
+public class PdfRenderingEngine {
+
+    private static final Logger log = LoggerFactory.getLogger(PdfRenderingEngine.class);
+
+    // Coalesces OpenPDF's many small writes before they reach the response stream
+    private static final int OUTPUT_BUFFER_SIZE = 16 * 1024;
+
+    private final StandardFontMetrics regular = StandardFontMetrics.of(BaseFont.HELVETICA);
+    private final StandardFontMetrics bold = StandardFontMetrics.of(BaseFont.HELVETICA_BOLD);
+
+    @Value("${kinovek.pdf.warm-up:true}")
+    private boolean warmUp;
+
+    @Autowired
+    private PipelineMetrics pipelineMetrics;
+
+    /**
+     * Renders a throwaway document at startup so font loading and OpenPDF class
+     * initialization happen before the first request instead of during it.
+     */
+    @PostConstruct
+    void warmUp() {
+        if (!warmUp) return;
+        long start = System.currentTimeMillis();
+        try (Session session = open(PageSize.LETTER, 50, 50, 50, 50, OutputStream.nullOutputStream(), null)) {
+            session.getDocument().add(new Paragraph("Warm-up", font(true, 12)));
+            session.getDocument().add(new Paragraph("Warm-up", font(false, 11)));
+            session.finish();
+        } catch (Exception e) {
+            log.warn("PDF engine warm-up failed: {}", e.getMessage());
+            return;
+        }
+        log.info("PDF engine warmed up in {} ms", System.currentTimeMillis() - start);
+    }
+
+    /** Helvetica metrics — also the BaseFont to draw with. */
+    public StandardFontMetrics getRegularMetrics() {
+        return regular;
+    }
+
+    /** Helvetica-Bold metrics — also the BaseFont to draw with. */
+    public StandardFontMetrics getBoldMetrics() {
+        return bold;
+    }
+
+    /**
+     * Black Helvetica font at the given size, backed by the shared BaseFont.
+     */
+    public Font font(boolean boldFace, float size) {
+        return new Font((boldFace ? bold : regular).getBaseFont(), size, Font.NORMAL, Color.BLACK);
+    }
+
+    /**
+     * Opens a document that writes into out. The stream is buffered and flushed
+     * when the session is finished, but never closed — the caller owns it.
+     * The session is timed as the "render" stage and its output size recorded.
+     */
+    public Session open(Rectangle pageSize, float marginLeft, float marginRight,
+                        float marginTop, float marginBottom, OutputStream out) throws DocumentException {
+        return open(pageSize, marginLeft, marginRight, marginTop, marginBottom, out, pipelineMetrics);
+    }
+
+    private Session open(Rectangle pageSize, float marginLeft, float marginRight, float marginTop,
+                         float marginBottom, OutputStream out, PipelineMetrics metrics) throws DocumentException {
+        PipelineMetrics.Stage stage = metrics != null ? metrics.start(PipelineMetrics.RENDER) : null;
+        PipelineEvents.Render event = new PipelineEvents.Render();
+        event.begin();
+        Document document = new Document(pageSize, marginLeft, marginRight, marginTop, marginBottom);
+        CountingOutputStream counted = new CountingOutputStream(out);
+        BufferedOutputStream buffered = new BufferedOutputStream(counted, OUTPUT_BUFFER_SIZE);
+        PdfWriter writer = PdfWriter.getInstance(document, buffered);
+        writer.setCloseStream(false);
+        document.open();
+        return new Session(document, writer, buffered, counted, metrics, stage, event);
+    }
+
+    /**
+     * An open document and its writer. {@link #finish()} completes the PDF and flushes it to the
+     * caller's stream; it must be the last call of a successful render. Closing a session that was
+     * not finished abandons the document: nothing more is written, so a render that failed halfway
+     * never reaches the client as a well-formed PDF, and the caller's exception aborts the response.
+     * Text drawn into the document goes through {@link #text()} first; what it had to
+     * substitute is logged once when the session closes.
+     */
+    public static final class Session implements AutoCloseable {
+        private final WinAnsiText text = new WinAnsiText();
+        private final Document document;
+        private final PdfWriter writer;
+        private final BufferedOutputStream buffered;
+        private final CountingOutputStream counted;
+        private final PipelineMetrics metrics;
+        private final PipelineMetrics.Stage stage;
+        private final PipelineEvents.Render event;
+        private boolean finished;
+
+        private Session(Document document, PdfWriter writer, BufferedOutputStream buffered,
+                        CountingOutputStream counted, PipelineMetrics metrics, PipelineMetrics.Stage stage,
+                        PipelineEvents.Render event) {
+            this.document = document;
+            this.writer = writer;
+            this.buffered = buffered;
+            this.counted = counted;
+            this.metrics = metrics;
+            this.stage = stage;
+            this.event = event;
+        }
+
+        public Document getDocument() {
+            return document;
+        }
+
+        public PdfWriter getWriter() {
+            return writer;
+        }
+
+        /** Substitutes characters the built-in fonts cannot draw; one per document. */
+        public WinAnsiText text() {
+            return text;
+        }
+
+        /** Writes the rest of the PDF (pages, cross-reference table, trailer) and flushes it. */
+        public void finish() throws IOException {
+            event.pages = writer.getPageNumber();
+            document.close();
+            buffered.flush();
+            finished = true;
+        }
+
+        @Override
+        public void close() {
+            try {
+                if (!finished) {
+                    log.debug("PDF render did not finish — document abandoned after {} bytes", counted.count);
+                }
+                if (text.isChanged()) {
+                    log.warn("PDF text outside WinAnsi: {} characters transliterated, {} replaced with '?' {}",
+                            text.getTransliterated(), text.getReplaced(), text.getUnsupported());
+                }
+            } finally {
+                if (stage != null) {
+                    event.bytes = counted.count;
+                    event.commit();
+                    stage.close();
+                    if (finished) {
+                        metrics.recordOutput("pdf", counted.count);
+                    }
+                }
+            }
+        }
+    }
+
+    /** Counts the bytes that reach the caller's stream. */
+    private static final class CountingOutputStream extends FilterOutputStream {
+        private long count;
+
+        CountingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            count += len;
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.kinovek.backend.service;
+
+import java.util.Map;
+
+/**
+ * Notified as each enhance pipeline stage completes: extract, parse, match, rewrite
+ * (and render, when the caller renders). Called in order on the thread running the pipeline.
+ */
+@FunctionalInterface
+public interface PipelineStageListener {
+
+    PipelineStageListener NONE = (stage, data) -> { };
+
+    /**
+     * @param stage stage name, e.g. "match"
+     * @param data  what the stage produced that is worth showing early (read-only)
+     */
+    void stageCompleted(String stage, Map<String, Object> data);
+}
@@ -0,0 +1,228 @@
+package com.kinovek.backend.service;
+
+import com.kinovek.backend.config.ATSResumeConfig;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Base for the lightweight preview renderers. Walks the resume Map in the same
+ * order as ATSPDFGenerator (header, then config section order) and leaves the
+ * markup to subclasses. Everything is appended to one StringBuilder — no layout,
+ * no fonts — so a preview costs microseconds instead of a full PDF render.
+ */
+public abstract class PreviewResumeRenderer implements ResumeRenderer {
+
+    @Autowired
+    protected ATSResumeConfig config;
+
+    @Override
+    public void render(Map<String, Object> resumeData, boolean isFresher, OutputStream out) throws IOException {
+        out.write(renderToString(resumeData, isFresher).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Render the preview as a String.
+     */
+    public String renderToString(Map<String, Object> resumeData, boolean isFresher) {
+        StringBuilder sb = new StringBuilder(4096);
+        begin(sb);
+
+        // ===== HEADER: Name + Contact =====
+        Map<String, Object> personalInfo = getMap(resumeData, "personalInfo");
+        String name = getString(personalInfo, "fullName");
+        if (name != null && !name.isBlank()) {
+            name(sb, name.trim());
+        }
+        List<String> contactParts = new ArrayList<>();
+        for (String key : new String[]{"email", "phone", "linkedin", "location", "github", "portfolio"}) {
+            Object val = personalInfo.get(key);
+            if (val != null && !String.valueOf(val).isBlank()) {
+                contactParts.add(String.valueOf(val).trim());
+            }
+        }
+        if (!contactParts.isEmpty()) {
+            contact(sb, String.join(" | ", contactParts));
+        }
+
+        // ===== SECTIONS IN ORDER (same source as the PDF) =====
+        for (String section : config.getSectionOrder(isFresher)) {
+            String heading = config.getSectionHeadingText(section).toUpperCase();
+            switch (section) {
+                case "PROFESSIONAL_SUMMARY":
+                    String summary = getString(resumeData, "summary");
+                    if (summary != null && !summary.isBlank()) {
+                        heading(sb, heading);
+                        paragraph(sb, summary.trim());
+                    }
+                    break;
+                case "EDUCATION":
+                    List<Map<String, Object>> education = getList(resumeData, "education");
+                    if (education != null && !education.isEmpty()) {
+                        heading(sb, heading);
+                        appendEducation(sb, education);
+                    }
+                    break;
+                case "SKILLS":
+                    Map<String, Object> skills = getMap(resumeData, "skills");
+                    if (!skills.isEmpty()) {
+                        heading(sb, heading);
+                        for (Map.Entry<String, Object> entry : skills.entrySet()) {
+                            line(sb, entry.getKey() + ":", String.valueOf(entry.getValue()));
+                        }
+                    }
+                    break;
+                case "EXPERIENCE":
+                    List<Map<String, Object>> experience = getList(resumeData, "experience");
+                    if (experience != null && !experience.isEmpty()) {
+                        heading(sb, heading);
+                        appendExperience(sb, experience);
+                    }
+                    break;
+                case "PROJECTS":
+                    List<Map<String, Object>> projects = getList(resumeData, "projects");
+                    if (projects != null && !projects.isEmpty()) {
+                        heading(sb, heading);
+                        appendProjects(sb, projects);
+                    }
+                    break;
+                case "CERTIFICATIONS":
+                case "ACHIEVEMENTS":
+                    List<String> items = getStringList(resumeData, section.toLowerCase());
+                    if (items != null && !items.isEmpty()) {
+                        heading(sb, heading);
+                        bullets(sb, items);
+                    }
+                    break;
+            }
+        }
+
+        end(sb);
+        return sb.toString();
+    }
+
+    private void appendEducation(StringBuilder sb, List<Map<String, Object>> educationList) {
+        for (Map<String, Object> edu : educationList) {
+            String degree = getString(edu, "degree");
+            String institution = getString(edu, "institution");
+            String score = getString(edu, "score");
+
+            if (degree != null) {
+                leftRight(sb, degree, true, getString(edu, "year"));
+            }
+            if (institution != null && !institution.isBlank()) {
+                paragraph(sb, institution);
+            }
+            if (score != null && !score.isBlank()) {
+                paragraph(sb, score);
+            }
+        }
+    }
+
+    private void appendExperience(StringBuilder sb, List<Map<String, Object>> experienceList) {
+        for (Map<String, Object> job : experienceList) {
+            String title = getString(job, "title");
+            String company = getString(job, "company");
+            String location = getString(job, "location");
+
+            if (title != null) {
+                line(sb, title, null);
+            }
+
+            StringBuilder companyLine = new StringBuilder();
+            if (company != null) companyLine.append(company);
+            if (location != null && !location.isBlank()) {
+                if (companyLine.length() > 0) companyLine.append(", ");
+                companyLine.append(location);
+            }
+            leftRight(sb, companyLine.toString(), false, getString(job, "dates"));
+
+            List<String> jobBullets = getStringList(job, "bullets");
+            if (jobBullets != null && !jobBullets.isEmpty()) {
+                bullets(sb, jobBullets);
+            }
+        }
+    }
+
+    private void appendProjects(StringBuilder sb, List<Map<String, Object>> projectList) {
+        for (Map<String, Object> project : projectList) {
+            String name = getString(project, "name");
+            String techStack = getString(project, "techStack");
+
+            line(sb, name != null ? name : "",
+                    techStack != null && !techStack.isBlank() ? "| " + techStack : null);
+
+            List<String> projectBullets = getStringList(project, "bullets");
+            if (projectBullets != null && !projectBullets.isEmpty()) {
+                bullets(sb, projectBullets);
+            }
+        }
+    }
+
+    // ========== MARKUP HOOKS ==========
+
+    protected abstract void begin(StringBuilder sb);
+
+    protected abstract void end(StringBuilder sb);
+
+    protected abstract void name(StringBuilder sb, String name);
+
+    protected abstract void contact(StringBuilder sb, String contactLine);
+
+    protected abstract void heading(StringBuilder sb, String heading);
+
+    protected abstract void paragraph(StringBuilder sb, String text);
+
+    /** A line with a bold lead (job title, "Category:", project name) and optional plain remainder. */
+    protected abstract void line(StringBuilder sb, String strong, String rest);
+
+    /** "Degree ... Year" / "Company, Location ... Dates" rows; right may be null or blank. */
+    protected abstract void leftRight(StringBuilder sb, String left, boolean strongLeft, String right);
+
+    protected abstract void bullets(StringBuilder sb, List<String> items);
+
+    // ========== UTILITY METHODS ==========
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Object> getMap(Map<String, Object> data, String key) {
+        Object val = data.get(key);
+        if (val instanceof Map) {
+            return (Map<String, Object>) val;
+        }
+        return new LinkedHashMap<>();
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Map<String, Object>> getList(Map<String, Object> data, String key) {
+        Object val = data.get(key);
+        if (val instanceof List) {
+            return (List<Map<String, Object>>) val;
+        }
+        return null;
+    }
+
+    private List<String> getStringList(Map<String, Object> data, String key) {
+        Object val = data.get(key);
+        if (val instanceof List) {
+            List<String> result = new ArrayList<>();
+            for (Object item : (List<?>) val) {
+                if (item != null && !String.valueOf(item).isBlank()) {
+                    result.add(String.valueOf(item).trim());
+                }
+            }
+            return result;
+        }
+        return null;
+    }
+
+    private String getString(Map<String, Object> data, String key) {
+        Object val = data.get(key);
+        return val != null ? String.valueOf(val) : null;
+    }
+}
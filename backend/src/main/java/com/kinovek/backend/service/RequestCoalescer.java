@@ -0,0 +1,191 @@
+package com.kinovek.backend.service;
+
+import com.kinovek.backend.observability.RequestTrace;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Single-flight for identical requests: while one request computes a result for a given
+ * endpoint + file name + upload hash + JD hash, identical requests wait for that result
+ * instead of running the pipeline again. A waiter gives up after
+ * kinovek.coalesce.wait-timeout-ms and runs the work itself, so a stuck run doesn't hold
+ * every identical request with it.
+ *
+ * With an Idempotency-Key the successful result is also kept for
+ * kinovek.coalesce.idempotency-ttl-seconds, so a retry with the same key reuses it.
+ * Reusing a key for a different upload or JD is rejected, both while the first request is
+ * still running and after it has finished. At most kinovek.coalesce.max-retained results are
+ * kept; one that finds the map full of live entries is not kept, and is logged and counted as
+ * kinovek.coalesce.retain-dropped.
+ */
+@Component
+public class RequestCoalescer {
+
+    private static final Logger log = LoggerFactory.getLogger(RequestCoalescer.class);
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${kinovek.coalesce.idempotency-ttl-seconds:60}")
+    private long idempotencyTtlSeconds;
+
+    @Value("${kinovek.coalesce.max-retained:100}")
+    private int maxRetained;
+
+    @Value("${kinovek.coalesce.wait-timeout-ms:30000}")
+    private long waitTimeoutMs;
+
+    private final Map<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final Map<String, Retained> retained = new ConcurrentHashMap<>();
+    // Idempotency key -> fingerprint of the request currently running with it
+    private final Map<String, String> inFlightKeys = new ConcurrentHashMap<>();
+
+    private record Retained(String fingerprint, Object result, Instant expiresAt) {}
+
+    /** The Idempotency-Key was already used for a different request. */
+    public static class IdempotencyKeyReusedException extends RuntimeException {
+        public IdempotencyKeyReusedException(String message) {
+            super(message);
+        }
+    }
+
+    /**
+     * Run the work, or share the result of an identical request already running.
+     *
+     * @param endpoint       name of the endpoint (part of the key)
+     * @param fileName       uploaded file name — the extension decides how it is parsed
+     * @param content        uploaded file content
+     * @param jobDescription job description, may be null
+     * @param idempotencyKey optional Idempotency-Key header value
+     * @param work           computes the result; must not depend on anything but the inputs above
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String endpoint, String fileName, byte[] content, String jobDescription,
+                         String idempotencyKey, Callable<T> work) throws Exception {
+        String fingerprint = endpoint + ":" + fileName.toLowerCase() + ":"
+                + sha256(content) + ":" + sha256(jobDescription == null ? new byte[0]
+                        : jobDescription.getBytes(StandardCharsets.UTF_8));
+        String retainKey = idempotencyKey == null || idempotencyKey.isBlank()
+                ? null : endpoint + ":" + idempotencyKey;
+
+        if (retainKey != null) {
+            Retained previous = retained.get(retainKey);
+            if (previous != null && previous.expiresAt().isAfter(Instant.now())) {
+                if (!previous.fingerprint().equals(fingerprint)) {
+                    throw new IdempotencyKeyReusedException(
+                            "Idempotency-Key was already used for a different request.");
+                }
+                count(endpoint, "idempotent");
+                return (T) previous.result();
+            }
+        }
+
+        boolean ownsKey = false;
+        if (retainKey != null) {
+            String running = inFlightKeys.putIfAbsent(retainKey, fingerprint);
+            if (running != null && !running.equals(fingerprint)) {
+                throw new IdempotencyKeyReusedException(
+                        "Idempotency-Key is already in use by a different request.");
+            }
+            ownsKey = running == null;
+        }
+        try {
+            return run(endpoint, fingerprint, retainKey, work);
+        } finally {
+            if (ownsKey) {
+                inFlightKeys.remove(retainKey, fingerprint);
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T run(String endpoint, String fingerprint, String retainKey, Callable<T> work) throws Exception {
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        CompletableFuture<Object> running = inFlight.putIfAbsent(fingerprint, mine);
+        if (running != null) {
+            log.debug("Joining in-flight {} request", endpoint);
+            count(endpoint, "in-flight");
+            try {
+                return (T) await(running);
+            } catch (TimeoutException e) {
+                log.warn("In-flight {} request still running after {} ms, running it again", endpoint, waitTimeoutMs);
+                meterRegistry.counter("kinovek.coalesce.wait-timeouts", "endpoint", endpoint).increment();
+                return work.call();
+            }
+        }
+
+        try {
+            T result = work.call();
+            mine.complete(result);
+            if (retainKey != null) {
+                retain(endpoint, retainKey, fingerprint, result);
+            }
+            return result;
+        } catch (Throwable e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(fingerprint, mine);
+        }
+    }
+
+    private Object await(CompletableFuture<Object> running) throws Exception {
+        try {
+            return running.get(waitTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            // Surface the leader's failure as if it happened here, so controllers map it the same way
+            Throwable cause = e.getCause();
+            if (cause instanceof Exception ex) throw ex;
+            if (cause instanceof Error err) throw err;
+            throw e;
+        }
+    }
+
+    private void retain(String endpoint, String retainKey, String fingerprint, Object result) {
+        if (retained.size() >= maxRetained) {
+            Instant now = Instant.now();
+            retained.values().removeIf(entry -> !entry.expiresAt().isAfter(now));
+            if (retained.size() >= maxRetained) {
+                // A retry with this key will run again instead of getting this result
+                log.warn("Idempotent {} result not kept: {} results retained (kinovek.coalesce.max-retained)",
+                        endpoint, retained.size());
+                meterRegistry.counter("kinovek.coalesce.retain-dropped", "endpoint", endpoint).increment();
+                return;
+            }
+        }
+        retained.put(retainKey, new Retained(fingerprint, result, Instant.now().plusSeconds(idempotencyTtlSeconds)));
+    }
+
+    private void count(String endpoint, String kind) {
+        meterRegistry.counter("kinovek.coalesce.hits", "endpoint", endpoint, "kind", kind).increment();
+        RequestTrace trace = RequestTrace.current();
+        if (trace != null) {
+            trace.recordCacheHit("coalesced-" + kind);
+        }
+    }
+
+    private static String sha256(byte[] data) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(data));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
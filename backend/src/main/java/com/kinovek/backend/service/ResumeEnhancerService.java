@@ -43,8 +43,20 @@ public class ResumeEnhancerService {
         // 2. Match keywords
         KeywordMatcher.MatchResult matchResult = keywordMatcher.match(resumeText, jobDescription);
 
+        return analyze(resumeText, matchResult);
+    }
+
+    /**
+     * Score and suggestions for a resume whose text was already extracted and matched,
+     * e.g. by the enhance pipeline on its way to the PDF.
+     *
+     * @param resumeText  extracted resume text
+     * @param matchResult keyword match of the resume against the job description
+     * @return EnhanceResponse with score, keywords, suggestions, and section analysis
+     */
+    public EnhanceResponse analyze(String resumeText, KeywordMatcher.MatchResult matchResult) {
         // 3. Calculate ATS score
-        ATSScoreResponse scoreResponse = atsScoringService.calculateScore(resumeText, jobDescription);
+        ATSScoreResponse scoreResponse = atsScoringService.calculateScore(resumeText, matchResult);
 
         // 4. Generate suggestions based on missing keywords
         List<String> suggestions = generateSuggestions(matchResult.getMissingKeywords());
@@ -0,0 +1,286 @@
+package com.kinovek.backend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kinovek.backend.config.PipelineExecutors;
+import com.kinovek.backend.dto.ApiResponse;
+import com.kinovek.backend.model.CoverLetterResult;
+import com.kinovek.backend.model.EnhancedResume;
+import com.kinovek.backend.model.ResumeJob;
+import com.kinovek.backend.model.ResumeJobSummary;
+import com.kinovek.backend.repository.ResumeJobRepository;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.ByteArrayOutputStream;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Asynchronous jobs for the heavy endpoints (enhance-pdf, ats-convert, cover letter).
+ *
+ * Submitting only stores a QUEUED row, so a burst is absorbed by the database instead of
+ * tying up request threads. A dispatcher hands queued jobs to the job worker pool oldest
+ * first, never more than there are workers; it runs on submit, when a job finishes and on
+ * a fixed-delay sweep that also purges expired results. The upload is dropped once the job
+ * has run and the result lives in the same row until kinovek.jobs.ttl-seconds after that.
+ * The database is in memory only, so nothing a user uploads reaches the disk.
+ */
+@Service
+public class ResumeJobService {
+
+    private static final Logger log = LoggerFactory.getLogger(ResumeJobService.class);
+
+    private static final int CLAIM_BATCH = 8;
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    @Autowired
+    private ResumeJobRepository jobRepository;
+
+    @Autowired
+    private PipelineExecutors pipelineExecutors;
+
+    @Autowired
+    private ResumePipelineService resumePipelineService;
+
+    @Autowired
+    private ATSPDFGenerator atsPdfGenerator;
+
+    @Autowired
+    private ATSConverterService atsConverterService;
+
+    @Autowired
+    private CoverLetterService coverLetterService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${kinovek.jobs.ttl-seconds:900}")
+    private long ttlSeconds;
+
+    @Value("${kinovek.jobs.max-stored-mb:128}")
+    private long maxStoredMb;
+
+    private Semaphore workerSlots;
+
+    // Long-poll callbacks waiting for a job to finish
+    private final Map<String, List<Runnable>> finishListeners = new ConcurrentHashMap<>();
+
+    /**
+     * The store already holds kinovek.jobs.max-stored-mb of uploads and results. The controller
+     * answers 503 with Retry-After rather than letting the backlog exhaust the heap.
+     */
+    public static class JobStoreFullException extends RuntimeException {
+        public JobStoreFullException(String message) {
+            super(message);
+        }
+    }
+
+    @PostConstruct
+    void init() {
+        workerSlots = new Semaphore(pipelineExecutors.getJobWorkers());
+    }
+
+    /**
+     * Queue a job for an upload already read into memory.
+     *
+     * @param type           what to run
+     * @param fileName       original file name (decides the format)
+     * @param content        the uploaded file content
+     * @param jobDescription target job description (ignored by ATS_CONVERT)
+     * @return the queued job
+     * @throws JobStoreFullException when the store is full even after purging expired results
+     */
+    public ResumeJobSummary submit(ResumeJob.Type type, String fileName, byte[] content, String jobDescription) {
+        ResumeJob job = new ResumeJob();
+        job.setId(UUID.randomUUID().toString());
+        job.setType(type);
+        job.setStatus(ResumeJob.Status.QUEUED);
+        job.setFileName(fileName);
+        job.setInput(content);
+        job.setJobDescription(jobDescription);
+        job.setStoredBytes(content.length + (jobDescription != null ? jobDescription.length() : 0L));
+        job.setCreatedAt(Instant.now());
+
+        // Check and insert together, so concurrent submits can't all pass the same check
+        synchronized (this) {
+            long budget = maxStoredMb * 1024 * 1024;
+            if (jobRepository.sumStoredBytes() + job.getStoredBytes() > budget) {
+                jobRepository.deleteExpired(Instant.now());
+                if (jobRepository.sumStoredBytes() + job.getStoredBytes() > budget) {
+                    throw new JobStoreFullException("Too many jobs in progress. Please retry shortly.");
+                }
+            }
+            jobRepository.save(job);
+        }
+        log.info("=== JOB {} queued | type={} | {} bytes ===", job.getId(), type, content.length);
+
+        dispatch();
+        return job;
+    }
+
+    /** Status without loading input or result. */
+    public Optional<ResumeJobSummary> getSummary(String id) {
+        return jobRepository.findSummaryById(id);
+    }
+
+    /** The full job, including its result. */
+    public Optional<ResumeJob> getJob(String id) {
+        return jobRepository.findById(id);
+    }
+
+    /**
+     * Runs the callback once the job finishes — right away if it already has.
+     */
+    public void whenFinished(String id, Runnable callback) {
+        finishListeners.computeIfAbsent(id, k -> new CopyOnWriteArrayList<>()).add(callback);
+        // Re-check after registering so a job finishing in between is not missed
+        getSummary(id).filter(job -> job.getStatus().isFinished()).ifPresent(job -> notifyFinished(id));
+    }
+
+    /** Drops a callback that is no longer needed (e.g. the long-poll timed out). */
+    public void removeListener(String id, Runnable callback) {
+        finishListeners.computeIfPresent(id, (k, callbacks) -> {
+            callbacks.remove(callback);
+            return callbacks.isEmpty() ? null : callbacks;
+        });
+    }
+
+    /**
+     * Purge expired results and pick up anything still queued.
+     */
+    @Scheduled(fixedDelayString = "${kinovek.jobs.sweep-interval-ms:1000}")
+    public void sweep() {
+        int purged = jobRepository.deleteExpired(Instant.now());
+        if (purged > 0) {
+            log.info("Purged {} expired jobs", purged);
+        }
+        dispatch();
+    }
+
+    /**
+     * Hands queued jobs to free workers, oldest first.
+     */
+    public void dispatch() {
+        while (workerSlots.tryAcquire()) {
+            String id = claimNext();
+            if (id == null) {
+                workerSlots.release();
+                return;
+            }
+            try {
+                pipelineExecutors.getJobPool().execute(() -> {
+                    try {
+                        run(id);
+                    } finally {
+                        workerSlots.release();
+                        dispatch();
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                // Shutting down — queued jobs go with the in-memory database
+                workerSlots.release();
+                return;
+            }
+        }
+    }
+
+    private String claimNext() {
+        for (String id : jobRepository.findIdsByStatus(ResumeJob.Status.QUEUED, PageRequest.of(0, CLAIM_BATCH))) {
+            if (jobRepository.transition(id, ResumeJob.Status.QUEUED, ResumeJob.Status.RUNNING, Instant.now()) == 1) {
+                return id;
+            }
+        }
+        return null;
+    }
+
+    private void run(String id) {
+        ResumeJob job = jobRepository.findById(id).orElse(null);
+        if (job == null) return;
+
+        log.info("=== JOB {} started | type={} ===", id, job.getType());
+        try {
+            execute(job);
+            job.setStatus(ResumeJob.Status.SUCCEEDED);
+        } catch (IllegalArgumentException e) {
+            fail(job, "INVALID_FILE_TYPE", e.getMessage());
+        } catch (Throwable e) {
+            // Errors too (e.g. OutOfMemoryError on a huge upload): the job must still finish
+            log.error("Job {} failed", id, e);
+            fail(job, "PROCESSING_ERROR", "Job failed: " + e.getMessage());
+        }
+
+        try {
+            // Inputs are no longer needed; the result stays until the TTL runs out
+            Instant now = Instant.now();
+            job.setInput(null);
+            job.setJobDescription(null);
+            job.setStoredBytes(job.getResult() != null ? job.getResult().length : 0);
+            job.setFinishedAt(now);
+            job.setExpiresAt(now.plusSeconds(ttlSeconds));
+            jobRepository.save(job);
+            log.info("=== JOB {} {} ===", id, job.getStatus());
+        } finally {
+            // Long-polls are released even if the result could not be stored
+            notifyFinished(id);
+        }
+    }
+
+    private void execute(ResumeJob job) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        switch (job.getType()) {
+            case ENHANCE_PDF -> {
+                EnhancedResume enhanced = resumePipelineService.enhance(
+                        job.getFileName(), job.getInput(), job.getJobDescription(), PipelineStageListener.NONE);
+                atsPdfGenerator.generateATSResume(enhanced.getResumeData(), enhanced.isFresher(), out);
+                job.setResultFileName(enhanced.getFileNameBase() + "_Enhanced_Resume.pdf");
+                job.setResultContentType(MediaType.APPLICATION_PDF_VALUE);
+            }
+            case ATS_CONVERT -> {
+                List<String> atsLines = atsConverterService.extractATSLines(job.getFileName(), job.getInput());
+                atsConverterService.writePDF(atsLines, out);
+                String originalName = job.getFileName();
+                String baseName = originalName.contains(".")
+                        ? originalName.substring(0, originalName.lastIndexOf('.')) : "resume";
+                job.setResultFileName(baseName + "_ATS_Friendly.pdf");
+                job.setResultContentType(MediaType.APPLICATION_PDF_VALUE);
+            }
+            case COVER_LETTER -> {
+                CoverLetterResult result = coverLetterService.generateCoverLetter(
+                        job.getFileName(), job.getInput(), job.getJobDescription());
+                // Same body as POST /api/v1/cover-letter/generate
+                out.write(objectMapper.writeValueAsBytes(ApiResponse.ok(result)));
+                job.setResultFileName("Cover_Letter.json");
+                job.setResultContentType(MediaType.APPLICATION_JSON_VALUE);
+            }
+        }
+        job.setResult(out.toByteArray());
+    }
+
+    private void fail(ResumeJob job, String code, String message) {
+        job.setStatus(ResumeJob.Status.FAILED);
+        job.setErrorCode(code);
+        job.setErrorMessage(message != null && message.length() > MAX_ERROR_LENGTH
+                ? message.substring(0, MAX_ERROR_LENGTH) : message);
+    }
+
+    private void notifyFinished(String id) {
+        List<Runnable> callbacks = finishListeners.remove(id);
+        if (callbacks != null) {
+            callbacks.forEach(Runnable::run);
+        }
+    }
+}
@@ -1,9 +1,12 @@
 package com.kinovek.backend.service;
 
+import com.kinovek.backend.observability.PipelineEvents;
+import com.kinovek.backend.observability.PipelineMetrics;
 import com.kinovek.backend.util.DOCXParser;
 import com.kinovek.backend.util.PDFParser;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -14,6 +17,9 @@ public class ResumeParserService {
 
     private static final Logger log = LoggerFactory.getLogger(ResumeParserService.class);
 
+    @Autowired
+    private PipelineMetrics pipelineMetrics;
+
     /**
      * Parses a resume file and extracts text content.
      * Supports PDF and DOCX formats only.
@@ -24,27 +30,66 @@ public class ResumeParserService {
      * @throws IllegalArgumentException if the file type is not supported
      */
     public String parseResume(MultipartFile file) throws IOException {
-        log.info("=== PARSING RESUME ===");
-        String fileName = file.getOriginalFilename();
-        log.info("File: {} | Size: {} bytes", fileName, file.getSize());
-        if (fileName == null || fileName.isBlank()) {
-            throw new IllegalArgumentException("File name is missing");
-        }
+        checkFileName(file.getOriginalFilename());
+        return parseResume(file.getOriginalFilename(), file.getBytes());
+    }
 
-        String lowerName = fileName.toLowerCase();
+    /**
+     * Same as {@link #parseResume(MultipartFile)} for an upload that was already read into memory,
+     * e.g. before handing the work to another thread after the request has returned.
+     *
+     * @param fileName original file name (decides the format)
+     * @param content  the file content
+     * @return extracted text content
+     */
+    public String parseResume(String fileName, byte[] content) throws IOException {
+        log.debug("=== PARSING RESUME ===");
+        log.debug("File: {} | Size: {} bytes", fileName, content.length);
+        String lowerName = checkFileName(fileName);
+        String format;
         String text;
+        int pages = -1;
 
-        if (lowerName.endsWith(".pdf")) {
-            log.info("Extracting text from PDF...");
-            text = PDFParser.extractText(file);
-        } else if (lowerName.endsWith(".docx")) {
-            log.info("Extracting text from DOCX...");
-            text = DOCXParser.extractText(file);
-        } else {
-            throw new IllegalArgumentException("Unsupported file type. Only PDF and DOCX files are supported.");
+        PipelineEvents.Extraction event = new PipelineEvents.Extraction();
+        event.begin();
+        try (PipelineMetrics.Stage stage = pipelineMetrics.start(PipelineMetrics.EXTRACT)) {
+            if (lowerName.endsWith(".pdf")) {
+                log.debug("Extracting text from PDF...");
+                format = "pdf";
+                PDFParser.PdfText pdf = PDFParser.extract(content);
+                text = pdf.text();
+                pages = pdf.pages();
+            } else {
+                log.debug("Extracting text from DOCX...");
+                format = "docx";
+                text = DOCXParser.extractText(content);
+            }
         }
 
-        log.info("Extracted text length: {} chars", text.length());
+        event.format = format;
+        event.bytes = content.length;
+        event.pages = pages;
+        event.chars = text.length();
+        event.commit();
+
+        pipelineMetrics.recordUpload(format, content.length, pages, text.length());
+        log.debug("Extracted text length: {} chars", text.length());
         return text;
     }
+
+    /**
+     * Validates the upload name and returns it lower-cased.
+     *
+     * @throws IllegalArgumentException if the name is missing or the file type is not supported
+     */
+    public String checkFileName(String fileName) {
+        if (fileName == null || fileName.isBlank()) {
+            throw new IllegalArgumentException("File name is missing");
+        }
+        String lowerName = fileName.toLowerCase();
+        if (!lowerName.endsWith(".pdf") && !lowerName.endsWith(".docx")) {
+            throw new IllegalArgumentException("Unsupported file type. Only PDF and DOCX files are supported.");
+        }
+        return lowerName;
+    }
 }
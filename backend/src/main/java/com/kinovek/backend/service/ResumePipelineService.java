@@ -0,0 +1,166 @@
+package com.kinovek.backend.service;
+
+import com.kinovek.backend.model.EnhancedResume;
+import com.kinovek.backend.observability.PipelineEvents;
+import com.kinovek.backend.observability.PipelineMetrics;
+import com.kinovek.backend.util.KeywordMatcher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The enhance pipeline shared by the PDF download and the live preview:
+ * extract text → parse into sections → match keywords → rewrite.
+ * Rendering is left to the caller so previews never touch the PDF renderer.
+ */
+@Service
+public class ResumePipelineService {
+
+    private static final Logger log = LoggerFactory.getLogger(ResumePipelineService.class);
+
+    @Autowired
+    private ResumeParserService resumeParserService;
+
+    @Autowired
+    private ResumeTextParserService resumeTextParserService;
+
+    @Autowired
+    private KeywordMatcher keywordMatcher;
+
+    @Autowired
+    private ResumeRewriter resumeRewriter;
+
+    @Autowired
+    private PipelineMetrics pipelineMetrics;
+
+    /**
+     * Run the full enhance pipeline on an uploaded resume.
+     *
+     * @param resumeFile     the uploaded resume (PDF or DOCX)
+     * @param jobDescription the target job description
+     * @return enhanced resume data plus the intermediate text and keyword match
+     * @throws IOException if the file cannot be parsed
+     */
+    public EnhancedResume enhance(MultipartFile resumeFile, String jobDescription) throws IOException {
+        String resumeText = extractText(resumeFile);
+        return enhanceParsed(index(resumeText), parse(resumeText), jobDescription);
+    }
+
+    /**
+     * Same pipeline for an upload already read into memory, reporting each stage to the listener.
+     * Safe to run after the request thread has returned.
+     *
+     * @param fileName       original file name (decides the format)
+     * @param content        the uploaded file content
+     * @param jobDescription the target job description
+     * @param listener       notified after extract, parse, match and rewrite
+     */
+    public EnhancedResume enhance(String fileName, byte[] content, String jobDescription,
+                                  PipelineStageListener listener) throws IOException {
+        String resumeText = extractText(fileName, content);
+        listener.stageCompleted("extract", Map.of("chars", resumeText.length()));
+
+        Map<String, Object> originalResumeData = parse(resumeText);
+        listener.stageCompleted("parse", Map.of("sections", List.copyOf(originalResumeData.keySet())));
+
+        return enhanceParsed(resumeText, originalResumeData, jobDescription, listener);
+    }
+
+    /**
+     * Step 1: Extract text from uploaded PDF/DOCX.
+     */
+    public String extractText(MultipartFile resumeFile) throws IOException {
+        String resumeText = resumeParserService.parseResume(resumeFile);
+        log.debug("=== STEP 1 DONE: Resume text extracted | {} chars ===", resumeText.length());
+        return resumeText;
+    }
+
+    /**
+     * Step 1 for an upload already read into memory.
+     */
+    public String extractText(String fileName, byte[] content) throws IOException {
+        String resumeText = resumeParserService.parseResume(fileName, content);
+        log.debug("=== STEP 1 DONE: Resume text extracted | {} chars ===", resumeText.length());
+        return resumeText;
+    }
+
+    /**
+     * Step 2: Parse text into structured data.
+     */
+    public Map<String, Object> parse(String resumeText) {
+        PipelineEvents.StructureParse event = new PipelineEvents.StructureParse();
+        event.begin();
+        Map<String, Object> originalResumeData;
+        try (PipelineMetrics.Stage stage = pipelineMetrics.start(PipelineMetrics.PARSE)) {
+            originalResumeData = resumeTextParserService.parseResumeText(resumeText);
+        }
+        event.sections = originalResumeData.size();
+        event.commit();
+        log.debug("=== STEP 2 DONE: Parsed into sections: {} ===", originalResumeData.keySet());
+        return originalResumeData;
+    }
+
+    /**
+     * Prepares extracted text for keyword matching against several job descriptions.
+     */
+    public KeywordMatcher.ResumeIndex index(String resumeText) {
+        return keywordMatcher.index(resumeText);
+    }
+
+    /**
+     * Steps 3-4 for one job description against an already extracted, indexed and parsed
+     * resume. The index and the parsed data are only read (ResumeRewriter deep-copies the
+     * data), so one of each can be shared by several job descriptions running in parallel.
+     */
+    public EnhancedResume enhanceParsed(KeywordMatcher.ResumeIndex resume, Map<String, Object> originalResumeData,
+                                        String jobDescription) {
+        return enhanceParsed(resume, originalResumeData, jobDescription, PipelineStageListener.NONE);
+    }
+
+    /**
+     * Steps 3-4, reporting the keyword match and the rewritten resume as soon as each exists.
+     */
+    public EnhancedResume enhanceParsed(String resumeText, Map<String, Object> originalResumeData,
+                                        String jobDescription, PipelineStageListener listener) {
+        return enhanceParsed(index(resumeText), originalResumeData, jobDescription, listener);
+    }
+
+    private EnhancedResume enhanceParsed(KeywordMatcher.ResumeIndex resume, Map<String, Object> originalResumeData,
+                                         String jobDescription, PipelineStageListener listener) {
+        String resumeText = resume.getText();
+
+        // Step 3: Analyze keywords
+        KeywordMatcher.MatchResult matchResult = keywordMatcher.match(resume, jobDescription);
+        Map<String, Object> analysisResults = new LinkedHashMap<>();
+        analysisResults.put("matchedKeywords", matchResult.getMatchedKeywords());
+        analysisResults.put("missingKeywords", matchResult.getMissingKeywords());
+        analysisResults.put("matchPercentage", matchResult.getMatchPercentage());
+        log.debug("=== STEP 3 DONE: Keywords matched={} missing={} match%={} ===",
+                matchResult.getMatchedKeywords().size(), matchResult.getMissingKeywords().size(),
+                matchResult.getMatchPercentage());
+        listener.stageCompleted("match", analysisResults);
+
+        // Step 4: Enhance the resume
+        PipelineEvents.Rewrite rewriteEvent = new PipelineEvents.Rewrite();
+        rewriteEvent.begin();
+        Map<String, Object> enhancedData;
+        try (PipelineMetrics.Stage stage = pipelineMetrics.start(PipelineMetrics.REWRITE)) {
+            enhancedData = resumeRewriter.enhanceResume(originalResumeData, analysisResults, jobDescription);
+        }
+        log.debug("=== STEP 4 DONE: Resume enhanced | sections: {} ===", enhancedData.keySet());
+
+        boolean isFresher = (boolean) enhancedData.getOrDefault("isFresher", true);
+        rewriteEvent.sections = enhancedData.size();
+        rewriteEvent.fresher = isFresher;
+        rewriteEvent.commit();
+        listener.stageCompleted("rewrite", Map.of("resumeData", enhancedData, "isFresher", isFresher));
+        return new EnhancedResume(resumeText, matchResult, enhancedData, isFresher);
+    }
+}
@@ -0,0 +1,135 @@
+package com.kinovek.backend.service;
+
+import com.kinovek.backend.config.PipelineExecutors;
+import com.kinovek.backend.dto.ApiResponse;
+import com.kinovek.backend.model.EnhancedResume;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Runs the enhance-pdf pipeline on its own virtual thread and reports progress as
+ * Server-Sent Events: one event per stage (extract, parse, match, rewrite, render),
+ * then "complete" with a download token for the PDF, or "error" with an ApiResponse body.
+ * Only the render step takes a thread from the render pool.
+ */
+@Service
+public class ResumeProgressService {
+
+    private static final Logger log = LoggerFactory.getLogger(ResumeProgressService.class);
+
+    @Autowired
+    private ResumePipelineService resumePipelineService;
+
+    @Autowired
+    private ATSPDFGenerator atsPdfGenerator;
+
+    @Autowired
+    private DownloadTokenStore downloadTokenStore;
+
+    @Autowired
+    private PipelineExecutors pipelineExecutors;
+
+    @Value("${kinovek.sse.timeout-ms:120000}")
+    private long timeoutMs;
+
+    /** Thrown from the stage listener to stop the pipeline once the client is gone. */
+    private static class ClientGoneException extends RuntimeException {
+        ClientGoneException() {
+            super(null, null, false, false);
+        }
+    }
+
+    /**
+     * Start the pipeline for an upload that was already read into memory.
+     *
+     * @param fileName       original file name (decides the format)
+     * @param content        the uploaded file content
+     * @param jobDescription the target job description
+     * @return the emitter to return from the controller
+     */
+    public SseEmitter start(String fileName, byte[] content, String jobDescription) {
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        AtomicBoolean closed = new AtomicBoolean();
+        emitter.onCompletion(() -> closed.set(true));
+        emitter.onTimeout(() -> closed.set(true));
+        emitter.onError(e -> closed.set(true));
+
+        pipelineExecutors.getStreamExecutor().execute(() -> run(fileName, content, jobDescription, emitter, closed));
+        return emitter;
+    }
+
+    /**
+     * An emitter that only reports an error — for uploads rejected before the pipeline starts.
+     */
+    public SseEmitter failed(String code, String message) {
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        fail(emitter, new AtomicBoolean(), code, message);
+        return emitter;
+    }
+
+    private void run(String fileName, byte[] content, String jobDescription,
+                     SseEmitter emitter, AtomicBoolean closed) {
+        try {
+            // Steps 1-4: extract, parse, match, rewrite — each reported as it completes
+            EnhancedResume enhanced = resumePipelineService.enhance(fileName, content, jobDescription,
+                    (stage, data) -> send(emitter, closed, stage, data));
+
+            // Step 5: Render the PDF and park it behind a download token
+            ByteArrayOutputStream pdf = new ByteArrayOutputStream();
+            pipelineExecutors.runCpuBound(() ->
+                    atsPdfGenerator.generateATSResume(enhanced.getResumeData(), enhanced.isFresher(), pdf));
+            log.debug("=== STEP 5 DONE: PDF rendered | {} bytes ===", pdf.size());
+            send(emitter, closed, "render", Map.of("bytes", pdf.size()));
+
+            String pdfName = enhanced.getFileNameBase() + "_Enhanced_Resume.pdf";
+            String token = downloadTokenStore.put(pdfName, MediaType.APPLICATION_PDF, pdf.toByteArray());
+
+            Map<String, Object> complete = new LinkedHashMap<>();
+            complete.put("token", token);
+            complete.put("downloadPath", "/resume/download/" + token);
+            complete.put("fileName", pdfName);
+            complete.put("expiresInSeconds", downloadTokenStore.getTtlSeconds());
+            send(emitter, closed, "complete", complete);
+            emitter.complete();
+        } catch (ClientGoneException e) {
+            log.info("Progress stream closed by client — pipeline stopped");
+        } catch (DownloadTokenStore.DownloadStoreFullException e) {
+            fail(emitter, closed, "DOWNLOAD_STORE_FULL", e.getMessage());
+        } catch (IllegalArgumentException e) {
+            fail(emitter, closed, "INVALID_FILE_TYPE", e.getMessage());
+        } catch (Exception e) {
+            log.error("Progress stream failed", e);
+            fail(emitter, closed, "PROCESSING_ERROR", "Failed to enhance resume: " + e.getMessage());
+        }
+    }
+
+    private void send(SseEmitter emitter, AtomicBoolean closed, String event, Object data) {
+        if (closed.get()) throw new ClientGoneException();
+        try {
+            emitter.send(SseEmitter.event().name(event).data(data, MediaType.APPLICATION_JSON));
+        } catch (IOException e) {
+            closed.set(true);
+            throw new ClientGoneException();
+        }
+    }
+
+    private void fail(SseEmitter emitter, AtomicBoolean closed, String code, String message) {
+        try {
+            send(emitter, closed, "error", ApiResponse.error(code, message));
+            emitter.complete();
+        } catch (ClientGoneException ignored) {
+            // nobody left to tell
+        }
+    }
+}
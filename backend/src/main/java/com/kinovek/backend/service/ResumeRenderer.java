@@ -0,0 +1,30 @@
+package com.kinovek.backend.service;
+
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Map;
+
+/**
+ * Renders an enhanced resume Map (as produced by ResumeRewriter) into an output format.
+ * The PDF renderer is the download; the HTML and plain-text renderers are cheap previews
+ * that follow the same section order and headings from ats_resume_config.json.
+ */
+public interface ResumeRenderer {
+
+    /** Short format key used to select a renderer: "pdf", "html" or "text". */
+    String getFormat();
+
+    /** Content type of the rendered output. */
+    MediaType getContentType();
+
+    /**
+     * Render the resume into the given stream. The stream is not closed.
+     *
+     * @param resumeData enhanced resume sections (personalInfo, summary, education, skills, ...)
+     * @param isFresher  selects the fresher or experienced section order
+     * @param out        destination for the rendered bytes
+     */
+    void render(Map<String, Object> resumeData, boolean isFresher, OutputStream out) throws IOException;
+}
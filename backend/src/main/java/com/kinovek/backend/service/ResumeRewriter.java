@@ -56,8 +56,8 @@ public class ResumeRewriter {
             Map<String, Object> analysisResults,
             String jobDescription) {
 
-        log.info("=== REWRITER: Enhancing resume ===");
-        log.info("Original data keys: {} | JD length: {}", originalResumeData.keySet(), jobDescription.length());
+        log.debug("=== REWRITER: Enhancing resume ===");
+        log.debug("Original data keys: {} | JD length: {}", originalResumeData.keySet(), jobDescription.length());
 
         // Deep copy to avoid mutating the original
         Map<String, Object> enhanced = deepCopy(originalResumeData);
@@ -65,43 +65,43 @@ public class ResumeRewriter {
         try {
             // 1. Detect industry
             String industry = atsContentService.detectIndustry(jobDescription);
-            log.info("=== REWRITER STEP 1: Industry detected: {} ===", industry);
+            log.debug("=== REWRITER STEP 1: Industry detected: {} ===", industry);
 
             // 7. Determine fresher vs experienced (need this early for other decisions)
             boolean isFresher = determineIsFresher(enhanced);
             enhanced.put("isFresher", isFresher);
-            log.info("=== REWRITER STEP 2: isFresher={} ===", isFresher);
+            log.debug("=== REWRITER STEP 2: isFresher={} ===", isFresher);
 
             // 2. Add missing keywords to skills
             List<String> missingKeywords = getStringList(analysisResults, "missingKeywords");
             List<String> matchedKeywords = getStringList(analysisResults, "matchedKeywords");
-            log.info("=== REWRITER STEP 3: Missing keywords: {} | Matched: {} ===", missingKeywords.size(), matchedKeywords.size());
+            log.debug("=== REWRITER STEP 3: Missing keywords: {} | Matched: {} ===", missingKeywords.size(), matchedKeywords.size());
             addMissingKeywordsToSkills(enhanced, missingKeywords);
-            log.info("Missing keywords added to skills");
+            log.debug("Missing keywords added to skills");
 
             // 3. Enhance professional summary
             enhanceSummary(enhanced, industry, isFresher, matchedKeywords, jobDescription);
-            log.info("=== REWRITER STEP 4: Summary enhanced ===");
+            log.debug("=== REWRITER STEP 4: Summary enhanced ===");
 
             // 4. Fix bullet points
             fixBulletPoints(enhanced, industry);
-            log.info("=== REWRITER STEP 5: Bullet points fixed ===");
+            log.debug("=== REWRITER STEP 5: Bullet points fixed ===");
 
             // 5. Remove Indian-specific items
             removeIndianSpecificItems(enhanced);
-            log.info("=== REWRITER STEP 6: Indian-specific items removed ===");
+            log.debug("=== REWRITER STEP 6: Indian-specific items removed ===");
 
             // 6. Ensure all sections have content
             ensureSectionContent(enhanced, isFresher, matchedKeywords);
-            log.info("=== REWRITER STEP 7: Section content ensured ===");
+            log.debug("=== REWRITER STEP 7: Section content ensured ===");
 
             // 8. Suggest certifications
             suggestCertifications(enhanced, industry);
-            log.info("=== REWRITER STEP 8: Certifications suggested ===");
-            log.info("=== REWRITER: Enhancement complete ===");
+            log.debug("=== REWRITER STEP 8: Certifications suggested ===");
+            log.debug("=== REWRITER: Enhancement complete ===");
 
         } catch (Exception e) {
-            System.err.println("⚠️ Resume enhancement encountered an error: " + e.getMessage());
+            log.warn("Resume enhancement encountered an error: {}", e.getMessage(), e);
             // Still return whatever we have — fault tolerant
             if (!enhanced.containsKey("isFresher")) {
                 enhanced.put("isFresher", true);
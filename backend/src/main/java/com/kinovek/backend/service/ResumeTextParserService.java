@@ -87,16 +87,16 @@ public class ResumeTextParserService {
 
         try {
             String[] lines = resumeText.split("\\r?\\n");
-            log.info("=== TEXT PARSER: Parsing resume | {} chars | {} lines ===", resumeText.length(), lines.length);
+            log.debug("=== TEXT PARSER: Parsing resume | {} chars | {} lines ===", resumeText.length(), lines.length);
 
             // Step 1: Extract personal info from top of resume
             Map<String, Object> personalInfo = extractPersonalInfo(lines, resumeText);
             result.put("personalInfo", personalInfo);
-            log.info("=== TEXT PARSER STEP 1: Personal info extracted: {} ===", personalInfo.keySet());
+            log.debug("=== TEXT PARSER STEP 1: Personal info extracted: {} ===", personalInfo.keySet());
 
             // Step 2: Detect and split sections
             Map<String, String> sections = detectAndSplitSections(lines);
-            log.info("=== TEXT PARSER STEP 2: Sections detected: {} ===", sections.keySet());
+            log.debug("=== TEXT PARSER STEP 2: Sections detected: {} ===", sections.keySet());
 
             // Step 3: Parse each section
             result.put("summary", parseSummary(sections));
@@ -106,10 +106,10 @@ public class ResumeTextParserService {
             result.put("projects", parseProjects(sections));
             result.put("certifications", parseCertifications(sections));
             result.put("achievements", parseAchievements(sections));
-            log.info("=== TEXT PARSER STEP 3: All sections parsed ===");
+            log.debug("=== TEXT PARSER STEP 3: All sections parsed ===");
 
         } catch (Exception e) {
-            System.err.println("⚠️ Resume parsing encountered an error: " + e.getMessage());
+            log.warn("Resume parsing encountered an error: {}", e.getMessage(), e);
             return buildEmptyResult();
         }
 
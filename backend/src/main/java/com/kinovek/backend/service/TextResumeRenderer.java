@@ -0,0 +1,85 @@
+package com.kinovek.backend.service;
+
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Renders the resume as fixed-width plain text (80 columns), e.g. for a
+ * quick preview pane or copy-paste into an application form.
+ */
+@Service
+public class TextResumeRenderer extends PreviewResumeRenderer {
+
+    private static final MediaType TEXT_PLAIN_UTF8 = new MediaType("text", "plain", StandardCharsets.UTF_8);
+    private static final int LINE_WIDTH = 80;
+
+    @Override
+    public String getFormat() {
+        return "text";
+    }
+
+    @Override
+    public MediaType getContentType() {
+        return TEXT_PLAIN_UTF8;
+    }
+
+    @Override
+    protected void begin(StringBuilder sb) {
+    }
+
+    @Override
+    protected void end(StringBuilder sb) {
+    }
+
+    @Override
+    protected void name(StringBuilder sb, String name) {
+        sb.append(name).append('\n');
+    }
+
+    @Override
+    protected void contact(StringBuilder sb, String contactLine) {
+        sb.append(contactLine).append('\n');
+    }
+
+    @Override
+    protected void heading(StringBuilder sb, String heading) {
+        sb.append('\n').append(heading).append('\n');
+        sb.append("-".repeat(heading.length())).append('\n');
+    }
+
+    @Override
+    protected void paragraph(StringBuilder sb, String text) {
+        sb.append(text).append('\n');
+    }
+
+    @Override
+    protected void line(StringBuilder sb, String strong, String rest) {
+        sb.append(strong);
+        if (rest != null) {
+            sb.append(' ').append(rest);
+        }
+        sb.append('\n');
+    }
+
+    @Override
+    protected void leftRight(StringBuilder sb, String left, boolean strongLeft, String right) {
+        sb.append(left);
+        if (right != null && !right.isBlank()) {
+            // Right-align within the line width when it fits, else just separate with two spaces
+            int padding = LINE_WIDTH - left.length() - right.length();
+            sb.append(" ".repeat(Math.max(2, padding))).append(right);
+        }
+        sb.append('\n');
+    }
+
+    @Override
+    protected void bullets(StringBuilder sb, List<String> items) {
+        String symbol = config.getBulletSymbol();
+        for (String item : items) {
+            sb.append("  ").append(symbol).append(' ').append(item).append('\n');
+        }
+    }
+}
@@ -0,0 +1,313 @@
+package com.kinovek.backend.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.UnaryOperator;
+
+/**
+ * Single-pass cleaner for the ATS converter.
+ *
+ * Produces the same lines as the old regex chain (table removal, column collapsing, bullet
+ * replacement, image/HTML stripping, whitespace collapsing, then split/trim/drop-blank-lines)
+ * but works on one char buffer: tables are cut out in place, and every remaining char is
+ * pushed once through a chain of small stages that end in a line list for the PDF layout.
+ */
+public final class ATSTextNormalizer {
+
+    private ATSTextNormalizer() {
+    }
+
+    /**
+     * Normalizes raw resume text into trimmed, non-empty lines.
+     *
+     * @param text       raw extracted text
+     * @param lineMapper applied to every emitted line (e.g. section header normalization)
+     * @return the cleaned lines in order; empty if nothing printable is left
+     */
+    public static List<String> normalize(String text, UnaryOperator<String> lineMapper) {
+        char[] buf = text.toCharArray();
+        int len = removeTables(buf);
+
+        LineSink lines = new LineSink(lineMapper);
+        CharSink sink = new TagStripper('[', "image", ']', 0,      // (?i)\[image[^]]*]
+                new TagStripper('<', "img", '>', 0,                // (?i)<img[^>]*>
+                        new TagStripper('<', "", '>', 1,           // <[^>]+>
+                                new BlankCollapser(lines))));
+
+        splitColumns(buf, len, sink);
+        sink.finish();
+        return lines.lines;
+    }
+
+    // ── Stage 1: tables ─────────────────────────────────────────────
+
+    /**
+     * Same as \|.*\|.*\| — on every line with three or more pipes, cuts from the first pipe
+     * to the last. Compacts the buffer in place and returns the new length.
+     */
+    private static int removeTables(char[] buf) {
+        int len = buf.length;
+        int write = 0;
+        int start = 0;
+        while (start < len) {
+            int end = start;
+            int pipes = 0;
+            int firstPipe = -1;
+            int lastPipe = -1;
+            while (end < len && !isLineTerminator(buf[end])) {
+                if (buf[end] == '|') {
+                    if (firstPipe < 0) firstPipe = end;
+                    lastPipe = end;
+                    pipes++;
+                }
+                end++;
+            }
+
+            if (pipes >= 3) {
+                write = copy(buf, start, firstPipe, write);
+                write = copy(buf, lastPipe + 1, end, write);
+            } else {
+                write = copy(buf, start, end, write);
+            }
+            if (end < len) {
+                buf[write++] = buf[end++];
+            }
+            start = end;
+        }
+        return write;
+    }
+
+    private static int copy(char[] buf, int from, int to, int write) {
+        int count = to - from;
+        if (count > 0 && from != write) {
+            System.arraycopy(buf, from, buf, write, count);
+        }
+        return write + count;
+    }
+
+    /** Characters that end a line for regex '.' (no UNIX_LINES). */
+    private static boolean isLineTerminator(char c) {
+        return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+    }
+
+    // ── Stage 2: columns (+ bullets) ────────────────────────────────
+
+    /**
+     * Same as \t{2,}|\s{4,}(?=\S+\s{4,}\S+) replaced by a newline, evaluated at every position
+     * like the regex engine does. A whitespace run only splits when it is followed by a token,
+     * another run of four or more and a further token; that lookahead depends only on where
+     * the run ends, so it is computed once per run.
+     */
+    private static void splitColumns(char[] buf, int len, CharSink sink) {
+        int runEnd = 0;
+        boolean runSplits = false;
+        int i = 0;
+        while (i < len) {
+            char c = buf[i];
+
+            if (c == '\t' && i + 1 < len && buf[i + 1] == '\t') {
+                int j = i + 2;
+                while (j < len && buf[j] == '\t') j++;
+                sink.accept('\n');
+                i = j;
+                continue;
+            }
+
+            if (isRegexSpace(c)) {
+                if (i >= runEnd) {
+                    runEnd = whitespaceEnd(buf, i, len);
+                    runSplits = followedByColumn(buf, runEnd, len);
+                }
+                if (runSplits && runEnd - i >= 4) {
+                    sink.accept('\n');
+                    i = runEnd;
+                    continue;
+                }
+            }
+
+            sink.accept(replaceBullet(c));
+            i++;
+        }
+    }
+
+    private static int whitespaceEnd(char[] buf, int from, int len) {
+        int i = from;
+        while (i < len && isRegexSpace(buf[i])) i++;
+        return i;
+    }
+
+    /** Lookahead \S+\s{4,}\S+ starting at pos. */
+    private static boolean followedByColumn(char[] buf, int pos, int len) {
+        int tokenEnd = pos;
+        while (tokenEnd < len && !isRegexSpace(buf[tokenEnd])) tokenEnd++;
+        if (tokenEnd == pos) return false;
+        int gapEnd = whitespaceEnd(buf, tokenEnd, len);
+        return gapEnd - tokenEnd >= 4 && gapEnd < len;
+    }
+
+    /** Regex \s without UNICODE_CHARACTER_CLASS. */
+    private static boolean isRegexSpace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    private static char replaceBullet(char c) {
+        switch (c) {
+            case '\u2022', '\u25CF', '\u25CB', '\u25AA', '\u25AB', '\u2023', '\u2043':
+                return '-';
+            default:
+                return c;
+        }
+    }
+
+    // ── Stages 3–5: push transducers ────────────────────────────────
+
+    private interface CharSink {
+        void accept(char c);
+
+        void finish();
+    }
+
+    /**
+     * Drops spans of the form open + prefix (ASCII case-insensitive) + body + close, where the
+     * body has no close char and at least minBody chars. Holds a candidate span until it either
+     * closes (dropped) or cannot match (first char passed on, the rest rescanned).
+     */
+    private static final class TagStripper implements CharSink {
+        private final char open;
+        private final String prefix;
+        private final char close;
+        private final int minBody;
+        private final CharSink next;
+        private final StringBuilder pending = new StringBuilder();
+
+        TagStripper(char open, String prefix, char close, int minBody, CharSink next) {
+            this.open = open;
+            this.prefix = prefix;
+            this.close = close;
+            this.minBody = minBody;
+            this.next = next;
+        }
+
+        @Override
+        public void accept(char c) {
+            if (pending.length() == 0) {
+                if (c == open) {
+                    pending.append(c);
+                } else {
+                    next.accept(c);
+                }
+                return;
+            }
+
+            int matched = pending.length() - 1;
+            if (matched < prefix.length()) {
+                pending.append(c);
+                if (!equalsIgnoreAsciiCase(c, prefix.charAt(matched))) reject();
+                return;
+            }
+
+            if (c == close) {
+                if (matched - prefix.length() >= minBody) {
+                    pending.setLength(0);
+                } else {
+                    pending.append(c);
+                    reject();
+                }
+                return;
+            }
+            pending.append(c);
+        }
+
+        /** No match starts at the held open char: pass it on and rescan what followed it. */
+        private void reject() {
+            String rest = pending.substring(1);
+            next.accept(pending.charAt(0));
+            pending.setLength(0);
+            for (int i = 0; i < rest.length(); i++) {
+                accept(rest.charAt(i));
+            }
+        }
+
+        @Override
+        public void finish() {
+            // Unclosed at end of input — nothing after the open char can close either
+            for (int i = 0; i < pending.length(); i++) {
+                next.accept(pending.charAt(i));
+            }
+            pending.setLength(0);
+            next.finish();
+        }
+
+        private static boolean equalsIgnoreAsciiCase(char c, char lowerAscii) {
+            return c == lowerAscii || (c >= 'A' && c <= 'Z' && c + ('a' - 'A') == lowerAscii);
+        }
+    }
+
+    /** Collapses every run of spaces and tabs into a single space. */
+    private static final class BlankCollapser implements CharSink {
+        private final CharSink next;
+        private boolean pendingBlank;
+
+        BlankCollapser(CharSink next) {
+            this.next = next;
+        }
+
+        @Override
+        public void accept(char c) {
+            if (c == ' ' || c == '\t') {
+                pendingBlank = true;
+                return;
+            }
+            if (pendingBlank) {
+                next.accept(' ');
+                pendingBlank = false;
+            }
+            next.accept(c);
+        }
+
+        @Override
+        public void finish() {
+            if (pendingBlank) {
+                next.accept(' ');
+                pendingBlank = false;
+            }
+            next.finish();
+        }
+    }
+
+    /** Splits on '\n', trims like String.trim(), drops empty lines and maps the rest. */
+    private static final class LineSink implements CharSink {
+        private final UnaryOperator<String> lineMapper;
+        private final StringBuilder current = new StringBuilder();
+        private final List<String> lines = new ArrayList<>();
+
+        LineSink(UnaryOperator<String> lineMapper) {
+            this.lineMapper = lineMapper;
+        }
+
+        @Override
+        public void accept(char c) {
+            if (c == '\n') {
+                flushLine();
+            } else {
+                current.append(c);
+            }
+        }
+
+        @Override
+        public void finish() {
+            flushLine();
+        }
+
+        private void flushLine() {
+            int start = 0;
+            int end = current.length();
+            while (start < end && current.charAt(start) <= ' ') start++;
+            while (end > start && current.charAt(end - 1) <= ' ') end--;
+            if (start < end) {
+                lines.add(lineMapper.apply(current.substring(start, end)));
+            }
+            current.setLength(0);
+        }
+    }
+}
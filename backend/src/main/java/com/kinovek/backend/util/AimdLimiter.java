@@ -0,0 +1,176 @@
+package com.kinovek.backend.util;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * Concurrency limit that adapts to measured latency (additive increase, multiplicative decrease).
+ *
+ * While requests finish within the latency target and the limit is actually being used,
+ * it grows by roughly one per limit's worth of requests. A request slower than the target
+ * cuts it by {@code BACKOFF}, at most once per round so one slow burst doesn't collapse it.
+ * Callers over the limit wait up to the given timeout, with at most {@code limit} of them queued.
+ * A latency target of 0 turns the feedback off and keeps the limit fixed.
+ */
+public class AimdLimiter {
+
+    private static final double BACKOFF = 0.9;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final long latencyTargetNanos;
+    private final LongSupplier nanoClock;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition available = lock.newCondition();
+
+    private double limit;
+    private int inFlight;
+    private int queued;
+    private long rejected;
+    private long lastDecreaseNanos;
+
+    public AimdLimiter(int initialLimit, int maxLimit, long latencyTargetMs) {
+        this(initialLimit, maxLimit, latencyTargetMs, System::nanoTime);
+    }
+
+    AimdLimiter(int initialLimit, int maxLimit, long latencyTargetMs, LongSupplier nanoClock) {
+        this.minLimit = 1;
+        this.maxLimit = Math.max(minLimit, maxLimit);
+        this.limit = Math.max(minLimit, Math.min(initialLimit, this.maxLimit));
+        this.latencyTargetNanos = TimeUnit.MILLISECONDS.toNanos(latencyTargetMs);
+        this.nanoClock = nanoClock;
+        this.lastDecreaseNanos = nanoClock.getAsLong();
+    }
+
+    /** A slot taken from the limiter; release it exactly once when the request is done. */
+    public class Permit {
+        private final long startNanos = nanoClock.getAsLong();
+        private final int inFlightAtStart;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit(int inFlightAtStart) {
+            this.inFlightAtStart = inFlightAtStart;
+        }
+
+        /** Gives the slot back and feeds the request latency into the limit. Later calls are no-ops. */
+        public void release() {
+            if (released.compareAndSet(false, true)) {
+                onRelease(this);
+            }
+        }
+    }
+
+    /**
+     * Take a slot, waiting up to the timeout when the limit is reached.
+     *
+     * @return the permit, or null if the request should be rejected
+     */
+    public Permit tryAcquire(long timeout, TimeUnit unit) {
+        lock.lock();
+        try {
+            if (inFlight < currentLimit()) {
+                return grant();
+            }
+            if (timeout <= 0 || queued >= currentLimit()) {
+                rejected++;
+                return null;
+            }
+
+            queued++;
+            try {
+                long nanos = unit.toNanos(timeout);
+                while (inFlight >= currentLimit()) {
+                    if (nanos <= 0) {
+                        rejected++;
+                        return null;
+                    }
+                    nanos = available.awaitNanos(nanos);
+                }
+                return grant();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                rejected++;
+                return null;
+            } finally {
+                queued--;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private Permit grant() {
+        inFlight++;
+        return new Permit(inFlight);
+    }
+
+    private void onRelease(Permit permit) {
+        long now = nanoClock.getAsLong();
+        lock.lock();
+        try {
+            inFlight--;
+            if (latencyTargetNanos > 0) {
+                adapt(permit, now);
+            }
+            available.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void adapt(Permit permit, long now) {
+        if (now - permit.startNanos > latencyTargetNanos) {
+            // Only requests started after the last cut count, so one overload round cuts once
+            if (permit.startNanos - lastDecreaseNanos > 0) {
+                limit = Math.max(minLimit, limit * BACKOFF);
+                lastDecreaseNanos = now;
+            }
+        } else if (permit.inFlightAtStart * 2 >= limit) {
+            limit = Math.min(maxLimit, limit + 1.0 / limit);
+        }
+    }
+
+    private int currentLimit() {
+        return (int) limit;
+    }
+
+    public int getLimit() {
+        lock.lock();
+        try {
+            return currentLimit();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getInFlight() {
+        lock.lock();
+        try {
+            return inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getQueued() {
+        lock.lock();
+        try {
+            return queued;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getRejected() {
+        lock.lock();
+        try {
+            return rejected;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
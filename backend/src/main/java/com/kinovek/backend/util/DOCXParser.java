@@ -4,6 +4,7 @@ import org.apache.poi.xwpf.usermodel.XWPFDocument;
 import org.apache.poi.xwpf.usermodel.XWPFParagraph;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 
@@ -17,8 +18,24 @@ public class DOCXParser {
      * @throws IOException if the file cannot be read or parsed
      */
     public static String extractText(MultipartFile file) throws IOException {
-        try (InputStream is = file.getInputStream();
-             XWPFDocument document = new XWPFDocument(is)) {
+        try (InputStream is = file.getInputStream()) {
+            return extractText(is);
+        }
+    }
+
+    /**
+     * Extracts all text content from DOCX bytes already read from an upload.
+     *
+     * @param content the DOCX file content
+     * @return extracted text as a String
+     * @throws IOException if the content cannot be parsed
+     */
+    public static String extractText(byte[] content) throws IOException {
+        return extractText(new ByteArrayInputStream(content));
+    }
+
+    private static String extractText(InputStream is) throws IOException {
+        try (XWPFDocument document = new XWPFDocument(is)) {
             StringBuilder text = new StringBuilder();
             for (XWPFParagraph paragraph : document.getParagraphs()) {
                 text.append(paragraph.getText()).append("\n");
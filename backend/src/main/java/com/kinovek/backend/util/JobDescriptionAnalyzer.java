@@ -0,0 +1,101 @@
+package com.kinovek.backend.util;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Pulls the company, role and requirements out of a job description.
+ *
+ * All patterns are compiled once and either bounded or applied to one line at a time,
+ * so analysis stays linear on long JDs. Skill fallbacks come from the keywords.json
+ * dictionary via {@link KeywordMatcher} rather than a hardcoded list.
+ */
+@Component
+public class JobDescriptionAnalyzer {
+
+    private static final int MAX_REQUIREMENTS = 6;
+
+    // "at [Company]", "[Company] is", "About [Company]", "Join [Company]" / "Company: X" / a short capitalized line
+    private static final List<Pattern> COMPANY_PATTERNS = List.of(
+            Pattern.compile("(?i)(?:at|join|about)\\s+([A-Z][A-Za-z0-9&'.\\s]{1,30}?)(?:\\s*(?:is|are|we|,|\\.|\\n|$))", Pattern.MULTILINE),
+            Pattern.compile("(?i)company\\s*[:=]\\s*(.+?)(?:\n|$)", Pattern.MULTILINE),
+            Pattern.compile("(?i)^([A-Z][A-Za-z0-9&'.\\s]{2,25})\\s*$", Pattern.MULTILINE)
+    );
+
+    private static final List<Pattern> ROLE_PATTERNS = List.of(
+            Pattern.compile("(?i)(?:job title|position|role)\\s*[:=]\\s*(.+?)(?:\n|$)", Pattern.MULTILINE),
+            Pattern.compile("(?i)(?:hiring|looking for|seeking)\\s+(?:a|an)?\\s*(.+?)(?:\\s+(?:proficient|with|who|at|for|in|to|\\.|,|\\n|$))", Pattern.MULTILINE),
+            Pattern.compile("(?i)^(.+?(?:engineer|developer|manager|analyst|designer|architect|scientist|specialist|coordinator|consultant|lead|director|intern))\\s*$", Pattern.MULTILINE)
+    );
+    private static final Pattern ROLE_TRAILING_WORD = Pattern.compile("\\s+(?:a|an|the|who|with|at|for|in|to)$");
+
+    private static final SectionScanner REQUIREMENTS_SECTION = new SectionScanner(
+            Pattern.compile("(?i)(?:requirements|qualifications|what we.re looking for|must have|you.ll need)[:\\s]*$"),
+            Pattern.compile("(?i)benefits|perks|about|how to|application"));
+    private static final Pattern LEADING_BULLET = Pattern.compile("^[\\-•*>]+");
+
+    private final KeywordMatcher keywordMatcher;
+
+    @Autowired
+    public JobDescriptionAnalyzer(KeywordMatcher keywordMatcher) {
+        this.keywordMatcher = keywordMatcher;
+    }
+
+    /**
+     * Best guess at the hiring company, or "[Company Name]".
+     */
+    public String extractCompanyName(String jd) {
+        for (Pattern pattern : COMPANY_PATTERNS) {
+            Matcher m = pattern.matcher(jd);
+            if (m.find()) {
+                return m.group(1).trim();
+            }
+        }
+        return "[Company Name]";
+    }
+
+    /**
+     * Best guess at the advertised role, or "[Position Title]".
+     */
+    public String extractRoleName(String jd) {
+        for (Pattern pattern : ROLE_PATTERNS) {
+            Matcher m = pattern.matcher(jd);
+            if (m.find()) {
+                String role = m.group(1).trim();
+                // Remove trailing articles/prepositions
+                role = ROLE_TRAILING_WORD.matcher(role).replaceAll("").trim();
+                if (role.length() >= 3 && role.length() < 60) return role;
+            }
+        }
+        return "[Position Title]";
+    }
+
+    /**
+     * Up to six requirement lines from the requirements/qualifications section.
+     * Without such a section, falls back to "proficiency in X" for dictionary skills found in the JD.
+     */
+    public List<String> extractRequirements(String jd) {
+        List<String> reqs = new ArrayList<>();
+        for (String line : REQUIREMENTS_SECTION.find(jd)) {
+            String trimmed = LEADING_BULLET.matcher(line.trim()).replaceAll("").trim();
+            if (trimmed.length() > 5 && trimmed.length() < 100) {
+                reqs.add(trimmed);
+                if (reqs.size() >= MAX_REQUIREMENTS) return reqs;
+            }
+        }
+
+        // Fallback: extract key skill phrases rather than raw JD text
+        if (reqs.isEmpty()) {
+            for (String skill : keywordMatcher.extractSkills(jd)) {
+                reqs.add("proficiency in " + skill);
+                if (reqs.size() >= MAX_REQUIREMENTS) break;
+            }
+        }
+        return reqs;
+    }
+}
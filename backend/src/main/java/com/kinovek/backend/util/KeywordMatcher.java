@@ -1,10 +1,13 @@
 package com.kinovek.backend.util;
 
 import com.kinovek.backend.config.KeywordConfig;
+import com.kinovek.backend.observability.PipelineEvents;
+import com.kinovek.backend.observability.PipelineMetrics;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Pattern;
 
 /**
@@ -15,6 +18,7 @@ import java.util.regex.Pattern;
 public class KeywordMatcher {
 
     private final KeywordConfig keywordConfig;
+    private final PipelineMetrics pipelineMetrics;
 
     // Common stop words to filter out when scanning JD text
     private static final Set<String> STOP_WORDS = Set.of(
@@ -48,12 +52,13 @@ public class KeywordMatcher {
             "officer", "executive", "administrator", "supervisor"
     );
 
-    // Cache compiled word-boundary patterns
-    private final Map<String, Pattern> boundaryPatternCache = new HashMap<>();
+    // Cache compiled word-boundary patterns (shared by request and bulk render threads)
+    private final Map<String, Pattern> boundaryPatternCache = new ConcurrentHashMap<>();
 
     @Autowired
-    public KeywordMatcher(KeywordConfig keywordConfig) {
+    public KeywordMatcher(KeywordConfig keywordConfig, PipelineMetrics pipelineMetrics) {
         this.keywordConfig = keywordConfig;
+        this.pipelineMetrics = pipelineMetrics;
     }
 
     /**
@@ -75,16 +80,58 @@ public class KeywordMatcher {
         public double getMatchPercentage() { return matchPercentage; }
     }
 
+    /**
+     * A resume prepared for matching against any number of job descriptions: the text is
+     * lowercased once and each keyword form is looked up in it at most once. Safe to share
+     * between threads.
+     */
+    public static final class ResumeIndex {
+        private final String text;
+        private final String textLower;
+        // keyword form → found as a whole word
+        private final Map<String, Boolean> wholeWords = new ConcurrentHashMap<>();
+
+        private ResumeIndex(String text) {
+            this.text = text;
+            this.textLower = text.toLowerCase();
+        }
+
+        public String getText() { return text; }
+    }
+
+    /**
+     * Prepares a resume for {@link #match(ResumeIndex, String)}; build it once per resume.
+     */
+    public ResumeIndex index(String resumeText) {
+        return new ResumeIndex(resumeText);
+    }
+
     /**
      * Matches keywords from the job description against the resume text.
      */
     public MatchResult match(String resumeText, String jobDescription) {
+        return match(index(resumeText), jobDescription);
+    }
+
+    /**
+     * Matches keywords from the job description against an indexed resume.
+     */
+    public MatchResult match(ResumeIndex resume, String jobDescription) {
+        pipelineMetrics.recordJobDescription(jobDescription.length());
+        try (PipelineMetrics.Stage stage = pipelineMetrics.start(PipelineMetrics.MATCH)) {
+            return matchKeywords(resume, jobDescription);
+        }
+    }
+
+    private MatchResult matchKeywords(ResumeIndex resume, String jobDescription) {
+        PipelineEvents.KeywordMatch event = new PipelineEvents.KeywordMatch();
+        event.begin();
+
         // Step 1: Extract recognized keywords from the job description
         // Returns canonical → displayName mapping (canonical for dedup, display for output)
         Map<String, String> jdKeywordMap = extractKeywords(jobDescription);
 
         // Step 2: For each JD keyword, check resume (including synonym matching)
-        String resumeLower = resumeText.toLowerCase();
         List<String> matched = new ArrayList<>();
         List<String> missing = new ArrayList<>();
 
@@ -92,7 +139,7 @@ public class KeywordMatcher {
             String canonical = entry.getKey();
             String displayName = entry.getValue();
 
-            if (isKeywordInResume(canonical, resumeLower)) {
+            if (isKeywordInResume(canonical, resume)) {
                 matched.add(displayName);
             } else {
                 missing.add(displayName);
@@ -103,9 +150,22 @@ public class KeywordMatcher {
         double percentage = jdKeywordMap.isEmpty() ? 0 :
                 Math.round((double) matched.size() / jdKeywordMap.size() * 100.0 * 10.0) / 10.0;
 
+        event.jdLength = jobDescription.length();
+        event.jdKeywords = jdKeywordMap.size();
+        event.matched = matched.size();
+        event.commit();
+
         return new MatchResult(matched, missing, percentage);
     }
 
+    /**
+     * Returns the display names of all dictionary skills found in the text,
+     * multi-word skills first, each canonical skill once.
+     */
+    public List<String> extractSkills(String text) {
+        return new ArrayList<>(extractKeywords(text).values());
+    }
+
     /**
      * Extracts recognized skills/keywords from text by checking each word/phrase
      * against the skillCategories lists and synonymMap from keywords.json.
@@ -167,14 +227,14 @@ public class KeywordMatcher {
      * Checks if a keyword (or any of its synonyms) appears in the resume text.
      * Uses word-boundary matching to prevent "Java" matching inside "JavaScript".
      */
-    private boolean isKeywordInResume(String keyword, String resumeLower) {
+    private boolean isKeywordInResume(String keyword, ResumeIndex resume) {
         // Get all synonym forms for this keyword
         Set<String> allForms = keywordConfig.getAllForms(keyword);
         Set<String> formsToCheck = new HashSet<>(allForms);
         formsToCheck.add(keyword.toLowerCase());
 
         for (String form : formsToCheck) {
-            if (containsWholeWord(resumeLower, form)) {
+            if (resume.wholeWords.computeIfAbsent(form, f -> containsWholeWord(resume.textLower, f))) {
                 return true;
             }
         }
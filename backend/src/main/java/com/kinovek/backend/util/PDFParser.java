@@ -17,9 +17,30 @@ public class PDFParser {
      * @throws IOException if the file cannot be read or parsed
      */
     public static String extractText(MultipartFile file) throws IOException {
-        try (PDDocument document = Loader.loadPDF(file.getBytes())) {
+        return extractText(file.getBytes());
+    }
+
+    /**
+     * Extracts all text content from PDF bytes already read from an upload.
+     *
+     * @param content the PDF file content
+     * @return extracted text as a String
+     * @throws IOException if the content cannot be parsed
+     */
+    public static String extractText(byte[] content) throws IOException {
+        return extract(content).text();
+    }
+
+    /** Text of a PDF together with its page count. */
+    public record PdfText(String text, int pages) {}
+
+    /**
+     * Same as {@link #extractText(byte[])}, also reporting how many pages the PDF has.
+     */
+    public static PdfText extract(byte[] content) throws IOException {
+        try (PDDocument document = Loader.loadPDF(content)) {
             PDFTextStripper stripper = new PDFTextStripper();
-            return stripper.getText(document);
+            return new PdfText(stripper.getText(document), document.getNumberOfPages());
         }
     }
 }
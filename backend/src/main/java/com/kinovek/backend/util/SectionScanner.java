@@ -0,0 +1,72 @@
+package com.kinovek.backend.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Finds a titled section in free text by walking it line by line.
+ *
+ * A section starts after a line matching the header pattern and runs until a blank line,
+ * a line starting with the stop pattern, or the end of the text. Patterns are only ever
+ * applied to a single line, so scanning stays linear in the text length no matter how
+ * long the document is. Instances are immutable and safe to share.
+ */
+public final class SectionScanner {
+
+    private final Pattern header;
+    private final Pattern stop;
+
+    /**
+     * @param header matched with find() against each line; should end in $ so only header lines qualify
+     * @param stop   matched with lookingAt() against the start of each line inside a section
+     */
+    public SectionScanner(Pattern header, Pattern stop) {
+        this.header = header;
+        this.stop = stop;
+    }
+
+    /**
+     * Returns the lines of the first non-empty matching section (untrimmed), or an empty list.
+     */
+    public List<String> find(String text) {
+        Matcher headerMatcher = header.matcher(text);
+        Matcher stopMatcher = stop.matcher(text);
+        List<String> lines = new ArrayList<>();
+        boolean inSection = false;
+
+        int pos = 0;
+        int len = text.length();
+        while (pos <= len) {
+            int newline = text.indexOf('\n', pos);
+            int end = newline < 0 ? len : newline;
+            boolean blank = isBlank(text, pos, end);
+
+            if (inSection) {
+                if (lines.isEmpty() && blank) {
+                    // Skip blank lines between the header and its content
+                } else if (blank || stopMatcher.region(pos, end).lookingAt()) {
+                    if (!lines.isEmpty()) return lines;
+                    inSection = false;
+                } else {
+                    lines.add(text.substring(pos, end));
+                }
+            }
+            if (!inSection && headerMatcher.region(pos, end).find()) {
+                inSection = true;
+            }
+
+            if (newline < 0) break;
+            pos = newline + 1;
+        }
+        return lines;
+    }
+
+    private static boolean isBlank(String text, int start, int end) {
+        for (int i = start; i < end; i++) {
+            if (!Character.isWhitespace(text.charAt(i))) return false;
+        }
+        return true;
+    }
+}
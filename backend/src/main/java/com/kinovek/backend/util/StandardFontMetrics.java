@@ -0,0 +1,126 @@
+package com.kinovek.backend.util;
+
+import com.lowagie.text.DocumentException;
+import com.lowagie.text.pdf.BaseFont;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Glyph advance widths for a built-in (Standard 14) PDF font, shared by every renderer.
+ *
+ * Widths are in font units (1/1000 em), the same values BaseFont.getWidth returns, but
+ * Latin-1 is a flat array built once per font so measuring a word is a few array reads.
+ * The fonts are encoded as WinAnsi (CP1252): text must go through {@link WinAnsiText}
+ * before it is measured or drawn, since anything outside WinAnsi measures 0 here and
+ * is dropped by OpenPDF when written.
+ */
+public final class StandardFontMetrics {
+
+    private static final Map<String, StandardFontMetrics> CACHE = new ConcurrentHashMap<>();
+
+    private final BaseFont baseFont;
+    private final int[] latinWidths = new int[256];
+
+    private StandardFontMetrics(String fontName) {
+        try {
+            this.baseFont = BaseFont.createFont(fontName, BaseFont.CP1252, BaseFont.NOT_EMBEDDED);
+        } catch (DocumentException | IOException e) {
+            throw new IllegalStateException("Built-in font not available: " + fontName, e);
+        }
+        for (int c = 0; c < latinWidths.length; c++) {
+            latinWidths[c] = baseFont.getWidth(c);
+        }
+    }
+
+    /**
+     * Returns the shared metrics for a built-in font (e.g. BaseFont.HELVETICA), building them on first use.
+     */
+    public static StandardFontMetrics of(String fontName) {
+        return CACHE.computeIfAbsent(fontName, StandardFontMetrics::new);
+    }
+
+    /** The font to draw with; created once and shared by every document. */
+    public BaseFont getBaseFont() {
+        return baseFont;
+    }
+
+    /**
+     * Width of a single character in font units (1/1000 em).
+     */
+    public float width(char c) {
+        return c < latinWidths.length ? latinWidths[c] : baseFont.getWidth(c);
+    }
+
+    /**
+     * Width of text[start, end) in font units (1/1000 em).
+     */
+    public float width(CharSequence text, int start, int end) {
+        float total = 0;
+        for (int i = start; i < end; i++) {
+            total += width(text.charAt(i));
+        }
+        return total;
+    }
+
+    /**
+     * Width of the whole text in points at the given font size.
+     */
+    public float widthPoint(CharSequence text, float fontSize) {
+        return width(text, 0, text.length()) / 1000 * fontSize;
+    }
+
+    /**
+     * Word-wraps a line to fit within maxWidth points at the given font size.
+     *
+     * Each word is measured once from the cached glyph table and the line width is kept
+     * as a running sum, so wrapping is linear in the line length. Wrapped lines are
+     * substrings of the input (words are joined by the single spaces already there).
+     */
+    public List<String> wrap(String text, float fontSize, float maxWidth) {
+        List<String> lines = new ArrayList<>();
+
+        // Trailing spaces only produce empty words, which split(" ") would have dropped
+        int limit = text.length();
+        while (limit > 0 && text.charAt(limit - 1) == ' ') limit--;
+        if (limit == 0) return lines;
+
+        float spaceWidth = width(' ');
+        int lineStart = 0;
+        int lineEnd = 0;
+        float lineWidth = 0;
+
+        int wordStart = 0;
+        while (wordStart <= limit) {
+            int wordEnd = text.indexOf(' ', wordStart);
+            if (wordEnd < 0 || wordEnd > limit) wordEnd = limit;
+            float wordWidth = width(text, wordStart, wordEnd);
+
+            if (lineEnd == lineStart) {
+                // Current line is empty — the word starts it regardless of width
+                lineStart = wordStart;
+                lineEnd = wordEnd;
+                lineWidth = wordWidth;
+            } else {
+                float candidateWidth = lineWidth + spaceWidth + wordWidth;
+                if (candidateWidth / 1000 * fontSize > maxWidth) {
+                    lines.add(text.substring(lineStart, lineEnd));
+                    lineStart = wordStart;
+                    lineEnd = wordEnd;
+                    lineWidth = wordWidth;
+                } else {
+                    lineEnd = wordEnd;
+                    lineWidth = candidateWidth;
+                }
+            }
+            wordStart = wordEnd + 1;
+        }
+        if (lineEnd > lineStart) {
+            lines.add(text.substring(lineStart, lineEnd));
+        }
+        return lines;
+    }
+}
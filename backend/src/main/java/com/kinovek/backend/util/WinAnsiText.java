@@ -0,0 +1,280 @@
+package com.kinovek.backend.util;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * Makes text drawable with a Standard 14 font (WinAnsi / CP1252 encoding).
+ *
+ * Characters the font has no glyph for would otherwise be dropped silently when OpenPDF
+ * writes them, so "Dvořák → Kraków" came out as "Dvok  Krakw". Instead each one is replaced
+ * by the closest WinAnsi text: accents are stripped, arrows and math signs spelled in ASCII,
+ * Cyrillic and Greek transliterated, and anything left becomes "?".
+ *
+ * One instance per document: it counts what it changed so the renderer can report it.
+ * Not thread-safe; the substitution table behind it is shared.
+ */
+public final class WinAnsiText {
+
+    /** The 27 characters CP1252 adds in 0x80–0x9F on top of Latin-1. */
+    private static final String CP1252_EXTRAS =
+            "€‚ƒ„…†‡ˆ‰Š‹ŒŽ"
+            + "‘’“”•–—˜™š›œžŸ";
+
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+
+    private static final Map<Character, String> SYMBOLS = new ConcurrentHashMap<>();
+    private static final Map<Character, String> TRANSLITERATION = new ConcurrentHashMap<>();
+
+    /** Resolved substitutions, filled on first sight of each character. */
+    private static final Map<Character, Substitution> RESOLVED = new ConcurrentHashMap<>();
+
+    private static final int MAX_REPORTED = 5;
+
+    static {
+        symbols("->", '\u2192', '\u27F6', '\u279C', '\u2794');
+        symbols("<-", '\u2190', '\u27F5');
+        symbols("<->", '\u2194');
+        symbols("=>", '\u21D2');
+        symbols("-", '\u2010', '\u2011', '\u2012', '\u2015', '\u2043', '\u2212');
+        symbols("<=", '\u2264');
+        symbols(">=", '\u2265');
+        symbols("!=", '\u2260');
+        symbols("~", '\u2248', '\u223C');
+        symbols("'", '\u2032', '\u201B');
+        symbols("\"", '\u2033', '\u201F');
+        symbols("•", '\u25CF', '\u25E6', '\u25CB', '\u25A0', '\u25A1', '\u25AA', '\u25AB',
+                '\u25BA', '\u25B6', '\u27A2', '\u27A4', '\u25C6', '\u25C7', '\u2756', '\u2219', '\u2027');
+        symbols("*", '\u2713', '\u2714', '\u2717', '\u2718', '\u2605', '\u2606');
+        symbols(" ", '\u2002', '\u2003', '\u2004', '\u2005', '\u2006', '\u2007', '\u2008', '\u2009',
+                '\u200A', '\u202F', '\u205F', '\u3000');
+        symbols("", '\u200B', '\u200C', '\u200D', '\u2060', '\uFEFF');
+        symbols("No.", '\u2116');
+        symbols("Rs.", '\u20B9');
+
+        transliterate('\u0142', "l");
+        transliterate('\u0141', "L");
+        transliterate('\u0111', "d");
+        transliterate('\u0110', "D");
+        transliterate('\u0131', "i");
+        transliterate('\u0127', "h");
+        transliterate('\u0126', "H");
+
+        String[] cyrillic = {"a", "b", "v", "g", "d", "e", "zh", "z", "i", "y", "k", "l", "m", "n", "o", "p",
+                "r", "s", "t", "u", "f", "kh", "ts", "ch", "sh", "shch", "", "y", "", "e", "yu", "ya"};
+        for (int i = 0; i < cyrillic.length; i++) {
+            transliterate((char) ('\u0430' + i), cyrillic[i]);
+            transliterate((char) ('\u0410' + i), capitalize(cyrillic[i]));
+        }
+        transliterate('\u0451', "yo");
+        transliterate('\u0401', "Yo");
+        transliterate('\u0454', "ye");
+        transliterate('\u0404', "Ye");
+        transliterate('\u0456', "i");
+        transliterate('\u0406', "I");
+        transliterate('\u0457', "yi");
+        transliterate('\u0407', "Yi");
+        transliterate('\u0491', "g");
+        transliterate('\u0490', "G");
+
+        // α..ω with the final sigma at ς (U+03C2); U+03A2 has no capital
+        String[] greek = {"a", "v", "g", "d", "e", "z", "i", "th", "i", "k", "l", "m", "n", "x", "o", "p",
+                "r", "s", "s", "t", "y", "f", "ch", "ps", "o"};
+        for (int i = 0; i < greek.length; i++) {
+            transliterate((char) ('\u03B1' + i), greek[i]);
+            if (i != 17) {
+                transliterate((char) ('\u0391' + i), capitalize(greek[i]));
+            }
+        }
+    }
+
+    private int transliterated;
+    private int replaced;
+    private final Set<String> unsupported = new TreeSet<>();
+
+    /**
+     * True when a Standard 14 font has a glyph for c under WinAnsi encoding.
+     */
+    public static boolean isDrawable(char c) {
+        return c < 0x80 || (c >= 0xA0 && c <= 0xFF) || CP1252_EXTRAS.indexOf(c) >= 0;
+    }
+
+    /**
+     * Returns text with every undrawable character substituted, or text itself when it
+     * is already drawable (the common case — no copy is made).
+     */
+    public String apply(String text) {
+        if (text == null) {
+            return null;
+        }
+        int i = 0;
+        int length = text.length();
+        while (i < length && isDrawable(text.charAt(i))) {
+            i++;
+        }
+        if (i == length) {
+            return text;
+        }
+
+        StringBuilder out = new StringBuilder(length + 8).append(text, 0, i);
+        for (; i < length; i++) {
+            char c = text.charAt(i);
+            if (isDrawable(c)) {
+                out.append(c);
+                continue;
+            }
+            if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(text.charAt(i + 1))) {
+                // Emoji and other supplementary characters: never in WinAnsi
+                note(text.codePointAt(i));
+                out.append('?');
+                i++;
+                continue;
+            }
+            Substitution substitution = RESOLVED.computeIfAbsent(c, WinAnsiText::resolve);
+            if (substitution.text == null) {
+                note(c);
+                out.append('?');
+            } else {
+                if (substitution.counted) {
+                    transliterated++;
+                }
+                out.append(substitution.text);
+            }
+        }
+        return out.toString();
+    }
+
+    /**
+     * Applies {@link #apply(String)} to every string — keys included — in a tree of maps and
+     * lists, such as parsed resume data. Containers are copied only where something changed.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T applyAll(T value) {
+        if (value instanceof String s) {
+            return (T) apply(s);
+        }
+        if (value instanceof Map<?, ?> map) {
+            Map<Object, Object> copy = null;
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                Object key = applyAll(entry.getKey());
+                Object item = applyAll(entry.getValue());
+                if (copy == null && (key != entry.getKey() || item != entry.getValue())) {
+                    copy = new LinkedHashMap<>();
+                    for (Map.Entry<?, ?> earlier : map.entrySet()) {
+                        if (earlier.getKey() == entry.getKey()) break;
+                        copy.put(earlier.getKey(), earlier.getValue());
+                    }
+                }
+                if (copy != null) {
+                    copy.put(key, item);
+                }
+            }
+            return copy != null ? (T) copy : value;
+        }
+        if (value instanceof List<?> list) {
+            List<Object> copy = null;
+            for (int i = 0; i < list.size(); i++) {
+                Object item = applyAll(list.get(i));
+                if (copy == null && item != list.get(i)) {
+                    copy = new ArrayList<>(list.subList(0, i));
+                }
+                if (copy != null) {
+                    copy.add(item);
+                }
+            }
+            return copy != null ? (T) copy : value;
+        }
+        return value;
+    }
+
+    /** Characters replaced by a close equivalent (accent stripped, transliterated, symbol spelled out). */
+    public int getTransliterated() {
+        return transliterated;
+    }
+
+    /** Characters with no equivalent, drawn as "?". */
+    public int getReplaced() {
+        return replaced;
+    }
+
+    /** Up to five of the replaced code points, as "U+XXXX". */
+    public Set<String> getUnsupported() {
+        return unsupported;
+    }
+
+    public boolean isChanged() {
+        return transliterated > 0 || replaced > 0;
+    }
+
+    private void note(int codePoint) {
+        replaced++;
+        if (unsupported.size() < MAX_REPORTED) {
+            unsupported.add(String.format("U+%04X", codePoint));
+        }
+    }
+
+    private static Substitution resolve(char c) {
+        if (c >= 0x80 && c < 0xA0) {
+            // C1 control characters carry no text
+            return new Substitution("", false);
+        }
+        String symbol = SYMBOLS.get(c);
+        if (symbol != null) {
+            return new Substitution(symbol, !symbol.isBlank());
+        }
+        String direct = TRANSLITERATION.get(c);
+        if (direct != null) {
+            return new Substitution(direct, true);
+        }
+        // Compatibility forms: ligatures (ﬁ), full-width letters, superscripts
+        String compatible = Normalizer.normalize(String.valueOf(c), Normalizer.Form.NFKC);
+        if (!compatible.equals(String.valueOf(c)) && drawable(compatible)) {
+            return new Substitution(compatible, true);
+        }
+        // Accented letters: keep the base letter, then transliterate what is still missing
+        String base = COMBINING_MARKS.matcher(Normalizer.normalize(String.valueOf(c), Normalizer.Form.NFKD))
+                .replaceAll("");
+        StringBuilder out = new StringBuilder();
+        for (int i = 0; i < base.length(); i++) {
+            char b = base.charAt(i);
+            String letter = isDrawable(b) ? String.valueOf(b) : TRANSLITERATION.get(b);
+            if (letter == null) {
+                return new Substitution(null, false);
+            }
+            out.append(letter);
+        }
+        return new Substitution(out.toString(), true);
+    }
+
+    private static boolean drawable(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (!isDrawable(text.charAt(i))) return false;
+        }
+        return true;
+    }
+
+    private static void symbols(String replacement, char... chars) {
+        for (char c : chars) {
+            SYMBOLS.put(c, replacement);
+        }
+    }
+
+    private static void transliterate(char c, String latin) {
+        TRANSLITERATION.put(c, latin);
+    }
+
+    private static String capitalize(String latin) {
+        return latin.isEmpty() ? latin : Character.toUpperCase(latin.charAt(0)) + latin.substring(1);
+    }
+
+    /** text is null when the character has no equivalent; counted is false for invisible fixes (spacing, controls). */
+    private record Substitution(String text, boolean counted) {
+    }
+}
@@ -0,0 +1,40 @@
+package com.kinovek.backend.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * The candidate name comes from the uploaded resume and ends up in download names and ZIP
+ * entry names, so it must never carry path separators or dots.
+ */
+class EnhancedResumeFileNameTests {
+
+    @Test
+    void keepsOrdinaryNamesReadable() {
+        assertEquals("Rahul_Sharma", fileNameBase("  Rahul   Sharma "));
+        assertEquals("Anais_Lefevre-Dubois", fileNameBase("Anaïs Lefèvre-Dubois"));
+    }
+
+    @Test
+    void stripsPathTraversalAndSeparators() {
+        assertEquals("etcpasswd", fileNameBase("../../etc/passwd"));
+        assertEquals("a_b", fileNameBase("a\\ b"));
+        assertEquals("Robert_Tables", fileNameBase("Robert\"; Tables\r\n"));
+    }
+
+    @Test
+    void fallsBackWhenNothingUsableIsLeft() {
+        assertEquals("User", fileNameBase("../.."));
+        assertEquals("User", fileNameBase("राहुल"));
+        assertEquals("User", fileNameBase("   "));
+        assertEquals("User", new EnhancedResume("", null, Map.of(), false).getFileNameBase());
+    }
+
+    private static String fileNameBase(String fullName) {
+        return new EnhancedResume("", null, Map.of("personalInfo", Map.of("fullName", fullName)), false)
+                .getFileNameBase();
+    }
+}
@@ -0,0 +1,123 @@
+package com.kinovek.backend.observability;
+
+import com.kinovek.backend.model.EnhancedResume;
+import com.kinovek.backend.service.ATSPDFGenerator;
+import com.kinovek.backend.service.ATSScoringService;
+import com.kinovek.backend.service.PipelineStageListener;
+import com.kinovek.backend.service.ResumePipelineService;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.apache.poi.xwpf.usermodel.XWPFDocument;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * An on-demand recording from {@link FlightRecorderService} carries one pipeline event per
+ * stage with its fields filled in.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+class PipelineEventsTests {
+
+    @Autowired
+    private ResumePipelineService resumePipelineService;
+
+    @Autowired
+    private ATSScoringService atsScoringService;
+
+    @Autowired
+    private ATSPDFGenerator atsPdfGenerator;
+
+    @Test
+    void recordingCarriesAnEventPerPipelineStage() throws Exception {
+        FlightRecorderService recorder = new FlightRecorderService();
+        ReflectionTestUtils.setField(recorder, "maxDurationSeconds", 60L);
+        ReflectionTestUtils.setField(recorder, "maxSizeMb", 10L);
+        assertNull(recorder.dump(), "nothing to dump before the first recording");
+
+        byte[] upload = docx(fixture("resume_fresher"));
+        String jobDescription = fixture("jd_java_developer");
+        ByteArrayOutputStream pdf = new ByteArrayOutputStream();
+        EnhancedResume enhanced;
+        Path file;
+        try {
+            recorder.start(60);
+            enhanced = resumePipelineService.enhance("resume.docx", upload, jobDescription,
+                    PipelineStageListener.NONE);
+            atsScoringService.calculateScore(enhanced.getResumeText(), enhanced.getMatchResult());
+            atsPdfGenerator.generateATSResume(enhanced.getResumeData(), enhanced.isFresher(), pdf);
+            file = recorder.dump();
+        } finally {
+            recorder.shutdown();
+        }
+
+        assertNotNull(file);
+        Map<String, List<RecordedEvent>> events;
+        try {
+            events = RecordingFile.readAllEvents(file).stream()
+                    .filter(event -> event.getEventType().getName().startsWith("kinovek."))
+                    .collect(Collectors.groupingBy(event -> event.getEventType().getName()));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+
+        RecordedEvent extraction = single(events, "kinovek.Extraction");
+        assertEquals("docx", extraction.getString("format"));
+        assertEquals(upload.length, extraction.getLong("bytes"));
+        assertEquals(-1, extraction.getInt("pages"));
+        assertEquals(enhanced.getResumeText().length(), extraction.getInt("chars"));
+
+        assertTrue(single(events, "kinovek.StructureParse").getInt("sections") > 0);
+
+        RecordedEvent match = single(events, "kinovek.KeywordMatch");
+        assertEquals(jobDescription.length(), match.getInt("jdLength"));
+        assertTrue(match.getInt("matched") > 0);
+        assertTrue(match.getInt("jdKeywords") >= match.getInt("matched"));
+
+        RecordedEvent scoring = single(events, "kinovek.Scoring");
+        assertTrue(scoring.getInt("overallScore") > 0);
+        assertEquals(enhanced.getResumeText().length(), scoring.getInt("resumeChars"));
+
+        assertTrue(single(events, "kinovek.Rewrite").getBoolean("fresher"));
+
+        RecordedEvent render = single(events, "kinovek.Render");
+        assertEquals(pdf.size(), render.getLong("bytes"));
+        assertTrue(render.getInt("pages") >= 1);
+        assertTrue(render.getDuration().toNanos() > 0);
+    }
+
+    private static RecordedEvent single(Map<String, List<RecordedEvent>> events, String name) {
+        List<RecordedEvent> ofType = events.getOrDefault(name, List.of());
+        assertEquals(1, ofType.size(), name + " events: " + events.keySet());
+        return ofType.get(0);
+    }
+
+    private static String fixture(String name) throws IOException {
+        return Files.readString(Path.of("..", "test_" + name + ".txt"), StandardCharsets.UTF_8);
+    }
+
+    private static byte[] docx(String text) throws IOException {
+        try (XWPFDocument document = new XWPFDocument(); ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            for (String line : text.split("\n", -1)) {
+                document.createParagraph().createRun().setText(line);
+            }
+            document.write(out);
+            return out.toByteArray();
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.kinovek.backend.observability;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Per-stage and per-request CPU time and allocation: measured on platform threads, reported
+ * as -1 (and left out of the metrics) on virtual threads or when disabled.
+ */
+class RequestCostTests {
+
+    private static final int MIB = 1024 * 1024;
+
+    private final MeterRegistry registry = new SimpleMeterRegistry();
+
+    /** Keeps allocations from being optimized away. */
+    private static volatile Object sink;
+
+    @AfterEach
+    void unbindTrace() {
+        RequestTrace.clear();
+    }
+
+    @Test
+    void stageOnAPlatformThreadRecordsCpuAndAllocation() {
+        PipelineMetrics metrics = new PipelineMetrics(registry, true);
+
+        try (PipelineMetrics.Stage stage = metrics.start(PipelineMetrics.RENDER)) {
+            sink = new byte[4 * MIB];
+        }
+
+        assertEquals(1, registry.get("kinovek.pipeline.stage").tag("stage", "render").timer().count());
+        assertEquals(1, registry.get("kinovek.pipeline.stage.cpu").tag("stage", "render").timer().count());
+        assertTrue(registry.get("kinovek.pipeline.stage.allocated").tag("stage", "render").summary().totalAmount()
+                >= 4 * MIB);
+    }
+
+    @Test
+    void stageOnAVirtualThreadRecordsOnlyWallTime() throws InterruptedException {
+        PipelineMetrics metrics = new PipelineMetrics(registry, true);
+        RequestTrace trace = RequestTrace.begin(false, true);
+
+        Thread.ofVirtual().start(() -> {
+            RequestTrace.bind(trace);
+            try (PipelineMetrics.Stage stage = metrics.start(PipelineMetrics.MATCH)) {
+                sink = new byte[MIB];
+            }
+        }).join();
+
+        assertEquals(1, registry.get("kinovek.pipeline.stage").tag("stage", "match").timer().count());
+        assertNull(registry.find("kinovek.pipeline.stage.cpu").timer());
+        assertNull(registry.find("kinovek.pipeline.stage.allocated").summary());
+
+        @SuppressWarnings("unchecked")
+        Map<String, Object> stage = ((List<Map<String, Object>>) trace.toMap().get("stages")).get(0);
+        assertEquals("match", stage.get("stage"));
+        assertFalse(stage.containsKey("cpuMs"), stage.toString());
+        assertFalse(stage.containsKey("allocatedBytes"), stage.toString());
+    }
+
+    @Test
+    void disabledCostSkipsTheThreadCounters() {
+        PipelineMetrics metrics = new PipelineMetrics(registry, false);
+
+        try (PipelineMetrics.Stage stage = metrics.start(PipelineMetrics.PARSE)) {
+            sink = new byte[MIB];
+        }
+
+        assertEquals(1, registry.get("kinovek.pipeline.stage").tag("stage", "parse").timer().count());
+        assertNull(registry.find("kinovek.pipeline.stage.cpu").timer());
+        assertNull(registry.find("kinovek.pipeline.stage.allocated").summary());
+    }
+
+    @Test
+    void requestCostAddsUpPlatformThreadsAndSkipsVirtualOnes() throws InterruptedException {
+        RequestTrace trace = RequestTrace.begin(false, true);
+
+        try (RequestTrace.Segment segment = trace.startSegment()) {
+            sink = new byte[2 * MIB];
+        }
+        Thread worker = Thread.ofPlatform().start(() -> {
+            try (RequestTrace.Segment segment = trace.startSegment()) {
+                sink = new byte[3 * MIB];
+            }
+        });
+        worker.join();
+        Thread.ofVirtual().start(() -> {
+            try (RequestTrace.Segment segment = trace.startSegment()) {
+                sink = new byte[64 * MIB];
+            }
+        }).join();
+
+        ThreadCost.Sample cost = trace.cost();
+        assertTrue(cost.cpuNanos() >= 0);
+        assertTrue(cost.allocatedBytes() >= 5 * MIB, String.valueOf(cost.allocatedBytes()));
+        assertTrue(cost.allocatedBytes() < 64 * MIB, "the virtual thread's share is not measured");
+
+        PipelineMetrics metrics = new PipelineMetrics(registry, true);
+        metrics.recordRequestCost("/api/v1/resume/enhance-pdf", PipelineMetrics.sizeBucket(70_000), "2xx", cost);
+        assertEquals(1, registry.get("kinovek.request.cpu")
+                .tags("endpoint", "/api/v1/resume/enhance-pdf", "size", "64-256KiB", "outcome", "2xx")
+                .timer().count());
+        assertEquals(cost.allocatedBytes(), (long) registry.get("kinovek.request.allocated").summary().totalAmount());
+    }
+
+    @Test
+    void requestServedOnlyByVirtualThreadsHasUnknownCost() throws InterruptedException {
+        RequestTrace trace = RequestTrace.begin(false, true);
+
+        Thread.ofVirtual().start(() -> {
+            try (RequestTrace.Segment segment = trace.startSegment()) {
+                sink = new byte[MIB];
+            }
+        }).join();
+
+        assertEquals(ThreadCost.Sample.UNKNOWN, trace.cost());
+        new PipelineMetrics(registry, true).recordRequestCost("/api/v1/resume/enhance", "0-64KiB", "2xx", trace.cost());
+        assertNull(registry.find("kinovek.request.cpu").timer());
+        assertNull(registry.find("kinovek.request.allocated").summary());
+    }
+
+    @Test
+    void costDeltasNeverGoNegative() {
+        ThreadCost.Sample start = new ThreadCost.Sample(5_000, 1_000);
+
+        assertEquals(new ThreadCost.Sample(2_000, 500), new ThreadCost.Sample(7_000, 1_500).since(start));
+        assertEquals(ThreadCost.Sample.UNKNOWN, new ThreadCost.Sample(4_000, 900).since(start));
+        assertEquals(ThreadCost.Sample.UNKNOWN, ThreadCost.Sample.UNKNOWN.since(start));
+    }
+
+    @Test
+    void sizeBucketsSplitAtTheirUpperBounds() {
+        assertEquals("unknown", PipelineMetrics.sizeBucket(-1));
+        assertEquals("0-64KiB", PipelineMetrics.sizeBucket(64 * 1024 - 1));
+        assertEquals("64-256KiB", PipelineMetrics.sizeBucket(64 * 1024));
+        assertEquals("1-4MiB", PipelineMetrics.sizeBucket(MIB));
+        assertEquals("4MiB+", PipelineMetrics.sizeBucket(4L * MIB));
+    }
+}
@@ -0,0 +1,136 @@
+package com.kinovek.backend.observability;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.poi.xwpf.usermodel.XWPFDocument;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+/**
+ * What a client sees of the request trace: the Server-Timing header on JSON and streamed
+ * responses, and the "trace" body field in debug mode.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:kinovek_timing",
+        "kinovek.trace.debug-enabled=true"})
+@AutoConfigureMockMvc
+class ServerTimingTests {
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final ListAppender<ILoggingEvent> requestLog = new ListAppender<>();
+
+    @BeforeEach
+    void captureRequestLog() {
+        requestLog.start();
+        ((Logger) LoggerFactory.getLogger("kinovek.request")).addAppender(requestLog);
+    }
+
+    @AfterEach
+    void releaseRequestLog() {
+        ((Logger) LoggerFactory.getLogger("kinovek.request")).detachAppender(requestLog);
+    }
+
+    @Test
+    void jsonResponseTimesItsStages() throws Exception {
+        MvcResult result = mvc.perform(multipart("/api/v1/resume/enhance").file(resume())
+                        .param("jobDescription", fixture("jd_java_developer")))
+                .andReturn();
+
+        String timing = result.getResponse().getHeader("Server-Timing");
+        assertNotNull(timing);
+        assertEquals(List.of("extract", "match", "total"), stageNames(timing));
+        assertFalse(objectMapper.readTree(result.getResponse().getContentAsString()).has("trace"),
+                "the trace body field needs the debug header");
+    }
+
+    @Test
+    void debugHeaderAddsTheTraceToTheBody() throws Exception {
+        MvcResult result = mvc.perform(multipart("/api/v1/resume/enhance").file(resume())
+                        .param("jobDescription", fixture("jd_java_developer"))
+                        .header(RequestTraceInterceptor.DEBUG_HEADER, "true"))
+                .andReturn();
+
+        JsonNode trace = objectMapper.readTree(result.getResponse().getContentAsString()).get("trace");
+        assertNotNull(trace);
+        assertEquals("extract", trace.get("stages").get(0).get("stage").asText());
+        assertTrue(trace.get("totalMs").asDouble() > 0);
+    }
+
+    /**
+     * A streamed PDF sends its headers before the body is rendered, so Server-Timing stops
+     * short of the render stage; the summary log line written after the body has it.
+     */
+    @Test
+    void streamedPdfHeaderLeavesOutTheRenderStage() throws Exception {
+        MvcResult started = mvc.perform(multipart("/api/v1/resume/enhance-pdf").file(resume())
+                        .param("jobDescription", fixture("jd_java_developer")))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mvc.perform(asyncDispatch(started));
+
+        String timing = started.getResponse().getHeader("Server-Timing");
+        assertNotNull(timing);
+        assertEquals(List.of("extract", "parse", "match", "rewrite", "total"), stageNames(timing));
+
+        String summary = requestLog.list.stream()
+                .map(ILoggingEvent::getFormattedMessage)
+                .filter(line -> line.contains("endpoint=/api/v1/resume/enhance-pdf "))
+                .findFirst().orElseThrow();
+        assertTrue(summary.contains("render:"), summary);
+    }
+
+    private static List<String> stageNames(String serverTiming) {
+        return List.of(serverTiming.split(",\\s*")).stream()
+                .map(entry -> entry.substring(0, entry.indexOf(';')))
+                .toList();
+    }
+
+    private static MockMultipartFile resume() throws IOException {
+        return new MockMultipartFile("resume", "resume.docx", null, docx(fixture("resume_fresher")));
+    }
+
+    private static String fixture(String name) throws IOException {
+        return Files.readString(Path.of("..", "test_" + name + ".txt"), StandardCharsets.UTF_8);
+    }
+
+    private static byte[] docx(String text) throws IOException {
+        try (XWPFDocument document = new XWPFDocument(); ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            for (String line : text.split("\n", -1)) {
+                document.createParagraph().createRun().setText(line);
+            }
+            document.write(out);
+            return out.toByteArray();
+        }
+    }
+}
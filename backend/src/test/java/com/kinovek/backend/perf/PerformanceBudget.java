@@ -0,0 +1,192 @@
+package com.kinovek.backend.perf;
+
+import com.kinovek.backend.observability.ThreadCost;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Measures an operation's CPU time and allocation per call and checks them against the
+ * baselines in {@value #BASELINES}.
+ *
+ * CPU time is compared relative to a fixed calibration workload run in the same JVM, so the
+ * budgets hold across machines; allocation is compared in absolute bytes. Tolerances come
+ * from -Dperf.cpu-tolerance (default 0.30) and -Dperf.allocation-tolerance (default 0.10).
+ * Run with -Dperf.record=true to write the measured values as the new baselines. An operation
+ * with no baseline fails, so a new check can't pass unbudgeted; record its values and commit them.
+ */
+final class PerformanceBudget {
+
+    static final String BASELINES = "src/test/resources/perf/baselines.properties";
+
+    private static final Logger log = LoggerFactory.getLogger(PerformanceBudget.class);
+
+    private static final boolean RECORD = Boolean.getBoolean("perf.record");
+    private static final double CPU_TOLERANCE = Double.parseDouble(System.getProperty("perf.cpu-tolerance", "0.30"));
+    private static final double ALLOCATION_TOLERANCE =
+            Double.parseDouble(System.getProperty("perf.allocation-tolerance", "0.10"));
+    /** Absorbs TLAB/JIT noise on operations that allocate very little. */
+    private static final long ALLOCATION_SLACK_BYTES = 1024;
+
+    private static final long WARMUP_NANOS = 2_000_000_000L;
+    private static final long BATCH_NANOS = 50_000_000L;
+    private static final int SAMPLES = 15;
+
+    private static Measurement calibration;
+    private static volatile int sink;
+
+    private PerformanceBudget() {
+    }
+
+    /** Per-call cost: median CPU nanoseconds, minimum allocated bytes over the samples. */
+    record Measurement(double cpuNanos, double allocatedBytes) {
+    }
+
+    /** Measures {@code operation} and fails if it is over its budget. */
+    static void check(String name, Supplier<?> operation) {
+        Measurement reference = calibration();
+        Measurement measured = measure(operation);
+        double relativeCpu = measured.cpuNanos() / reference.cpuNanos();
+        long allocated = Math.round(measured.allocatedBytes());
+        log.info("perf {}: {} us/op ({}x calibration), {} B/op", name,
+                String.format(Locale.ROOT, "%.1f", measured.cpuNanos() / 1000), format(relativeCpu), allocated);
+
+        if (RECORD) {
+            record(name, relativeCpu, allocated);
+            return;
+        }
+        Properties baselines = load();
+        String cpuBaseline = baselines.getProperty(name + ".relative-cpu");
+        String allocationBaseline = baselines.getProperty(name + ".allocated-bytes");
+        assertTrue(cpuBaseline != null && allocationBaseline != null, String.format(Locale.ROOT,
+                "%s has no baseline in %s; record one with -Dperf.record=true and commit it",
+                name, BASELINES));
+
+        double cpuBudget = Double.parseDouble(cpuBaseline) * (1 + CPU_TOLERANCE);
+        long allocationBudget = Math.round(Long.parseLong(allocationBaseline) * (1 + ALLOCATION_TOLERANCE))
+                + ALLOCATION_SLACK_BYTES;
+        assertTrue(relativeCpu <= cpuBudget, String.format(Locale.ROOT,
+                "%s CPU time is %sx calibration, over its budget of %sx (baseline %s + %.0f%%)",
+                name, format(relativeCpu), format(cpuBudget), cpuBaseline, CPU_TOLERANCE * 100));
+        assertTrue(allocated <= allocationBudget, String.format(Locale.ROOT,
+                "%s allocates %d B/op, over its budget of %d B/op (baseline %s + %.0f%%)",
+                name, allocated, allocationBudget, allocationBaseline, ALLOCATION_TOLERANCE * 100));
+
+        if (relativeCpu < Double.parseDouble(cpuBaseline) * (1 - CPU_TOLERANCE)
+                || allocated < Long.parseLong(allocationBaseline) * (1 - ALLOCATION_TOLERANCE)) {
+            log.info("perf {}: well under its baseline; re-record to tighten the budget", name);
+        }
+    }
+
+    static Measurement measure(Supplier<?> operation) {
+        assumeTrue(ThreadCost.sample().cpuNanos() >= 0, "thread CPU time is not available on this JVM");
+
+        // Warm up, and size batches so each sample spans enough CPU time to be stable
+        long calls = 0;
+        long start = System.nanoTime();
+        while (System.nanoTime() - start < WARMUP_NANOS) {
+            consume(operation.get());
+            calls++;
+        }
+        double nanosPerCall = (double) (System.nanoTime() - start) / calls;
+        int batch = (int) Math.max(1, Math.min(100_000, BATCH_NANOS / nanosPerCall));
+
+        long[] cpu = new long[SAMPLES];
+        long[] allocated = new long[SAMPLES];
+        for (int s = 0; s < SAMPLES; s++) {
+            ThreadCost.Sample before = ThreadCost.sample();
+            for (int i = 0; i < batch; i++) {
+                consume(operation.get());
+            }
+            ThreadCost.Sample cost = ThreadCost.sample().since(before);
+            cpu[s] = cost.cpuNanos();
+            allocated[s] = cost.allocatedBytes();
+        }
+        Arrays.sort(cpu);
+        Arrays.sort(allocated);
+        return new Measurement((double) cpu[SAMPLES / 2] / batch, (double) allocated[0] / batch);
+    }
+
+    /** Fixed string, hashing and sorting work that scales with the machine like the pipeline does. */
+    private static synchronized Measurement calibration() {
+        if (calibration == null) {
+            calibration = measure(() -> {
+                SplittableRandom random = new SplittableRandom(42);
+                Map<String, Integer> counts = new HashMap<>();
+                StringBuilder text = new StringBuilder();
+                for (int i = 0; i < 20_000; i++) {
+                    String word = Integer.toString(random.nextInt(5_000), 36);
+                    counts.merge(word, 1, Integer::sum);
+                    text.append(word).append(' ');
+                }
+                List<String> words = new ArrayList<>(counts.keySet());
+                Collections.sort(words);
+                return text.toString().toUpperCase(Locale.ROOT).indexOf(words.get(words.size() / 2)) + words.size();
+            });
+        }
+        return calibration;
+    }
+
+    private static void consume(Object result) {
+        sink += System.identityHashCode(result);
+    }
+
+    private static Properties load() {
+        Properties baselines = new Properties();
+        try (InputStream in = PerformanceBudget.class.getClassLoader().getResourceAsStream("perf/baselines.properties")) {
+            if (in != null) baselines.load(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return baselines;
+    }
+
+    /** Merges one operation's values into the source baselines file (sorted, so diffs stay small). */
+    private static synchronized void record(String name, double relativeCpu, long allocated) {
+        Path path = Path.of(BASELINES);
+        Properties baselines = new Properties();
+        try {
+            if (Files.exists(path)) {
+                try (InputStream in = Files.newInputStream(path)) {
+                    baselines.load(in);
+                }
+            }
+            baselines.setProperty(name + ".relative-cpu", format(relativeCpu));
+            baselines.setProperty(name + ".allocated-bytes", String.valueOf(allocated));
+
+            StringBuilder out = new StringBuilder()
+                    .append("# Performance budgets for tests tagged \"perf\" (mvn -Pperf test).\n")
+                    .append("# relative-cpu = CPU time per call / calibration workload; allocated-bytes = per call.\n")
+                    .append("# Re-record on the reference machine: mvn -Pperf test -Dperf.record=true\n");
+            new TreeMap<>(baselines).forEach((key, value) -> out.append(key).append('=').append(value).append('\n'));
+            Files.writeString(path, out, StandardCharsets.ISO_8859_1);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        log.info("perf {}: baseline recorded in {}", name, BASELINES);
+    }
+
+    private static String format(double ratio) {
+        return String.format(Locale.ROOT, "%.3f", ratio);
+    }
+}
@@ -0,0 +1,86 @@
+package com.kinovek.backend.perf;
+
+import com.kinovek.backend.service.ATSPDFGenerator;
+import com.kinovek.backend.service.ATSScoringService;
+import com.kinovek.backend.service.ResumeRewriter;
+import com.kinovek.backend.service.ResumeTextParserService;
+import com.kinovek.backend.util.KeywordMatcher;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * CPU and allocation budgets for the hot pipeline paths, on the long resume fixture against
+ * the Java developer JD. Runs in mvn verify (or alone with -Pperf); see {@link PerformanceBudget}.
+ */
+@Tag("perf")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+class PipelinePerformanceTests {
+
+    private static String resumeText;
+    private static String jobDescription;
+
+    @Autowired
+    private KeywordMatcher keywordMatcher;
+
+    @Autowired
+    private ATSScoringService atsScoringService;
+
+    @Autowired
+    private ResumeTextParserService resumeTextParserService;
+
+    @Autowired
+    private ResumeRewriter resumeRewriter;
+
+    @Autowired
+    private ATSPDFGenerator atsPdfGenerator;
+
+    @BeforeAll
+    static void loadFixtures() throws IOException {
+        resumeText = Files.readString(Path.of("..", "test_long_resume.txt"), StandardCharsets.UTF_8);
+        jobDescription = Files.readString(Path.of("..", "test_jd_java_developer.txt"), StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void keywordMatch() {
+        PerformanceBudget.check("keywordMatch", () -> keywordMatcher.match(resumeText, jobDescription));
+    }
+
+    @Test
+    void calculateScore() {
+        PerformanceBudget.check("calculateScore", () -> atsScoringService.calculateScore(resumeText, jobDescription));
+    }
+
+    @Test
+    void parseResumeText() {
+        PerformanceBudget.check("parseResumeText", () -> resumeTextParserService.parseResumeText(resumeText));
+    }
+
+    @Test
+    void generateATSResume() {
+        // Same input ResumePipelineService hands to the renderer
+        KeywordMatcher.MatchResult match = keywordMatcher.match(resumeText, jobDescription);
+        Map<String, Object> analysisResults = new HashMap<>();
+        analysisResults.put("matchedKeywords", match.getMatchedKeywords());
+        analysisResults.put("missingKeywords", match.getMissingKeywords());
+        analysisResults.put("matchPercentage", match.getMatchPercentage());
+        Map<String, Object> enhanced = resumeRewriter.enhanceResume(
+                resumeTextParserService.parseResumeText(resumeText), analysisResults, jobDescription);
+        boolean fresher = Boolean.TRUE.equals(enhanced.get("isFresher"));
+
+        PerformanceBudget.check("generateATSResume", () -> {
+            atsPdfGenerator.generateATSResume(enhanced, fresher, OutputStream.nullOutputStream());
+            return enhanced;
+        });
+    }
+}
@@ -0,0 +1,125 @@
+package com.kinovek.backend.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * The single-pass normalizer must produce exactly the lines the old regex chain
+ * (cleanText → normalizeSectionHeaders → linearize → split) fed to the PDF stage.
+ */
+class ATSConverterNormalizeTests {
+
+    private final ATSConverterService service = new ATSConverterService();
+
+    @Test
+    void matchesRegexPipelineOnFixtures() throws IOException {
+        List<Path> fixtures = new ArrayList<>();
+        try (DirectoryStream<Path> dir = Files.newDirectoryStream(Path.of(".."), "test_*.txt")) {
+            dir.forEach(fixtures::add);
+        }
+        assertFalse(fixtures.isEmpty(), "no fixtures found next to the backend module");
+
+        for (Path fixture : fixtures) {
+            String raw = Files.readString(fixture, StandardCharsets.UTF_8);
+            assertEquals(regexPipeline(raw), normalized(raw), fixture.getFileName().toString());
+        }
+    }
+
+    @Test
+    void matchesRegexPipelineOnEdgeCases() {
+        String[] samples = {
+                "",
+                "   \n\t\n",
+                "Name | Role | Company | Year\nplain line",
+                "a|b\u2028|c|d|e",
+                "Left\t\tRight\t\t\tFar right",
+                "Skills        Java        Spring",
+                "Tail        token        ",
+                "\u2022 Built APIs\n\u25CF Led team\n\u2043 Shipped",
+                "[Image: logo.png] Header [IMAGE]\n[imag] kept",
+                "<IMG src='x'> <b>Bold</b> <> <<a> a < b",
+                "<im[image]g> nested",
+                "--- Experience ---\n## SKILLS:\nEducation:\u2028",
+                "unclosed [image and <tag",
+        };
+        for (String sample : samples) {
+            assertEquals(regexPipeline(sample), normalized(sample), sample);
+        }
+    }
+
+    @Test
+    void matchesRegexPipelineOnRandomInput() {
+        String[] tokens = {
+                "a", "Java", " ", "  ", "    ", "\t", "\t\t", "\n", "\r", "\r\n", "\u000B", "\f",
+                "\u0085", "\u2028", "|", "[", "]", "<", ">", "image", "IMG", "img", "\u2022",
+                "\u25AA", "skills", "Experience:", "--", "#", ":", "=",
+        };
+        Random random = new Random(42);
+        for (int i = 0; i < 5000; i++) {
+            StringBuilder sb = new StringBuilder();
+            int count = random.nextInt(40);
+            for (int t = 0; t < count; t++) {
+                sb.append(tokens[random.nextInt(tokens.length)]);
+            }
+            String sample = sb.toString();
+            assertEquals(regexPipeline(sample), normalized(sample), sample);
+        }
+    }
+
+    private List<String> normalized(String raw) {
+        List<String> lines = service.normalize(raw);
+        return lines.isEmpty() ? List.of("") : lines;
+    }
+
+    // ── Reference: the regex chain the normalizer replaced ──────────
+
+    private static final Pattern TABLE_PATTERN = Pattern.compile("\\|.*\\|.*\\|", Pattern.MULTILINE);
+    private static final Pattern MULTIPLE_COLUMNS = Pattern.compile("\\t{2,}|\\s{4,}(?=\\S+\\s{4,}\\S+)");
+    private static final Pattern SPECIAL_CHARS = Pattern.compile("[\u2022\u25CF\u25CB\u25AA\u25AB\u2023\u2043]");
+    private static final Pattern MULTIPLE_BLANK_LINES = Pattern.compile("\n{3,}");
+
+    private List<String> regexPipeline(String text) {
+        text = TABLE_PATTERN.matcher(text).replaceAll("");
+        text = MULTIPLE_COLUMNS.matcher(text).replaceAll("\n");
+        text = SPECIAL_CHARS.matcher(text).replaceAll("-");
+        text = text.replaceAll("(?i)\\[image[^]]*]", "");
+        text = text.replaceAll("(?i)<img[^>]*>", "");
+        text = text.replaceAll("<[^>]+>", "");
+        text = text.replaceAll("\t", " ");
+        text = text.replaceAll(" {2,}", " ");
+        text = MULTIPLE_BLANK_LINES.matcher(text).replaceAll("\n\n");
+        text = text.trim();
+
+        StringBuilder headers = new StringBuilder();
+        for (String line : text.split("\n")) {
+            String normalized = service.matchSectionHeader(line.trim());
+            if (normalized != null) {
+                headers.append("\n").append(normalized).append("\n");
+            } else {
+                headers.append(line).append("\n");
+            }
+        }
+
+        StringBuilder linear = new StringBuilder();
+        for (String line : headers.toString().trim().split("\n")) {
+            String trimmed = line.trim();
+            if (!trimmed.isEmpty()) {
+                linear.append(trimmed).append("\n");
+            }
+        }
+        return Arrays.asList(linear.toString().trim().split("\n"));
+    }
+}
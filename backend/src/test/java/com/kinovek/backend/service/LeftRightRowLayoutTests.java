@@ -0,0 +1,159 @@
+package com.kinovek.backend.service;
+
+import com.kinovek.backend.observability.PipelineMetrics;
+import com.lowagie.text.Document;
+import com.lowagie.text.DocumentException;
+import com.lowagie.text.Element;
+import com.lowagie.text.Font;
+import com.lowagie.text.PageSize;
+import com.lowagie.text.Paragraph;
+import com.lowagie.text.Phrase;
+import com.lowagie.text.pdf.PdfPCell;
+import com.lowagie.text.pdf.PdfPTable;
+import com.lowagie.text.pdf.PdfWriter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.text.PDFTextStripper;
+import org.apache.pdfbox.text.TextPosition;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Rows drawn straight onto the page must land every glyph where the old two-cell PdfPTable
+ * put it, including the text that follows each row and rows pushed onto a new page.
+ */
+class LeftRightRowLayoutTests {
+
+    /** Positions are compared to a tenth of a point. */
+    private static final float TOLERANCE = 0.1f;
+
+    private static final String[][] ROWS = {
+            {"B.Tech in Computer Science and Engineering", "2019"},
+            {"Infosys Limited, Pune", "January 2020 - Present"},
+            {"Tata Consultancy Services, Bengaluru, Karnataka", "Jun 2017 - Dec 2019"},
+            {"Senior Secondary (XII), Kendriya Vidyalaya", "2015"},
+            {"Wipro", "2014 - 2015"},
+    };
+
+    private final PdfRenderingEngine engine = engine();
+    private final Font titleFont = engine.font(true, 11);
+    private final Font companyFont = engine.font(false, 11);
+    private final Font dateFont = engine.font(false, 10);
+    private final Font bodyFont = engine.font(false, 10.5f);
+
+    private static PdfRenderingEngine engine() {
+        PdfRenderingEngine engine = new PdfRenderingEngine();
+        ReflectionTestUtils.setField(engine, "pipelineMetrics", new PipelineMetrics(new SimpleMeterRegistry(), false));
+        return engine;
+    }
+
+    @Test
+    void rowsLandWhereTheTableRowsDid() throws Exception {
+        ATSPDFGenerator generator = new ATSPDFGenerator();
+
+        List<Glyph> direct = glyphs(render((document, writer, left, right) ->
+                generator.drawLeftRightRow(document, writer, left, companyFont, right, dateFont)));
+        List<Glyph> table = glyphs(render((document, writer, left, right) ->
+                document.add(tableRow(left, companyFont, right, dateFont))));
+
+        assertTrue(direct.get(direct.size() - 1).page() > 1, "the rows should run onto a second page");
+        assertEquals(table.size(), direct.size());
+        for (int i = 0; i < table.size(); i++) {
+            Glyph expected = table.get(i);
+            Glyph actual = direct.get(i);
+            String where = "glyph " + i + ": expected " + expected + ", got " + actual;
+            assertEquals(expected.text(), actual.text(), where);
+            assertEquals(expected.page(), actual.page(), where);
+            assertEquals(expected.x(), actual.x(), TOLERANCE, where);
+            assertEquals(expected.y(), actual.y(), TOLERANCE, where);
+        }
+    }
+
+    private interface RowDrawer {
+        void draw(Document document, PdfWriter writer, String left, String right) throws DocumentException;
+    }
+
+    /** Experience entries as ATSPDFGenerator lays them out: title, row, bullet, spacer. */
+    private byte[] render(RowDrawer rows) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (PdfRenderingEngine.Session session = engine.open(PageSize.A4, 54, 54, 54, 54, out)) {
+            Document document = session.getDocument();
+            for (int i = 0; i < 40; i++) {
+                String[] row = ROWS[i % ROWS.length];
+                Paragraph title = new Paragraph("Software Engineer " + i, titleFont);
+                title.setLeading(11 * 1.15f);
+                document.add(title);
+
+                rows.draw(document, session.getWriter(), row[0], row[1]);
+
+                Paragraph bullet = new Paragraph("-  Built REST APIs serving 2M requests a day", bodyFont);
+                bullet.setLeading(10.5f * 1.15f);
+                document.add(bullet);
+
+                Paragraph spacer = new Paragraph(" ");
+                spacer.setSpacingAfter(6f);
+                spacer.setLeading(1f);
+                document.add(spacer);
+            }
+            session.finish();
+        }
+        return out.toByteArray();
+    }
+
+    // ── Reference: the row ATSPDFGenerator drew before user-027 ──────────
+
+    private static PdfPTable tableRow(String leftText, Font leftFont, String rightText, Font rightFont)
+            throws DocumentException {
+        PdfPTable table = new PdfPTable(2);
+        table.setWidthPercentage(100f);
+        table.setWidths(new float[]{75f, 25f});
+
+        PdfPCell leftCell = new PdfPCell(new Phrase(leftText, leftFont));
+        leftCell.setBorder(PdfPCell.NO_BORDER);
+        leftCell.setHorizontalAlignment(Element.ALIGN_LEFT);
+        leftCell.setPaddingLeft(0f);
+        leftCell.setPaddingBottom(2f);
+
+        PdfPCell rightCell = new PdfPCell(new Phrase(rightText, rightFont));
+        rightCell.setBorder(PdfPCell.NO_BORDER);
+        rightCell.setHorizontalAlignment(Element.ALIGN_RIGHT);
+        rightCell.setPaddingRight(0f);
+        rightCell.setPaddingBottom(2f);
+
+        table.addCell(leftCell);
+        table.addCell(rightCell);
+        return table;
+    }
+
+    private record Glyph(int page, String text, float x, float y) {
+    }
+
+    /** Every visible glyph on every page, in reading order (spacer paragraphs draw a space). */
+    private static List<Glyph> glyphs(byte[] pdf) throws IOException {
+        List<Glyph> glyphs = new ArrayList<>();
+        try (PDDocument document = Loader.loadPDF(pdf)) {
+            PDFTextStripper stripper = new PDFTextStripper() {
+                @Override
+                protected void processTextPosition(TextPosition text) {
+                    if (text.getUnicode().isBlank()) return;
+                    glyphs.add(new Glyph(getCurrentPageNo(), text.getUnicode(), text.getXDirAdj(), text.getYDirAdj()));
+                }
+            };
+            stripper.getText(document);
+        }
+        glyphs.sort(Comparator.comparingInt(Glyph::page)
+                .thenComparingDouble(Glyph::y)
+                .thenComparingDouble(Glyph::x));
+        return glyphs;
+    }
+}
@@ -0,0 +1,75 @@
+package com.kinovek.backend.service;
+
+import com.kinovek.backend.util.WinAnsiText;
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.text.PDFTextStripper;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The built-in PDF fonts only cover WinAnsi. Text outside it must come out of the PDF as a
+ * readable substitute, not silently disappear.
+ */
+class PdfNonLatinTextTests {
+
+    @Test
+    void substitutesCharactersOutsideWinAnsi() {
+        WinAnsiText text = new WinAnsiText();
+
+        assertEquals("Lukasz Walesa, Stefan Tiriac, Dvorák", text.apply("Łukasz Wałęsa, Ștefan Țiriac, Dvořák"));
+        assertEquals("Moskva", text.apply("Москва"));
+        assertEquals("Athina", text.apply("Αθήνα"));
+        assertEquals("Java -> Kotlin, >= 5 years, finance", text.apply("Java → Kotlin, ≥ 5 years, ﬁnance"));
+        assertEquals("• Led a team of 8", text.apply("● Led a team of 8"));
+        assertEquals("Rs. 12 LPA", text.apply("₹ 12 LPA"));
+        assertEquals("?? Shipping ?", text.apply("北京 Shipping 🚀"));
+        assertEquals(3, text.getReplaced());
+        assertTrue(text.getUnsupported().contains("U+1F680"), text.getUnsupported().toString());
+
+        String latin1 = "Résumé – “Zürich” café €100";
+        assertSame(latin1, text.apply(latin1));
+    }
+
+    @Test
+    void copiesResumeDataOnlyWhereItChanged() {
+        Map<String, Object> skills = Map.of("Languages", List.of("Java", "C++"));
+        Map<String, Object> data = Map.of(
+                "personalInfo", Map.of("fullName", "Ирина Петрова"),
+                "skills", skills);
+
+        Map<String, Object> drawn = new WinAnsiText().applyAll(data);
+
+        assertEquals("Irina Petrova", ((Map<?, ?>) drawn.get("personalInfo")).get("fullName"));
+        assertSame(skills, drawn.get("skills"));
+    }
+
+    @Test
+    void atsPdfKeepsNonLatinTextReadable() throws IOException {
+        ATSConverterService converter = new ATSConverterService();
+        ReflectionTestUtils.setField(converter, "pdfEngine", new PdfRenderingEngine());
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        converter.writePDF(List.of(
+                "Łukasz Wałęsa",
+                "PROFESSIONAL SUMMARY",
+                "Backend engineer → platform lead, ≥ 8 years with Java — Москва, Αθήνα, 東京"), out);
+
+        String extracted;
+        try (PDDocument pdf = Loader.loadPDF(out.toByteArray())) {
+            extracted = new PDFTextStripper().getText(pdf);
+        }
+        assertTrue(extracted.contains("Lukasz Walesa"), extracted);
+        assertTrue(extracted.contains("engineer -> platform lead, >= 8 years with Java \u2014"), extracted);
+        assertTrue(extracted.contains("Moskva, Athina, ??"), extracted);
+    }
+}
@@ -0,0 +1,72 @@
+package com.kinovek.backend.service;
+
+import com.kinovek.backend.observability.PipelineMetrics;
+import com.lowagie.text.PageSize;
+import com.lowagie.text.Paragraph;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * A render that fails halfway must not reach the client as a well-formed PDF, and its time
+ * must still be recorded.
+ */
+class PdfRenderingEngineTests {
+
+    private final MeterRegistry registry = new SimpleMeterRegistry();
+
+    private PdfRenderingEngine engine() {
+        PdfRenderingEngine engine = new PdfRenderingEngine();
+        ReflectionTestUtils.setField(engine, "pipelineMetrics", new PipelineMetrics(registry, false));
+        return engine;
+    }
+
+    @Test
+    void finishedSessionWritesACompletePdf() throws Exception {
+        PdfRenderingEngine engine = engine();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        try (PdfRenderingEngine.Session session = engine.open(PageSize.A4, 50, 50, 50, 50, out)) {
+            session.getDocument().add(new Paragraph("Jane Doe", engine.font(true, 14)));
+            session.finish();
+        }
+
+        try (PDDocument pdf = Loader.loadPDF(out.toByteArray())) {
+            assertEquals(1, pdf.getNumberOfPages());
+        }
+        assertEquals(1, registry.get("kinovek.pipeline.stage").tag("stage", "render").timer().count());
+        assertEquals(1, registry.get("kinovek.pipeline.output.size").summary().count());
+    }
+
+    @Test
+    void failedRenderIsNotFinalized() throws Exception {
+        PdfRenderingEngine engine = engine();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        assertThrows(IllegalStateException.class, () -> {
+            try (PdfRenderingEngine.Session session = engine.open(PageSize.A4, 50, 50, 50, 50, out)) {
+                for (int i = 0; i < 200; i++) {
+                    session.getDocument().add(new Paragraph("Experience line " + i, engine.font(false, 11)));
+                }
+                throw new IllegalStateException("render failed");
+            }
+        });
+
+        String written = out.toString(StandardCharsets.ISO_8859_1);
+        assertFalse(written.contains("%%EOF"), "an abandoned render must not be finalized");
+        assertFalse(written.contains("trailer"), "an abandoned render must not be finalized");
+        assertEquals(1, registry.get("kinovek.pipeline.stage").tag("stage", "render").timer().count());
+        assertNull(registry.find("kinovek.pipeline.output.size").summary());
+    }
+}
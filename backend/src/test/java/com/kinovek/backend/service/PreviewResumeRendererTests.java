@@ -0,0 +1,134 @@
+package com.kinovek.backend.service;
+
+import com.kinovek.backend.config.ATSResumeConfig;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The previews walk the resume in the PDF's section order with the PDF's headings, so what the
+ * page shows is what the download will contain.
+ */
+class PreviewResumeRendererTests {
+
+    private static <T extends PreviewResumeRenderer> T renderer(T renderer) {
+        ATSResumeConfig config = new ATSResumeConfig();
+        config.init();
+        ReflectionTestUtils.setField(renderer, "config", config);
+        return renderer;
+    }
+
+    private static Map<String, Object> resume() {
+        Map<String, Object> personalInfo = new LinkedHashMap<>();
+        personalInfo.put("fullName", "  Asha Rao ");
+        personalInfo.put("email", "asha@example.com");
+        personalInfo.put("phone", "+91-98765-43210");
+        personalInfo.put("linkedin", "");
+
+        Map<String, Object> skills = new LinkedHashMap<>();
+        skills.put("Languages", "Java, SQL");
+
+        Map<String, Object> resume = new LinkedHashMap<>();
+        resume.put("personalInfo", personalInfo);
+        resume.put("summary", "Backend engineer.");
+        resume.put("education", List.of(Map.of(
+                "degree", "B.Tech Computer Science", "institution", "Pune University", "year", "2019")));
+        resume.put("skills", skills);
+        resume.put("experience", List.of(Map.of(
+                "title", "Software Engineer", "company", "Infosys", "location", "Pune",
+                "dates", "2019 - Present", "bullets", List.of("Built REST APIs", " "))));
+        resume.put("projects", List.of(Map.of("name", "Kinovek", "techStack", "Spring Boot",
+                "bullets", List.of("Parsed resumes"))));
+        resume.put("certifications", List.of());
+        return resume;
+    }
+
+    @Test
+    void textPreviewFollowsTheExperiencedOrder() {
+        String expected = """
+                Asha Rao
+                asha@example.com | +91-98765-43210
+
+                PROFESSIONAL SUMMARY
+                --------------------
+                Backend engineer.
+
+                TECHNICAL SKILLS
+                ----------------
+                Languages: Java, SQL
+
+                WORK EXPERIENCE
+                ---------------
+                Software Engineer
+                Infosys, Pune                                                     2019 - Present
+                  • Built REST APIs
+
+                PROJECTS
+                --------
+                Kinovek | Spring Boot
+                  • Parsed resumes
+
+                EDUCATION
+                ---------
+                B.Tech Computer Science                                                     2019
+                Pune University
+                """;
+
+        assertEquals(expected, renderer(new TextResumeRenderer()).renderToString(resume(), false));
+    }
+
+    @Test
+    void fresherOrderPutsEducationAndProjectsFirst() {
+        String text = renderer(new TextResumeRenderer()).renderToString(resume(), true);
+
+        assertEquals(List.of("PROFESSIONAL SUMMARY", "EDUCATION", "TECHNICAL SKILLS", "PROJECTS", "WORK EXPERIENCE"),
+                headings(text));
+    }
+
+    @Test
+    void htmlPreviewEscapesResumeTextAndSkipsEmptySections() throws IOException {
+        Map<String, Object> resume = resume();
+        resume.put("summary", "Led <b>5</b> teams & shipped \"fast\"");
+
+        HtmlResumeRenderer renderer = renderer(new HtmlResumeRenderer());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        renderer.render(resume, false, out);
+        String html = out.toString(StandardCharsets.UTF_8);
+
+        assertTrue(html.startsWith("<div class=\"resume-preview\">\n<h1 class=\"resume-name\">Asha Rao</h1>\n"), html);
+        assertTrue(html.contains("<p>Led &lt;b&gt;5&lt;/b&gt; teams &amp; shipped &quot;fast&quot;</p>"), html);
+        assertTrue(html.contains("<div class=\"resume-row\"><span class=\"resume-row-left\">Infosys, Pune</span>"
+                + "<span class=\"resume-row-right\">2019 - Present</span></div>"), html);
+        assertTrue(html.contains("<ul>\n<li>Built REST APIs</li>\n</ul>"), html);
+        assertFalse(html.contains("CERTIFICATIONS"), "empty sections get no heading");
+        assertEquals(List.of("PROFESSIONAL SUMMARY", "TECHNICAL SKILLS", "WORK EXPERIENCE", "PROJECTS", "EDUCATION"),
+                html.lines()
+                        .filter(line -> line.startsWith("<h2"))
+                        .map(line -> line.replaceAll("<[^>]+>", ""))
+                        .toList());
+        assertTrue(html.endsWith("</div>\n"));
+    }
+
+    /** Headings are the lines underlined with dashes. */
+    private static List<String> headings(String text) {
+        List<String> lines = text.lines().toList();
+        List<String> headings = new ArrayList<>();
+        for (int i = 1; i < lines.size(); i++) {
+            if (!lines.get(i).isEmpty() && lines.get(i).matches("-+")) {
+                headings.add(lines.get(i - 1));
+            }
+        }
+        return headings;
+    }
+}
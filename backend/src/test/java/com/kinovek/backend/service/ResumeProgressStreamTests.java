@@ -0,0 +1,122 @@
+package com.kinovek.backend.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.poi.xwpf.usermodel.XWPFDocument;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+/**
+ * /enhance-pdf-stream as the frontend reads it: every stage in order, then a token that
+ * downloads the PDF; rejected uploads keep their status and explain themselves in an "error" event.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:kinovek_progress")
+@AutoConfigureMockMvc
+class ResumeProgressStreamTests {
+
+    private static final String STREAM = "/api/v1/resume/enhance-pdf-stream";
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void reportsEveryStageThenATokenForThePdf() throws Exception {
+        MockMultipartFile resume = new MockMultipartFile("resume", "resume.docx", null,
+                docx(fixture("resume_fresher")));
+
+        Map<String, JsonNode> events = stream(resume, fixture("jd_java_developer"), 200);
+
+        assertEquals(List.of("extract", "parse", "match", "rewrite", "render", "complete"),
+                new ArrayList<>(events.keySet()));
+        assertTrue(events.get("match").get("matchedKeywords").size() > 0, events.get("match").toString());
+
+        JsonNode complete = events.get("complete");
+        assertEquals("/resume/download/" + complete.get("token").asText(), complete.get("downloadPath").asText());
+        assertTrue(complete.get("fileName").asText().endsWith("_Enhanced_Resume.pdf"));
+
+        byte[] pdf = mvc.perform(get("/api/v1" + complete.get("downloadPath").asText()))
+                .andReturn().getResponse().getContentAsByteArray();
+        try (PDDocument document = Loader.loadPDF(pdf)) {
+            assertTrue(document.getNumberOfPages() >= 1);
+        }
+        assertEquals(events.get("render").get("bytes").asInt(), pdf.length);
+    }
+
+    @Test
+    void rejectedUploadIsAnErrorEventWithItsStatus() throws Exception {
+        MockMultipartFile resume = new MockMultipartFile("resume", "resume.exe", null,
+                "MZ".getBytes(StandardCharsets.US_ASCII));
+
+        Map<String, JsonNode> events = stream(resume, fixture("jd_java_developer"), 400);
+
+        assertEquals(List.of("error"), new ArrayList<>(events.keySet()));
+        JsonNode error = events.get("error").get("error");
+        assertEquals("INVALID_FILE_TYPE", error.get("code").asText());
+        assertTrue(error.get("message").asText().length() > 0);
+    }
+
+    /** Runs the request to completion and returns its events by name, in arrival order. */
+    private Map<String, JsonNode> stream(MockMultipartFile resume, String jobDescription, int status) throws Exception {
+        MvcResult result = mvc.perform(multipart(STREAM).file(resume).param("jobDescription", jobDescription))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        result.getAsyncResult(60_000);
+
+        assertEquals(status, result.getResponse().getStatus());
+        assertTrue(result.getResponse().getContentType().startsWith("text/event-stream"),
+                result.getResponse().getContentType());
+
+        Map<String, JsonNode> events = new LinkedHashMap<>();
+        String body = result.getResponse().getContentAsString(StandardCharsets.UTF_8);
+        for (String block : body.split("\n\n")) {
+            String name = null;
+            StringBuilder data = new StringBuilder();
+            for (String line : block.split("\n")) {
+                if (line.startsWith("event:")) name = line.substring(6).trim();
+                else if (line.startsWith("data:")) data.append(line.substring(5));
+            }
+            if (name != null) events.put(name, objectMapper.readTree(data.toString()));
+        }
+        return events;
+    }
+
+    private static String fixture(String name) throws IOException {
+        return Files.readString(Path.of("..", "test_" + name + ".txt"), StandardCharsets.UTF_8);
+    }
+
+    private static byte[] docx(String text) throws IOException {
+        try (XWPFDocument document = new XWPFDocument(); ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            for (String line : text.split("\n", -1)) {
+                document.createParagraph().createRun().setText(line);
+            }
+            document.write(out);
+            return out.toByteArray();
+        }
+    }
+}
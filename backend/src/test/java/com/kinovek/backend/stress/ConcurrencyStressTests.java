@@ -0,0 +1,255 @@
+package com.kinovek.backend.stress;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.kinovek.backend.config.KeywordConfig;
+import com.kinovek.backend.observability.PipelineMetrics;
+import com.kinovek.backend.service.ATSConverterService;
+import com.kinovek.backend.service.ATSPDFGenerator;
+import com.kinovek.backend.service.ATSScoringService;
+import com.kinovek.backend.service.CoverLetterService;
+import com.kinovek.backend.service.ResumeEnhancerService;
+import com.kinovek.backend.service.ResumeParserService;
+import com.kinovek.backend.service.ResumeRewriter;
+import com.kinovek.backend.service.ResumeTextParserService;
+import com.kinovek.backend.util.JobDescriptionAnalyzer;
+import com.kinovek.backend.util.KeywordMatcher;
+import com.kinovek.backend.util.PDFParser;
+import com.lowagie.text.Document;
+import com.lowagie.text.DocumentException;
+import com.lowagie.text.Paragraph;
+import com.lowagie.text.pdf.PdfWriter;
+import org.apache.poi.xwpf.usermodel.XWPFDocument;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs every stateless service from many threads at once and checks each result against the
+ * same call made single-threaded, to catch shared mutable state in the singletons.
+ *
+ * Threads and rounds scale with -Dstress.threads and -Dstress.rounds.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+class ConcurrencyStressTests {
+
+    private static final int THREADS = Contention.THREADS;
+    private static final int ROUNDS = Integer.getInteger("stress.rounds", 150);
+
+    private static final String[] RESUMES = {
+            "resume_fresher", "resume_experienced", "resume_pharmacy", "long_resume", "wall_of_text"};
+    private static final String[] JOB_DESCRIPTIONS = {"jd_java_developer", "jd_mechanical_engineer", "jd_pharmacy_qc"};
+
+    private static final ObjectMapper json = new ObjectMapper()
+            .configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true);
+
+    /** One resume/JD pair, with the resume also as uploaded PDF and DOCX files. */
+    private record Case(String name, String resumeText, String jobDescription, byte[] pdf, byte[] docx) {
+    }
+
+    /** One service call, reduced to a string that can be compared across runs. */
+    private interface Operation {
+        String run(Case input) throws Exception;
+    }
+
+    private static final List<Case> cases = new ArrayList<>();
+
+    @Autowired
+    private KeywordConfig keywordConfig;
+
+    @Autowired
+    private PipelineMetrics pipelineMetrics;
+
+    @Autowired
+    private KeywordMatcher keywordMatcher;
+
+    @Autowired
+    private ATSScoringService atsScoringService;
+
+    @Autowired
+    private ResumeTextParserService resumeTextParserService;
+
+    @Autowired
+    private ResumeRewriter resumeRewriter;
+
+    @Autowired
+    private ResumeEnhancerService resumeEnhancerService;
+
+    @Autowired
+    private JobDescriptionAnalyzer jobDescriptionAnalyzer;
+
+    @Autowired
+    private ResumeParserService resumeParserService;
+
+    @Autowired
+    private ATSPDFGenerator atsPdfGenerator;
+
+    @Autowired
+    private ATSConverterService atsConverterService;
+
+    @Autowired
+    private CoverLetterService coverLetterService;
+
+    private final Map<String, Operation> operations = new LinkedHashMap<>();
+
+    @BeforeAll
+    static void loadFixtures() throws IOException {
+        for (String resume : RESUMES) {
+            String text = fixture(resume);
+            byte[] pdf = pdf(text);
+            byte[] docx = docx(text);
+            for (String jd : JOB_DESCRIPTIONS) {
+                cases.add(new Case(resume + "/" + jd, text, fixture(jd), pdf, docx));
+            }
+        }
+    }
+
+    @BeforeEach
+    void defineOperations() {
+        operations.put("keywordMatch", input -> json.writeValueAsString(
+                keywordMatcher.match(input.resumeText(), input.jobDescription())));
+        operations.put("calculateScore", input -> json.writeValueAsString(
+                atsScoringService.calculateScore(input.resumeText(), input.jobDescription())));
+        operations.put("enhanceAnalysis", input -> json.writeValueAsString(resumeEnhancerService.analyze(
+                input.resumeText(), keywordMatcher.match(input.resumeText(), input.jobDescription()))));
+        operations.put("parseResumeText", input -> json.writeValueAsString(
+                resumeTextParserService.parseResumeText(input.resumeText())));
+        operations.put("rewrite", input -> json.writeValueAsString(enhanced(input)));
+        operations.put("analyzeJobDescription", input -> json.writeValueAsString(List.of(
+                String.valueOf(jobDescriptionAnalyzer.extractCompanyName(input.jobDescription())),
+                String.valueOf(jobDescriptionAnalyzer.extractRoleName(input.jobDescription())),
+                jobDescriptionAnalyzer.extractRequirements(input.jobDescription()))));
+        operations.put("extractPdf", input -> resumeParserService.parseResume("resume.pdf", input.pdf()));
+        operations.put("extractDocx", input -> resumeParserService.parseResume("resume.docx", input.docx()));
+        // Generated PDFs embed a timestamp and ID, so compare their text
+        operations.put("generateATSResume", input -> {
+            Map<String, Object> enhanced = enhanced(input);
+            return PDFParser.extractText(atsPdfGenerator.generateATSResume(
+                    enhanced, Boolean.TRUE.equals(enhanced.get("isFresher"))));
+        });
+        operations.put("atsConvert", input -> {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            atsConverterService.writePDF(atsConverterService.extractATSLines("resume.pdf", input.pdf()), out);
+            return PDFParser.extractText(out.toByteArray());
+        });
+        operations.put("coverLetter", input -> json.writeValueAsString(
+                coverLetterService.generateCoverLetter("resume.docx", input.docx(), input.jobDescription())));
+    }
+
+    @Test
+    void servicesMatchSingleThreadedResultsUnderContention() throws Exception {
+        Map<String, String> expected = new HashMap<>();
+        for (Map.Entry<String, Operation> operation : operations.entrySet()) {
+            for (Case input : cases) {
+                expected.put(operation.getKey() + " " + input.name(), operation.getValue().run(input));
+            }
+        }
+        List<String> names = new ArrayList<>(operations.keySet());
+
+        List<String> failures = Contention.hammer(THREADS, (thread, failed) -> {
+            SplittableRandom random = new SplittableRandom(thread);
+            for (int round = 0; round < ROUNDS; round++) {
+                String name = names.get(random.nextInt(names.size()));
+                Case input = cases.get(random.nextInt(cases.size()));
+                String key = name + " " + input.name();
+                try {
+                    if (!expected.get(key).equals(operations.get(name).run(input))) {
+                        failed.add(key + ": result differs from the single-threaded run");
+                    }
+                } catch (Exception e) {
+                    failed.add(key + ": " + e);
+                }
+            }
+        });
+        assertTrue(failures.isEmpty(), failures.size() + " mismatches under " + THREADS + " threads, e.g. "
+                + failures.subList(0, Math.min(5, failures.size())));
+    }
+
+    /**
+     * Lazily filled caches are most exposed when they are cold: each trial builds a fresh
+     * matcher and releases every thread on it at the same instant.
+     */
+    @Test
+    void freshMatchersFillTheirCachesSafely() throws Exception {
+        List<Case> inputs = cases.subList(0, JOB_DESCRIPTIONS.length);
+        List<String> expected = new ArrayList<>();
+        for (Case input : inputs) {
+            expected.add(json.writeValueAsString(keywordMatcher.match(input.resumeText(), input.jobDescription())));
+        }
+
+        for (int trial = 0; trial < 20; trial++) {
+            KeywordMatcher fresh = new KeywordMatcher(keywordConfig, pipelineMetrics);
+            List<String> failures = Contention.hammer(THREADS, (thread, failed) -> {
+                int i = thread % inputs.size();
+                Case input = inputs.get(i);
+                try {
+                    if (!expected.get(i).equals(json.writeValueAsString(
+                            fresh.match(input.resumeText(), input.jobDescription())))) {
+                        failed.add(input.name() + ": result differs from the shared matcher's");
+                    }
+                } catch (Exception e) {
+                    failed.add(input.name() + ": " + e);
+                }
+            });
+            assertTrue(failures.isEmpty(), "trial " + trial + ": " + failures);
+        }
+    }
+
+    /** Parse, match and rewrite, as the enhance pipeline does before rendering. */
+    private Map<String, Object> enhanced(Case input) {
+        KeywordMatcher.MatchResult match = keywordMatcher.match(input.resumeText(), input.jobDescription());
+        Map<String, Object> analysisResults = new HashMap<>();
+        analysisResults.put("matchedKeywords", match.getMatchedKeywords());
+        analysisResults.put("missingKeywords", match.getMissingKeywords());
+        analysisResults.put("matchPercentage", match.getMatchPercentage());
+        return resumeRewriter.enhanceResume(
+                resumeTextParserService.parseResumeText(input.resumeText()), analysisResults, input.jobDescription());
+    }
+
+    private static String fixture(String name) throws IOException {
+        return Files.readString(Path.of("..", "test_" + name + ".txt"), StandardCharsets.UTF_8);
+    }
+
+    private static byte[] pdf(String text) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        Document document = new Document();
+        try {
+            PdfWriter.getInstance(document, out);
+            document.open();
+            for (String line : text.split("\n", -1)) {
+                document.add(new Paragraph(line.isBlank() ? " " : line));
+            }
+        } catch (DocumentException e) {
+            throw new IllegalStateException(e);
+        } finally {
+            document.close();
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] docx(String text) throws IOException {
+        try (XWPFDocument document = new XWPFDocument(); ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            for (String line : text.split("\n", -1)) {
+                document.createParagraph().createRun().setText(line);
+            }
+            document.write(out);
+            return out.toByteArray();
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.kinovek.backend.stress;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Thread harness shared by the stress tests: workers start on a barrier so they really do
+ * contend, and report problems as strings instead of throwing from a pool thread.
+ */
+final class Contention {
+
+    /** Threads per stress run; scale with -Dstress.threads. */
+    static final int THREADS = Integer.getInteger("stress.threads",
+            Math.max(8, 2 * Runtime.getRuntime().availableProcessors()));
+
+    private Contention() {
+    }
+
+    interface Worker {
+        void run(int thread, Queue<String> failed) throws Exception;
+    }
+
+    /** Starts {@code threads} workers together and collects their failures. */
+    static List<String> hammer(int threads, Worker worker) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            CyclicBarrier start = new CyclicBarrier(threads);
+            Queue<String> failed = new ConcurrentLinkedQueue<>();
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int thread = t;
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    worker.run(thread, failed);
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(5, TimeUnit.MINUTES);
+            }
+            return new ArrayList<>(failed);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+}
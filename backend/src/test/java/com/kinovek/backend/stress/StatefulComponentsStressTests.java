@@ -0,0 +1,550 @@
+package com.kinovek.backend.stress;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.kinovek.backend.config.ConcurrencyLimitInterceptor;
+import com.kinovek.backend.config.PipelineExecutors;
+import com.kinovek.backend.model.ResumeJob;
+import com.kinovek.backend.model.ResumeJobSummary;
+import com.kinovek.backend.observability.PipelineMetrics;
+import com.kinovek.backend.observability.RequestTrace;
+import com.kinovek.backend.observability.RequestTraceInterceptor;
+import com.kinovek.backend.repository.ResumeJobRepository;
+import com.kinovek.backend.service.DownloadTokenStore;
+import com.kinovek.backend.service.RequestCoalescer;
+import com.kinovek.backend.service.ResumeJobService;
+import com.kinovek.backend.util.AimdLimiter;
+import com.lowagie.text.Document;
+import com.lowagie.text.DocumentException;
+import com.lowagie.text.Paragraph;
+import com.lowagie.text.pdf.PdfWriter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.DispatcherType;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The components that keep state between requests — concurrency limiter, request coalescer,
+ * download tokens, job store and request trace — run from many threads at once. Each test
+ * checks the invariant the component promises (slots always returned, one execution per key,
+ * one redemption per token, one finish per job, store budget never exceeded, no lost trace
+ * entries).
+ *
+ * Threads and rounds scale with -Dstress.threads and -Dstress.rounds. The job store gets its
+ * own database: other test contexts run dispatchers too, and a job they claimed would notify
+ * their listeners instead of this context's.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE,
+        properties = "spring.datasource.url=jdbc:h2:mem:kinovek_stress")
+class StatefulComponentsStressTests {
+
+    private static final int THREADS = Contention.THREADS;
+    private static final int ROUNDS = Integer.getInteger("stress.rounds", 150);
+
+    private static final Object HANDLER = new Object();
+
+    @Autowired
+    private RequestCoalescer requestCoalescer;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private ResumeJobService resumeJobService;
+
+    @Autowired
+    private PipelineExecutors pipelineExecutors;
+
+    @Autowired
+    private ResumeJobRepository jobRepository;
+
+    @Autowired
+    private PipelineMetrics pipelineMetrics;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void limiterNeverAdmitsOverItsMaximumAndGetsEverySlotBack() throws Exception {
+        // 1 ms latency target, so releases both raise and cut the limit while threads contend
+        AimdLimiter limiter = new AimdLimiter(4, 8, 1);
+        AtomicInteger holding = new AtomicInteger();
+        AtomicInteger granted = new AtomicInteger();
+
+        List<String> failures = Contention.hammer(THREADS, (thread, failed) -> {
+            SplittableRandom random = new SplittableRandom(thread);
+            for (int round = 0; round < ROUNDS; round++) {
+                AimdLimiter.Permit permit = limiter.tryAcquire(random.nextInt(3), TimeUnit.MILLISECONDS);
+                if (permit == null) continue;
+                granted.incrementAndGet();
+                int held = holding.incrementAndGet();
+                if (held > 8) {
+                    failed.add(held + " permits held at once; the maximum limit is 8");
+                }
+                if (random.nextBoolean()) {
+                    Thread.sleep(random.nextInt(2));
+                }
+                holding.decrementAndGet();
+                permit.release();
+                if (random.nextInt(4) == 0) {
+                    // Extra releases (e.g. from a timeout and then completion) must be no-ops
+                    permit.release();
+                }
+            }
+        });
+
+        assertTrue(failures.isEmpty(), failures.subList(0, Math.min(5, failures.size())).toString());
+        assertEquals(0, limiter.getInFlight());
+        assertEquals(0, limiter.getQueued());
+        assertEquals((long) THREADS * ROUNDS, granted.get() + limiter.getRejected(),
+                "every attempt is either granted or counted as rejected");
+        assertFullLimitAvailable(limiter);
+    }
+
+    @Test
+    void limitInterceptorReleasesTheSlotOfEveryKindOfRequest() throws Exception {
+        AimdLimiter limiter = new AimdLimiter(4, 4, 60_000);
+        ConcurrencyLimitInterceptor interceptor = new ConcurrencyLimitInterceptor(
+                "stress", limiter, 0, 1, objectMapper, new SimpleMeterRegistry());
+        AtomicInteger admitted = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+
+        List<String> failures = Contention.hammer(THREADS, (thread, failed) -> {
+            SplittableRandom random = new SplittableRandom(thread);
+            for (int round = 0; round < ROUNDS; round++) {
+                MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/resume/enhance-pdf");
+                request.setAsyncSupported(true);
+                MockHttpServletResponse response = new MockHttpServletResponse();
+                if (!interceptor.preHandle(request, response, HANDLER)) {
+                    rejected.incrementAndGet();
+                    if (response.getStatus() != 429 || response.getHeader("Retry-After") == null) {
+                        failed.add("rejection answered " + response.getStatus() + " without Retry-After");
+                    }
+                    continue;
+                }
+                admitted.incrementAndGet();
+                if (limiter.getInFlight() > 4) {
+                    failed.add(limiter.getInFlight() + " requests in flight over a limit of 4");
+                }
+                Thread.sleep(random.nextInt(2));
+                finish(interceptor, request, response, random.nextInt(3));
+            }
+        });
+
+        assertTrue(failures.isEmpty(), failures.subList(0, Math.min(5, failures.size())).toString());
+        assertTrue(admitted.get() > 0 && rejected.get() > 0, "expected both admitted and rejected requests, got "
+                + admitted + "/" + rejected);
+        assertEquals(0, limiter.getInFlight());
+        assertEquals(rejected.get(), limiter.getRejected());
+        assertFullLimitAvailable(limiter);
+    }
+
+    /** Ends an admitted request the way the servlet container and Spring MVC would. */
+    private static void finish(ConcurrencyLimitInterceptor interceptor, MockHttpServletRequest request,
+                               MockHttpServletResponse response, int kind) throws IOException {
+        if (kind == 0) {
+            interceptor.afterCompletion(request, response, HANDLER, null);
+            return;
+        }
+        // Streamed body: the slot is held past the handler until the async request ends
+        MockAsyncContext async = (MockAsyncContext) request.startAsync();
+        interceptor.afterConcurrentHandlingStarted(request, response, HANDLER);
+        interceptor.afterCompletion(request, response, HANDLER, null);
+        if (kind == 2) {
+            for (AsyncListener listener : async.getListeners()) {
+                listener.onTimeout(new AsyncEvent(async, request, response));
+            }
+        }
+        async.complete();
+        // Async re-dispatch: passes through without a slot and releases the held one again (a no-op)
+        request.setDispatcherType(DispatcherType.ASYNC);
+        interceptor.preHandle(request, response, HANDLER);
+        interceptor.afterCompletion(request, response, HANDLER, null);
+    }
+
+    private static void assertFullLimitAvailable(AimdLimiter limiter) {
+        int limit = limiter.getLimit();
+        List<AimdLimiter.Permit> permits = new ArrayList<>();
+        for (int i = 0; i < limit; i++) {
+            AimdLimiter.Permit permit = limiter.tryAcquire(0, TimeUnit.MILLISECONDS);
+            assertNotNull(permit, "slot " + (i + 1) + " of " + limit + " was never given back");
+            permits.add(permit);
+        }
+        permits.forEach(AimdLimiter.Permit::release);
+    }
+
+    /**
+     * Threads sharing a key all join the leader's run: the leader only finishes once every
+     * follower has been counted as joining, so nobody can arrive after it and run again.
+     */
+    @Test
+    void coalescerRunsEachKeyOnceAndSharesItsOutcome() throws Exception {
+        int keys = Math.max(2, THREADS / 4);
+        int followers = THREADS / keys - 1;
+        int threads = keys * (followers + 1);
+
+        for (int trial = 0; trial < 10; trial++) {
+            boolean failing = trial % 2 == 1;
+            String endpoint = "stress-" + UUID.randomUUID();
+            AtomicIntegerArray executions = new AtomicIntegerArray(keys);
+            Map<Integer, Queue<Object>> outcomes = new ConcurrentHashMap<>();
+
+            List<String> failures = Contention.hammer(threads, (thread, failed) -> {
+                int key = thread % keys;
+                byte[] upload = ("resume " + key).getBytes(StandardCharsets.UTF_8);
+                Object outcome;
+                try {
+                    outcome = requestCoalescer.execute(endpoint + "-" + key, "resume.pdf", upload, "jd", null, () -> {
+                        executions.incrementAndGet(key);
+                        awaitUntil(() -> joined(endpoint + "-" + key) >= followers, 10_000);
+                        if (failing) throw new IllegalStateException("failed " + key);
+                        return new Object();
+                    });
+                } catch (IllegalStateException e) {
+                    outcome = e;
+                }
+                outcomes.computeIfAbsent(key, k -> new ConcurrentLinkedQueue<>()).add(outcome);
+            });
+
+            assertTrue(failures.isEmpty(), "trial " + trial + ": " + failures);
+            for (int key = 0; key < keys; key++) {
+                assertEquals(1, executions.get(key), "trial " + trial + ": executions of key " + key);
+                Queue<Object> shared = outcomes.get(key);
+                assertEquals(followers + 1, shared.size());
+                // Same instance for everyone: the result object, or the leader's exception
+                assertEquals(1, shared.stream().map(System::identityHashCode).distinct().count(),
+                        "trial " + trial + ": key " + key + " outcomes " + shared);
+            }
+        }
+    }
+
+    /**
+     * While a keyed request is still running, the same key with a different upload is rejected,
+     * and an identical request that waits past wait-timeout-ms runs the work itself.
+     */
+    @Test
+    void coalescerChecksInFlightKeysAndBoundsTheWait() throws Exception {
+        RequestCoalescer coalescer = new RequestCoalescer();
+        ReflectionTestUtils.setField(coalescer, "meterRegistry", new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(coalescer, "idempotencyTtlSeconds", 60L);
+        ReflectionTestUtils.setField(coalescer, "maxRetained", 100);
+        ReflectionTestUtils.setField(coalescer, "waitTimeoutMs", 200L);
+        byte[] upload = "resume".getBytes(StandardCharsets.UTF_8);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Thread leader = new Thread(() -> {
+            try {
+                coalescer.execute("keyed", "resume.pdf", upload, "jd", "key-1", () -> {
+                    started.countDown();
+                    release.await();
+                    return "leader";
+                });
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        leader.start();
+        try {
+            assertTrue(started.await(10, TimeUnit.SECONDS));
+            assertThrows(RequestCoalescer.IdempotencyKeyReusedException.class,
+                    () -> coalescer.execute("keyed", "resume.pdf", "other".getBytes(StandardCharsets.UTF_8),
+                            "jd", "key-1", () -> "other"));
+            assertEquals("follower",
+                    coalescer.execute("keyed", "resume.pdf", upload, "jd", "key-1", () -> "follower"));
+        } finally {
+            release.countDown();
+            leader.join(10_000);
+        }
+        // The leader's result is retained under the key; the key is free for its own retries again
+        assertEquals("leader", coalescer.execute("keyed", "resume.pdf", upload, "jd", "key-1", () -> "retry"));
+    }
+
+    @Test
+    void coalescerCountsIdempotentResultsItCannotRetain() throws Exception {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        RequestCoalescer coalescer = new RequestCoalescer();
+        ReflectionTestUtils.setField(coalescer, "meterRegistry", registry);
+        ReflectionTestUtils.setField(coalescer, "idempotencyTtlSeconds", 60L);
+        ReflectionTestUtils.setField(coalescer, "maxRetained", 1);
+        ReflectionTestUtils.setField(coalescer, "waitTimeoutMs", 1_000L);
+        byte[] upload = "resume".getBytes(StandardCharsets.UTF_8);
+
+        assertEquals("first", coalescer.execute("keyed", "resume.pdf", upload, "jd", "key-1", () -> "first"));
+        assertEquals("second", coalescer.execute("keyed", "resume.pdf", upload, "jd", "key-2", () -> "second"));
+
+        assertEquals(1, registry.get("kinovek.coalesce.retain-dropped").counter().count());
+        assertEquals("first", coalescer.execute("keyed", "resume.pdf", upload, "jd", "key-1", () -> "again"));
+        assertEquals("recomputed",
+                coalescer.execute("keyed", "resume.pdf", upload, "jd", "key-2", () -> "recomputed"));
+    }
+
+    private double joined(String endpoint) {
+        Counter counter = meterRegistry.find("kinovek.coalesce.hits")
+                .tags("endpoint", endpoint, "kind", "in-flight").counter();
+        return counter == null ? 0 : counter.count();
+    }
+
+    @Test
+    void downloadTokensServeTheirOwnFileAndTheStoreKeepsItsCap() throws Exception {
+        int maxEntries = 16;
+        DownloadTokenStore store = new DownloadTokenStore();
+        ReflectionTestUtils.setField(store, "ttlSeconds", 300L);
+        ReflectionTestUtils.setField(store, "maxEntries", maxEntries);
+
+        // Concurrent puts: exactly max-entries succeed, the rest are rejected, nothing is evicted
+        Queue<String> issued = new ConcurrentLinkedQueue<>();
+        AtomicInteger rejected = new AtomicInteger();
+        List<String> failures = Contention.hammer(THREADS, (thread, failed) -> {
+            for (int round = 0; round < ROUNDS; round++) {
+                try {
+                    issued.add(store.put("file.pdf", MediaType.APPLICATION_PDF, content(issued.size())));
+                } catch (DownloadTokenStore.DownloadStoreFullException e) {
+                    rejected.incrementAndGet();
+                    if (e.getRetryAfterSeconds() < 1) failed.add("retry-after " + e.getRetryAfterSeconds());
+                }
+            }
+        });
+        assertTrue(failures.isEmpty(), failures.toString());
+        assertEquals(maxEntries, issued.size());
+        assertEquals(THREADS * ROUNDS - maxEntries, rejected.get());
+
+        // Every thread downloads every token, as often as it likes, and always gets the same file
+        List<String> tokens = new ArrayList<>(issued);
+        List<byte[]> expected = new ArrayList<>();
+        for (String token : tokens) {
+            expected.add(store.get(token).getContent());
+        }
+        failures = Contention.hammer(THREADS, (thread, failed) -> {
+            for (int i = 0; i < tokens.size(); i++) {
+                // Threads walk the tokens from different offsets so they collide in every order
+                int index = (i + thread) % tokens.size();
+                DownloadTokenStore.Download download = store.get(tokens.get(index));
+                if (download == null) {
+                    failed.add("token " + index + " vanished");
+                } else if (!Arrays.equals(expected.get(index), download.getContent())) {
+                    failed.add("token " + index + " returned another file");
+                }
+            }
+        });
+        assertTrue(failures.isEmpty(), failures.toString());
+    }
+
+    private static byte[] content(int index) {
+        return ("%PDF-" + index).getBytes(StandardCharsets.US_ASCII);
+    }
+
+    @Test
+    void everyConcurrentlySubmittedJobFinishesOnceAndNotifiesOnce() throws Exception {
+        byte[] pdf = pdf(Files.readString(Path.of("..", "test_resume_fresher.txt"), StandardCharsets.UTF_8));
+        Map<String, AtomicInteger> notified = new ConcurrentHashMap<>();
+
+        try {
+            List<String> failures = Contention.hammer(THREADS, (thread, failed) -> {
+                for (int i = 0; i < 3; i++) {
+                    ResumeJobSummary job = resumeJobService.submit(ResumeJob.Type.ATS_CONVERT, "resume.pdf", pdf, null);
+                    AtomicInteger count = notified.computeIfAbsent(job.getId(), id -> new AtomicInteger());
+                    resumeJobService.whenFinished(job.getId(), count::incrementAndGet);
+                    // Extra dispatchers race the workers for the same queued rows
+                    resumeJobService.dispatch();
+                }
+            });
+            assertTrue(failures.isEmpty(), failures.toString());
+
+            assertTrue(awaitUntil(() -> notified.values().stream().allMatch(count -> count.get() > 0), 120_000),
+                    "jobs still unfinished: " + notified);
+            Thread.sleep(200);
+            for (Map.Entry<String, AtomicInteger> job : notified.entrySet()) {
+                assertEquals(1, job.getValue().get(), "finish notifications for job " + job.getKey());
+                ResumeJobSummary summary = resumeJobService.getSummary(job.getKey()).orElseThrow();
+                assertEquals(ResumeJob.Status.SUCCEEDED, summary.getStatus(),
+                        job.getKey() + ": " + summary.getErrorMessage());
+            }
+        } finally {
+            jobRepository.deleteAllById(notified.keySet());
+        }
+    }
+
+    /**
+     * Claiming a job is a conditional QUEUED → RUNNING update: of all the threads racing for one
+     * row at most one may win. The dispatcher may take the row first, in which case none do.
+     */
+    @Test
+    void atMostOneClaimerWinsAQueuedJob() throws Exception {
+        byte[] pdf = pdf("Jane Doe\nSKILLS\nJava, SQL");
+        List<String> ids = new ArrayList<>();
+        List<String> dispatched = new ArrayList<>();
+        try {
+            for (int trial = 0; trial < 20; trial++) {
+                ResumeJob job = new ResumeJob();
+                job.setId(UUID.randomUUID().toString());
+                job.setType(ResumeJob.Type.ATS_CONVERT);
+                job.setStatus(ResumeJob.Status.QUEUED);
+                job.setFileName("resume.pdf");
+                job.setInput(pdf);
+                job.setCreatedAt(Instant.now());
+                jobRepository.save(job);
+                ids.add(job.getId());
+
+                AtomicInteger wins = new AtomicInteger();
+                Contention.hammer(THREADS, (thread, failed) -> wins.addAndGet(jobRepository.transition(
+                        job.getId(), ResumeJob.Status.QUEUED, ResumeJob.Status.RUNNING, Instant.now())));
+
+                ResumeJob.Status status = jobRepository.findSummaryById(job.getId()).orElseThrow().getStatus();
+                assertTrue(wins.get() <= 1, "trial " + trial + ": " + wins + " threads claimed the same job");
+                assertTrue(status != ResumeJob.Status.QUEUED, "trial " + trial + ": nobody claimed the job");
+                if (wins.get() == 0) {
+                    dispatched.add(job.getId());
+                }
+            }
+        } finally {
+            // A worker saves its job when done, so rows the dispatcher took are removed once finished
+            awaitUntil(() -> dispatched.stream().allMatch(id -> jobRepository.findSummaryById(id)
+                    .map(job -> job.getStatus().isFinished()).orElse(true)), 60_000);
+            jobRepository.deleteAllById(ids);
+        }
+    }
+
+    /**
+     * The store budget is checked and taken in one step: however many threads submit at once,
+     * the queued uploads never add up to more than kinovek.jobs.max-stored-mb.
+     */
+    @Test
+    void concurrentSubmitsNeverOvershootTheStoreBudget() throws Exception {
+        byte[] upload = new byte[100 * 1024];
+        long budget = 1024 * 1024;
+        Semaphore workerSlots = (Semaphore) ReflectionTestUtils.getField(resumeJobService, "workerSlots");
+        Object maxStoredMb = ReflectionTestUtils.getField(resumeJobService, "maxStoredMb");
+        Queue<String> accepted = new ConcurrentLinkedQueue<>();
+        AtomicInteger rejected = new AtomicInteger();
+
+        // Hold every worker slot, so each accepted upload stays queued for the whole test
+        workerSlots.acquire(pipelineExecutors.getJobWorkers());
+        ReflectionTestUtils.setField(resumeJobService, "maxStoredMb", 1L);
+        try {
+            long free = budget - jobRepository.sumStoredBytes();
+            List<String> failures = Contention.hammer(THREADS, (thread, failed) -> {
+                for (int i = 0; i < 5; i++) {
+                    try {
+                        accepted.add(resumeJobService.submit(
+                                ResumeJob.Type.ATS_CONVERT, "resume.pdf", upload, null).getId());
+                    } catch (ResumeJobService.JobStoreFullException e) {
+                        rejected.incrementAndGet();
+                    }
+                }
+            });
+            assertTrue(failures.isEmpty(), failures.toString());
+
+            assertEquals(free / upload.length, accepted.size(), "jobs accepted into a " + budget + " B store");
+            assertEquals(THREADS * 5 - accepted.size(), rejected.get());
+            assertTrue(jobRepository.sumStoredBytes() <= budget, "store holds " + jobRepository.sumStoredBytes() + " B");
+        } finally {
+            jobRepository.deleteAllById(accepted);
+            ReflectionTestUtils.setField(resumeJobService, "maxStoredMb", maxStoredMb);
+            workerSlots.release(pipelineExecutors.getJobWorkers());
+        }
+    }
+
+    @Test
+    void requestTraceKeepsEveryThreadsStagesAndCacheHits() throws Exception {
+        RequestTraceInterceptor interceptor = new RequestTraceInterceptor(false, 0, pipelineMetrics);
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/resume/enhance-pdf");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        interceptor.preHandle(request, response, HANDLER);
+        RequestTrace trace = RequestTrace.current();
+        assertNotNull(trace);
+
+        try {
+            List<String> failures = Contention.hammer(THREADS, (thread, failed) -> {
+                for (int round = 0; round < ROUNDS; round++) {
+                    // What a render pool thread does for the request, while others read the trace
+                    RequestTrace previous = RequestTrace.bind(trace);
+                    try (RequestTrace.Segment segment = trace.startSegment();
+                         PipelineMetrics.Stage stage = pipelineMetrics.start(PipelineMetrics.RENDER)) {
+                        trace.recordCacheHit("stress");
+                    } finally {
+                        RequestTrace.bind(previous);
+                    }
+                    if (round % 10 == thread % 10) {
+                        trace.toServerTiming();
+                        trace.toLogFields();
+                        trace.toMap();
+                    }
+                }
+            });
+            assertTrue(failures.isEmpty(), failures.toString());
+
+            Map<String, Object> collected = trace.toMap();
+            assertEquals(THREADS * ROUNDS, ((List<?>) collected.get("stages")).size());
+            assertEquals(THREADS * ROUNDS, ((List<?>) collected.get("cacheHits")).size());
+            if (pipelineMetrics.isCostEnabled()) {
+                assertTrue(trace.cost().cpuNanos() >= 0 && trace.cost().allocatedBytes() > 0,
+                        "segment costs were not added up: " + trace.cost());
+            }
+        } finally {
+            interceptor.afterCompletion(request, response, HANDLER, null);
+        }
+    }
+
+    private static boolean awaitUntil(BooleanSupplier condition, long timeoutMillis) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() - deadline > 0) return false;
+            Thread.sleep(5);
+        }
+        return true;
+    }
+
+    private static byte[] pdf(String text) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        Document document = new Document();
+        try {
+            PdfWriter.getInstance(document, out);
+            document.open();
+            for (String line : text.split("\n", -1)) {
+                document.add(new Paragraph(line.isBlank() ? " " : line));
+            }
+        } catch (DocumentException e) {
+            throw new IllegalStateException(e);
+        } finally {
+            document.close();
+        }
+        return out.toByteArray();
+    }
+}
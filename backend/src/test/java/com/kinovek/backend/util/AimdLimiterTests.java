@@ -0,0 +1,122 @@
+package com.kinovek.backend.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Limit arithmetic on a hand-driven clock, so every increase and cut is exact.
+ */
+class AimdLimiterTests {
+
+    private static final long TARGET_MS = 100;
+
+    private long now = 1_000;
+
+    private AimdLimiter limiter(int initialLimit, int maxLimit, long latencyTargetMs) {
+        return new AimdLimiter(initialLimit, maxLimit, latencyTargetMs, () -> now);
+    }
+
+    /** Fills the limiter, then releases every permit after {@code elapsedMs}. */
+    private void round(AimdLimiter limiter, long elapsedMs) {
+        now++;
+        List<AimdLimiter.Permit> permits = new ArrayList<>();
+        int slots = limiter.getLimit();
+        for (int i = 0; i < slots; i++) {
+            AimdLimiter.Permit permit = limiter.tryAcquire(0, TimeUnit.MILLISECONDS);
+            assertNotNull(permit);
+            permits.add(permit);
+        }
+        now += TimeUnit.MILLISECONDS.toNanos(elapsedMs);
+        permits.forEach(AimdLimiter.Permit::release);
+    }
+
+    @Test
+    void fastRequestsAtTheLimitGrowItByAboutOnePerRound() {
+        AimdLimiter limiter = limiter(4, 16, TARGET_MS);
+
+        round(limiter, 10);
+        assertEquals(4, limiter.getLimit()); // 4 -> 4.25 -> 4.49 -> 4.71
+
+        round(limiter, 10);
+        assertEquals(5, limiter.getLimit()); // -> 4.92 -> 5.12
+    }
+
+    @Test
+    void anIdleLimiterDoesNotGrow() {
+        AimdLimiter limiter = limiter(4, 16, TARGET_MS);
+
+        for (int i = 0; i < 100; i++) {
+            limiter.tryAcquire(0, TimeUnit.MILLISECONDS).release();
+        }
+
+        assertEquals(4, limiter.getLimit());
+    }
+
+    @Test
+    void slowRequestsCutTheLimitOncePerRound() {
+        AimdLimiter limiter = limiter(10, 16, TARGET_MS);
+
+        round(limiter, TARGET_MS + 1);
+        assertEquals(9, limiter.getLimit()); // ten slow releases, one cut: 10 * 0.9
+
+        round(limiter, TARGET_MS + 1);
+        assertEquals(8, limiter.getLimit()); // 9 * 0.9 = 8.1
+    }
+
+    @Test
+    void limitNeverDropsBelowOne() {
+        AimdLimiter limiter = limiter(0, 16, TARGET_MS);
+        assertEquals(1, limiter.getLimit());
+
+        for (int i = 0; i < 20; i++) {
+            round(limiter, TARGET_MS + 1);
+        }
+
+        assertEquals(1, limiter.getLimit());
+    }
+
+    @Test
+    void limitNeverExceedsTheMaximum() {
+        AimdLimiter limiter = limiter(32, 6, TARGET_MS);
+        assertEquals(6, limiter.getLimit());
+
+        for (int i = 0; i < 50; i++) {
+            round(limiter, 10);
+        }
+
+        assertEquals(6, limiter.getLimit());
+    }
+
+    @Test
+    void zeroLatencyTargetKeepsTheLimitFixed() {
+        AimdLimiter limiter = limiter(4, 16, 0);
+
+        for (int i = 0; i < 10; i++) {
+            round(limiter, 10);
+            round(limiter, 60_000);
+        }
+
+        assertEquals(4, limiter.getLimit());
+    }
+
+    @Test
+    void callerOverTheLimitIsRejectedAndTheSlotComesBackOnRelease() {
+        AimdLimiter limiter = limiter(1, 1, TARGET_MS);
+
+        AimdLimiter.Permit held = limiter.tryAcquire(0, TimeUnit.MILLISECONDS);
+        assertNull(limiter.tryAcquire(0, TimeUnit.MILLISECONDS));
+        assertEquals(1, limiter.getRejected());
+
+        held.release();
+        held.release(); // second release is a no-op
+        assertEquals(0, limiter.getInFlight());
+        assertNotNull(limiter.tryAcquire(0, TimeUnit.MILLISECONDS));
+    }
+}
@@ -0,0 +1,84 @@
+package com.kinovek.backend.util;
+
+import com.kinovek.backend.config.KeywordConfig;
+import com.kinovek.backend.observability.PipelineMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * One indexed resume shared by many job descriptions (as the bulk endpoint does) must match
+ * exactly like a fresh match per job description.
+ */
+class KeywordMatcherTests {
+
+    private static final List<String> RESUMES = List.of(
+            "test_resume_fresher.txt", "test_resume_experienced.txt", "test_long_resume.txt",
+            "test_resume_pharmacy.txt", "test_wall_of_text.txt");
+    private static final List<String> JOB_DESCRIPTIONS = List.of(
+            "test_jd_java_developer.txt", "test_jd_mechanical_engineer.txt", "test_jd_pharmacy_qc.txt");
+
+    private static KeywordMatcher matcher;
+
+    @BeforeAll
+    static void createMatcher() {
+        KeywordConfig config = new KeywordConfig();
+        config.init();
+        matcher = new KeywordMatcher(config, new PipelineMetrics(new SimpleMeterRegistry(), false));
+    }
+
+    private static String fixture(String name) throws IOException {
+        return Files.readString(Path.of("..", name), StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void sharedIndexMatchesLikeAFreshMatchPerJobDescription() throws IOException {
+        for (String resumeName : RESUMES) {
+            String resumeText = fixture(resumeName);
+            KeywordMatcher.ResumeIndex index = matcher.index(resumeText);
+            List<String> jobDescriptions = JOB_DESCRIPTIONS.stream().map(name -> {
+                try {
+                    return fixture(name);
+                } catch (IOException e) {
+                    throw new IllegalStateException(e);
+                }
+            }).toList();
+
+            // Parallel, and each job description twice, so lookups cached by one are reused by another
+            List<KeywordMatcher.MatchResult> shared = IntStream.range(0, jobDescriptions.size() * 2).parallel()
+                    .mapToObj(i -> matcher.match(index, jobDescriptions.get(i % jobDescriptions.size())))
+                    .toList();
+
+            for (int i = 0; i < shared.size(); i++) {
+                String jd = JOB_DESCRIPTIONS.get(i % JOB_DESCRIPTIONS.size());
+                KeywordMatcher.MatchResult fresh = matcher.match(resumeText, jobDescriptions.get(i % jobDescriptions.size()));
+                String label = resumeName + " vs " + jd;
+                assertEquals(fresh.getMatchedKeywords(), shared.get(i).getMatchedKeywords(), label);
+                assertEquals(fresh.getMissingKeywords(), shared.get(i).getMissingKeywords(), label);
+                assertEquals(fresh.getMatchPercentage(), shared.get(i).getMatchPercentage(), label);
+            }
+        }
+    }
+
+    @Test
+    void sharedIndexKeepsWholeWordBoundaries() {
+        KeywordMatcher.ResumeIndex index = matcher.index("Built dashboards in JavaScript and TypeScript.");
+
+        KeywordMatcher.MatchResult javascript = matcher.match(index, "We need JavaScript.");
+        KeywordMatcher.MatchResult java = matcher.match(index, "We need Java.");
+
+        assertTrue(javascript.getMissingKeywords().isEmpty(), javascript.getMissingKeywords().toString());
+        assertTrue(java.getMatchedKeywords().isEmpty(), java.getMatchedKeywords().toString());
+        assertEquals(1, java.getMissingKeywords().size());
+    }
+}
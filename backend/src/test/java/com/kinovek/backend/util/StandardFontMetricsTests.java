@@ -0,0 +1,98 @@
+package com.kinovek.backend.util;
+
+import com.lowagie.text.pdf.BaseFont;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.apache.pdfbox.pdmodel.font.Standard14Fonts;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * The cached-width, linear {@link StandardFontMetrics#wrap} must break lines exactly where the
+ * old wrapLine did when it re-measured the growing line with PDFBox for every word.
+ */
+class StandardFontMetricsTests {
+
+    /** The ATS converter's text width: US Letter less two 50pt margins. */
+    private static final float MAX_WIDTH = 612 - 2 * 50;
+
+    private static final StandardFontMetrics REGULAR = StandardFontMetrics.of(BaseFont.HELVETICA);
+    private static final StandardFontMetrics BOLD = StandardFontMetrics.of(BaseFont.HELVETICA_BOLD);
+    private static final PDType1Font PDFBOX_REGULAR = new PDType1Font(Standard14Fonts.FontName.HELVETICA);
+    private static final PDType1Font PDFBOX_BOLD = new PDType1Font(Standard14Fonts.FontName.HELVETICA_BOLD);
+
+    @Test
+    void wrapsFixtureLinesLikeThePdfBoxWrap() throws IOException {
+        List<Path> fixtures = new ArrayList<>();
+        try (DirectoryStream<Path> dir = Files.newDirectoryStream(Path.of(".."), "test_*.txt")) {
+            dir.forEach(fixtures::add);
+        }
+        assertFalse(fixtures.isEmpty(), "no fixtures found next to the backend module");
+
+        WinAnsiText winAnsi = new WinAnsiText();
+        for (Path fixture : fixtures) {
+            String text = winAnsi.apply(Files.readString(fixture, StandardCharsets.UTF_8));
+            for (String line : text.split("\n")) {
+                assertSameBreaks(line.trim());
+            }
+            // The whole fixture as one paragraph, as a resume pasted without line breaks arrives
+            assertSameBreaks(text.replaceAll("\\s+", " ").trim());
+        }
+    }
+
+    @Test
+    void wrapsRandomLinesLikeThePdfBoxWrap() throws IOException {
+        String[] tokens = {
+                "a", "Java", "Spring Boot", "microservices", " ", "  ", "-", "•", "–", "café",
+                "WWWWWWWWWWWWWWWWWWWWWWWWWWWWWWWWWWWWWWWWWWWWWWWWWWWWWWWWWWWWWWWWWWWWWWW", "(2019-2023)", "i", "|",
+        };
+        Random random = new Random(30);
+        for (int i = 0; i < 2000; i++) {
+            StringBuilder sb = new StringBuilder();
+            int count = random.nextInt(120);
+            for (int t = 0; t < count; t++) {
+                sb.append(tokens[random.nextInt(tokens.length)]);
+                if (random.nextInt(3) > 0) sb.append(' ');
+            }
+            assertSameBreaks(sb.toString());
+        }
+    }
+
+    private static void assertSameBreaks(String line) throws IOException {
+        assertEquals(pdfBoxWrap(line, PDFBOX_REGULAR, 11), REGULAR.wrap(line, 11, MAX_WIDTH), line);
+        assertEquals(pdfBoxWrap(line, PDFBOX_BOLD, 13), BOLD.wrap(line, 13, MAX_WIDTH), line);
+    }
+
+    // ── Reference: the wrapLine the width table replaced ──────────
+
+    private static List<String> pdfBoxWrap(String text, PDType1Font font, float fontSize) throws IOException {
+        List<String> lines = new ArrayList<>();
+        String[] words = text.split(" ");
+        StringBuilder current = new StringBuilder();
+
+        for (String word : words) {
+            String test = current.length() == 0 ? word : current + " " + word;
+            float width = font.getStringWidth(test) / 1000 * fontSize;
+            if (width > MAX_WIDTH && current.length() > 0) {
+                lines.add(current.toString());
+                current = new StringBuilder(word);
+            } else {
+                current = new StringBuilder(test);
+            }
+        }
+        if (current.length() > 0) {
+            lines.add(current.toString());
+        }
+        return lines;
+    }
+}
@@ -76,6 +76,98 @@ export async function enhanceResume(
   return response.data;
 }
 
+// ==================== Enhance With Progress (SSE) ====================
+
+export type EnhanceStage = "extract" | "parse" | "match" | "rewrite" | "render";
+
+export interface EnhanceProgressEvent {
+  event: EnhanceStage | "complete" | "error";
+  data: unknown;
+}
+
+export interface EnhanceDownload {
+  token: string;
+  downloadPath: string;
+  fileName: string;
+  expiresInSeconds: number;
+}
+
+/**
+ * Runs /enhance-pdf and reports each stage as it completes (keyword matches arrive
+ * before rendering). Resolves with the download handle once the PDF is ready.
+ * Uses fetch because EventSource cannot POST a file.
+ */
+export async function enhanceResumeWithProgress(
+  file: File,
+  jobDescription: string,
+  onEvent: (event: EnhanceProgressEvent) => void
+): Promise<EnhanceDownload> {
+  const formData = new FormData();
+  formData.append("resume", file);
+  formData.append("jobDescription", jobDescription);
+
+  const response = await fetch(`${API_BASE_URL}/resume/enhance-pdf-stream`, {
+    method: "POST",
+    body: formData,
+    credentials: "include",
+    headers: { Accept: "text/event-stream" },
+  });
+  if (!response.body) {
+    throw new Error("Failed to enhance resume.");
+  }
+
+  // Rejected uploads keep their 4xx/5xx status but still explain themselves in an "error" event
+  if (!response.ok && !response.headers.get("Content-Type")?.startsWith("text/event-stream")) {
+    const data = await response.json().catch(() => null);
+    throw new Error(data?.error?.message ?? "Failed to enhance resume.");
+  }
+
+  for await (const event of readServerSentEvents(response.body)) {
+    onEvent(event);
+    if (event.event === "complete") return event.data as EnhanceDownload;
+    if (event.event === "error") {
+      const error = event.data as { error?: { message?: string } };
+      throw new Error(error.error?.message ?? "Failed to enhance resume.");
+    }
+  }
+  throw new Error("The progress stream ended before the resume was ready.");
+}
+
+/** Named events with JSON data from a text/event-stream body. */
+async function* readServerSentEvents(
+  body: ReadableStream<Uint8Array>
+): AsyncGenerator<EnhanceProgressEvent> {
+  const reader = body.pipeThrough(new TextDecoderStream()).getReader();
+  let buffer = "";
+  for (;;) {
+    const { value, done } = await reader.read();
+    if (done) return;
+    buffer += value;
+
+    // Events are separated by a blank line; keep the incomplete tail for the next chunk
+    const blocks = buffer.split(/\r?\n\r?\n/);
+    buffer = blocks.pop() ?? "";
+    for (const block of blocks) {
+      let name = "message";
+      const dataLines: string[] = [];
+      for (const line of block.split(/\r?\n/)) {
+        if (line.startsWith("event:")) name = line.slice(6).trim();
+        else if (line.startsWith("data:")) dataLines.push(line.slice(5).trimStart());
+      }
+      if (dataLines.length === 0) continue;
+      yield { event: name, data: JSON.parse(dataLines.join("\n")) } as EnhanceProgressEvent;
+    }
+  }
+}
+
+/**
+ * Fetch the PDF announced by the "complete" progress event.
+ */
+export async function downloadEnhancedResume(download: EnhanceDownload): Promise<Blob> {
+  const response = await api.get(download.downloadPath, { responseType: "blob" });
+  return response.data;
+}
+
 // ==================== ATS Score ====================
 
 export interface ATSScoreResponse {
@@ -6,20 +6,43 @@ import { useState, useRef } from "react";
 import { useFileUpload } from "@/hooks/useFileUpload";
 import { FileUploadZone } from "@/components/shared/FileUploadZone";
 import { toast } from "sonner";
+import {
+  enhanceResumeWithProgress,
+  downloadEnhancedResume,
+  extractErrorMessage,
+  type EnhanceProgressEvent,
+  type EnhanceStage,
+} from "@/api/kinovekApi";
 
 interface EnhancementResult {
-  atsScore: number;
+  matchPercentage: number;
   matchedKeywords: string[];
   missingKeywords: string[];
-  suggestions: string[];
 }
 
+const STAGE_LABELS: Record<EnhanceStage, string> = {
+  extract: "Reading your resume...",
+  parse: "Finding your sections...",
+  match: "Matching keywords...",
+  rewrite: "Rewriting your bullet points...",
+  render: "Building your PDF...",
+};
+
+// Each event reports a finished stage, so the label moves on to the one that runs next
+const NEXT_STAGE: Partial<Record<EnhanceProgressEvent["event"], EnhanceStage>> = {
+  extract: "parse",
+  parse: "match",
+  match: "rewrite",
+  rewrite: "render",
+};
+
 const ResumeEnhancer = () => {
   const [jobDescription, setJobDescription] = useState("");
   const [isEnhancing, setIsEnhancing] = useState(false);
   const [enhancementResult, setEnhancementResult] = useState<EnhancementResult | null>(null);
   const [errorMessage, setErrorMessage] = useState<string | null>(null);
   const [successMessage, setSuccessMessage] = useState<string | null>(null);
+  const [stageLabel, setStageLabel] = useState(STAGE_LABELS.extract);
   const resultsRef = useRef<HTMLDivElement>(null);
 
   const {
@@ -48,26 +71,24 @@ const ResumeEnhancer = () => {
       setErrorMessage(null);
       setSuccessMessage(null);
       setEnhancementResult(null);
+      setStageLabel(STAGE_LABELS.extract);
 
-      const formData = new FormData();
-      formData.append('resume', file);
-      formData.append('jobDescription', jobDescription);
-
-      const response = await fetch('http://localhost:8080/api/v1/resume/enhance-pdf', {
-        method: 'POST',
-        body: formData,
+      // Keyword results arrive before the PDF is rendered; show them straight away
+      const download = await enhanceResumeWithProgress(file, jobDescription, ({ event, data }) => {
+        if (event === "match") {
+          const match = data as EnhancementResult;
+          setEnhancementResult({ ...match, matchPercentage: Math.round(match.matchPercentage) });
+        }
+        const next = NEXT_STAGE[event];
+        if (next) setStageLabel(STAGE_LABELS[next]);
       });
 
-      if (!response.ok) {
-        throw new Error('Enhancement failed');
-      }
-
       // Download the PDF
-      const blob = await response.blob();
+      const blob = await downloadEnhancedResume(download);
       const url = window.URL.createObjectURL(blob);
       const link = document.createElement('a');
       link.href = url;
-      link.download = 'Enhanced_ATS_Resume.pdf';
+      link.download = download.fileName;
       document.body.appendChild(link);
       link.click();
       link.remove();
@@ -77,9 +98,10 @@ const ResumeEnhancer = () => {
       setSuccessMessage('Your ATS-optimized resume has been downloaded!');
       toast.success('Resume enhanced and downloaded!');
     } catch (err) {
+      const message = extractErrorMessage(err, 'Failed to enhance resume. Please try again.');
       setIsEnhancing(false);
-      setErrorMessage('Failed to enhance resume. Please try again.');
-      toast.error('Failed to enhance resume. Please try again.');
+      setErrorMessage(message);
+      toast.error(message);
       console.error(err);
     }
   };
@@ -199,7 +221,7 @@ const ResumeEnhancer = () => {
                     <Loader2 className="w-8 h-8 text-accent animate-spin flex-shrink-0" />
                     <div>
                       <p className="font-medium text-foreground">Processing your resume...</p>
-                      <p className="text-sm text-muted-foreground mt-1">Parsing content, matching keywords, and generating suggestions</p>
+                      <p className="text-sm text-muted-foreground mt-1">{stageLabel}</p>
                     </div>
                   </div>
                 </div>
@@ -235,21 +257,21 @@ const ResumeEnhancer = () => {
             {/* Enhancement Results Section */}
             {enhancementResult && (
               <div ref={resultsRef} className="mt-12 space-y-8 animate-in fade-in-50 slide-in-from-bottom-4 duration-500">
-                {/* ATS Score */}
+                {/* Keyword Match */}
                 <div className="card-elevated p-8 text-center">
                   <h2 className="text-2xl font-bold text-white mb-6">
-                    Your ATS <span className="gradient-gold-text">Score</span>
+                    Your Keyword <span className="gradient-gold-text">Match</span>
                   </h2>
-                  <div className={`w-36 h-36 rounded-full border-4 ${getScoreBorderColor(enhancementResult.atsScore)} flex items-center justify-center mx-auto bg-accent/10 mb-4`}>
-                    <span className={`text-5xl font-bold ${getScoreColor(enhancementResult.atsScore)}`}>{enhancementResult.atsScore}%</span>
+                  <div className={`w-36 h-36 rounded-full border-4 ${getScoreBorderColor(enhancementResult.matchPercentage)} flex items-center justify-center mx-auto bg-accent/10 mb-4`}>
+                    <span className={`text-5xl font-bold ${getScoreColor(enhancementResult.matchPercentage)}`}>{enhancementResult.matchPercentage}%</span>
                   </div>
-                  <p className={`text-lg font-semibold ${getScoreColor(enhancementResult.atsScore)}`}>
-                    {getScoreLabel(enhancementResult.atsScore)}
+                  <p className={`text-lg font-semibold ${getScoreColor(enhancementResult.matchPercentage)}`}>
+                    {getScoreLabel(enhancementResult.matchPercentage)}
                   </p>
                   <p className="text-sm text-muted-foreground mt-2">
-                    {enhancementResult.atsScore >= 80 
+                    {enhancementResult.matchPercentage >= 80 
                       ? "Your resume is well-aligned with this job description."
-                      : enhancementResult.atsScore >= 60 
+                      : enhancementResult.matchPercentage >= 60 
                       ? "Good foundation — add the missing keywords below to boost your score."
                       : "Your resume needs more alignment with the job description."}
                   </p>
@@ -308,25 +330,6 @@ const ResumeEnhancer = () => {
                     )}
                   </div>
                 </div>
-
-                {/* Suggestions */}
-                <div className="card-elevated p-8">
-                  <h3 className="text-xl font-semibold text-white mb-6 text-center">
-                    Improvement <span className="gradient-gold-text">Suggestions</span>
-                  </h3>
-                  {enhancementResult.suggestions.length > 0 ? (
-                    <div className="grid sm:grid-cols-2 gap-4">
-                      {enhancementResult.suggestions.map((suggestion, index) => (
-                        <div key={index} className="flex items-start gap-3 p-4 bg-accent/5 rounded-xl border border-accent/20">
-                          <CheckCircle className="w-5 h-5 text-accent flex-shrink-0 mt-0.5" />
-                          <span className="text-base text-foreground">{suggestion}</span>
-                        </div>
-                      ))}
-                    </div>
-                  ) : (
-                    <p className="text-center text-muted-foreground">No additional suggestions — your resume looks great!</p>
-                  )}
-                </div>
               </div>
             )}
           </div>